@@ -8,6 +8,7 @@ import com.verminpvp.commands.HelpCommand;
 import com.verminpvp.commands.IncludeCommand;
 import com.verminpvp.commands.LobbyCommand;
 import com.verminpvp.commands.LobbyRemoveCommand;
+import com.verminpvp.commands.MapDataCommand;
 import com.verminpvp.commands.MapSlot1Command;
 import com.verminpvp.commands.MapSlot1SpawnAddCommand;
 import com.verminpvp.commands.MapSlot2Command;
@@ -23,6 +24,8 @@ import com.verminpvp.gui.MapVoteGUI;
 import com.verminpvp.gui.TeamSelectionGUI;
 import com.verminpvp.handlers.*;
 import com.verminpvp.managers.*;
+import com.verminpvp.models.ClassType;
+import com.verminpvp.ui.ActionBarCompositor;
 import com.verminpvp.ui.CooldownDisplay;
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -51,8 +54,13 @@ public class VerminPVP extends JavaPlugin {
     private DraftPickManager draftPickManager;
     private com.verminpvp.managers.ClassBanManager classBanManager;
     private com.verminpvp.managers.MusicManager musicManager;
+    private CombatantIndex combatantIndex;
+    private ClassItemIndex classItemIndex;
+    private DashCollider dashCollider;
+    private TargetFinder targetFinder;
     
     // UI
+    private ActionBarCompositor actionBarCompositor;
     private CooldownDisplay cooldownDisplay;
     
     // Handlers
@@ -74,6 +82,8 @@ public class VerminPVP extends JavaPlugin {
     private CavalryHandler cavalryHandler;
     private VitalityCutterHandler vitalityCutterHandler;
     private MarathonerHandler marathonerHandler;
+    private InteractionRouter interactionRouter;
+    private DamagePipeline damagePipeline;
     private WorldProtectionHandler worldProtectionHandler;
     private TeamKillPreventionHandler teamKillPreventionHandler;
     private PlayerDeathHandler playerDeathHandler;
@@ -118,9 +128,26 @@ public class VerminPVP extends JavaPlugin {
     public void onDisable() {
         getLogger().info("ChaosPVP is disabling...");
         
-        // Save data to file
+        // Flush pending data to file
         if (dataManager != null) {
-            dataManager.saveData();
+            dataManager.shutdown();
+        }
+        
+        // Report per-ability interaction timings
+        if (interactionRouter != null) {
+            interactionRouter.logTimings();
+        }
+        
+        // Finish arena resets and entity removals now (scheduled batches would not run anymore)
+        if (gameManager != null) {
+            gameManager.getArenaRestorer().restoreAllNow();
+            gameManager.getEntityTracker().flush();
+            gameManager.getCombatTicker().cancelAll();
+        }
+        
+        // Stop spatial index sweep
+        if (combatantIndex != null) {
+            combatantIndex.shutdown();
         }
         
         // Cleanup class manager (removes scoreboard teams)
@@ -137,7 +164,7 @@ public class VerminPVP extends JavaPlugin {
      */
     private void initializeManagers() {
         classManager = new ClassManager();
-        cooldownManager = new CooldownManager();
+        cooldownManager = new CooldownManager(Bukkit::getCurrentTick);
         resourceTracker = new ResourceTracker();
         itemProvider = new ItemProvider(this);
         teamManager = new TeamManager();
@@ -146,7 +173,12 @@ public class VerminPVP extends JavaPlugin {
         lobbyManager = new LobbyManager();
         classBanManager = new com.verminpvp.managers.ClassBanManager();
         gameManager = new GameManager(this, classManager, teamManager);
-        cooldownDisplay = new CooldownDisplay(this, cooldownManager);
+        actionBarCompositor = new ActionBarCompositor(gameManager.getCombatTicker());
+        cooldownDisplay = new CooldownDisplay(this, cooldownManager, actionBarCompositor);
+        combatantIndex = new CombatantIndex(gameManager.getCombatTicker());
+        dashCollider = new DashCollider(gameManager, combatantIndex);
+        targetFinder = new TargetFinder(combatantIndex);
+        classItemIndex = new ClassItemIndex(itemProvider);
         
         // Initialize DataManager (must be after MapManager and LobbyManager)
         dataManager = new DataManager(this, mapManager, lobbyManager);
@@ -154,11 +186,16 @@ public class VerminPVP extends JavaPlugin {
         // Initialize MusicManager (must be after DataManager)
         musicManager = new com.verminpvp.managers.MusicManager(this, dataManager);
         
-        // Set ItemProvider in ClassManager
+        // Build class item templates once instead of on every item grant
+        itemProvider.buildTemplates();
+        
+        // Set ItemProvider and ClassItemIndex in ClassManager
         classManager.setItemProvider(itemProvider);
+        classManager.setClassItemIndex(classItemIndex);
         
         // Set TeamManager and GameManager in ClassManager (for ClassTagManager)
         classManager.setManagers(teamManager, gameManager);
+        teamManager.setGameManager(gameManager);
         
         // Set ExcludeManager, MapManager, and LobbyManager in GameManager
         gameManager.setManagers(excludeManager, mapManager, lobbyManager, musicManager);
@@ -171,57 +208,61 @@ public class VerminPVP extends JavaPlugin {
      */
     private void initializeHandlers() {
         damageHandler = new DamageHandler();
-        effectApplicator = new EffectApplicator(this);
+        effectApplicator = new EffectApplicator(this, cooldownManager);
         
         swordsmanHandler = new SwordsmanHandler(this, classManager, gameManager, cooldownManager, 
-            resourceTracker, itemProvider, damageHandler);
+            resourceTracker, itemProvider, classItemIndex, damageHandler, targetFinder);
         
         scientistHandler = new ScientistHandler(this, classManager, 
-            resourceTracker, itemProvider, effectApplicator, damageHandler, teamManager, gameManager);
+            resourceTracker, itemProvider, classItemIndex, effectApplicator, damageHandler, gameManager,
+            combatantIndex);
         
         plagueSpreaderHandler = new PlagueSpreaderHandler(this, classManager, cooldownManager, 
-            itemProvider, effectApplicator, damageHandler, teamManager, gameManager);
+            itemProvider, classItemIndex, effectApplicator, damageHandler, gameManager, combatantIndex);
         
         shieldSoldierHandler = new ShieldSoldierHandler(this, classManager, cooldownManager, 
-            itemProvider, effectApplicator, damageHandler);
+            itemProvider, classItemIndex, effectApplicator, damageHandler);
         
         criticalCutterHandler = new CriticalCutterHandler(this, classManager, cooldownManager,
-            itemProvider, damageHandler);
+            itemProvider, damageHandler, targetFinder);
         
         navigatorHandler = new NavigatorHandler(this, classManager, cooldownManager, 
-            itemProvider, effectApplicator, damageHandler);
+            itemProvider, classItemIndex, effectApplicator, damageHandler, dashCollider);
         
         captainHandler = new CaptainHandler(this, classManager, cooldownManager, 
-            itemProvider, teamManager, gameManager, effectApplicator, damageHandler);
+            itemProvider, classItemIndex, teamManager, gameManager, effectApplicator, damageHandler);
         
         shapeshifterHandler = new ShapeshifterHandler(this, classManager, gameManager,
-            cooldownManager, damageHandler);
+            cooldownManager, itemProvider, classItemIndex, damageHandler, dashCollider);
         
         jugglerHandler = new JugglerHandler(this, classManager, cooldownManager,
-            itemProvider, damageHandler, teamManager, gameManager);
+            itemProvider, classItemIndex, damageHandler, gameManager, combatantIndex);
         
         dragonFuryHandler = new DragonFuryHandler(this, classManager, gameManager,
-            cooldownManager, damageHandler, teamManager);
+            cooldownManager, itemProvider, damageHandler, combatantIndex);
         
         undeadHandler = new UndeadHandler(this, classManager, gameManager, damageHandler);
         
         stamperHandler = new StamperHandler(this, classManager, cooldownManager,
-            itemProvider, damageHandler, teamManager, gameManager);
+            itemProvider, classItemIndex, damageHandler, gameManager, combatantIndex);
         
         timeEngraverHandler = new TimeEngraverHandler(this, classManager, cooldownManager,
-            itemProvider, damageHandler, effectApplicator, teamManager, gameManager);
+            itemProvider, damageHandler, effectApplicator, gameManager, combatantIndex);
         
         cavalryHandler = new CavalryHandler(this, classManager, cooldownManager,
-            itemProvider, damageHandler);
+            itemProvider, damageHandler, combatantIndex);
         
         vitalityCutterHandler = new VitalityCutterHandler(this, classManager,
-            damageHandler, gameManager, teamManager, itemProvider);
+            damageHandler, gameManager, itemProvider, targetFinder);
         
         marathonerHandler = new MarathonerHandler(this, classManager, cooldownManager, itemProvider);
         
+        interactionRouter = new InteractionRouter(this, itemProvider);
+        registerInteractionRoutes();
+
         worldProtectionHandler = new WorldProtectionHandler(gameManager);
         
-        teamKillPreventionHandler = new TeamKillPreventionHandler(gameManager, teamManager);
+        teamKillPreventionHandler = new TeamKillPreventionHandler(gameManager);
         
         playerDeathHandler = new PlayerDeathHandler(gameManager);
         
@@ -237,6 +278,9 @@ public class VerminPVP extends JavaPlugin {
         
         itemDropHandler = new ItemDropHandler(classManager, gameManager, itemProvider);
         
+        damagePipeline = new DamagePipeline(this, classManager, itemProvider);
+        registerDamageSteps();
+
         classSelectionGUI = new ClassSelectionGUI(this, classManager);
         teamSelectionGUI = new TeamSelectionGUI(teamManager, classSelectionGUI, excludeManager);
         mapVoteGUI = new MapVoteGUI(this, mapManager, excludeManager);
@@ -255,20 +299,102 @@ public class VerminPVP extends JavaPlugin {
         classSelectionGUI.setDraftPickManager(draftPickManager);
         classSelectionGUI.setClassBanManager(classBanManager);
         
-        // Set handlers in ClassManager
-        classManager.setHandlers(scientistHandler, plagueSpreaderHandler,
-            shieldSoldierHandler, navigatorHandler, criticalCutterHandler,
-            shapeshifterHandler, jugglerHandler, dragonFuryHandler, undeadHandler,
-            swordsmanHandler, stamperHandler, timeEngraverHandler, cavalryHandler,
-            vitalityCutterHandler, marathonerHandler);
+        // Register class handlers in ClassManager
+        classManager.registerHandler(ClassType.SWORDSMAN, swordsmanHandler);
+        classManager.registerHandler(ClassType.SCIENTIST, scientistHandler);
+        classManager.registerHandler(ClassType.PLAGUE_SPREADER, plagueSpreaderHandler);
+        classManager.registerHandler(ClassType.SHIELD_SOLDIER, shieldSoldierHandler);
+        classManager.registerHandler(ClassType.CRITICAL_CUTTER, criticalCutterHandler);
+        classManager.registerHandler(ClassType.NAVIGATOR, navigatorHandler);
+        classManager.registerHandler(ClassType.CAPTAIN, captainHandler);
+        classManager.registerHandler(ClassType.SHAPESHIFTER, shapeshifterHandler);
+        classManager.registerHandler(ClassType.JUGGLER, jugglerHandler);
+        classManager.registerHandler(ClassType.DRAGON_FURY, dragonFuryHandler);
+        classManager.registerHandler(ClassType.UNDEAD, undeadHandler);
+        classManager.registerHandler(ClassType.STAMPER, stamperHandler);
+        classManager.registerHandler(ClassType.TIME_ENGRAVER, timeEngraverHandler);
+        classManager.registerHandler(ClassType.CAVALRY, cavalryHandler);
+        classManager.registerHandler(ClassType.VITALITY_CUTTER, vitalityCutterHandler);
+        classManager.registerHandler(ClassType.MARATHONER, marathonerHandler);
         
         getLogger().info("Handlers initialized");
     }
     
+    /**
+     * Map class item ids to the handler that uses them on interact
+     */
+    private void registerInteractionRoutes() {
+        interactionRouter.register("diamond_sword", swordsmanHandler::onDiamondSwordUse);
+        interactionRouter.register("virulent_engine", plagueSpreaderHandler::onEngineUse);
+        interactionRouter.register("extreme_poison_engine", plagueSpreaderHandler::onEngineUse);
+        interactionRouter.register("guaranteed_critical", criticalCutterHandler::onRightClick);
+        interactionRouter.register("wave_riding_item", navigatorHandler::onRightClick);
+        interactionRouter.register("harpoon", navigatorHandler::onRightClick);
+        interactionRouter.register("captains_command", captainHandler::onRightClick);
+        interactionRouter.register("captains_harpoon", captainHandler::onRightClick);
+        interactionRouter.register("shapeshifter_charge", shapeshifterHandler::onPlayerInteract);
+        interactionRouter.register("light_thing", jugglerHandler::onPlayerInteract);
+        interactionRouter.register("heavy_thing", jugglerHandler::onPlayerInteract);
+        interactionRouter.register("throw_time", jugglerHandler::onPlayerInteract);
+        interactionRouter.register("reverse_scale_counter", dragonFuryHandler::onPlayerInteract);
+        interactionRouter.register("stamp", stamperHandler::onPlayerInteract);
+        interactionRouter.register("dive", stamperHandler::onPlayerInteract);
+        interactionRouter.register("time_engrave", timeEngraverHandler::onPlayerInteract);
+        interactionRouter.register("clock_needle_stitch", timeEngraverHandler::onPlayerInteract);
+        interactionRouter.register("eternal_clock", timeEngraverHandler::onPlayerInteract);
+        interactionRouter.register("mount_dismount", cavalryHandler::onRightClick);
+        interactionRouter.register("sweep", cavalryHandler::onRightClick);
+        interactionRouter.register("life_cut", vitalityCutterHandler::onRightClick);
+        interactionRouter.register("crouching_start", marathonerHandler::onRightClick);
+    }
+    
+    /**
+     * Register combat steps with the damage pipeline (registration order is execution order)
+     */
+    private void registerDamageSteps() {
+        // Gates
+        damagePipeline.register(DamagePipeline.Stage.GATE, worldProtectionHandler::onPlayerDamage);
+        damagePipeline.register(DamagePipeline.Stage.GATE, teamKillPreventionHandler::onPlayerDamage);
+        damagePipeline.register(DamagePipeline.Stage.GATE, freezeProtectionHandler::onPlayerDamage);
+        
+        // Damage modifiers
+        damagePipeline.register(DamagePipeline.Stage.MODIFIER, DamagePipeline.Side.ATTACKER,
+            ClassType.SWORDSMAN, swordsmanHandler::onNetheriteSwordAttack);
+        damagePipeline.register(DamagePipeline.Stage.MODIFIER, DamagePipeline.Side.ATTACKER,
+            ClassType.NAVIGATOR, navigatorHandler::onHarpoonDamage);
+        damagePipeline.register(DamagePipeline.Stage.MODIFIER, DamagePipeline.Side.ATTACKER,
+            ClassType.NAVIGATOR, navigatorHandler::onNavalCombatAttack);
+        damagePipeline.register(DamagePipeline.Stage.MODIFIER, DamagePipeline.Side.ATTACKER,
+            ClassType.VITALITY_CUTTER, vitalityCutterHandler::onAttack);
+        
+        // On-hit effects
+        damagePipeline.register(DamagePipeline.Stage.ON_HIT, DamagePipeline.Side.ATTACKER,
+            ClassType.CRITICAL_CUTTER, criticalCutterHandler::onAttack);
+        damagePipeline.register(DamagePipeline.Stage.ON_HIT, DamagePipeline.Side.ATTACKER,
+            ClassType.CAPTAIN, captainHandler::onCaptainHit);
+        damagePipeline.register(DamagePipeline.Stage.ON_HIT, DamagePipeline.Side.VICTIM,
+            ClassType.SHIELD_SOLDIER, shieldSoldierHandler::onShieldBlock);
+        
+        // After the damage was applied
+        damagePipeline.register(DamagePipeline.Stage.POST_HIT, DamagePipeline.Side.ATTACKER,
+            ClassType.SWORDSMAN, swordsmanHandler::onSwordsmanAttackBonus);
+    }
+
     /**
      * Register all event listeners
      */
     private void registerEventListeners() {
+        Bukkit.getPluginManager().registerEvents(combatantIndex, this);
+        Bukkit.getPluginManager().registerEvents(gameManager.getMoveDispatcher(), this);
+        Bukkit.getPluginManager().registerEvents(gameManager.getCrowdControl(), this);
+        Bukkit.getPluginManager().registerEvents(gameManager.getProjectileRegistry(), this);
+        Bukkit.getPluginManager().registerEvents(gameManager.getArenaRestorer(), this);
+        Bukkit.getPluginManager().registerEvents(gameManager.getEntityTracker(), this);
+        Bukkit.getPluginManager().registerEvents(classItemIndex, this);
+        
+        // Load map data of worlds that load later
+        Bukkit.getPluginManager().registerEvents(dataManager, this);
+        
         Bukkit.getPluginManager().registerEvents(swordsmanHandler, this);
         Bukkit.getPluginManager().registerEvents(scientistHandler, this);
         Bukkit.getPluginManager().registerEvents(plagueSpreaderHandler, this);
@@ -285,12 +411,12 @@ public class VerminPVP extends JavaPlugin {
         Bukkit.getPluginManager().registerEvents(cavalryHandler, this);
         Bukkit.getPluginManager().registerEvents(vitalityCutterHandler, this);
         Bukkit.getPluginManager().registerEvents(marathonerHandler, this);
+        Bukkit.getPluginManager().registerEvents(interactionRouter, this);
         Bukkit.getPluginManager().registerEvents(worldProtectionHandler, this);
-        Bukkit.getPluginManager().registerEvents(teamKillPreventionHandler, this);
+        Bukkit.getPluginManager().registerEvents(damagePipeline, this);
         Bukkit.getPluginManager().registerEvents(playerDeathHandler, this);
         Bukkit.getPluginManager().registerEvents(playerJoinHandler, this);
         Bukkit.getPluginManager().registerEvents(playerQuitHandler, this);
-        Bukkit.getPluginManager().registerEvents(freezeProtectionHandler, this);
         Bukkit.getPluginManager().registerEvents(playerRespawnHandler, this);
         Bukkit.getPluginManager().registerEvents(itemDropHandler, this);
         Bukkit.getPluginManager().registerEvents(classSelectionGUI, this);
@@ -357,7 +483,10 @@ public class VerminPVP extends JavaPlugin {
         MapSlot2SpawnAddCommand mapSlot2SpawnAddCommand = new MapSlot2SpawnAddCommand(mapManager, dataManager);
         getCommand("2번스폰추가").setExecutor(mapSlot2SpawnAddCommand);
         
-        ParticleCommand particleCommand = new ParticleCommand();
+        MapDataCommand mapDataCommand = new MapDataCommand(dataManager);
+        getCommand("맵데이터").setExecutor(mapDataCommand);
+        
+        ParticleCommand particleCommand = new ParticleCommand(gameManager.getEntityTracker());
         getCommand("입자끄기").setExecutor(particleCommand);
         
         PracticeModeCommand practiceModeCommand = new PracticeModeCommand(mapManager, classSelectionGUI, classManager, gameManager);
@@ -421,6 +550,26 @@ public class VerminPVP extends JavaPlugin {
         return cooldownDisplay;
     }
     
+    public ActionBarCompositor getActionBarCompositor() {
+        return actionBarCompositor;
+    }
+    
+    public CombatantIndex getCombatantIndex() {
+        return combatantIndex;
+    }
+    
+    public DashCollider getDashCollider() {
+        return dashCollider;
+    }
+    
+    public TargetFinder getTargetFinder() {
+        return targetFinder;
+    }
+    
+    public ClassItemIndex getClassItemIndex() {
+        return classItemIndex;
+    }
+    
     public PlagueSpreaderHandler getPlagueSpreaderHandler() {
         return plagueSpreaderHandler;
     }
@@ -37,6 +37,7 @@ public class HelpCommand implements CommandExecutor {
         player.sendMessage("§a/2번스폰추가 §7- 2번 맵 전용 스폰 포인트를 추가합니다");
         player.sendMessage("§a/연습모드 맵 [맵이름] §7- 연습모드 맵을 설정합니다 (1개만)");
         player.sendMessage("§a/연습모드 §7- 연습모드 맵으로 이동합니다");
+        player.sendMessage("§a/맵데이터 <내보내기|가져오기> §7- 맵 데이터를 maps.yml로 내보내거나 가져옵니다");
         player.sendMessage("");
         player.sendMessage("§e§l[ 플레이어 관리 ]");
         player.sendMessage("§a/인원제외 <플레이어명> §7- 플레이어를 게임에서 제외합니다");
@@ -0,0 +1,65 @@
+package com.verminpvp.commands;
+
+import com.verminpvp.VerminPVP;
+import com.verminpvp.managers.DataManager;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+/**
+ * Command to export or import map data as YAML (maps.yml)
+ * Usage: /맵데이터 <내보내기|가져오기>
+ */
+public class MapDataCommand implements CommandExecutor {
+    
+    private final DataManager dataManager;
+    
+    public MapDataCommand(DataManager dataManager) {
+        this.dataManager = dataManager;
+    }
+    
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission("chaospvp.admin")) {
+            sender.sendMessage("§c이 명령어를 사용할 권한이 없습니다!");
+            return true;
+        }
+        
+        if (args.length == 0) {
+            sender.sendMessage("§c사용법: /맵데이터 <내보내기|가져오기>");
+            return true;
+        }
+        
+        // /맵데이터 내보내기 - Write all map data to maps.yml
+        if (args[0].equalsIgnoreCase("내보내기")) {
+            dataManager.exportYaml(worldCount -> {
+                if (worldCount < 0) {
+                    sender.sendMessage("§c맵 데이터를 내보내지 못했습니다! 콘솔을 확인해주세요.");
+                } else {
+                    sender.sendMessage("§a월드 " + worldCount + "개의 맵 데이터를 maps.yml로 내보냈습니다.");
+                }
+            });
+            return true;
+        }
+        
+        // /맵데이터 가져오기 - Replace all map data with maps.yml
+        if (args[0].equalsIgnoreCase("가져오기")) {
+            if (VerminPVP.getInstance().getGameManager().isGameActive()) {
+                sender.sendMessage("§c게임이 진행 중일 때는 맵 데이터를 가져올 수 없습니다!");
+                return true;
+            }
+            
+            dataManager.importYaml(worldCount -> {
+                if (worldCount < 0) {
+                    sender.sendMessage("§cmaps.yml 파일이 없습니다!");
+                } else {
+                    sender.sendMessage("§a월드 " + worldCount + "개의 맵 데이터를 maps.yml에서 가져왔습니다.");
+                }
+            });
+            return true;
+        }
+        
+        sender.sendMessage("§c사용법: /맵데이터 <내보내기|가져오기>");
+        return true;
+    }
+}
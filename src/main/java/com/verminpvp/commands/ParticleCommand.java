@@ -1,31 +1,26 @@
 package com.verminpvp.commands;
 
-import org.bukkit.Bukkit;
-import org.bukkit.World;
+import com.verminpvp.managers.EntityTracker;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.AreaEffectCloud;
-import org.bukkit.entity.Entity;
 
 /**
  * Command to remove all area effect clouds (poison fields)
  */
 public class ParticleCommand implements CommandExecutor {
     
+    private final EntityTracker entityTracker;
+    
+    public ParticleCommand(EntityTracker entityTracker) {
+        this.entityTracker = entityTracker;
+    }
+    
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        int removedCount = 0;
-        
-        // Remove all area effect clouds from all worlds
-        for (World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof AreaEffectCloud) {
-                    entity.remove();
-                    removedCount++;
-                }
-            }
-        }
+        // Remove the area effect clouds spawned by abilities or inside arenas
+        int removedCount = entityTracker.removeAll(AreaEffectCloud.class);
         
         if (removedCount > 0) {
             sender.sendMessage("§a모든 입자 효과를 제거했습니다! (제거된 수: " + removedCount + ")");
@@ -89,14 +89,19 @@ public class StartGameCommand implements CommandExecutor {
             return true;
         }
         
-        // Count non-excluded players
+        // Count players available for a new match (not excluded, not in a running match)
         int playerCount = 0;
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!excludeManager.isExcluded(player)) {
+            if (gameManager.isAvailableForMatch(player)) {
                 playerCount++;
             }
         }
         
+        if (playerCount == 0) {
+            sender.sendMessage("§c새 게임에 참여할 수 있는 플레이어가 없습니다!");
+            return true;
+        }
+        
         // Check minimum players for team mode
         if (gameManager.getGameMode() == GameMode.TEAM && playerCount < 2) {
             sender.sendMessage("§c팀 모드는 최소 2명 이상의 플레이어가 필요합니다!");
@@ -108,8 +113,8 @@ public class StartGameCommand implements CommandExecutor {
         // Teleport all players to lobby first and apply adventure mode + remove OP
         org.bukkit.Location lobbyLocation = lobbyManager.getLobbyLocation();
         for (Player player : Bukkit.getOnlinePlayers()) {
-            // Skip excluded players
-            if (excludeManager.isExcluded(player)) {
+            // Skip excluded players and players already in a running match
+            if (!gameManager.isAvailableForMatch(player)) {
                 continue;
             }
             
@@ -193,7 +198,7 @@ public class StartGameCommand implements CommandExecutor {
         
         // Open map vote GUI for all non-excluded players
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!excludeManager.isExcluded(player)) {
+            if (gameManager.isAvailableForMatch(player)) {
                 mapVoteGUI.openGUI(player);
             }
         }
@@ -223,7 +228,7 @@ public class StartGameCommand implements CommandExecutor {
         
         // Open class ban vote GUI for all non-excluded players
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!excludeManager.isExcluded(player)) {
+            if (gameManager.isAvailableForMatch(player)) {
                 classBanVoteGUI.openGUI(player);
             }
         }
@@ -237,7 +242,7 @@ public class StartGameCommand implements CommandExecutor {
         if (gameManager.getGameMode() == GameMode.TEAM) {
             // Team mode: open team selection GUI first, then start draft pick
             for (Player player : Bukkit.getOnlinePlayers()) {
-                if (!excludeManager.isExcluded(player)) {
+                if (gameManager.isAvailableForMatch(player)) {
                     teamSelectionGUI.openGUI(player);
                 }
             }
@@ -251,7 +256,7 @@ public class StartGameCommand implements CommandExecutor {
             
             // Then open class selection GUI directly for all players
             for (Player player : Bukkit.getOnlinePlayers()) {
-                if (!excludeManager.isExcluded(player)) {
+                if (gameManager.isAvailableForMatch(player)) {
                     classSelectionGUI.openGUI(player);
                 }
             }
@@ -19,11 +19,12 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -39,9 +40,154 @@ public class ClassSelectionGUI implements Listener {
     private com.verminpvp.managers.DraftPickManager draftPickManager;
     private ClassBanManager classBanManager;
     private static final String GUI_TITLE = "§6§l클래스 선택";
+    private static final int RANDOM_SLOT = 22;
+    private static final int STATUS_SLOT = 35;
     
-    // Track players who have the GUI open
-    private final Set<UUID> playersWithGUIOpen = new HashSet<>();
+    /**
+     * A class button: slot, icon material, name and description
+     */
+    private static final class ClassIcon {
+        private final int slot;
+        private final ClassType classType;
+        private final Material material;
+        private final String name;
+        private final String[] lore;
+        
+        private ClassIcon(int slot, ClassType classType, Material material, String name, String... lore) {
+            this.slot = slot;
+            this.classType = classType;
+            this.material = material;
+            this.name = name;
+            this.lore = lore;
+        }
+    }
+    
+    private static final ClassIcon[] CLASS_ICONS = {
+        new ClassIcon(10, ClassType.SWORDSMAN, Material.STONE_SWORD, "§6§l검술가",
+            "§7돌검 공격 시 +1 추가 피해",
+            "§7다이아 검: 8 피해, 12.5초 쿨타임",
+            "§7네더라이트 검: 20 피해 (궁극기)"),
+        new ClassIcon(11, ClassType.SCIENTIST, Material.SPLASH_POTION, "§a§l과학자",
+            "§7투척 시 속도 증가",
+            "§7랜덤 물약 생성",
+            "§7궁극기: 광역 물약 효과"),
+        new ClassIcon(12, ClassType.PLAGUE_SPREADER, Material.GHAST_TEAR, "§2§l역병 전파자",
+            "§7독 데미지 면역",
+            "§7독 엔진 생성",
+            "§7따라다니는 독 필드 생성"),
+        new ClassIcon(13, ClassType.SHIELD_SOLDIER, Material.SHIELD, "§9§l방패 병사",
+            "§7흡수 하트 패시브",
+            "§7특수 방패 막기 효과",
+            "§7체력 낮을 때 황금 방패"),
+        new ClassIcon(14, ClassType.CRITICAL_CUTTER, Material.IRON_SWORD, "§c§l크리티컬 커터",
+            "§75% 치명타 확률 (비치명타마다 +1%)",
+            "§7치명타: 2배 피해 + 2 HP 회복",
+            "§7확정 크리티컬: 12 피해 + 6 HP 회복"),
+        new ClassIcon(15, ClassType.NAVIGATOR, Material.TRIDENT, "§b§l항해사",
+            "§7검에 넉백 I 효과",
+            "§7해전 무기: 5 피해, 넉백 II",
+            "§7파도 타기: 신속 IV 1초, 충돌 시 넉백, 11초 쿨타임",
+            "§7작살 투척: 6 피해 + 둔화 V"),
+        new ClassIcon(16, ClassType.CAPTAIN, Material.GOLDEN_SWORD, "§e§l선장",
+            "§7적 공격 시 팀원에게 힘 I",
+            "§7선장의 명령: 팀원 강화",
+            "§7선장의 작살: 4 피해 + 팀원 버프, 12초 쿨타임",
+            "§7적중 시 쿨타임 4초 감소"),
+        new ClassIcon(19, ClassType.SHAPESHIFTER, Material.PHANTOM_MEMBRANE, "§d§l생명체",
+            "§7시간에 따라 진화",
+            "§70분: 오셀롯 (5하트, 신속 III)",
+            "§71분: 소 (15하트, 재생, 돌검)",
+            "§72분: 스니퍼 (25하트, 저항 I, 철검)",
+            "§74분: 라바저 (35하트, 저항 II, 힘 I)"),
+        new ClassIcon(20, ClassType.JUGGLER, Material.SNOWBALL, "§f§l저글러",
+            "§7가벼운 것: 1 피해, 4초 쿨타임",
+            "§7무거운 것: 8 피해 + 둔화, 13초 쿨타임",
+            "§760초마다 투척 시간 획득",
+            "§7투척 시간: 광역 둔화 + 쿨타임 초기화"),
+        new ClassIcon(21, ClassType.DRAGON_FURY, Material.DRAGON_BREATH, "§c§l용의 분노자",
+            "§7피격 시 역린 +1 (최대 30개)",
+            "§7역린 수에 따라 저항 증가",
+            "§7역린의 반격: 역린만큼 피해",
+            "§7처치 시 역린/2 만큼 회복"),
+        new ClassIcon(23, ClassType.UNDEAD, Material.WITHER_SKELETON_SKULL, "§8§l언데드",
+            "§7사망 시 최대 체력으로 부활 (1회)",
+            "§7부활 시 신속 I, 힘 II, 저항 V",
+            "§73초 후부터 0.25초마다 1 피해",
+            "§7두 번째 사망까지 버프 유지"),
+        new ClassIcon(24, ClassType.STAMPER, Material.IRON_BOOTS, "§a§l스탬퍼",
+            "§7낙하 피해 면역",
+            "§7착지 시 4칸 범위 6 피해",
+            "§7도장 찍기: 10칸 위로 (20초)",
+            "§7다이브: 40칸 위로 (200초마다)",
+            "§7다이브 착지: 20칸 범위 16 피해"),
+        new ClassIcon(25, ClassType.TIME_ENGRAVER, Material.CLOCK, "§e§l시간 각인자",
+            "§7시간 각인: 8칸 범위 2초 위치 고정",
+            "§7시곗바늘: 6 피해 (구속 대상 8 피해)",
+            "§7구속 대상에게 어둠 + 실명",
+            "§7영원한 시계: 8초 전체 위치 고정",
+            "§7시간 박제 7개로 획득"),
+        new ClassIcon(28, ClassType.CAVALRY, Material.SADDLE, "§6§l기마병",
+            "§7패시브: 구속 I 상시 효과",
+            "§7시작 무기: 돌창 (돌검)",
+            "§7승마&하마: 말 소환/하마, 22초 쿨타임",
+            "§7하마 시 체력 6 회복",
+            "§7휩쓸기: 전방 3칸 범위 6 피해, 6초 쿨타임",
+            "§7적중 1명당 쿨타임 1초 감소"),
+        new ClassIcon(29, ClassType.VITALITY_CUTTER, Material.DIAMOND_SWORD, "§c§l활력 절단자",
+            "§7시작 무기 없음",
+            "§7공격 시: 대상 현재 체력의 1/6 추가 피해",
+            "§7공격 시: 체력 1 (0.5칸) 회복",
+            "§7개인전: 발광 효과"),
+        new ClassIcon(30, ClassType.MARATHONER, Material.LEATHER_BOOTS, "§b§l마라토너",
+            "§7달리기 5초: 신속 I",
+            "§7달리기 8.5초: 신속 II",
+            "§7달리기 12초: 신속 III",
+            "§7달리기 15.5초: 신속 IV + 힘 II",
+            "§c달리기 중단/피격/점프 시 효과 소멸")
+    };
+    
+    // Slot -> class of the button in that slot
+    private static final ClassType[] CLASS_BY_SLOT = new ClassType[36];
+    
+    static {
+        for (ClassIcon icon : CLASS_ICONS) {
+            CLASS_BY_SLOT[icon.slot] = icon.classType;
+        }
+    }
+    
+    /**
+     * An open class selection inventory and the icons last put into it
+     */
+    private static final class View {
+        private final Inventory inventory;
+        private final ItemStack[] shown = new ItemStack[36];
+        
+        private View(Inventory inventory) {
+            this.inventory = inventory;
+        }
+        
+        /**
+         * Put an icon into a slot unless the same icon is already there
+         */
+        private void setIcon(int slot, ItemStack icon) {
+            if (shown[slot] != icon) {
+                shown[slot] = icon;
+                inventory.setItem(slot, icon);
+            }
+        }
+    }
+    
+    // Views of players who have the GUI open
+    private final Map<UUID, View> openViews = new HashMap<>();
+    
+    // Icon caches: icons are shared by all views and only built once per state
+    private final Map<ClassType, ItemStack> availableIcons = new EnumMap<>(ClassType.class);
+    private final Map<ClassType, ItemStack> bannedIcons = new EnumMap<>(ClassType.class);
+    private final Map<ClassType, Map<String, ItemStack>> takenIcons = new EnumMap<>(ClassType.class); // by picker name
+    private ItemStack randomIcon;
+    private ItemStack statusIcon;
+    private int statusTotal;
+    private int statusSelected;
     
     public ClassSelectionGUI(VerminPVP plugin, ClassManager classManager) {
         this.plugin = plugin;
@@ -88,15 +234,22 @@ public class ClassSelectionGUI implements Listener {
      */
     public void openGUI(Player player) {
         Inventory gui = Bukkit.createInventory(null, 36, GUI_TITLE);
-        
-        // Track that this player has the GUI open
-        playersWithGUIOpen.add(player.getUniqueId());
-        
-        org.bukkit.Bukkit.getLogger().info("[ClassSelection] Opening GUI for " + player.getName() + ", total tracked: " + playersWithGUIOpen.size());
+        View view = new View(gui);
         
         // Give class selection item in case they close the GUI
         giveClassSelectionItem(player);
         
+        render(player, view, getStatusIcon());
+        
+        // Track before opening: opening closes the previous view of this player
+        openViews.put(player.getUniqueId(), view);
+        player.openInventory(gui);
+    }
+    
+    /**
+     * Set the icons of a view, touching only slots whose icon changed
+     */
+    private void render(Player player, View view, ItemStack statusIcon) {
         // Get player's team for checking taken classes
         com.verminpvp.models.Team playerTeam = null;
         boolean isPracticeMode = gameManager != null && gameManager.isInPracticeMode(player);
@@ -106,151 +259,28 @@ public class ClassSelectionGUI implements Listener {
             playerTeam = teamManager.getPlayerTeam(player);
         }
         
-        // Swordsman (slot 10)
-        gui.setItem(10, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.SWORDSMAN, Material.STONE_SWORD,
-            "§6§l검술가",
-            "§7돌검 공격 시 +1 추가 피해",
-            "§7다이아 검: 8 피해, 12.5초 쿨타임",
-            "§7네더라이트 검: 20 피해 (궁극기)"));
-        
-        // Scientist (slot 11)
-        gui.setItem(11, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.SCIENTIST, Material.SPLASH_POTION,
-            "§a§l과학자",
-            "§7투척 시 속도 증가",
-            "§7랜덤 물약 생성",
-            "§7궁극기: 광역 물약 효과"));
-        
-        // Plague Spreader (slot 12)
-        gui.setItem(12, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.PLAGUE_SPREADER, Material.GHAST_TEAR,
-            "§2§l역병 전파자",
-            "§7독 데미지 면역",
-            "§7독 엔진 생성",
-            "§7따라다니는 독 필드 생성"));
-        
-        // Shield Soldier (slot 13)
-        gui.setItem(13, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.SHIELD_SOLDIER, Material.SHIELD,
-            "§9§l방패 병사",
-            "§7흡수 하트 패시브",
-            "§7특수 방패 막기 효과",
-            "§7체력 낮을 때 황금 방패"));
-        
-        // Critical Cutter (slot 14)
-        gui.setItem(14, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.CRITICAL_CUTTER, Material.IRON_SWORD,
-            "§c§l크리티컬 커터",
-            "§75% 치명타 확률 (비치명타마다 +1%)",
-            "§7치명타: 2배 피해 + 2 HP 회복",
-            "§7확정 크리티컬: 12 피해 + 6 HP 회복"));
-        
-        // Navigator (slot 15)
-        gui.setItem(15, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.NAVIGATOR, Material.TRIDENT,
-            "§b§l항해사",
-            "§7검에 넉백 I 효과",
-            "§7해전 무기: 5 피해, 넉백 II",
-            "§7파도 타기: 신속 IV 1초, 충돌 시 넉백, 11초 쿨타임",
-            "§7작살 투척: 6 피해 + 둔화 V"));
-        
-        // Captain (slot 16)
-        gui.setItem(16, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.CAPTAIN, Material.GOLDEN_SWORD,
-            "§e§l선장",
-            "§7적 공격 시 팀원에게 힘 I",
-            "§7선장의 명령: 팀원 강화",
-            "§7선장의 작살: 4 피해 + 팀원 버프, 12초 쿨타임",
-            "§7적중 시 쿨타임 4초 감소"));
-        
-        // Shapeshifter (slot 19)
-        gui.setItem(19, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.SHAPESHIFTER, Material.PHANTOM_MEMBRANE,
-            "§d§l생명체",
-            "§7시간에 따라 진화",
-            "§70분: 오셀롯 (5하트, 신속 III)",
-            "§71분: 소 (15하트, 재생, 돌검)",
-            "§72분: 스니퍼 (25하트, 저항 I, 철검)",
-            "§74분: 라바저 (35하트, 저항 II, 힘 I)"));
-        
-        // Juggler (slot 20)
-        gui.setItem(20, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.JUGGLER, Material.SNOWBALL,
-            "§f§l저글러",
-            "§7가벼운 것: 1 피해, 4초 쿨타임",
-            "§7무거운 것: 8 피해 + 둔화, 13초 쿨타임",
-            "§760초마다 투척 시간 획득",
-            "§7투척 시간: 광역 둔화 + 쿨타임 초기화"));
-        
-        // Dragon Fury (slot 21)
-        gui.setItem(21, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.DRAGON_FURY, Material.DRAGON_BREATH,
-            "§c§l용의 분노자",
-            "§7피격 시 역린 +1 (최대 30개)",
-            "§7역린 수에 따라 저항 증가",
-            "§7역린의 반격: 역린만큼 피해",
-            "§7처치 시 역린/2 만큼 회복"));
-        
-        // Random button (slot 22) - always available
-        gui.setItem(22, createClassIcon(null, Material.NETHER_STAR,
-            "§d§l랜덤 선택",
-            "§7클릭하면 랜덤으로",
-            "§7클래스가 선택됩니다!"));
-        
-        // Undead (slot 23)
-        gui.setItem(23, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.UNDEAD, Material.WITHER_SKELETON_SKULL,
-            "§8§l언데드",
-            "§7사망 시 최대 체력으로 부활 (1회)",
-            "§7부활 시 신속 I, 힘 II, 저항 V",
-            "§73초 후부터 0.25초마다 1 피해",
-            "§7두 번째 사망까지 버프 유지"));
-        
-        // Stamper (slot 24)
-        gui.setItem(24, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.STAMPER, Material.IRON_BOOTS,
-            "§a§l스탬퍼",
-            "§7낙하 피해 면역",
-            "§7착지 시 4칸 범위 6 피해",
-            "§7도장 찍기: 10칸 위로 (20초)",
-            "§7다이브: 40칸 위로 (200초마다)",
-            "§7다이브 착지: 20칸 범위 16 피해"));
-        
-        // Time Engraver (slot 25)
-        gui.setItem(25, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.TIME_ENGRAVER, Material.CLOCK,
-            "§e§l시간 각인자",
-            "§7시간 각인: 8칸 범위 2초 위치 고정",
-            "§7시곗바늘: 6 피해 (구속 대상 8 피해)",
-            "§7구속 대상에게 어둠 + 실명",
-            "§7영원한 시계: 8초 전체 위치 고정",
-            "§7시간 박제 7개로 획득"));
-        
-        // Cavalry (slot 28)
-        gui.setItem(28, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.CAVALRY, Material.SADDLE,
-            "§6§l기마병",
-            "§7패시브: 구속 I 상시 효과",
-            "§7시작 무기: 돌창 (돌검)",
-            "§7승마&하마: 말 소환/하마, 22초 쿨타임",
-            "§7하마 시 체력 6 회복",
-            "§7휩쓸기: 전방 3칸 범위 6 피해, 6초 쿨타임",
-            "§7적중 1명당 쿨타임 1초 감소"));
-        
-        // Vitality Cutter (slot 29)
-        gui.setItem(29, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.VITALITY_CUTTER, Material.DIAMOND_SWORD,
-            "§c§l활력 절단자",
-            "§7시작 무기 없음",
-            "§7공격 시: 대상 현재 체력의 1/6 추가 피해",
-            "§7공격 시: 체력 1 (0.5칸) 회복",
-            "§7개인전: 발광 효과"));
-        
-        // Marathoner (slot 30)
-        gui.setItem(30, createClassIconWithAvailability(player, playerTeam, isTeamMode, ClassType.MARATHONER, Material.LEATHER_BOOTS,
-            "§b§l마라토너",
-            "§7달리기 5초: 신속 I",
-            "§7달리기 8.5초: 신속 II",
-            "§7달리기 12초: 신속 III",
-            "§7달리기 15.5초: 신속 IV + 힘 II",
-            "§c달리기 중단/피격/점프 시 효과 소멸"));
+        for (ClassIcon icon : CLASS_ICONS) {
+            view.setIcon(icon.slot, getClassIcon(player, playerTeam, isTeamMode, icon));
+        }
         
-        // Status info (slot 35)
-        gui.setItem(35, createStatusIcon());
+        // Random button - always available
+        if (randomIcon == null) {
+            randomIcon = createClassIcon(Material.NETHER_STAR,
+                "§d§l랜덤 선택",
+                "§7클릭하면 랜덤으로",
+                "§7클래스가 선택됩니다!");
+        }
+        view.setIcon(RANDOM_SLOT, randomIcon);
         
-        player.openInventory(gui);
+        view.setIcon(STATUS_SLOT, statusIcon);
     }
     
     /**
-     * Create status icon showing how many players haven't selected yet
+     * Get the status icon showing how many players haven't selected yet
+     * 
+     * The icon is rebuilt only when the counts change.
      */
-    private ItemStack createStatusIcon() {
+    private ItemStack getStatusIcon() {
         // Count players who need to select
         int totalPlayers = 0;
         int playersWithClass = 0;
@@ -268,6 +298,18 @@ public class ClassSelectionGUI implements Listener {
             }
         }
         
+        if (statusIcon == null || totalPlayers != statusTotal || playersWithClass != statusSelected) {
+            statusIcon = createStatusIcon(totalPlayers, playersWithClass);
+            statusTotal = totalPlayers;
+            statusSelected = playersWithClass;
+        }
+        return statusIcon;
+    }
+    
+    /**
+     * Create status icon for the given counts
+     */
+    private ItemStack createStatusIcon(int totalPlayers, int playersWithClass) {
         int remaining = totalPlayers - playersWithClass;
         
         ItemStack item = new ItemStack(Material.PAPER);
@@ -294,7 +336,7 @@ public class ClassSelectionGUI implements Listener {
     /**
      * Create a class icon with description
      */
-    private ItemStack createClassIcon(ClassType classType, Material material, String name, String... lore) {
+    private ItemStack createClassIcon(Material material, String name, String... lore) {
         ItemStack item = new ItemStack(material);
         ItemMeta meta = item.getItemMeta();
         meta.setDisplayName(name);
@@ -304,66 +346,67 @@ public class ClassSelectionGUI implements Listener {
     }
     
     /**
-     * Create a class icon with availability check (for team mode)
+     * Get the cached class icon for the viewer's availability state (for team mode)
      * If class is taken by teammate, show as gray glass pane with "이미 선택됨" message
      * If class is banned, show as red glass pane with "밴됨" message
      */
-    private ItemStack createClassIconWithAvailability(Player player, com.verminpvp.models.Team playerTeam, 
-                                                      boolean isTeamMode, ClassType classType, Material material, 
-                                                      String name, String... lore) {
+    private ItemStack getClassIcon(Player player, com.verminpvp.models.Team playerTeam,
+                                   boolean isTeamMode, ClassIcon icon) {
         // Check if class is banned
-        boolean isBanned = classBanManager != null && classBanManager.isClassBanned(classType);
-        
-        if (isBanned) {
-            // Create banned icon (red glass pane)
-            ItemStack item = new ItemStack(Material.RED_STAINED_GLASS_PANE);
-            ItemMeta meta = item.getItemMeta();
-            meta.setDisplayName("§c§l§m" + name.replaceAll("§.", "")); // Remove color codes and add strikethrough
-            
-            List<String> newLore = new ArrayList<>();
-            newLore.add("§c§l밴됨!");
-            newLore.add("§7이 클래스는 투표로 밴되었습니다.");
-            newLore.add("");
-            newLore.add("§8" + String.join(" ", lore).replaceAll("§7", "§8")); // Make description darker
-            
-            meta.setLore(newLore);
-            item.setItemMeta(meta);
-            return item;
+        if (classBanManager != null && classBanManager.isClassBanned(icon.classType)) {
+            return bannedIcons.computeIfAbsent(icon.classType, type -> createBannedIcon(icon));
         }
         
         // Check if class is taken by teammate
-        boolean isTaken = false;
-        Player takenBy = null;
-        
-        if (isTeamMode && playerTeam != null && classManager != null) {
-            if (classManager.isClassTakenByTeam(classType, playerTeam)) {
-                takenBy = classManager.getPlayerWithClassInTeam(classType, playerTeam);
-                // Only mark as taken if it's taken by someone else (not the current player)
-                if (takenBy != null && !takenBy.equals(player)) {
-                    isTaken = true;
-                }
+        if (isTeamMode && playerTeam != null) {
+            Player takenBy = classManager.getPlayerWithClassInTeam(icon.classType, playerTeam);
+            // Only mark as taken if it's taken by someone else (not the current player)
+            if (takenBy != null && !takenBy.equals(player)) {
+                return takenIcons.computeIfAbsent(icon.classType, type -> new HashMap<>())
+                    .computeIfAbsent(takenBy.getName(), name -> createTakenIcon(icon, name));
             }
         }
         
-        if (isTaken) {
-            // Create disabled icon (gray glass pane)
-            ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
-            ItemMeta meta = item.getItemMeta();
-            meta.setDisplayName("§8§m" + name.replaceAll("§.", "")); // Remove color codes and add strikethrough
-            
-            List<String> newLore = new ArrayList<>();
-            newLore.add("§c§l이미 선택됨!");
-            newLore.add("§7선택한 플레이어: §f" + takenBy.getName());
-            newLore.add("");
-            newLore.add("§8" + String.join(" ", lore).replaceAll("§7", "§8")); // Make description darker
-            
-            meta.setLore(newLore);
-            item.setItemMeta(meta);
-            return item;
-        } else {
-            // Create normal icon
-            return createClassIcon(classType, material, name, lore);
-        }
+        return availableIcons.computeIfAbsent(icon.classType,
+            type -> createClassIcon(icon.material, icon.name, icon.lore));
+    }
+    
+    /**
+     * Create banned icon (red glass pane)
+     */
+    private ItemStack createBannedIcon(ClassIcon icon) {
+        ItemStack item = new ItemStack(Material.RED_STAINED_GLASS_PANE);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName("§c§l§m" + icon.name.replaceAll("§.", "")); // Remove color codes and add strikethrough
+        
+        List<String> newLore = new ArrayList<>();
+        newLore.add("§c§l밴됨!");
+        newLore.add("§7이 클래스는 투표로 밴되었습니다.");
+        newLore.add("");
+        newLore.add("§8" + String.join(" ", icon.lore).replaceAll("§7", "§8")); // Make description darker
+        
+        meta.setLore(newLore);
+        item.setItemMeta(meta);
+        return item;
+    }
+    
+    /**
+     * Create disabled icon for a class taken by a teammate (gray glass pane)
+     */
+    private ItemStack createTakenIcon(ClassIcon icon, String takenByName) {
+        ItemStack item = new ItemStack(Material.GRAY_STAINED_GLASS_PANE);
+        ItemMeta meta = item.getItemMeta();
+        meta.setDisplayName("§8§m" + icon.name.replaceAll("§.", "")); // Remove color codes and add strikethrough
+        
+        List<String> newLore = new ArrayList<>();
+        newLore.add("§c§l이미 선택됨!");
+        newLore.add("§7선택한 플레이어: §f" + takenByName);
+        newLore.add("");
+        newLore.add("§8" + String.join(" ", icon.lore).replaceAll("§7", "§8")); // Make description darker
+        
+        meta.setLore(newLore);
+        item.setItemMeta(meta);
+        return item;
     }
     
     /**
@@ -410,70 +453,22 @@ public class ClassSelectionGUI implements Listener {
         }
         
         // Ignore status icon clicks
-        if (event.getSlot() == 35) {
+        if (event.getSlot() == STATUS_SLOT) {
             return;
         }
         
         // Determine which class was clicked
         ClassType selectedClass = null;
-        switch (event.getSlot()) {
-            case 10:
-                selectedClass = ClassType.SWORDSMAN;
-                break;
-            case 11:
-                selectedClass = ClassType.SCIENTIST;
-                break;
-            case 12:
-                selectedClass = ClassType.PLAGUE_SPREADER;
-                break;
-            case 13:
-                selectedClass = ClassType.SHIELD_SOLDIER;
-                break;
-            case 14:
-                selectedClass = ClassType.CRITICAL_CUTTER;
-                break;
-            case 15:
-                selectedClass = ClassType.NAVIGATOR;
-                break;
-            case 16:
-                selectedClass = ClassType.CAPTAIN;
-                break;
-            case 19:
-                selectedClass = ClassType.SHAPESHIFTER;
-                break;
-            case 20:
-                selectedClass = ClassType.JUGGLER;
-                break;
-            case 21:
-                selectedClass = ClassType.DRAGON_FURY;
-                break;
-            case 22:
-                // Random selection - find available class
-                selectedClass = getRandomAvailableClass(player);
-                if (selectedClass == null) {
-                    player.sendMessage("§c사용 가능한 클래스가 없습니다!");
-                    player.closeInventory();
-                    return;
-                }
-                break;
-            case 23:
-                selectedClass = ClassType.UNDEAD;
-                break;
-            case 24:
-                selectedClass = ClassType.STAMPER;
-                break;
-            case 25:
-                selectedClass = ClassType.TIME_ENGRAVER;
-                break;
-            case 28:
-                selectedClass = ClassType.CAVALRY;
-                break;
-            case 29:
-                selectedClass = ClassType.VITALITY_CUTTER;
-                break;
-            case 30:
-                selectedClass = ClassType.MARATHONER;
-                break;
+        if (event.getSlot() == RANDOM_SLOT) {
+            // Random selection - find available class
+            selectedClass = getRandomAvailableClass(player);
+            if (selectedClass == null) {
+                player.sendMessage("§c사용 가능한 클래스가 없습니다!");
+                player.closeInventory();
+                return;
+            }
+        } else if (event.getSlot() >= 0 && event.getSlot() < CLASS_BY_SLOT.length) {
+            selectedClass = CLASS_BY_SLOT[event.getSlot()];
         }
         
         if (selectedClass != null) {
@@ -524,14 +519,9 @@ public class ClassSelectionGUI implements Listener {
             // Remove class selection item when class is selected
             removeClassSelectionItem(player);
             
-            // Remove from tracking since GUI is closed
-            playersWithGUIOpen.remove(player.getUniqueId());
-            
             // Update all open GUIs to show new status (including other players' GUIs)
             // This ensures that when one player selects a class, all other players see it as unavailable
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                updateAllOpenGUIs();
-            });
+            Bukkit.getScheduler().runTask(plugin, this::updateAllOpenGUIs);
         }
     }
     
@@ -546,6 +536,12 @@ public class ClassSelectionGUI implements Listener {
         
         Player player = (Player) event.getPlayer();
         
+        // Stop tracking the closed view (a newer view may already replace it)
+        View view = openViews.get(player.getUniqueId());
+        if (view != null && view.inventory == event.getInventory()) {
+            openViews.remove(player.getUniqueId());
+        }
+        
         // Check if player has selected a class
         boolean hasSelectedClass = classManager.getPlayerClass(player) != null;
         
@@ -558,18 +554,10 @@ public class ClassSelectionGUI implements Listener {
         // Check if player is in practice mode
         boolean isPracticeMode = gameManager != null && gameManager.isInPracticeMode(player);
         
-        org.bukkit.Bukkit.getLogger().info("[ClassSelection] GUI closed for " + player.getName() + 
-            ", hasClass: " + hasSelectedClass + ", isGameStarting: " + isGameStarting + 
-            ", isDraftActive: " + isDraftActive + ", isPracticeMode: " + isPracticeMode);
-        
         // If player hasn't selected a class and (game is starting OR draft is active OR in practice mode), give them the item
         if (!hasSelectedClass && (isGameStarting || isDraftActive || isPracticeMode)) {
             giveClassSelectionItem(player);
             player.sendMessage("§e클래스를 선택하려면 §6[클래스 선택] §e아이템을 우클릭하세요!");
-        } else {
-            // Remove from tracking only if they selected a class or game is not starting
-            playersWithGUIOpen.remove(player.getUniqueId());
-            org.bukkit.Bukkit.getLogger().info("[ClassSelection] Removed from tracking: " + player.getName() + ", remaining: " + playersWithGUIOpen.size());
         }
     }
     
@@ -636,33 +624,28 @@ public class ClassSelectionGUI implements Listener {
     
     /**
      * Update all players who have the class selection GUI open
+     * 
+     * Open inventories are updated in place; only slots whose icon changed are set.
      */
     private void updateAllOpenGUIs() {
-        org.bukkit.Bukkit.getLogger().info("[ClassSelection] updateAllOpenGUIs called, tracked players: " + playersWithGUIOpen.size());
+        if (openViews.isEmpty()) {
+            return;
+        }
         
-        // Create a copy to avoid concurrent modification
-        Set<UUID> playersCopy = new HashSet<>(playersWithGUIOpen);
+        ItemStack status = getStatusIcon();
         
-        for (UUID playerId : playersCopy) {
-            Player p = Bukkit.getPlayer(playerId);
+        Iterator<Map.Entry<UUID, View>> iterator = openViews.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, View> entry = iterator.next();
+            Player p = Bukkit.getPlayer(entry.getKey());
             
-            // Skip if player is offline or no longer exists
-            if (p == null || !p.isOnline()) {
-                org.bukkit.Bukkit.getLogger().info("[ClassSelection] Removing offline player: " + playerId);
-                playersWithGUIOpen.remove(playerId);
+            // Drop views of players who went offline or no longer look at them
+            if (p == null || !p.isOnline() || p.getOpenInventory().getTopInventory() != entry.getValue().inventory) {
+                iterator.remove();
                 continue;
             }
             
-            org.bukkit.Bukkit.getLogger().info("[ClassSelection] Updating GUI for player: " + p.getName());
-            
-            // Reopen GUI to refresh all icons with latest class selections
-            // This ensures real-time updates when other players select classes
-            Bukkit.getScheduler().runTask(plugin, () -> {
-                if (p.isOnline()) {
-                    org.bukkit.Bukkit.getLogger().info("[ClassSelection] Reopening GUI for: " + p.getName());
-                    openGUI(p);
-                }
-            });
+            render(p, entry.getValue(), status);
         }
     }
     
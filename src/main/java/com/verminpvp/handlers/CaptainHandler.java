@@ -1,10 +1,12 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.managers.ProjectileRegistry;
 import com.verminpvp.managers.TeamManager;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
@@ -15,17 +17,13 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,28 +34,27 @@ import java.util.UUID;
  * - Captain's Command (give Naval Combat + Strength I 5s, 15s cooldown)
  * - Captain's Harpoon Throw (2 damage, buffs/debuffs, 12s cooldown)
  */
-public class CaptainHandler implements Listener {
+public class CaptainHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final TeamManager teamManager;
     private final GameManager gameManager;
     private final EffectApplicator effectApplicator;
     private final DamageHandler damageHandler;
     
-    // Track Captain's Harpoon projectiles
-    private final Map<UUID, UUID> captainHarpoons = new HashMap<>(); // Arrow UUID -> Player UUID
-    
     public CaptainHandler(VerminPVP plugin, ClassManager classManager,
-                           CooldownManager cooldownManager, ItemProvider itemProvider,
+                           CooldownManager cooldownManager, ItemProvider itemProvider, ClassItemIndex itemIndex,
                            TeamManager teamManager, GameManager gameManager,
                            EffectApplicator effectApplicator, DamageHandler damageHandler) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.teamManager = teamManager;
         this.gameManager = gameManager;
         this.effectApplicator = effectApplicator;
@@ -65,19 +62,17 @@ public class CaptainHandler implements Listener {
     }
     
     /**
-     * Passive team buff on hit - buffs teammate in team mode, self in solo mode
+     * Passive team buff on hit - buffs teammate in team mode, self in solo mode (on-hit step)
      */
-    @EventHandler
-    public void onCaptainHit(EntityDamageByEntityEvent event) {
-        if (!(event.getDamager() instanceof Player)) return;
+    public void onCaptainHit(DamagePipeline.Context context) {
+        if (!context.isMelee()) return;
         
-        Player captain = (Player) event.getDamager();
-        if (classManager.getPlayerClass(captain) != ClassType.CAPTAIN) return;
+        Player captain = context.getAttacker();
         
         Player target;
         
         // Check game mode
-        if (gameManager.getGameMode() == GameMode.TEAM) {
+        if (gameManager.getGameMode(captain) == GameMode.TEAM) {
             // Team mode: buff random teammate
             target = teamManager.getRandomTeammate(captain);
             if (target == null) {
@@ -100,17 +95,10 @@ public class CaptainHandler implements Listener {
     /**
      * Handle Captain's Command and Captain's Harpoon
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.CAPTAIN) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
         if (itemId.equals("captains_command")) {
             event.setCancelled(true);
             handleCaptainsCommand(player);
@@ -133,11 +121,11 @@ public class CaptainHandler implements Listener {
         Player target;
         
         // Check game mode
-        if (gameManager.getGameMode() == GameMode.TEAM) {
+        if (gameManager.getGameMode(captain) == GameMode.TEAM) {
             // Team mode: give to teammate with less than 3 Naval Combat items
             List<Player> validTeammates = new ArrayList<>();
             for (Player teammate : teamManager.getTeammates(captain)) {
-                int navalCombatCount = countItemsInInventory(teammate, "naval_combat");
+                int navalCombatCount = itemIndex.count(teammate, "naval_combat");
                 if (navalCombatCount < 3) {
                     validTeammates.add(teammate);
                 }
@@ -158,7 +146,7 @@ public class CaptainHandler implements Listener {
         
         // Give Naval Combat item
         ItemStack navalCombat = itemProvider.createSpecialItem(ClassType.NAVIGATOR, "naval_combat");
-        target.getInventory().addItem(navalCombat);
+        itemIndex.give(target, navalCombat);
         
         // Apply Strength I for 5 seconds
         effectApplicator.applyEffect(target, PotionEffectType.STRENGTH, 100, 0);
@@ -191,7 +179,7 @@ public class CaptainHandler implements Listener {
         arrow.setPickupStatus(Arrow.PickupStatus.DISALLOWED);
         
         // Track arrow
-        captainHarpoons.put(arrow.getUniqueId(), captain.getUniqueId());
+        gameManager.getProjectileRegistry().track(arrow, captain, AbilityIds.CAPTAINS_HARPOON, ProjectileRegistry.DEFAULT_TTL_TICKS);
         
         // Set cooldown (changed from 12s to 9s)
         cooldownManager.setCooldown(captain.getUniqueId(), AbilityIds.CAPTAINS_HARPOON, 9);
@@ -211,7 +199,7 @@ public class CaptainHandler implements Listener {
         if (!(event.getHitEntity() instanceof LivingEntity)) return;
         
         Arrow arrow = (Arrow) event.getEntity();
-        UUID captainId = captainHarpoons.get(arrow.getUniqueId());
+        UUID captainId = gameManager.getProjectileRegistry().getOwner(arrow, AbilityIds.CAPTAINS_HARPOON);
         if (captainId == null) return;
         
         Player captain = Bukkit.getPlayer(captainId);
@@ -228,7 +216,7 @@ public class CaptainHandler implements Listener {
         Player buffTarget;
         
         // Check game mode
-        if (gameManager.getGameMode() == GameMode.TEAM) {
+        if (gameManager.getGameMode(captain) == GameMode.TEAM) {
             // Team mode: buff random teammate
             buffTarget = teamManager.getRandomTeammate(captain);
             if (buffTarget == null) {
@@ -263,24 +251,11 @@ public class CaptainHandler implements Listener {
         VerminPVP.getInstance().getCooldownDisplay().showCooldown(captain, AbilityIds.CAPTAINS_HARPOON, "선장의 작살", newCooldown);
         
         // Remove from tracking
-        captainHarpoons.remove(arrow.getUniqueId());
+        gameManager.getProjectileRegistry().release(arrow, AbilityIds.CAPTAINS_HARPOON);
         
         // Remove arrow
         arrow.remove();
         
         captain.sendMessage(String.format("§6선장의 작살 적중! 쿨다운: %.1f초", newCooldown));
     }
-    
-    /**
-     * Count specific items in player inventory
-     */
-    private int countItemsInInventory(Player player, String itemId) {
-        int count = 0;
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && itemId.equals(itemProvider.getItemId(item))) {
-                count += item.getAmount();
-            }
-        }
-        return count;
-    }
 }
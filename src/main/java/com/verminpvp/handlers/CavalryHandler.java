@@ -2,6 +2,8 @@ package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatantIndex;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.ItemProvider;
 import com.verminpvp.models.AbilityIds;
@@ -23,7 +25,6 @@ import org.bukkit.event.vehicle.VehicleExitEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -41,13 +42,14 @@ import java.util.UUID;
  * - Mount & Dismount: Summon horse with shared health, dismount heals 6 HP, 22s cooldown
  * - Sweep: 3 block forward AOE attack, 6 damage, 6s cooldown (reduced by 1s per hit)
  */
-public class CavalryHandler implements Listener {
+public class CavalryHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
     private final DamageHandler damageHandler;
+    private final CombatantIndex combatantIndex;
     
     // Track cavalry horses (Player UUID -> Horse UUID)
     private final Map<UUID, UUID> cavalryHorses = new HashMap<>();
@@ -57,19 +59,25 @@ public class CavalryHandler implements Listener {
     
     public CavalryHandler(VerminPVP plugin, ClassManager classManager,
                           CooldownManager cooldownManager, ItemProvider itemProvider,
-                          DamageHandler damageHandler) {
+                          DamageHandler damageHandler, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
         this.damageHandler = damageHandler;
+        this.combatantIndex = combatantIndex;
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        applyPassiveEffect(player);
     }
     
     /**
      * Apply permanent Slowness I passive effect
      */
     public void applyPassiveEffect(Player player) {
-        new BukkitRunnable() {
+        plugin.getGameManager().getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.CAVALRY) {
@@ -83,23 +91,16 @@ public class CavalryHandler implements Listener {
                         Integer.MAX_VALUE, 0, false, false, false));
                 }
             }
-        }.runTaskTimer(plugin, 0L, 20L); // Check every second
+        }, 0L, 20L); // Check every second
     }
     
     /**
      * Handle Mount & Dismount and Sweep abilities
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.CAVALRY) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
         if (itemId.equals("mount_dismount")) {
             event.setCancelled(true);
             handleMountDismount(player);
@@ -114,7 +115,7 @@ public class CavalryHandler implements Listener {
      */
     private void handleMountDismount(Player player) {
         // Check if game is active (prevent usage before game starts)
-        if (!plugin.getGameManager().isGameActive() && !plugin.getGameManager().isInPracticeMode(player)) {
+        if (!plugin.getGameManager().isGameActive(player) && !plugin.getGameManager().isInPracticeMode(player)) {
             player.sendMessage("§c게임이 시작되지 않았습니다!");
             return;
         }
@@ -170,6 +171,7 @@ public class CavalryHandler implements Listener {
         horse.setCustomNameVisible(true);
         horse.setRemoveWhenFarAway(false); // Prevent horse from despawning
         horse.setPersistent(true); // Make horse persistent
+        plugin.getGameManager().getEntityTracker().track(horse);
         
         // Set horse health to match player's current health
         double playerHealth = player.getHealth();
@@ -181,11 +183,11 @@ public class CavalryHandler implements Listener {
         horseToPlayer.put(horse.getUniqueId(), player.getUniqueId());
         
         // Mount player on horse after a short delay to ensure horse is fully spawned
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getGameManager().getCombatTicker().later(player.getUniqueId(), 2L, () -> { // 2 ticks delay
             if (horse.isValid() && player.isOnline()) {
                 horse.addPassenger(player);
             }
-        }, 2L); // 2 ticks delay
+        });
         
         // Set cooldown (18 seconds)
         cooldownManager.setCooldown(player.getUniqueId(), AbilityIds.MOUNT_DISMOUNT, 18);
@@ -219,24 +221,16 @@ public class CavalryHandler implements Listener {
         // Get player location
         Location playerLoc = player.getLocation();
         
-        // Find entities within 3 block radius (diameter 3 = radius 1.5)
+        // Find entities within 1.5 block radius (3 block diameter)
         int hitCount = 0;
-        for (Entity entity : player.getNearbyEntities(1.5, 1.5, 1.5)) {
-            if (!(entity instanceof LivingEntity) || entity == player) continue;
-            
-            // Skip player's own horse
-            if (playerHorseUUID != null && entity.getUniqueId().equals(playerHorseUUID)) continue;
-            
-            LivingEntity target = (LivingEntity) entity;
+        for (LivingEntity target : combatantIndex.getNearby(playerLoc, 1.5)) {
+            // Skip the player and their own horse
+            if (target == player) continue;
+            if (playerHorseUUID != null && target.getUniqueId().equals(playerHorseUUID)) continue;
             
-            // Check if entity is within 1.5 block radius (3 block diameter)
-            double distance = target.getLocation().distance(playerLoc);
-            
-            if (distance <= 1.5) {
-                // Deal damage (6 or 8 based on mounted status)
-                damageHandler.applyInstantDamage(target, damage);
-                hitCount++;
-            }
+            // Deal damage (6 or 8 based on mounted status)
+            damageHandler.applyInstantDamage(target, damage);
+            hitCount++;
         }
         
         // Calculate cooldown (6s - 1s per hit, minimum 1s)
@@ -365,6 +359,7 @@ public class CavalryHandler implements Listener {
     /**
      * Cleanup all cavalry horses
      */
+    @Override
     public void cleanupAll() {
         for (UUID horseUUID : new java.util.HashSet<>(horseToPlayer.keySet())) {
             Entity entity = Bukkit.getEntity(horseUUID);
@@ -379,6 +374,7 @@ public class CavalryHandler implements Listener {
     /**
      * Cleanup cavalry horse for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID horseUUID = cavalryHorses.get(player.getUniqueId());
         if (horseUUID != null) {
@@ -0,0 +1,49 @@
+package com.verminpvp.handlers;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Lifecycle hooks a class handler exposes to ClassManager and GameManager
+ * 
+ * Handlers are registered per ClassType in ClassManager and called directly,
+ * so every hook has a no-op default and a handler only overrides what it uses.
+ */
+public interface ClassHandler {
+    
+    /**
+     * Start recurring passives for a player (called when the game starts)
+     */
+    default void startSchedulers(Player player) {
+    }
+    
+    /**
+     * Whether giveStartingItems provides the whole kit (no default class weapon)
+     */
+    default boolean providesFullKit() {
+        return false;
+    }
+    
+    /**
+     * Give handler-provided starting items (called after the default kit)
+     */
+    default void giveStartingItems(Player player) {
+    }
+    
+    /**
+     * Initialize per-player class state on class selection
+     */
+    default void initializePlayer(Player player) {
+    }
+    
+    /**
+     * Clean up a single player's class state
+     */
+    default void cleanupPlayer(Player player) {
+    }
+    
+    /**
+     * Clean up all class state (called on game end)
+     */
+    default void cleanupAll() {
+    }
+}
@@ -2,26 +2,24 @@ package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.TargetFinder;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.GameMode;
-import com.verminpvp.models.Team;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
+import com.verminpvp.ui.ActionBarCompositor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 /**
@@ -44,31 +42,41 @@ import java.util.Random;
  * - Deals additional instant damage equal to dealt damage, heals 6 HP (3 hearts)
  * - No cooldown mentioned, so no cooldown
  */
-public class CriticalCutterHandler implements Listener {
+public class CriticalCutterHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
     private final DamageHandler damageHandler;
+    private final TargetFinder targetFinder;
     private final Random random;
     
+    // Action bar texts per crit chance (in tenths of a percent)
+    private final Map<Integer, Component> critChanceTexts = new HashMap<>();
+    
     public CriticalCutterHandler(VerminPVP plugin, ClassManager classManager, 
                                   CooldownManager cooldownManager, ItemProvider itemProvider,
-                                  DamageHandler damageHandler) {
+                                  DamageHandler damageHandler, TargetFinder targetFinder) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
         this.damageHandler = damageHandler;
+        this.targetFinder = targetFinder;
         this.random = new Random();
     }
     
+    @Override
+    public void startSchedulers(Player player) {
+        startActionBarDisplay(player);
+    }
+    
     /**
      * Start action bar display for a Critical Cutter
      */
     public void startActionBarDisplay(Player player) {
-        new BukkitRunnable() {
+        plugin.getGameManager().getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.CRITICAL_CUTTER) {
@@ -80,33 +88,37 @@ public class CriticalCutterHandler implements Listener {
                 ClassData data = classManager.getClassData(player);
                 double critChance = data.getCritChance();
                 
-                // Display in action bar
-                String message = String.format("§e크리티컬 확률: §c%.1f%%", critChance);
-                player.spigot().sendMessage(ChatMessageType.ACTION_BAR, new TextComponent(message));
+                // Display in action bar (kept until the next update)
+                plugin.getActionBarCompositor().set(player, ActionBarCompositor.Slot.STATUS,
+                    getCritChanceComponent(critChance), 20L);
             }
-        }.runTaskTimer(plugin, 0L, 10L); // Update every 0.5 seconds
+        }, 0L, 10L); // Update every 0.5 seconds
+    }
+    
+    /**
+     * Get the cached action bar text for a crit chance (rounded to a tenth of a percent)
+     */
+    private Component getCritChanceComponent(double critChance) {
+        int tenths = (int) Math.round(critChance * 10);
+        return critChanceTexts.computeIfAbsent(tenths, value -> Component.text()
+            .append(Component.text("크리티컬 확률: ", NamedTextColor.YELLOW))
+            .append(Component.text((value / 10) + "." + (value % 10) + "%", NamedTextColor.RED))
+            .build());
     }
     
     /**
      * Handle 확정 크리티컬 right-click
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.CRITICAL_CUTTER) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
         if (itemId.equals("guaranteed_critical")) {
             event.setCancelled(true);
             
             // Check cooldown (25 seconds)
-            if (cooldownManager.isOnCooldown(player.getUniqueId(), "guaranteed_critical")) {
-                double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), "guaranteed_critical");
+            if (cooldownManager.isOnCooldown(player.getUniqueId(), AbilityIds.GUARANTEED_CRITICAL)) {
+                double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), AbilityIds.GUARANTEED_CRITICAL);
                 player.sendMessage("§c확정 크리티컬 쿨타임: " + String.format("%.1f", remaining) + "초");
                 return;
             }
@@ -114,7 +126,7 @@ public class CriticalCutterHandler implements Listener {
             handleGuaranteedCritical(player);
             
             // Set cooldown (25 seconds)
-            cooldownManager.setCooldown(player.getUniqueId(), "guaranteed_critical", 25.0);
+            cooldownManager.setCooldown(player.getUniqueId(), AbilityIds.GUARANTEED_CRITICAL, 25.0);
         }
     }
     
@@ -123,7 +135,7 @@ public class CriticalCutterHandler implements Listener {
      */
     private void handleGuaranteedCritical(Player player) {
         // Get target in front of player (within 3 blocks)
-        org.bukkit.entity.LivingEntity target = getTargetInFront(player, 3.0);
+        org.bukkit.entity.LivingEntity target = targetFinder.rayTarget(player, 3.0, 0.5, null);
         
         if (target == null) {
             player.sendMessage("§c대상을 찾을 수 없습니다!");
@@ -132,18 +144,11 @@ public class CriticalCutterHandler implements Listener {
         
         // Check if target is a teammate in team mode (not practice mode)
         if (target instanceof Player) {
-            Player targetPlayer = (Player) target;
             GameManager gameManager = plugin.getGameManager();
-            TeamManager teamManager = plugin.getTeamManager();
             
-            if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                Team attackerTeam = teamManager.getPlayerTeam(player);
-                Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                
-                if (attackerTeam != null && attackerTeam == targetTeam) {
-                    player.sendMessage("§c아군을 공격할 수 없습니다!");
-                    return;
-                }
+            if (!gameManager.isHostile(player, (Player) target)) {
+                player.sendMessage("§c아군을 공격할 수 없습니다!");
+                return;
             }
         }
         
@@ -170,45 +175,18 @@ public class CriticalCutterHandler implements Listener {
     }
     
     /**
-     * Get target entity in front of player
-     */
-    private org.bukkit.entity.LivingEntity getTargetInFront(Player player, double range) {
-        Vector direction = player.getLocation().getDirection();
-        org.bukkit.Location start = player.getEyeLocation();
-        
-        // Raycast to find target
-        for (double i = 0; i <= range; i += 0.5) {
-            org.bukkit.Location check = start.clone().add(direction.clone().multiply(i));
-            
-            // Check for entities at this location
-            for (org.bukkit.entity.Entity entity : check.getWorld().getNearbyEntities(check, 0.5, 0.5, 0.5)) {
-                if (entity instanceof org.bukkit.entity.LivingEntity && entity != player) {
-                    return (org.bukkit.entity.LivingEntity) entity;
-                }
-            }
-        }
-        
-        return null;
-    }
-    
-    /**
-     * Handle critical hit system for 크리티컬 커터 sword
+     * Handle critical hit system for 크리티컬 커터 sword (on-hit step)
      */
-    @EventHandler
-    public void onAttack(EntityDamageByEntityEvent event) {
-        if (event.isCancelled()) return;
-        if (!(event.getDamager() instanceof Player)) return;
-        if (!(event.getEntity() instanceof org.bukkit.entity.LivingEntity)) return;
+    public void onAttack(DamagePipeline.Context context) {
+        if (!context.isMelee()) return;
         
-        Player attacker = (Player) event.getDamager();
-        if (classManager.getPlayerClass(attacker) != ClassType.CRITICAL_CUTTER) return;
+        org.bukkit.entity.LivingEntity target = context.getLivingVictim();
+        if (target == null) return;
         
         // Check if using 크리티컬 커터 sword
-        ItemStack weapon = attacker.getInventory().getItemInMainHand();
-        if (weapon == null) return;
+        if (!"critical_cutter_sword".equals(context.getWeaponId())) return;
         
-        String itemId = itemProvider.getItemId(weapon);
-        if (itemId == null || !itemId.equals("critical_cutter_sword")) return;
+        Player attacker = context.getAttacker();
         
         // Get class data for crit chance
         ClassData data = classManager.getClassData(attacker);
@@ -219,7 +197,7 @@ public class CriticalCutterHandler implements Listener {
         
         if (roll < critChance) {
             // Critical hit! Apply passive damage (1/4 of current health)
-            handleCriticalHit(event, attacker, data);
+            handleCriticalHit(target, attacker, data);
         } else {
             // Non-crit: increase crit chance by 1%
             double newCritChance = Math.min(100.0, critChance + 1.0);
@@ -230,9 +208,7 @@ public class CriticalCutterHandler implements Listener {
     /**
      * Handle critical hit effects for 크리티컬 커터 sword
      */
-    private void handleCriticalHit(EntityDamageByEntityEvent event, Player attacker, ClassData data) {
-        org.bukkit.entity.LivingEntity target = (org.bukkit.entity.LivingEntity) event.getEntity();
-        
+    private void handleCriticalHit(org.bukkit.entity.LivingEntity target, Player attacker, ClassData data) {
         // Deal instant damage equal to 1/4 of target's current health
         double currentHealth = target.getHealth();
         double passiveDamage = currentHealth / 4.0;
@@ -0,0 +1,248 @@
+package com.verminpvp.handlers;
+
+import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.models.ClassType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDamageByEntityEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single EntityDamageByEntityEvent listener that runs combat logic in fixed stages
+ * 
+ * The attacker, victim and their classes are resolved once per event into a Context.
+ * Stages run in order GATE -> MODIFIER -> ON_HIT -> POST_HIT; within a stage global steps
+ * run first, then the steps of the attacker's class, then those of the victim's class,
+ * each in registration order. Once a step cancels the event no further steps run.
+ * POST_HIT steps run on the next tick, after the damage has been applied, and only if
+ * the event was not cancelled later.
+ */
+public class DamagePipeline implements Listener {
+    
+    /**
+     * Pipeline stages, in execution order
+     */
+    public enum Stage {
+        GATE,       // Decide whether the hit is allowed at all
+        MODIFIER,   // Change or replace the event damage
+        ON_HIT,     // Effects of a hit that went through
+        POST_HIT    // Effects after the damage was applied (next tick)
+    }
+    
+    /**
+     * Which side of the hit a class step belongs to
+     */
+    public enum Side {
+        ATTACKER,
+        VICTIM
+    }
+    
+    @FunctionalInterface
+    public interface DamageStep {
+        void apply(Context context);
+    }
+    
+    private static final Stage[] STAGES = Stage.values();
+    
+    private final Plugin plugin;
+    private final ClassManager classManager;
+    private final ItemProvider itemProvider;
+    
+    // Per stage: global steps and class steps per side
+    private final List<List<DamageStep>> globalSteps = new ArrayList<>();
+    private final List<Map<ClassType, List<DamageStep>>> attackerSteps = new ArrayList<>();
+    private final List<Map<ClassType, List<DamageStep>>> victimSteps = new ArrayList<>();
+    
+    public DamagePipeline(Plugin plugin, ClassManager classManager, ItemProvider itemProvider) {
+        this.plugin = plugin;
+        this.classManager = classManager;
+        this.itemProvider = itemProvider;
+        for (int i = 0; i < STAGES.length; i++) {
+            globalSteps.add(new ArrayList<>());
+            attackerSteps.add(new EnumMap<>(ClassType.class));
+            victimSteps.add(new EnumMap<>(ClassType.class));
+        }
+    }
+    
+    /**
+     * Register a step that runs for every hit
+     */
+    public void register(Stage stage, DamageStep step) {
+        globalSteps.get(stage.ordinal()).add(step);
+    }
+    
+    /**
+     * Register a step that runs only when the attacker or victim has the given class
+     */
+    public void register(Stage stage, Side side, ClassType classType, DamageStep step) {
+        List<Map<ClassType, List<DamageStep>>> steps = side == Side.ATTACKER ? attackerSteps : victimSteps;
+        steps.get(stage.ordinal()).computeIfAbsent(classType, type -> new ArrayList<>()).add(step);
+    }
+    
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onEntityDamageByEntity(EntityDamageByEntityEvent event) {
+        Context context = new Context(event);
+        
+        if (runStage(Stage.GATE, context) && runStage(Stage.MODIFIER, context) && runStage(Stage.ON_HIT, context)) {
+            schedulePostHit(context);
+        }
+    }
+    
+    /**
+     * Run the steps of one stage; returns false once the event is cancelled
+     */
+    private boolean runStage(Stage stage, Context context) {
+        int index = stage.ordinal();
+        return runSteps(globalSteps.get(index), context)
+            && runSteps(attackerSteps.get(index).get(context.attackerClass), context)
+            && runSteps(victimSteps.get(index).get(context.victimClass), context);
+    }
+    
+    private boolean runSteps(List<DamageStep> steps, Context context) {
+        if (steps == null) {
+            return true;
+        }
+        for (DamageStep step : steps) {
+            step.apply(context);
+            if (context.event.isCancelled()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void schedulePostHit(Context context) {
+        int index = Stage.POST_HIT.ordinal();
+        if (globalSteps.get(index).isEmpty()
+                && !attackerSteps.get(index).containsKey(context.attackerClass)
+                && !victimSteps.get(index).containsKey(context.victimClass)) {
+            return;
+        }
+        
+        // Post-hit steps see the weapon used for the hit, not what is held next tick
+        context.resolveWeapon();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            // A later listener may still have cancelled the hit
+            if (!context.event.isCancelled()) {
+                runStage(Stage.POST_HIT, context);
+            }
+        });
+    }
+    
+    /**
+     * Attacker and victim of one hit, resolved once for all steps
+     */
+    public final class Context {
+        private final EntityDamageByEntityEvent event;
+        private final Entity damager;
+        private final Player attacker;
+        private final Entity victim;
+        private final ClassType attackerClass;
+        private final ClassType victimClass;
+        private ItemStack weapon;
+        private String weaponId;
+        private boolean weaponResolved;
+        
+        private Context(EntityDamageByEntityEvent event) {
+            this.event = event;
+            this.damager = event.getDamager();
+            this.victim = event.getEntity();
+            
+            // Direct attacker or shooter of a projectile
+            if (damager instanceof Player) {
+                attacker = (Player) damager;
+            } else if (damager instanceof Projectile && ((Projectile) damager).getShooter() instanceof Player) {
+                attacker = (Player) ((Projectile) damager).getShooter();
+            } else {
+                attacker = null;
+            }
+            
+            this.attackerClass = classManager.getPlayerClass(attacker);
+            this.victimClass = victim instanceof Player ? classManager.getPlayerClass((Player) victim) : null;
+        }
+        
+        public EntityDamageByEntityEvent getEvent() {
+            return event;
+        }
+        
+        /**
+         * The entity that dealt the damage (player, projectile, mob, ...)
+         */
+        public Entity getDamager() {
+            return damager;
+        }
+        
+        /**
+         * The player behind the hit (direct or projectile shooter), or null
+         */
+        public Player getAttacker() {
+            return attacker;
+        }
+        
+        /**
+         * Whether the attacker hit directly (not with a projectile)
+         */
+        public boolean isMelee() {
+            return attacker != null && damager == attacker;
+        }
+        
+        public Entity getVictim() {
+            return victim;
+        }
+        
+        public LivingEntity getLivingVictim() {
+            return victim instanceof LivingEntity ? (LivingEntity) victim : null;
+        }
+        
+        public Player getVictimPlayer() {
+            return victim instanceof Player ? (Player) victim : null;
+        }
+        
+        public ClassType getAttackerClass() {
+            return attackerClass;
+        }
+        
+        public ClassType getVictimClass() {
+            return victimClass;
+        }
+        
+        /**
+         * The attacker's main hand item at the time of the hit, or null without attacker
+         */
+        public ItemStack getWeapon() {
+            resolveWeapon();
+            return weapon;
+        }
+        
+        /**
+         * Item id of the attacker's main hand item (read once), or null
+         */
+        public String getWeaponId() {
+            resolveWeapon();
+            return weaponId;
+        }
+        
+        private void resolveWeapon() {
+            if (!weaponResolved) {
+                weaponResolved = true;
+                if (attacker != null) {
+                    weapon = attacker.getInventory().getItemInMainHand();
+                    weaponId = itemProvider.getItemId(weapon);
+                }
+            }
+        }
+    }
+}
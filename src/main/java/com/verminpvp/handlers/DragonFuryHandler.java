@@ -1,15 +1,22 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
+import com.verminpvp.ui.ActionBarCompositor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -22,7 +29,6 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -39,20 +45,24 @@ import java.util.UUID;
  * If kill with skill, heal HP = scales consumed / 2
  * Cooldown: 60 seconds
  */
-public class DragonFuryHandler implements Listener {
+public class DragonFuryHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final GameManager gameManager;
     private final CooldownManager cooldownManager;
+    private final ItemProvider itemProvider;
     private final DamageHandler damageHandler;
-    private final TeamManager teamManager;
+    private final CombatantIndex combatantIndex;
     
     // Track reverse scales per player
     private final Map<UUID, Integer> reverseScales = new HashMap<>();
     
+    // Action bar texts per scale count
+    private final Map<Integer, Component> scaleTexts = new HashMap<>();
+    
     // Track passive generation tasks
-    private final Map<UUID, BukkitTask> passiveGenerationTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> passiveGenerationTasks = new HashMap<>();
     
     // Track counter ability usage for kill detection
     private final Map<UUID, CounterData> activeCounters = new HashMap<>();
@@ -71,23 +81,34 @@ public class DragonFuryHandler implements Listener {
     }
     
     private static final int MAX_SCALES = 30;
-    private static final String COUNTER_ABILITY_ID = "dragon_fury_counter";
+    private static final String COUNTER_ABILITY_ID = AbilityIds.DRAGON_FURY_COUNTER;
     private static final double COUNTER_COOLDOWN = 30.0; // 30 seconds (changed from 60s)
     private static final int PASSIVE_GENERATION_INTERVAL = 160; // 8 seconds in ticks (changed from 15s)
     
     public DragonFuryHandler(Plugin plugin, ClassManager classManager, GameManager gameManager,
-                            CooldownManager cooldownManager, DamageHandler damageHandler, TeamManager teamManager) {
+                            CooldownManager cooldownManager, ItemProvider itemProvider,
+                            DamageHandler damageHandler, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.gameManager = gameManager;
         this.cooldownManager = cooldownManager;
+        this.itemProvider = itemProvider;
         this.damageHandler = damageHandler;
-        this.teamManager = teamManager;
+        this.combatantIndex = combatantIndex;
+    }
+    
+    /**
+     * Dragon Fury provides its own items completely (no default weapon or armor)
+     */
+    @Override
+    public boolean providesFullKit() {
+        return true;
     }
     
     /**
      * Give starting items to Dragon Fury player
      */
+    @Override
     public void giveStartingItems(Player player) {
         // Iron armor set with Unbreakable
         ItemStack helmet = new ItemStack(Material.IRON_HELMET);
@@ -135,6 +156,7 @@ public class DragonFuryHandler implements Listener {
                 "§e쿨타임: 30초"
             ));
             counterMeta.setUnbreakable(true);
+            itemProvider.setItemId(counterMeta, ClassType.DRAGON_FURY, "reverse_scale_counter");
             counterItem.setItemMeta(counterMeta);
         }
         player.getInventory().addItem(counterItem);
@@ -172,7 +194,7 @@ public class DragonFuryHandler implements Listener {
         }
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
+        if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
             return;
         }
         
@@ -214,8 +236,7 @@ public class DragonFuryHandler implements Listener {
     /**
      * Handle Reverse Scale Counter ability
      */
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    public void onPlayerInteract(PlayerInteractEvent event, String itemId) {
         if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) {
             return;
         }
@@ -228,18 +249,7 @@ public class DragonFuryHandler implements Listener {
         }
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
-            return;
-        }
-        
-        // Check if holding counter item (BLAZE_POWDER)
-        ItemStack item = event.getItem();
-        if (item == null || item.getType() != Material.BLAZE_POWDER) {
-            return;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName() || !meta.getDisplayName().equals("§c§l역린의 반격")) {
+        if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
             return;
         }
         
@@ -270,35 +280,24 @@ public class DragonFuryHandler implements Listener {
     private void handleCounter(Player player, int scales) {
         // Find nearest enemy
         LivingEntity target = null;
-        double minDistance = 5.0; // 5 block range
-        
-        // Check if in team mode
-        boolean isTeamMode = gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM;
-        com.verminpvp.models.Team playerTeam = null;
-        if (isTeamMode) {
-            playerTeam = teamManager.getPlayerTeam(player);
-        }
+        double range = 5.0; // 5 block range
+        double minDistanceSquared = range * range;
+        Location center = player.getLocation();
         
-        for (Entity entity : player.getNearbyEntities(minDistance, minDistance, minDistance)) {
-            if (entity instanceof LivingEntity && entity != player) {
-                LivingEntity livingEntity = (LivingEntity) entity;
-                
-                // Skip teammates in team mode
-                if (livingEntity instanceof Player && isTeamMode) {
-                    Player targetPlayer = (Player) livingEntity;
-                    com.verminpvp.models.Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                    
-                    // Skip if same team
-                    if (playerTeam != null && targetTeam != null && playerTeam == targetTeam) {
-                        continue;
-                    }
-                }
-                
-                double distance = player.getLocation().distance(livingEntity.getLocation());
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    target = livingEntity;
-                }
+        for (LivingEntity livingEntity : combatantIndex.getNearby(center, range)) {
+            if (livingEntity == player) {
+                continue;
+            }
+            
+            // Skip teammates in team mode
+            if (livingEntity instanceof Player && !gameManager.isHostile(player, (Player) livingEntity)) {
+                continue;
+            }
+            
+            double distanceSquared = center.distanceSquared(livingEntity.getLocation());
+            if (distanceSquared < minDistanceSquared) {
+                minDistanceSquared = distanceSquared;
+                target = livingEntity;
             }
         }
         
@@ -328,9 +327,9 @@ public class DragonFuryHandler implements Listener {
         
         // Schedule cleanup of counter tracking after 1 second
         final LivingEntity finalTarget = target;
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        gameManager.getCombatTicker().later(null, 20L, () -> {
             activeCounters.remove(finalTarget.getUniqueId());
-        }, 20L);
+        });
     }
     
     /**
@@ -369,7 +368,13 @@ public class DragonFuryHandler implements Listener {
      */
     private void updateScaleDisplay(Player player) {
         int scales = reverseScales.getOrDefault(player.getUniqueId(), 0);
-        player.sendActionBar("§6역린: §e" + scales + " §7/ §630");
+        Component text = scaleTexts.computeIfAbsent(scales, value -> Component.text()
+            .append(Component.text("역린: ", NamedTextColor.GOLD))
+            .append(Component.text(value, NamedTextColor.YELLOW))
+            .append(Component.text(" / ", NamedTextColor.GRAY))
+            .append(Component.text(30, NamedTextColor.GOLD))
+            .build());
+        VerminPVP.getInstance().getActionBarCompositor().set(player, ActionBarCompositor.Slot.STATUS, text, 60L);
     }
     
     /**
@@ -380,7 +385,7 @@ public class DragonFuryHandler implements Listener {
         stopPassiveScaleGeneration(player);
         
         // Start new generation task (changed from 15s to 10s)
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
             if (!player.isOnline()) {
                 stopPassiveScaleGeneration(player);
                 return;
@@ -393,7 +398,7 @@ public class DragonFuryHandler implements Listener {
             }
             
             // Only work in game or practice mode
-            if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
+            if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
                 return;
             }
             
@@ -414,7 +419,7 @@ public class DragonFuryHandler implements Listener {
      * Stop passive scale generation
      */
     private void stopPassiveScaleGeneration(Player player) {
-        BukkitTask task = passiveGenerationTasks.remove(player.getUniqueId());
+        CombatTicker.TickTask task = passiveGenerationTasks.remove(player.getUniqueId());
         if (task != null) {
             task.cancel();
         }
@@ -423,6 +428,7 @@ public class DragonFuryHandler implements Listener {
     /**
      * Cleanup player data
      */
+    @Override
     public void cleanupPlayer(Player player) {
         reverseScales.remove(player.getUniqueId());
         stopPassiveScaleGeneration(player);
@@ -435,11 +441,12 @@ public class DragonFuryHandler implements Listener {
     /**
      * Cleanup all data
      */
+    @Override
     public void cleanupAll() {
         reverseScales.clear();
         activeCounters.clear();
         
-        for (BukkitTask task : passiveGenerationTasks.values()) {
+        for (CombatTicker.TickTask task : passiveGenerationTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
@@ -1,5 +1,7 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.CooldownManager;
+import com.verminpvp.models.TimerKind;
 import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.entity.LivingEntity;
@@ -10,10 +12,6 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.UUID;
-
 /**
  * Applies potion effects and manages absorption hearts with stacking prevention
  */
@@ -22,13 +20,13 @@ public class EffectApplicator {
     private final Plugin plugin;
     private final NamespacedKey absorptionSourceKey;
     
-    // Track absorption sources per player to prevent stacking
-    private final Map<UUID, Map<String, Long>> absorptionSources;
+    // Absorption sources are tracked as ABSORPTION_SOURCE timers to prevent stacking
+    private final CooldownManager cooldownManager;
     
-    public EffectApplicator(Plugin plugin) {
+    public EffectApplicator(Plugin plugin, CooldownManager cooldownManager) {
         this.plugin = plugin;
         this.absorptionSourceKey = new NamespacedKey(plugin, "absorption_source");
-        this.absorptionSources = new HashMap<>();
+        this.cooldownManager = cooldownManager;
     }
     
     /**
@@ -84,9 +82,7 @@ public class EffectApplicator {
         player.addPotionEffect(absorption);
         
         // Track the absorption source
-        UUID playerId = player.getUniqueId();
-        absorptionSources.putIfAbsent(playerId, new HashMap<>());
-        absorptionSources.get(playerId).put(source, System.currentTimeMillis() + (durationTicks * 50L));
+        cooldownManager.setTimer(player.getUniqueId(), TimerKind.ABSORPTION_SOURCE, source, durationTicks);
         
         return true;
     }
@@ -99,21 +95,7 @@ public class EffectApplicator {
             return false;
         }
         
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> sources = absorptionSources.get(playerId);
-        
-        if (sources == null || !sources.containsKey(source)) {
-            return false;
-        }
-        
-        // Check if the absorption has expired
-        long expirationTime = sources.get(source);
-        if (System.currentTimeMillis() >= expirationTime) {
-            sources.remove(source);
-            return false;
-        }
-        
-        return true;
+        return cooldownManager.isActive(player.getUniqueId(), TimerKind.ABSORPTION_SOURCE, source);
     }
     
     /**
@@ -140,17 +122,6 @@ public class EffectApplicator {
         }
     }
     
-    /**
-     * Clears absorption tracking for a player
-     */
-    public void clearAbsorptionTracking(Player player) {
-        if (player == null) {
-            return;
-        }
-        
-        absorptionSources.remove(player.getUniqueId());
-    }
-    
     /**
      * Removes a specific absorption source from tracking
      */
@@ -159,12 +130,7 @@ public class EffectApplicator {
             return;
         }
         
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> sources = absorptionSources.get(playerId);
-        
-        if (sources != null) {
-            sources.remove(source);
-        }
+        cooldownManager.clearTimer(player.getUniqueId(), TimerKind.ABSORPTION_SOURCE, source);
     }
     
     /**
@@ -251,29 +217,4 @@ public class EffectApplicator {
         
         entity.setHealth(newHealth);
     }
-    
-    /**
-     * Cleans up expired absorption sources
-     */
-    public void cleanupExpiredAbsorption() {
-        long currentTime = System.currentTimeMillis();
-        
-        for (Map<String, Long> sources : absorptionSources.values()) {
-            sources.entrySet().removeIf(entry -> entry.getValue() <= currentTime);
-        }
-        
-        // Remove empty player entries
-        absorptionSources.entrySet().removeIf(entry -> entry.getValue().isEmpty());
-    }
-    
-    /**
-     * Removes all tracking data for a player
-     */
-    public void removePlayer(Player player) {
-        if (player == null) {
-            return;
-        }
-        
-        clearAbsorptionTracking(player);
-    }
 }
@@ -1,60 +1,57 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.managers.GameManager;
+import com.verminpvp.managers.MoveDispatcher;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
-import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.potion.PotionEffectType;
 
 /**
  * Prevents PVP and movement during freeze period (first 10 seconds of game)
  */
-public class FreezeProtectionHandler implements Listener {
+public class FreezeProtectionHandler {
     
     private final GameManager gameManager;
     
     public FreezeProtectionHandler(GameManager gameManager) {
         this.gameManager = gameManager;
+        
+        // Match players are subscribed by GameManager for the length of the freeze period
+        gameManager.getMoveDispatcher().register(MoveDispatcher.FREEZE_PERIOD, this::onPlayerMove);
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerDamage(EntityDamageByEntityEvent event) {
-        // Only handle player vs player damage
-        if (!(event.getEntity() instanceof Player) || !(event.getDamager() instanceof Player)) {
+    public void onPlayerDamage(DamagePipeline.Context context) {
+        // Only handle player vs player melee damage
+        if (context.getVictimPlayer() == null || !context.isMelee()) {
             return;
         }
         
-        Player victim = (Player) event.getEntity();
-        Player attacker = (Player) event.getDamager();
+        Player attacker = context.getAttacker();
         
-        // Check if game is active
-        if (!gameManager.isGameActive()) {
+        // Check if the attacker's match is active
+        if (!gameManager.isGameActive(attacker)) {
             return;
         }
         
         // Check if in freeze period using GameManager
-        if (gameManager.isInFreezePeriod()) {
+        if (gameManager.isInFreezePeriod(attacker)) {
             // Cancel damage during freeze period
-            event.setCancelled(true);
+            context.getEvent().setCancelled(true);
             attacker.sendMessage("§c프리즈 기간 동안에는 공격할 수 없습니다!");
         }
     }
     
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerMove(PlayerMoveEvent event) {
+    private void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         
-        // Check if game is active
-        if (!gameManager.isGameActive()) {
+        // Check if the player's match is active
+        if (!gameManager.isGameActive(player)) {
             return;
         }
         
         // Check if in freeze period using GameManager
-        if (gameManager.isInFreezePeriod()) {
+        if (gameManager.isInFreezePeriod(player)) {
             // Get from and to locations
             Location from = event.getFrom();
             Location to = event.getTo();
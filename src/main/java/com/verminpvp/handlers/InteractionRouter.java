@@ -0,0 +1,125 @@
+package com.verminpvp.handlers;
+
+import com.verminpvp.managers.ItemProvider;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single PlayerInteractEvent listener for class item abilities
+ * 
+ * The held item's integer item type is read once per event and looked up in a
+ * type -> handler table, so only the handler owning the item runs. Calls and time
+ * spent are counted per item id.
+ */
+public class InteractionRouter implements Listener {
+    
+    /**
+     * Handles a right/left click with a routed item
+     */
+    @FunctionalInterface
+    public interface InteractionHandler {
+        void handle(PlayerInteractEvent event, String itemId);
+    }
+    
+    /**
+     * A registered item id with its handler and timing counters
+     */
+    private static final class Route {
+        private final String itemId;
+        private final InteractionHandler handler;
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+        
+        private Route(String itemId, InteractionHandler handler) {
+            this.itemId = itemId;
+            this.handler = handler;
+        }
+    }
+    
+    private final Plugin plugin;
+    private final ItemProvider itemProvider;
+    private final Map<Integer, Route> routes = new HashMap<>();
+    
+    public InteractionRouter(Plugin plugin, ItemProvider itemProvider) {
+        this.plugin = plugin;
+        this.itemProvider = itemProvider;
+    }
+    
+    /**
+     * Route interactions with an item id to a handler
+     */
+    public void register(String itemId, InteractionHandler handler) {
+        if (routes.putIfAbsent(ItemProvider.itemType(itemId), new Route(itemId, handler)) != null) {
+            throw new IllegalStateException("Item id already routed: " + itemId);
+        }
+    }
+    
+    @EventHandler
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        ItemStack item = event.getItem();
+        if (item == null) {
+            return;
+        }
+        
+        int itemType = itemProvider.getItemType(item);
+        if (itemType == ItemProvider.NO_ITEM_TYPE) {
+            return;
+        }
+        
+        Route route = routes.get(itemType);
+        if (route == null) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        try {
+            route.handler.handle(event, route.itemId);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            route.calls++;
+            route.totalNanos += elapsed;
+            if (elapsed > route.maxNanos) {
+                route.maxNanos = elapsed;
+            }
+        }
+    }
+    
+    /**
+     * Get one line per used item id: calls, average and max time in microseconds
+     */
+    public List<String> getTimingReport() {
+        List<String> lines = new ArrayList<>();
+        routes.values().stream()
+            .filter(route -> route.calls > 0)
+            .sorted((a, b) -> Long.compare(b.totalNanos, a.totalNanos))
+            .forEach(route -> {
+                lines.add(route.itemId + ": " + route.calls + " calls, avg "
+                    + (route.totalNanos / route.calls / 1000) + "us, max "
+                    + (route.maxNanos / 1000) + "us");
+            });
+        return lines;
+    }
+    
+    /**
+     * Write the timing report to the plugin log
+     */
+    public void logTimings() {
+        List<String> lines = getTimingReport();
+        if (lines.isEmpty()) {
+            return;
+        }
+        plugin.getLogger().info("Interaction timings:");
+        for (String line : lines) {
+            plugin.getLogger().info("  " + line);
+        }
+    }
+}
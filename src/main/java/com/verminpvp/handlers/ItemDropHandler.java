@@ -43,7 +43,7 @@ public class ItemDropHandler implements Listener {
         ClassType playerClass = classManager.getPlayerClass(player);
         
         // Exception: Scientists can drop items in team mode
-        if (playerClass == ClassType.SCIENTIST && gameManager.getGameMode() == GameMode.TEAM) {
+        if (playerClass == ClassType.SCIENTIST && gameManager.getGameMode(player) == GameMode.TEAM) {
             // Allow scientists to drop items in team mode
             return;
         }
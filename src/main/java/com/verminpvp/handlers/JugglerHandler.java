@@ -1,14 +1,16 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.ProjectileRegistry;
+import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.Team;
-import org.bukkit.Location;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Entity;
@@ -21,12 +23,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -52,71 +52,47 @@ import java.util.UUID;
  * - Resets "Light Thing" cooldown
  * - Consumes the item
  */
-public class JugglerHandler implements Listener {
+public class JugglerHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final DamageHandler damageHandler;
-    private final TeamManager teamManager;
     private final GameManager gameManager;
+    private final CombatantIndex combatantIndex;
     
     // Ability IDs
-    private static final String LIGHT_THING_ID = "juggler_light";
-    private static final String HEAVY_THING_ID = "juggler_heavy";
+    private static final String LIGHT_THING_ID = AbilityIds.JUGGLER_LIGHT;
+    private static final String HEAVY_THING_ID = AbilityIds.JUGGLER_HEAVY;
     private static final String THROW_TIME_ID = "juggler_time";
     
     // Cooldowns
     private static final int LIGHT_THING_COOLDOWN = 4; // seconds - BUFFED from 10s
     private static final int HEAVY_THING_COOLDOWN = 13; // seconds (changed from 20s)
     private static final int THROW_TIME_GAIN_INTERVAL = 60; // seconds
-    
-    // Track projectiles
-    private final Map<UUID, Player> snowballOwners = new HashMap<>();
-    private final Map<UUID, Player> windChargeOwners = new HashMap<>();
+    private static final long THROW_TIME_FREEZE_TICKS = 50L; // 2.5 seconds
     
     // Track throw time gain tasks
-    private final Map<UUID, BukkitTask> throwTimeGainTasks = new HashMap<>();
-    
-    // Track entities frozen by Throw Time (position lock)
-    private final Map<UUID, Location> frozenEntities = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> throwTimeGainTasks = new HashMap<>();
     
     public JugglerHandler(Plugin plugin, ClassManager classManager, CooldownManager cooldownManager,
-                         ItemProvider itemProvider, DamageHandler damageHandler, TeamManager teamManager,
-                         GameManager gameManager) {
+                         ItemProvider itemProvider, ClassItemIndex itemIndex, DamageHandler damageHandler,
+                         GameManager gameManager, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.damageHandler = damageHandler;
-        this.teamManager = teamManager;
         this.gameManager = gameManager;
+        this.combatantIndex = combatantIndex;
     }
     
-    /**
-     * Enforce position lock for frozen entities (players)
-     */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        
-        // Only enforce freeze if game is active
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
-            return;
-        }
-        
-        Location frozenLoc = frozenEntities.get(player.getUniqueId());
-        if (frozenLoc != null) {
-            // Check if player moved from frozen position
-            Location from = event.getFrom();
-            Location to = event.getTo();
-            
-            if (to != null && (from.getX() != to.getX() || from.getY() != to.getY() || from.getZ() != to.getZ())) {
-                // Teleport player back to frozen position
-                event.setTo(frozenLoc);
-            }
-        }
+    @Override
+    public void startSchedulers(Player player) {
+        startThrowTimeGainSystem(player);
     }
     
     /**
@@ -139,14 +115,14 @@ public class JugglerHandler implements Listener {
         
         // Schedule throw time gain every 60 seconds
         // Use delay of 60 seconds (first gain at 1 minute), then repeat every 60 seconds
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
             // Verify player is still online and game is active
             if (!player.isOnline()) {
                 stopThrowTimeGainSystem(player);
                 return;
             }
             
-            if (!gameManager.isGameActive()) {
+            if (!gameManager.isGameActive(player)) {
                 stopThrowTimeGainSystem(player);
                 return;
             }
@@ -159,14 +135,14 @@ public class JugglerHandler implements Listener {
             }
             
             // Check if player already has throw time (max 1)
-            if (hasThrowTime(player)) {
+            if (itemIndex.has(player, "throw_time")) {
                 return; // Already has one, don't give another
             }
             
             // Give throw time item
             ItemStack throwTime = itemProvider.getJugglerThrowTime();
             if (throwTime != null) {
-                player.getInventory().addItem(throwTime);
+                itemIndex.give(player, throwTime);
                 player.sendMessage("§e투척 시간을 획득했습니다!");
             }
         }, THROW_TIME_GAIN_INTERVAL * 20L, THROW_TIME_GAIN_INTERVAL * 20L);
@@ -183,31 +159,16 @@ public class JugglerHandler implements Listener {
         }
         
         UUID playerId = player.getUniqueId();
-        BukkitTask task = throwTimeGainTasks.remove(playerId);
+        CombatTicker.TickTask task = throwTimeGainTasks.remove(playerId);
         if (task != null) {
             task.cancel();
         }
     }
     
-    /**
-     * Check if player has throw time item
-     */
-    private boolean hasThrowTime(Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.hasItemMeta() && item.getItemMeta().hasDisplayName()) {
-                if (item.getItemMeta().getDisplayName().contains("투척 시간")) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-    
     /**
      * Handle player interactions (right-click)
      */
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    public void onPlayerInteract(PlayerInteractEvent event, String itemId) {
         if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) {
             return;
         }
@@ -219,27 +180,20 @@ public class JugglerHandler implements Listener {
             return;
         }
         
-        ItemStack item = event.getItem();
-        if (item == null || !item.hasItemMeta() || !item.getItemMeta().hasDisplayName()) {
-            return;
-        }
-        
-        String displayName = item.getItemMeta().getDisplayName();
-        
         // Light Thing
-        if (displayName.contains("가벼운 것")) {
+        if (itemId.equals("light_thing")) {
             event.setCancelled(true);
             handleLightThing(player);
         }
         // Heavy Thing
-        else if (displayName.contains("무거운 것")) {
+        else if (itemId.equals("heavy_thing")) {
             event.setCancelled(true);
             handleHeavyThing(player);
         }
         // Throw Time
-        else if (displayName.contains("투척 시간")) {
+        else if (itemId.equals("throw_time")) {
             event.setCancelled(true);
-            handleThrowTime(player, item);
+            handleThrowTime(player, event.getItem());
         }
     }
     
@@ -257,7 +211,7 @@ public class JugglerHandler implements Listener {
         // Launch snowball
         Snowball snowball = player.launchProjectile(Snowball.class);
         snowball.setVelocity(player.getLocation().getDirection().multiply(1.5));
-        snowballOwners.put(snowball.getUniqueId(), player);
+        gameManager.getProjectileRegistry().track(snowball, player, LIGHT_THING_ID, ProjectileRegistry.DEFAULT_TTL_TICKS);
         
         // Set cooldown
         cooldownManager.setCooldown(player.getUniqueId(), LIGHT_THING_ID, LIGHT_THING_COOLDOWN);
@@ -278,7 +232,7 @@ public class JugglerHandler implements Listener {
         // Launch wind charge
         WindCharge windCharge = player.launchProjectile(WindCharge.class);
         windCharge.setVelocity(player.getLocation().getDirection().multiply(1.2));
-        windChargeOwners.put(windCharge.getUniqueId(), player);
+        gameManager.getProjectileRegistry().track(windCharge, player, HEAVY_THING_ID, ProjectileRegistry.DEFAULT_TTL_TICKS);
         
         // Set cooldown
         cooldownManager.setCooldown(player.getUniqueId(), HEAVY_THING_ID, HEAVY_THING_COOLDOWN);
@@ -291,45 +245,20 @@ public class JugglerHandler implements Listener {
     private void handleThrowTime(Player player, ItemStack item) {
         // Apply Slowness V to all entities within 10 blocks and freeze their position
         int affectedCount = 0;
-        java.util.List<UUID> affectedEntityIds = new java.util.ArrayList<>();
         
-        for (Entity entity : player.getNearbyEntities(10, 10, 10)) {
-            if (entity instanceof LivingEntity && entity != player) {
-                LivingEntity target = (LivingEntity) entity;
-                
-                // If target is a player, check team restrictions (unless in practice mode)
-                if (target instanceof Player) {
-                    Player targetPlayer = (Player) target;
-                    
-                    // Skip if same team in team mode (not practice mode)
-                    if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                        Team playerTeam = teamManager.getPlayerTeam(player);
-                        Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                        if (playerTeam != null && playerTeam == targetTeam) {
-                            continue;
-                        }
-                    }
-                }
-                
-                // Apply Slowness V for 2.5 seconds (50 ticks)
-                target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 50, 4, false, true, true));
-                
-                // Freeze position (complete position lock like Time Engraver)
-                Location frozenLoc = target.getLocation().clone();
-                frozenEntities.put(target.getUniqueId(), frozenLoc);
-                affectedEntityIds.add(target.getUniqueId());
-                
-                affectedCount++;
+        for (LivingEntity target : combatantIndex.getNearbyInBox(player, 10, 10, 10)) {
+            // Skip if same team in team mode (not practice mode)
+            if (target instanceof Player && !gameManager.isHostile(player, (Player) target)) {
+                continue;
             }
-        }
-        
-        // Schedule unfreezing after 2.5 seconds (50 ticks)
-        if (!affectedEntityIds.isEmpty()) {
-            org.bukkit.Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                for (UUID entityId : affectedEntityIds) {
-                    frozenEntities.remove(entityId);
-                }
-            }, 50L); // 2.5 seconds
+            
+            // Apply Slowness V for 2.5 seconds (50 ticks)
+            target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 50, 4, false, true, true));
+            
+            // Freeze position (complete position lock like Time Engraver)
+            gameManager.getCrowdControl().freeze(target, THROW_TIME_FREEZE_TICKS);
+            
+            affectedCount++;
         }
         
         // Reset Light Thing cooldown
@@ -337,6 +266,7 @@ public class JugglerHandler implements Listener {
         
         // Remove throw time item
         item.setAmount(item.getAmount() - 1);
+        itemIndex.invalidate(player);
         
         player.sendMessage("§a투척 시간 사용! §e" + affectedCount + "명 영향");
         player.sendMessage("§a가벼운 것 쿨타임 초기화!");
@@ -361,21 +291,12 @@ public class JugglerHandler implements Listener {
         // Handle snowball (Light Thing)
         if (event.getEntity() instanceof Snowball) {
             Snowball snowball = (Snowball) event.getEntity();
-            Player shooter = snowballOwners.remove(snowball.getUniqueId());
+            Player shooter = getShooter(gameManager.getProjectileRegistry().release(snowball, LIGHT_THING_ID));
             
             if (shooter != null) {
-                // If target is a player, check team restrictions (unless in practice mode)
-                if (target instanceof Player) {
-                    Player targetPlayer = (Player) target;
-                    
-                    // Check team (not in practice mode)
-                    if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(shooter)) {
-                        Team shooterTeam = teamManager.getPlayerTeam(shooter);
-                        Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                        if (shooterTeam != null && shooterTeam == targetTeam) {
-                            return; // Same team, no damage
-                        }
-                    }
+                // Check team (not in practice mode)
+                if (target instanceof Player && !gameManager.isHostile(shooter, (Player) target)) {
+                    return; // Same team, no damage
                 }
                 
                 // Deal 1 damage (0.5 hearts) with no knockback
@@ -389,21 +310,12 @@ public class JugglerHandler implements Listener {
         // Handle wind charge (Heavy Thing)
         else if (event.getEntity() instanceof WindCharge) {
             WindCharge windCharge = (WindCharge) event.getEntity();
-            Player shooter = windChargeOwners.remove(windCharge.getUniqueId());
+            Player shooter = getShooter(gameManager.getProjectileRegistry().release(windCharge, HEAVY_THING_ID));
             
             if (shooter != null) {
-                // If target is a player, check team restrictions (unless in practice mode)
-                if (target instanceof Player) {
-                    Player targetPlayer = (Player) target;
-                    
-                    // Check team (not in practice mode)
-                    if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(shooter)) {
-                        Team shooterTeam = teamManager.getPlayerTeam(shooter);
-                        Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                        if (shooterTeam != null && shooterTeam == targetTeam) {
-                            return; // Same team, no damage
-                        }
-                    }
+                // Check team (not in practice mode)
+                if (target instanceof Player && !gameManager.isHostile(shooter, (Player) target)) {
+                    return; // Same team, no damage
                 }
                 
                 // Deal 8 damage (4 hearts)
@@ -420,45 +332,46 @@ public class JugglerHandler implements Listener {
         }
     }
     
+    /**
+     * Get the online player behind a projectile owner id
+     */
+    private Player getShooter(UUID shooterId) {
+        return shooterId == null ? null : Bukkit.getPlayer(shooterId);
+    }
+    
     /**
      * Cleanup all Juggler tasks
      */
+    @Override
     public void cleanupAll() {
         // Cancel all throw time gain tasks
-        for (BukkitTask task : throwTimeGainTasks.values()) {
+        for (CombatTicker.TickTask task : throwTimeGainTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
         }
         throwTimeGainTasks.clear();
-        
-        // Clear projectile tracking
-        snowballOwners.clear();
-        windChargeOwners.clear();
-        
-        // Clear frozen entities
-        frozenEntities.clear();
     }
     
     /**
      * Cleanup Juggler tasks for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         
         // Cancel throw time gain task for this player
-        BukkitTask task = throwTimeGainTasks.get(playerId);
+        CombatTicker.TickTask task = throwTimeGainTasks.get(playerId);
         if (task != null) {
             task.cancel();
             throwTimeGainTasks.remove(playerId);
         }
         
         // Clear projectile tracking for this player
-        snowballOwners.values().removeIf(uuid -> uuid.equals(playerId));
-        windChargeOwners.values().removeIf(uuid -> uuid.equals(playerId));
+        gameManager.getProjectileRegistry().releaseOwner(playerId);
         
         // Clear frozen state for this player
-        frozenEntities.remove(playerId);
+        gameManager.getCrowdControl().release(playerId);
     }
 }
 
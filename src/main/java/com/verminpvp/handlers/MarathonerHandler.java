@@ -2,11 +2,12 @@ package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.managers.MoveDispatcher;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
@@ -14,11 +15,8 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerToggleSprintEvent;
-import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -37,7 +35,7 @@ import java.util.UUID;
  * Active Ability:
  * - Crouching Start: Right-click to gain Speed III for 0.5 seconds, 5 second cooldown
  */
-public class MarathonerHandler implements Listener {
+public class MarathonerHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
@@ -51,7 +49,10 @@ public class MarathonerHandler implements Listener {
     private final Map<UUID, Integer> speedLevel = new HashMap<>();
     
     // Track monitoring tasks
-    private final Map<UUID, BukkitTask> monitoringTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> monitoringTasks = new HashMap<>();
+    
+    // Moves of sprint-tracked marathoners, to catch jumps
+    private final MoveDispatcher.Channel sprintMoves;
     
     // Time thresholds in milliseconds
     private static final long SPEED_1_TIME = 5000;      // 5 seconds
@@ -65,6 +66,15 @@ public class MarathonerHandler implements Listener {
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.sprintMoves = plugin.getGameManager().getMoveDispatcher().register("marathoner_sprint", this::onPlayerMove);
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        // A sprint that began before the game fires no toggle event
+        if (player.isSprinting()) {
+            startSprinting(player);
+        }
     }
     
     /**
@@ -78,17 +88,10 @@ public class MarathonerHandler implements Listener {
     /**
      * Handle Crouching Start ability
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.MARATHONER) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
         if (itemId.equals("crouching_start")) {
             event.setCancelled(true);
             handleCrouchingStart(player);
@@ -145,17 +148,12 @@ public class MarathonerHandler implements Listener {
     /**
      * Handle player movement to detect jumps
      */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
+    private void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.MARATHONER) return;
         
         // Only check if player has active speed buffs
         if (!speedLevel.containsKey(player.getUniqueId())) {
-            // If player is sprinting but has no active tracking, start it
-            if (player.isSprinting()) {
-                startSprinting(player);
-            }
             return; // No active buffs, no need to check
         }
         
@@ -169,12 +167,12 @@ public class MarathonerHandler implements Listener {
                 player.sendMessage("§c점프로 인해 신속 효과가 사라졌습니다!");
                 
                 // Restart sprinting if player is still sprinting after a short delay
-                Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                plugin.getGameManager().getCombatTicker().later(player.getUniqueId(), 1L, () -> {
                     if (player.isOnline() && player.isSprinting() && 
                         classManager.getPlayerClass(player) == ClassType.MARATHONER) {
                         startSprinting(player);
                     }
-                }, 1L);
+                });
             }
         }
     }
@@ -199,12 +197,12 @@ public class MarathonerHandler implements Listener {
         player.sendMessage("§c피격으로 인해 신속 효과가 사라졌습니다!");
         
         // Restart sprinting if player is still sprinting after a short delay
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getGameManager().getCombatTicker().later(player.getUniqueId(), 1L, () -> {
             if (player.isOnline() && player.isSprinting() && 
                 classManager.getPlayerClass(player) == ClassType.MARATHONER) {
                 startSprinting(player);
             }
-        }, 1L);
+        });
     }
     
     /**
@@ -216,6 +214,7 @@ public class MarathonerHandler implements Listener {
         // Record sprint start time
         sprintStartTime.put(playerId, System.currentTimeMillis());
         speedLevel.put(playerId, 0);
+        sprintMoves.subscribe(playerId);
         
         // Cancel existing monitoring task if any
         if (monitoringTasks.containsKey(playerId)) {
@@ -223,7 +222,7 @@ public class MarathonerHandler implements Listener {
         }
         
         // Start monitoring task
-        BukkitTask task = new BukkitRunnable() {
+        CombatTicker.TickTask task = plugin.getGameManager().getCombatTicker().schedule(playerId, new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.MARATHONER) {
@@ -240,7 +239,7 @@ public class MarathonerHandler implements Listener {
                 
                 updateSpeedLevel(player);
             }
-        }.runTaskTimer(plugin, 0L, 2L); // Check every 0.1 seconds
+        }, 0L, 2L); // Check every 0.1 seconds
         
         monitoringTasks.put(playerId, task);
     }
@@ -262,6 +261,7 @@ public class MarathonerHandler implements Listener {
         player.removePotionEffect(PotionEffectType.STRENGTH);
         
         // Clear tracking data
+        sprintMoves.unsubscribe(playerId);
         sprintStartTime.remove(playerId);
         speedLevel.remove(playerId);
     }
@@ -345,6 +345,7 @@ public class MarathonerHandler implements Listener {
             monitoringTasks.get(playerId).cancel();
             monitoringTasks.remove(playerId);
         }
+        sprintMoves.unsubscribe(playerId);
         sprintStartTime.remove(playerId);
         speedLevel.remove(playerId);
     }
@@ -352,11 +353,15 @@ public class MarathonerHandler implements Listener {
     /**
      * Cleanup all data (called on plugin disable)
      */
+    @Override
     public void cleanupAll() {
-        for (BukkitTask task : monitoringTasks.values()) {
+        for (CombatTicker.TickTask task : monitoringTasks.values()) {
             task.cancel();
         }
         monitoringTasks.clear();
+        for (UUID playerId : speedLevel.keySet()) {
+            sprintMoves.unsubscribe(playerId);
+        }
         sprintStartTime.clear();
         speedLevel.clear();
     }
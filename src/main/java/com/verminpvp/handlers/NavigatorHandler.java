@@ -1,9 +1,13 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
+import com.verminpvp.managers.DashCollider;
 import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.managers.ProjectileRegistry;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
 import org.bukkit.Bukkit;
@@ -13,17 +17,12 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -36,37 +35,47 @@ import java.util.UUID;
  * - Harpoon Throw (6 damage, Slowness V 1.5s, 15s cooldown, 50% reduction on miss)
  * - Naval Combat attack (1 base + 4 instant damage, Knockback II)
  */
-public class NavigatorHandler implements Listener {
+public class NavigatorHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final EffectApplicator effectApplicator;
     private final DamageHandler damageHandler;
+    private final DashCollider dashCollider;
     
-    // Track Wave Riding active players
-    private final Map<UUID, Long> waveRidingActive = new HashMap<>();
+    // Hit box growth in blocks while riding a wave
+    private static final double WAVE_RIDING_REACH = 1.5;
     
-    // Track harpoon projectiles
-    private final Map<UUID, UUID> harpoonArrows = new HashMap<>(); // Arrow UUID -> Player UUID
+    // A harpoon that has not hit anything after this long counts as a miss
+    private static final long HARPOON_MISS_TICKS = 60L; // 3 seconds
     
     public NavigatorHandler(VerminPVP plugin, ClassManager classManager,
-                             CooldownManager cooldownManager, ItemProvider itemProvider,
-                             EffectApplicator effectApplicator, DamageHandler damageHandler) {
+                             CooldownManager cooldownManager, ItemProvider itemProvider, ClassItemIndex itemIndex,
+                             EffectApplicator effectApplicator, DamageHandler damageHandler,
+                             DashCollider dashCollider) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.effectApplicator = effectApplicator;
         this.damageHandler = damageHandler;
+        this.dashCollider = dashCollider;
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        startNavalCombatGeneration(player);
     }
     
     /**
      * Start Naval Combat generation scheduler
      */
     public void startNavalCombatGeneration(Player player) {
-        new BukkitRunnable() {
+        plugin.getGameManager().getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.NAVIGATOR) {
@@ -75,30 +84,23 @@ public class NavigatorHandler implements Listener {
                 }
                 
                 // Count existing Naval Combat items
-                int count = countItemsInInventory(player, "naval_combat");
+                int count = itemIndex.count(player, "naval_combat");
                 if (count < 3) {
                     ItemStack navalCombat = itemProvider.createSpecialItem(ClassType.NAVIGATOR, "naval_combat");
-                    player.getInventory().addItem(navalCombat);
+                    itemIndex.give(player, navalCombat);
                     player.sendMessage("§b해전 무기를 받았습니다!");
                 }
             }
-        }.runTaskTimer(plugin, 20L * 20, 20L * 20); // 20s initial delay, 20s period
+        }, 20L * 20, 20L * 20); // 20s initial delay, 20s period
     }
     
     /**
      * Handle Wave Riding and Harpoon Throw abilities
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.NAVIGATOR) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
         if (itemId.equals("wave_riding_item")) {
             event.setCancelled(true);
             handleWaveRiding(player);
@@ -121,8 +123,17 @@ public class NavigatorHandler implements Listener {
         // Apply Speed IV for 1 second (changed from 1.5s)
         effectApplicator.applyEffect(player, PotionEffectType.SPEED, 20, 3);
         
-        // Track Wave Riding active state
-        waveRidingActive.put(player.getUniqueId(), System.currentTimeMillis() + 1000);
+        // Knock back everything the ride runs into for 1 second (20 ticks), once per target
+        dashCollider.startDash(player, 20, WAVE_RIDING_REACH, target -> {
+            // Apply knockback (reduced by 50%)
+            Vector direction = target.getLocation().toVector().subtract(player.getLocation().toVector()).normalize();
+            direction.setY(0.5); // Add upward component
+            target.setVelocity(direction.multiply(1.0)); // Reduced from 2.0 to 1.0
+            
+            // Apply simple Slowness V for 1s (no position lock)
+            effectApplicator.applyEffect(target, PotionEffectType.SLOWNESS, 20, 4);
+            return false;
+        });
         
         // Set cooldown (changed from 15s to 12s)
         cooldownManager.setCooldown(player.getUniqueId(), AbilityIds.WAVE_RIDING, 12);
@@ -133,37 +144,6 @@ public class NavigatorHandler implements Listener {
         player.sendMessage("§b파도 타기 활성화!");
     }
     
-    /**
-     * Handle Wave Riding collision effects
-     */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        if (classManager.getPlayerClass(player) != ClassType.NAVIGATOR) return;
-        
-        // Check if Wave Riding is active
-        Long endTime = waveRidingActive.get(player.getUniqueId());
-        if (endTime == null || System.currentTimeMillis() > endTime) {
-            waveRidingActive.remove(player.getUniqueId());
-            return;
-        }
-        
-        // Check for nearby entities (all living entities in practice mode, only players otherwise)
-        for (org.bukkit.entity.Entity entity : player.getNearbyEntities(1.5, 1.5, 1.5)) {
-            if (entity instanceof LivingEntity && entity != player) {
-                LivingEntity target = (LivingEntity) entity;
-                
-                // Apply knockback (reduced by 50%)
-                Vector direction = target.getLocation().toVector().subtract(player.getLocation().toVector()).normalize();
-                direction.setY(0.5); // Add upward component
-                target.setVelocity(direction.multiply(1.0)); // Reduced from 2.0 to 1.0
-                
-                // Apply simple Slowness V for 1s (no position lock)
-                effectApplicator.applyEffect(target, PotionEffectType.SLOWNESS, 20, 4);
-            }
-        }
-    }
-    
     /**
      * Handle Harpoon Throw ability - throws a trident
      */
@@ -188,24 +168,19 @@ public class NavigatorHandler implements Listener {
         trident.setCustomName("§b삼치창");
         trident.setCustomNameVisible(false);
         
-        // Track trident
-        harpoonArrows.put(trident.getUniqueId(), player.getUniqueId());
+        // Track trident (miss = block hit or nothing hit within 3 seconds)
+        projectileRegistry().track(trident, player, AbilityIds.HARPOON_THROW, HARPOON_MISS_TICKS, missed -> {
+            // Trident missed - reduce cooldown by 50%
+            cooldownManager.reduceCooldown(player.getUniqueId(), AbilityIds.HARPOON_THROW, 0.5);
+            player.sendMessage("§e삼치창 빗나감! 쿨다운 50% 감소");
+            missed.remove();
+        });
         
         player.sendMessage("§b삼치창 발사!");
-        
-        // Schedule miss detection (after 3 seconds)
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (harpoonArrows.containsKey(trident.getUniqueId())) {
-                    // Trident missed - reduce cooldown by 50%
-                    cooldownManager.reduceCooldown(player.getUniqueId(), AbilityIds.HARPOON_THROW, 0.5);
-                    harpoonArrows.remove(trident.getUniqueId());
-                    player.sendMessage("§e삼치창 빗나감! 쿨다운 50% 감소");
-                    trident.remove();
-                }
-            }
-        }.runTaskLater(plugin, 60L); // 3 seconds
+    }
+    
+    private ProjectileRegistry projectileRegistry() {
+        return plugin.getGameManager().getProjectileRegistry();
     }
     
     /**
@@ -217,7 +192,7 @@ public class NavigatorHandler implements Listener {
         if (!(event.getHitEntity() instanceof LivingEntity)) return;
         
         org.bukkit.entity.Trident trident = (org.bukkit.entity.Trident) event.getEntity();
-        UUID shooterId = harpoonArrows.get(trident.getUniqueId());
+        UUID shooterId = projectileRegistry().getOwner(trident, AbilityIds.HARPOON_THROW);
         if (shooterId == null) return;
         
         Player shooter = Bukkit.getPlayer(shooterId);
@@ -229,7 +204,7 @@ public class NavigatorHandler implements Listener {
         effectApplicator.applyEffect(target, PotionEffectType.SLOWNESS, 20, 4);
         
         // Remove from tracking (hit, not miss)
-        harpoonArrows.remove(trident.getUniqueId());
+        projectileRegistry().release(trident, AbilityIds.HARPOON_THROW);
         
         // Remove trident
         trident.remove();
@@ -238,62 +213,52 @@ public class NavigatorHandler implements Listener {
     }
     
     /**
-     * Handle Harpoon damage - override trident damage
-     * Using HIGHEST priority to ensure we cancel before other plugins process it
+     * Handle Harpoon damage - replace trident damage (damage modifier step)
      */
-    @EventHandler(priority = org.bukkit.event.EventPriority.HIGHEST)
-    public void onHarpoonDamage(EntityDamageByEntityEvent event) {
-        if (event.isCancelled()) return;
-        if (!(event.getDamager() instanceof org.bukkit.entity.Trident)) return;
-        if (!(event.getEntity() instanceof LivingEntity)) return;
+    public void onHarpoonDamage(DamagePipeline.Context context) {
+        if (!(context.getDamager() instanceof org.bukkit.entity.Trident)) return;
+        
+        LivingEntity target = context.getLivingVictim();
+        if (target == null) return;
         
-        org.bukkit.entity.Trident trident = (org.bukkit.entity.Trident) event.getDamager();
-        UUID shooterId = harpoonArrows.get(trident.getUniqueId());
+        org.bukkit.entity.Trident trident = (org.bukkit.entity.Trident) context.getDamager();
+        UUID shooterId = projectileRegistry().getOwner(trident, AbilityIds.HARPOON_THROW);
         if (shooterId == null) return;
         
         Player shooter = Bukkit.getPlayer(shooterId);
         if (shooter == null) return;
         
         // Cancel trident's default damage
-        event.setCancelled(true);
-        
-        LivingEntity target = (LivingEntity) event.getEntity();
+        context.getEvent().setCancelled(true);
         
         // Apply 6 damage (buffed from 5) - skill damage only, no trident damage
         damageHandler.applyInstantDamage(target, 6.0);
     }
     
     /**
-     * Handle Naval Combat attack and prevent trident melee attacks
-     * Using HIGHEST priority to ensure we cancel trident attacks before damage is applied
+     * Handle Naval Combat attack and prevent trident melee attacks (damage modifier step)
      */
-    @EventHandler(priority = org.bukkit.event.EventPriority.HIGHEST)
-    public void onNavalCombatAttack(EntityDamageByEntityEvent event) {
-        if (event.isCancelled()) return; // Don't process already cancelled events
-        if (!(event.getDamager() instanceof Player)) return;
-        if (!(event.getEntity() instanceof LivingEntity)) return;
+    public void onNavalCombatAttack(DamagePipeline.Context context) {
+        if (!context.isMelee()) return;
         
-        Player attacker = (Player) event.getDamager();
-        if (classManager.getPlayerClass(attacker) != ClassType.NAVIGATOR) return;
+        LivingEntity target = context.getLivingVictim();
+        if (target == null) return;
         
-        ItemStack weapon = attacker.getInventory().getItemInMainHand();
-        if (weapon == null) return;
+        Player attacker = context.getAttacker();
+        ItemStack weapon = context.getWeapon();
         
         // Check if holding trident - cancel all trident melee attacks (silently)
         if (weapon.getType() == Material.TRIDENT) {
-            event.setCancelled(true);
-            event.setDamage(0.0); // Set damage to 0
+            context.getEvent().setCancelled(true);
+            context.getEvent().setDamage(0.0); // Set damage to 0
             return;
         }
         
-        String itemId = itemProvider.getItemId(weapon);
-        if (itemId == null || !itemId.equals("naval_combat")) return;
-        
-        LivingEntity target = (LivingEntity) event.getEntity();
+        if (!"naval_combat".equals(context.getWeaponId())) return;
         
         // Modify damage instead of cancelling and reapplying
         // Set base damage to 1, then add 4 instant damage separately
-        event.setDamage(1.0);
+        context.getEvent().setDamage(1.0);
         
         // Apply additional instant damage (bypasses armor)
         damageHandler.applyInstantDamage(target, 4.0);
@@ -306,23 +271,15 @@ public class NavigatorHandler implements Listener {
         attacker.sendMessage("§b해전 무기 공격!");
     }
     
-    /**
-     * Count specific items in player inventory
-     */
-    private int countItemsInInventory(Player player, String itemId) {
-        int count = 0;
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && itemId.equals(itemProvider.getItemId(item))) {
-                count += item.getAmount();
-            }
-        }
-        return count;
-    }
-    
     /**
      * Clean up player data
      */
     public void cleanup(Player player) {
-        waveRidingActive.remove(player.getUniqueId());
+        dashCollider.stopDash(player.getUniqueId());
+    }
+    
+    @Override
+    public void cleanupPlayer(Player player) {
+        cleanup(player);
     }
 }
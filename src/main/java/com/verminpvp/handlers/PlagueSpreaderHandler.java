@@ -1,16 +1,16 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
 import com.verminpvp.managers.ResourceTracker;
-import com.verminpvp.managers.TeamManager;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.GameMode;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
@@ -30,8 +30,6 @@ import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -46,34 +44,41 @@ import java.util.UUID;
  * - Extreme Poison Engine generation (every 180s, max 1)
  * - Poison field system with area effects (toggle on/off like Singed)
  */
-public class PlagueSpreaderHandler implements Listener {
+public class PlagueSpreaderHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final EffectApplicator effectApplicator;
     private final DamageHandler damageHandler;
-    private final TeamManager teamManager;
     private final GameManager gameManager;
+    private final CombatantIndex combatantIndex;
     
     // Track active poison fields
     private final Map<UUID, AreaEffectCloud> activeFields = new HashMap<>();
-    private final Map<UUID, BukkitTask> fieldTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> fieldTasks = new HashMap<>();
     private final Map<UUID, Boolean> fieldActive = new HashMap<>();
     
     public PlagueSpreaderHandler(VerminPVP plugin, ClassManager classManager, 
-                                  CooldownManager cooldownManager, ItemProvider itemProvider,
+                                  CooldownManager cooldownManager, ItemProvider itemProvider, ClassItemIndex itemIndex,
                                   EffectApplicator effectApplicator, DamageHandler damageHandler,
-                                  TeamManager teamManager, GameManager gameManager) {
+                                  GameManager gameManager, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.effectApplicator = effectApplicator;
         this.damageHandler = damageHandler;
-        this.teamManager = teamManager;
         this.gameManager = gameManager;
+        this.combatantIndex = combatantIndex;
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        startGenerationSchedulers(player);
     }
     
     /**
@@ -81,7 +86,7 @@ public class PlagueSpreaderHandler implements Listener {
      */
     public void startGenerationSchedulers(Player player) {
         // Virulent Engine generation (every 20s, max 2)
-        new BukkitRunnable() {
+        gameManager.getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.PLAGUE_SPREADER) {
@@ -90,23 +95,23 @@ public class PlagueSpreaderHandler implements Listener {
                 }
                 
                 // Count existing Virulent Engines
-                int count = countItemsInInventory(player, "virulent_engine");
+                int count = itemIndex.count(player, "virulent_engine");
                 if (count < 2) {
                     ItemStack engine = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "virulent_engine");
-                    player.getInventory().addItem(engine);
+                    itemIndex.give(player, engine);
                     player.sendMessage("§a맹독 엔진을 받았습니다! (" + (count + 1) + "/2)");
                 } else {
                     // Remove one old engine and add new one
-                    removeOneEngine(player, "virulent_engine");
+                    itemIndex.removeOne(player, "virulent_engine");
                     ItemStack engine = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "virulent_engine");
-                    player.getInventory().addItem(engine);
+                    itemIndex.give(player, engine);
                     player.sendMessage("§a맹독 엔진 갱신! (2/2)");
                 }
             }
-        }.runTaskTimer(plugin, 20L * 20, 20L * 20); // 20s initial delay, 20s period
+        }, 20L * 20, 20L * 20); // 20s initial delay, 20s period
         
         // Extreme Poison Engine generation (every 100s, max 1)
-        new BukkitRunnable() {
+        gameManager.getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.PLAGUE_SPREADER) {
@@ -115,20 +120,20 @@ public class PlagueSpreaderHandler implements Listener {
                 }
                 
                 // Count existing Extreme Poison Engines
-                int count = countItemsInInventory(player, "extreme_poison_engine");
+                int count = itemIndex.count(player, "extreme_poison_engine");
                 if (count < 1) {
                     ItemStack engine = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "extreme_poison_engine");
-                    player.getInventory().addItem(engine);
+                    itemIndex.give(player, engine);
                     player.sendMessage("§5극독 엔진을 받았습니다! (1/1)");
                 } else {
                     // Remove old engine and add new one
-                    removeOneEngine(player, "extreme_poison_engine");
+                    itemIndex.removeOne(player, "extreme_poison_engine");
                     ItemStack engine = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "extreme_poison_engine");
-                    player.getInventory().addItem(engine);
+                    itemIndex.give(player, engine);
                     player.sendMessage("§5극독 엔진 갱신! (1/1)");
                 }
             }
-        }.runTaskTimer(plugin, 20L * 100, 20L * 100); // 100s initial delay, 100s period
+        }, 20L * 100, 20L * 100); // 100s initial delay, 100s period
     }
     
     /**
@@ -149,8 +154,7 @@ public class PlagueSpreaderHandler implements Listener {
     /**
      * Handle engine right-click to use (one-time use, not toggle)
      */
-    @EventHandler
-    public void onEngineUse(PlayerInteractEvent event) {
+    public void onEngineUse(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         
         if (classManager.getPlayerClass(player) != ClassType.PLAGUE_SPREADER) return;
@@ -159,23 +163,7 @@ public class PlagueSpreaderHandler implements Listener {
         if (!actionName.contains("RIGHT_CLICK")) return;
         
         ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) return;
-        
-        boolean isExtreme = false;
-        boolean isEngine = false;
-        
-        if (itemId.equals("virulent_engine")) {
-            isEngine = true;
-            isExtreme = false;
-        } else if (itemId.equals("extreme_poison_engine")) {
-            isEngine = true;
-            isExtreme = true;
-        }
-        
-        if (!isEngine) return;
+        boolean isExtreme = itemId.equals("extreme_poison_engine");
         
         event.setCancelled(true);
         
@@ -193,6 +181,7 @@ public class PlagueSpreaderHandler implements Listener {
         } else {
             player.getInventory().remove(item);
         }
+        itemIndex.invalidate(player);
         
         // Make isExtreme final for lambda
         final boolean finalIsExtreme = isExtreme;
@@ -202,10 +191,10 @@ public class PlagueSpreaderHandler implements Listener {
         player.sendMessage(finalIsExtreme ? "§5극독 장판 활성화! (10초)" : "§a맹독 장판 활성화! (10초)");
         
         // Schedule field to stop after 10 seconds
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        gameManager.getCombatTicker().later(player.getUniqueId(), 200L, () -> { // 10 seconds = 200 ticks
             stopPoisonField(player);
             player.sendMessage(finalIsExtreme ? "§5극독 장판 종료" : "§a맹독 장판 종료");
-        }, 200L); // 10 seconds = 200 ticks
+        });
     }
     
     /**
@@ -225,12 +214,13 @@ public class PlagueSpreaderHandler implements Listener {
         cloud.setDuration(Integer.MAX_VALUE); // Infinite duration
         cloud.setParticle(Particle.WITCH);
         cloud.setRadiusPerTick(0);
+        gameManager.getEntityTracker().track(cloud);
         
         activeFields.put(player.getUniqueId(), cloud);
         fieldActive.put(player.getUniqueId(), true);
         
         // Scheduler to move field with player and apply effects
-        BukkitTask task = new BukkitRunnable() {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), new CombatTicker.TickTask() {
             int ticks = 0;
             
             @Override
@@ -256,7 +246,7 @@ public class PlagueSpreaderHandler implements Listener {
                 
                 ticks++;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 1L);
         
         fieldTasks.put(player.getUniqueId(), task);
     }
@@ -266,7 +256,7 @@ public class PlagueSpreaderHandler implements Listener {
      */
     private void stopPoisonField(Player player) {
         // Cancel task
-        BukkitTask task = fieldTasks.remove(player.getUniqueId());
+        CombatTicker.TickTask task = fieldTasks.remove(player.getUniqueId());
         if (task != null) {
             task.cancel();
         }
@@ -322,7 +312,7 @@ public class PlagueSpreaderHandler implements Listener {
         ClassType ownerClass = classManager.getPlayerClass(owner);
         if (ownerClass == ClassType.PLAGUE_SPREADER) {
             // Check if owner is still in the field
-            if (owner.getLocation().distance(center) <= radius) {
+            if (owner.getLocation().distanceSquared(center) <= radius * radius) {
                 if (isExtreme) {
                     // Extreme field: Speed II + Poison I (1 second duration)
                     effectApplicator.applyEffect(owner, PotionEffectType.SPEED, 20, 1); // Speed II, 1s = 20 ticks
@@ -334,30 +324,21 @@ public class PlagueSpreaderHandler implements Listener {
             }
         }
         
-        // Affect all living entities (players and monsters)
-        for (LivingEntity target : center.getWorld().getLivingEntities()) {
-            if (target.getLocation().distance(center) > radius) continue;
-            
+        // Affect all living entities (players and monsters) inside the field
+        for (LivingEntity target : combatantIndex.getNearby(center, radius)) {
             // Check if target is a player
             if (target instanceof Player) {
                 Player player = (Player) target;
                 ClassType targetClass = classManager.getPlayerClass(player);
                 
-                // Also check tag as backup
-                if (targetClass == null) {
-                    targetClass = classManager.getTagManager().getPlayerClassFromTag(player);
-                }
-                
                 // Skip self (owner doesn't take damage from own field)
                 if (player.equals(owner)) {
                     continue;
                 }
                 
                 // In team mode (not practice mode), skip teammates only
-                if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(owner)) {
-                    if (teamManager.getPlayerTeam(owner) == teamManager.getPlayerTeam(player)) {
-                        continue; // Skip all teammates
-                    }
+                if (!gameManager.isHostile(owner, player)) {
+                    continue; // Skip all teammates
                 }
                 
                 // Damage everyone including other Plague Spreaders (다른 역병전파자도 데미지 받음)
@@ -390,36 +371,6 @@ public class PlagueSpreaderHandler implements Listener {
         }
     }
     
-    /**
-     * Count specific items in player inventory
-     */
-    private int countItemsInInventory(Player player, String itemId) {
-        int count = 0;
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && itemId.equals(itemProvider.getItemId(item))) {
-                count += item.getAmount();
-            }
-        }
-        return count;
-    }
-    
-    /**
-     * Remove one engine from inventory
-     */
-    private void removeOneEngine(Player player, String itemId) {
-        for (int i = 0; i < player.getInventory().getSize(); i++) {
-            ItemStack item = player.getInventory().getItem(i);
-            if (item != null && itemId.equals(itemProvider.getItemId(item))) {
-                if (item.getAmount() > 1) {
-                    item.setAmount(item.getAmount() - 1);
-                } else {
-                    player.getInventory().setItem(i, null);
-                }
-                return;
-            }
-        }
-    }
-    
     /**
      * Handle player death - stop poison field
      */
@@ -457,11 +408,12 @@ public class PlagueSpreaderHandler implements Listener {
     /**
      * Clean up all active poison fields (called on game end)
      */
+    @Override
     public void cleanupAll() {
         // Stop all active fields
         for (UUID playerId : new HashSet<>(fieldActive.keySet())) {
             // Cancel task
-            BukkitTask task = fieldTasks.remove(playerId);
+            CombatTicker.TickTask task = fieldTasks.remove(playerId);
             if (task != null) {
                 task.cancel();
             }
@@ -479,11 +431,12 @@ public class PlagueSpreaderHandler implements Listener {
     /**
      * Clean up poison fields for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         
         // Cancel task for this player
-        BukkitTask task = fieldTasks.remove(playerId);
+        CombatTicker.TickTask task = fieldTasks.remove(playerId);
         if (task != null) {
             task.cancel();
         }
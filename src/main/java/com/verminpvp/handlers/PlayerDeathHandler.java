@@ -76,29 +76,30 @@ public class PlayerDeathHandler implements Listener {
             return;
         }
         
-        // Check if game is active
-        if (!gameManager.isGameActive()) {
+        // Check if the player's match is active
+        if (!gameManager.isGameActive(player)) {
             return;
         }
         
-        // Set player to spectator mode
+        // Set player to spectator mode and mark them eliminated
         player.setGameMode(GameMode.SPECTATOR);
+        gameManager.onPlayerDeath(player);
         
         // Send message to player
         player.sendMessage("§c사망했습니다! 관전 모드로 전환됩니다.");
         
-        // Broadcast death message
+        // Broadcast death message to the match
         String deathMessage = "§7" + player.getName() + "님이 탈락했습니다!";
-        player.getServer().broadcastMessage(deathMessage);
+        gameManager.getMatch(player).broadcast(deathMessage);
         
         // Debug message
         Bukkit.getLogger().info("[ChaosPVP] Player died: " + player.getName() + ", checking win condition...");
         
         // Check win condition after a short delay (to ensure player is fully set to spectator)
         Bukkit.getScheduler().runTaskLater(gameManager.getPlugin(), () -> {
-            if (gameManager.isGameActive()) {
+            if (gameManager.isGameActive(player)) {
                 Bukkit.getLogger().info("[ChaosPVP] Game is active, calling checkWinCondition()");
-                gameManager.checkWinCondition();
+                gameManager.checkWinCondition(player);
             } else {
                 Bukkit.getLogger().info("[ChaosPVP] Game is not active, skipping win condition check");
             }
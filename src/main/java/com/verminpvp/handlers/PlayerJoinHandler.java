@@ -31,8 +31,11 @@ public class PlayerJoinHandler implements Listener {
             org.bukkit.potion.PotionEffectType.NIGHT_VISION, 
             Integer.MAX_VALUE, 0, false, false, false));
         
+        // Register the player in their match (or the lobby) participant registry
+        gameManager.onPlayerJoin(player);
+        
         // If game is not active, give creative mode and OP
-        if (!gameManager.isGameActive()) {
+        if (!gameManager.isGameActive(player)) {
             // Give OP first
             if (!player.isOp()) {
                 player.setOp(true);
@@ -42,7 +45,7 @@ public class PlayerJoinHandler implements Listener {
             org.bukkit.Bukkit.getScheduler().runTaskLater(
                 gameManager.getPlugin(), 
                 () -> {
-                    if (player.isOnline() && !gameManager.isGameActive()) {
+                    if (player.isOnline() && !gameManager.isGameActive(player)) {
                         player.setGameMode(org.bukkit.GameMode.CREATIVE);
                         player.sendMessage("§a크리에이티브 모드로 설정되었습니다.");
                     }
@@ -60,6 +63,7 @@ public class PlayerJoinHandler implements Listener {
             
             // Set to adventure mode
             player.setGameMode(org.bukkit.GameMode.ADVENTURE);
+            gameManager.getRegistry(player.getUniqueId()).setAlive(player.getUniqueId(), true);
             
             // Remove OP during game
             if (player.isOp()) {
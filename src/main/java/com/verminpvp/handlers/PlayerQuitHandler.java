@@ -30,6 +30,17 @@ public class PlayerQuitHandler implements Listener {
         // Remove player from ClassManager's tracking
         classManager.removePlayer(player.getUniqueId());
         
+        // Stop any recurring combat tasks owned by this player and update participant registries
+        if (plugin.getGameManager() != null) {
+            plugin.getGameManager().getCombatTicker().cancelOwner(player.getUniqueId());
+            plugin.getGameManager().onPlayerQuit(player);
+        }
+        
+        // Clear cooldowns and all other timers for this player
+        if (plugin.getCooldownManager() != null) {
+            plugin.getCooldownManager().removePlayer(player.getUniqueId());
+        }
+        
         // Clear any resources tracked for this player
         if (plugin.getResourceTracker() != null) {
             plugin.getResourceTracker().clearResources(player.getUniqueId());
@@ -26,17 +26,13 @@ public class PlayerRespawnHandler implements Listener {
         // Practice mode deaths are handled in PlayerDeathHandler
         // Practice mode ends on death, so no respawn handling needed
         
-        // Check if game is active
-        if (!gameManager.isGameActive()) {
+        // Check if the player's match is active
+        if (!gameManager.isGameActive(player)) {
             return;
         }
         
-        // Get the current map's spawn location from MapManager
-        com.verminpvp.VerminPVP plugin = (com.verminpvp.VerminPVP) gameManager.getPlugin();
-        com.verminpvp.managers.MapManager mapManager = plugin.getMapManager();
-        
-        // Get voted map location
-        org.bukkit.Location mapSpawn = mapManager.getVotedMap();
+        // Get the map bound to the player's match
+        org.bukkit.Location mapSpawn = gameManager.getMatch(player).getMapLocation();
         
         // Set respawn location to current map's spawn
         if (mapSpawn != null) {
@@ -55,7 +51,7 @@ public class PlayerRespawnHandler implements Listener {
         org.bukkit.Bukkit.getScheduler().runTaskLater(
             gameManager.getPlugin(),
             () -> {
-                if (gameManager.isGameActive()) {
+                if (gameManager.isGameActive(player)) {
                     player.setGameMode(GameMode.SPECTATOR);
                     player.sendMessage("§7관전 모드로 게임을 지켜보세요.");
                 }
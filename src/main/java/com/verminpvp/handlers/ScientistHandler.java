@@ -1,18 +1,18 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
 import com.verminpvp.managers.ResourceTracker;
-import com.verminpvp.managers.TeamManager;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.GameMode;
 import com.verminpvp.models.ResourceType;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.AreaEffectCloud;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.ThrownPotion;
@@ -26,51 +26,62 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 
 /**
  * Handles Scientist class abilities and mechanics
  */
-public class ScientistHandler implements Listener {
+public class ScientistHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final ResourceTracker resourceTracker;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final EffectApplicator effectApplicator;
     private final DamageHandler damageHandler;
-    private final TeamManager teamManager;
     private final GameManager gameManager;
+    private final CombatantIndex combatantIndex;
     
     private static final int MAX_POTIONS = 3;
     private static final int POTION_GENERATION_INTERVAL = 150; // 7.5 seconds in ticks
     private static final int ULTIMATE_INGREDIENT_THRESHOLD = 9;
     
     // Potion generation tasks per player
-    private final Map<UUID, BukkitTask> potionGenerationTasks;
+    private final Map<UUID, CombatTicker.TickTask> potionGenerationTasks;
     
     // Potion types for random generation (6 types)
     private final String[] potionTypes = {"instant_damage", "instant_healing", "slowness", "blindness", "resistance", "poison"};
+    
+    // Item IDs of generated potions (instant_healing is given as a Minecraft regeneration potion)
+    private static final String[] GENERATED_POTION_IDS = {
+        "scientist_potion_instant_damage", "scientist_potion_slowness", "scientist_potion_blindness",
+        "scientist_potion_resistance", "scientist_potion_poison", "minecraft_regeneration_potion"
+    };
     private final Random random;
     
     public ScientistHandler(Plugin plugin, ClassManager classManager, ResourceTracker resourceTracker,
-                           ItemProvider itemProvider, EffectApplicator effectApplicator, DamageHandler damageHandler,
-                           TeamManager teamManager, GameManager gameManager) {
+                           ItemProvider itemProvider, ClassItemIndex itemIndex, EffectApplicator effectApplicator,
+                           DamageHandler damageHandler, GameManager gameManager, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.resourceTracker = resourceTracker;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.effectApplicator = effectApplicator;
         this.damageHandler = damageHandler;
-        this.teamManager = teamManager;
         this.gameManager = gameManager;
+        this.combatantIndex = combatantIndex;
         this.potionGenerationTasks = new HashMap<>();
         this.random = new Random();
     }
     
+    @Override
+    public void startSchedulers(Player player) {
+        startPotionGeneration(player);
+    }
+    
     /**
      * Starts potion generation for a Scientist player
      */
@@ -83,12 +94,8 @@ public class ScientistHandler implements Listener {
         stopPotionGeneration(player);
         
         // Start new generation task
-        BukkitTask task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                generatePotion(player);
-            }
-        }.runTaskTimer(plugin, POTION_GENERATION_INTERVAL, POTION_GENERATION_INTERVAL);
+        CombatTicker.TickTask task = gameManager.getCombatTicker().everyTicks(player.getUniqueId(),
+            POTION_GENERATION_INTERVAL, () -> generatePotion(player));
         
         potionGenerationTasks.put(player.getUniqueId(), task);
     }
@@ -98,7 +105,7 @@ public class ScientistHandler implements Listener {
      */
     public void stopPotionGeneration(Player player) {
         UUID playerId = player.getUniqueId();
-        BukkitTask task = potionGenerationTasks.remove(playerId);
+        CombatTicker.TickTask task = potionGenerationTasks.remove(playerId);
         
         if (task != null) {
             task.cancel();
@@ -134,7 +141,7 @@ public class ScientistHandler implements Listener {
         }
         
         // Add to inventory
-        player.getInventory().addItem(potion);
+        itemIndex.give(player, potion);
         
         String koreanType = "";
         switch(potionType) {
@@ -154,18 +161,9 @@ public class ScientistHandler implements Listener {
      */
     private int countScientistPotions(Player player) {
         int count = 0;
-        
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && (item.getType() == Material.SPLASH_POTION || item.getType() == Material.POTION)) {
-                if (itemProvider.isClassItem(item)) {
-                    String itemId = itemProvider.getItemId(item);
-                    if (itemId != null && (itemId.startsWith("scientist_potion_") || itemId.equals("minecraft_regeneration_potion"))) {
-                        count++;
-                    }
-                }
-            }
+        for (String itemId : GENERATED_POTION_IDS) {
+            count += itemIndex.count(player, itemId);
         }
-        
         return count;
     }
     
@@ -278,10 +276,10 @@ public class ScientistHandler implements Listener {
             player.sendMessage("§a물약 효과 적용: 즉시회복 II");
             
             // Remove glass bottle after drinking (schedule for next tick to avoid conflicts)
-            org.bukkit.Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            gameManager.getCombatTicker().later(player.getUniqueId(), 1L, () -> {
                 // Remove one glass bottle from inventory
                 player.getInventory().removeItem(new ItemStack(Material.GLASS_BOTTLE, 1));
-            }, 1L);
+            });
             return;
         }
         
@@ -302,10 +300,10 @@ public class ScientistHandler implements Listener {
         player.sendMessage("§a물약 효과 적용: " + potionType);
         
         // Remove glass bottle after drinking (schedule for next tick to avoid conflicts)
-        org.bukkit.Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        gameManager.getCombatTicker().later(player.getUniqueId(), 1L, () -> {
             // Remove one glass bottle from inventory
             player.getInventory().removeItem(new ItemStack(Material.GLASS_BOTTLE, 1));
-        }, 1L);
+        });
     }
     
     /**
@@ -324,25 +322,23 @@ public class ScientistHandler implements Listener {
             }
             
             // In team mode (not practice mode), check if target is on same team as thrower
-            if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(thrower)) {
-                if (teamManager.getPlayerTeam(thrower) == teamManager.getPlayerTeam(target)) {
-                    // Same team - only apply beneficial effects, skip harmful effects
-                    switch (potionType) {
-                        case "instant_healing":
-                            effectApplicator.heal(target, 8.0); // Fixed: 8 HP = 4 hearts
-                            return;
-                        case "resistance":
-                            effectApplicator.applyEffect(target, PotionEffectType.RESISTANCE, 60, 3); // Buffed: 3 seconds
-                            return;
-                        // Skip harmful effects for teammates
-                        case "instant_damage":
-                        case "slowness":
-                        case "blindness":
-                        case "poison":
-                            return; // Don't apply harmful effects to teammates
-                        default:
-                            return;
-                    }
+            if (!gameManager.isHostile(thrower, target)) {
+                // Same team - only apply beneficial effects, skip harmful effects
+                switch (potionType) {
+                    case "instant_healing":
+                        effectApplicator.heal(target, 8.0); // Fixed: 8 HP = 4 hearts
+                        return;
+                    case "resistance":
+                        effectApplicator.applyEffect(target, PotionEffectType.RESISTANCE, 60, 3); // Buffed: 3 seconds
+                        return;
+                    // Skip harmful effects for teammates
+                    case "instant_damage":
+                    case "slowness":
+                    case "blindness":
+                    case "poison":
+                        return; // Don't apply harmful effects to teammates
+                    default:
+                        return;
                 }
             }
         }
@@ -442,6 +438,7 @@ public class ScientistHandler implements Listener {
         cloud.setRadius(3.5f); // 7 block diameter
         cloud.setDuration(160); // 8 seconds
         cloud.setRadiusPerTick(0);
+        gameManager.getEntityTracker().track(cloud);
         
         // Start area effect task
         startUltimatePotionEffect(cloud, thrower);
@@ -451,7 +448,8 @@ public class ScientistHandler implements Listener {
      * Starts the Ultimate Potion area effect
      */
     private void startUltimatePotionEffect(AreaEffectCloud cloud, Player scientist) {
-        new BukkitRunnable() {
+        // Runs on the 10-tick phase: damage every 0.5 seconds, heal tick every 1 second
+        gameManager.getCombatTicker().schedule(scientist.getUniqueId(), new CombatTicker.TickTask() {
             int ticksElapsed = 0;
             
             @Override
@@ -461,16 +459,12 @@ public class ScientistHandler implements Listener {
                     return;
                 }
                 
-                // Apply heal every 1 second (20 ticks) for Scientists
-                // Apply damage every 0.5 seconds (10 ticks) for others
-                if (ticksElapsed % 10 == 0) {
-                    boolean isHealTick = (ticksElapsed % 20 == 0);
-                    applyUltimateAreaEffects(cloud.getLocation(), scientist, isHealTick);
-                }
+                boolean isHealTick = (ticksElapsed % 20 == 0);
+                applyUltimateAreaEffects(cloud.getLocation(), scientist, isHealTick);
                 
-                ticksElapsed++;
+                ticksElapsed += 10;
             }
-        }.runTaskTimer(plugin, 0L, 1L);
+        }, 0L, 10L);
     }
     
     /**
@@ -482,13 +476,9 @@ public class ScientistHandler implements Listener {
         // Heal scientist every 0.5 seconds (changed from 1 second)
         effectApplicator.heal(scientist, 0.5); // 1 HP every 0.5 seconds (was 1 HP every 1 second)
         
-        for (Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
-            if (!(entity instanceof LivingEntity)) {
-                continue;
-            }
-            
-            LivingEntity target = (LivingEntity) entity;
-            
+        for (LivingEntity target : combatantIndex.getNearbyInBox(center.getWorld(),
+                center.getX(), center.getY(), center.getZ(), radius, radius, radius)) {
+
             // Skip self
             if (target.equals(scientist)) {
                 continue;
@@ -497,18 +487,10 @@ public class ScientistHandler implements Listener {
             // If target is a player, check team mode restrictions (unless in practice mode)
             if (target instanceof Player) {
                 Player player = (Player) target;
-                ClassType playerClass = classManager.getPlayerClass(player);
-                
-                // Also check tag as backup
-                if (playerClass == null) {
-                    playerClass = classManager.getTagManager().getPlayerClassFromTag(player);
-                }
                 
                 // In team mode (not practice mode), skip teammates only
-                if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(scientist)) {
-                    if (teamManager.getPlayerTeam(scientist) == teamManager.getPlayerTeam(player)) {
-                        continue; // Skip all teammates
-                    }
+                if (!gameManager.isHostile(scientist, player)) {
+                    continue; // Skip all teammates
                 }
                 
                 // Damage all players 2 HP every 0.5 seconds
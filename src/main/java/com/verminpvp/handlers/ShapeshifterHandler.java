@@ -1,8 +1,13 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
+import com.verminpvp.managers.DashCollider;
 import com.verminpvp.managers.GameManager;
+import com.verminpvp.managers.ItemProvider;
+import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
 import me.libraryaddict.disguise.DisguiseAPI;
@@ -11,10 +16,7 @@ import me.libraryaddict.disguise.disguisetypes.MobDisguise;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
@@ -23,7 +25,6 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
@@ -39,17 +40,20 @@ import java.util.UUID;
  * 2min: Sniffer (25 hearts, Slowness I + Resistance I, gets iron sword)
  * 4min: Ravager (35 hearts, Resistance II + Strength I, Charge ability)
  */
-public class ShapeshifterHandler implements Listener {
+public class ShapeshifterHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final GameManager gameManager;
     private final CooldownManager cooldownManager;
+    private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final DamageHandler damageHandler;
+    private final DashCollider dashCollider;
     
     // Track evolution tasks per player
-    private final Map<UUID, BukkitTask> evolutionTasks = new HashMap<>();
-    private final Map<UUID, BukkitTask> regenTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> evolutionTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> regenTasks = new HashMap<>();
     
     // Evolution stages
     private static final int STAGE_OCELOT = 0;
@@ -64,16 +68,26 @@ public class ShapeshifterHandler implements Listener {
     private static final int TIME_RAVAGER = 240; // 4 minutes
     
     // Charge ability cooldown
-    private static final String CHARGE_ABILITY_ID = "shapeshifter_charge";
+    private static final String CHARGE_ABILITY_ID = AbilityIds.SHAPESHIFTER_CHARGE;
     private static final double CHARGE_COOLDOWN = 7.0; // 7 seconds (changed from 15s)
+    private static final double CHARGE_REACH = 1.5; // Hit box growth in blocks
     
     public ShapeshifterHandler(Plugin plugin, ClassManager classManager, GameManager gameManager,
-                              CooldownManager cooldownManager, DamageHandler damageHandler) {
+                              CooldownManager cooldownManager, ItemProvider itemProvider, ClassItemIndex itemIndex,
+                              DamageHandler damageHandler, DashCollider dashCollider) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.gameManager = gameManager;
         this.cooldownManager = cooldownManager;
+        this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.damageHandler = damageHandler;
+        this.dashCollider = dashCollider;
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        startEvolutionSystem(player);
     }
     
     /**
@@ -100,14 +114,14 @@ public class ShapeshifterHandler implements Listener {
         applyEvolutionStage(player, STAGE_OCELOT);
         
         // Schedule evolution stages
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
             // Check if player is online and in game or practice mode
             if (!player.isOnline()) {
                 stopEvolutionSystem(player);
                 return;
             }
             
-            boolean inGame = gameManager.isGameActive();
+            boolean inGame = gameManager.isGameActive(player);
             boolean inPractice = gameManager.isInPracticeMode(player);
             
             if (!inGame && !inPractice) {
@@ -122,7 +136,7 @@ public class ShapeshifterHandler implements Listener {
                 gameTimeElapsed = 300 - gameManager.getPracticeModeTimeRemaining(player);
             } else {
                 // In real game, use game time
-                gameTimeElapsed = 300 - gameManager.getGameTimeRemaining(); // 5 minutes = 300 seconds
+                gameTimeElapsed = 300 - gameManager.getGameTimeRemaining(player); // 5 minutes = 300 seconds
             }
             
             // Check which stage player should be at
@@ -156,13 +170,13 @@ public class ShapeshifterHandler implements Listener {
         UUID playerId = player.getUniqueId();
         
         // Cancel evolution task
-        BukkitTask evolutionTask = evolutionTasks.remove(playerId);
+        CombatTicker.TickTask evolutionTask = evolutionTasks.remove(playerId);
         if (evolutionTask != null) {
             evolutionTask.cancel();
         }
         
         // Cancel regen task
-        BukkitTask regenTask = regenTasks.remove(playerId);
+        CombatTicker.TickTask regenTask = regenTasks.remove(playerId);
         if (regenTask != null) {
             regenTask.cancel();
         }
@@ -216,7 +230,7 @@ public class ShapeshifterHandler implements Listener {
         player.removePotionEffect(PotionEffectType.WEAKNESS);
         
         // Stop old regen task
-        BukkitTask oldRegenTask = regenTasks.remove(player.getUniqueId());
+        CombatTicker.TickTask oldRegenTask = regenTasks.remove(player.getUniqueId());
         if (oldRegenTask != null) {
             oldRegenTask.cancel();
         }
@@ -272,8 +286,8 @@ public class ShapeshifterHandler implements Listener {
         player.setHealth(30.0);
         
         // Start regen task (1 HP every 3 seconds)
-        BukkitTask regenTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (!player.isOnline() || !gameManager.isGameActive()) {
+        CombatTicker.TickTask regenTask = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
+            if (!player.isOnline() || !gameManager.isGameActive(player)) {
                 return;
             }
             
@@ -363,20 +377,8 @@ public class ShapeshifterHandler implements Listener {
      * Give charge item to player (only if they don't have it)
      */
     private void giveChargeItem(Player player) {
-        // Check if player already has charge item
-        boolean hasChargeItem = false;
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.BLAZE_ROD) {
-                ItemMeta meta = item.getItemMeta();
-                if (meta != null && meta.hasDisplayName() && meta.getDisplayName().equals("§c§l돌진")) {
-                    hasChargeItem = true;
-                    break;
-                }
-            }
-        }
-        
         // Only give charge item if player doesn't have it
-        if (!hasChargeItem) {
+        if (!itemIndex.has(player, "shapeshifter_charge")) {
             ItemStack chargeItem = new ItemStack(Material.BLAZE_ROD);
             ItemMeta chargeMeta = chargeItem.getItemMeta();
             if (chargeMeta != null) {
@@ -387,11 +389,12 @@ public class ShapeshifterHandler implements Listener {
                     "§e쿨타임: 7초"
                 ));
                 chargeMeta.setUnbreakable(true);
+                itemProvider.setItemId(chargeMeta, ClassType.SHAPESHIFTER, "shapeshifter_charge");
                 chargeItem.setItemMeta(chargeMeta);
             }
             
             // Add to inventory
-            player.getInventory().addItem(chargeItem);
+            itemIndex.give(player, chargeItem);
         }
     }
     
@@ -416,8 +419,7 @@ public class ShapeshifterHandler implements Listener {
     /**
      * Handle player interactions for charge ability
      */
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    public void onPlayerInteract(PlayerInteractEvent event, String itemId) {
         if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) {
             return;
         }
@@ -430,18 +432,7 @@ public class ShapeshifterHandler implements Listener {
         }
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
-            return;
-        }
-        
-        // Check if player is holding charge item (Blaze Rod with specific name)
-        ItemStack item = event.getItem();
-        if (item == null || item.getType() != Material.BLAZE_ROD) {
-            return;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName() || !meta.getDisplayName().equals("§c§l돌진")) {
+        if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
             return;
         }
         
@@ -459,9 +450,6 @@ public class ShapeshifterHandler implements Listener {
         cooldownManager.setCooldown(player.getUniqueId(), CHARGE_ABILITY_ID, CHARGE_COOLDOWN);
     }
     
-    // Track players in charge state
-    private final Map<UUID, BukkitTask> chargeStateTasks = new HashMap<>();
-    
     /**
      * Handle charge ability
      * Give Speed V for 0.4 seconds, collision detection for Slowness V
@@ -478,98 +466,42 @@ public class ShapeshifterHandler implements Listener {
         
         player.sendMessage("§a돌진 활성화!");
         
-        // Cancel existing charge state task if any
-        BukkitTask existingTask = chargeStateTasks.remove(player.getUniqueId());
-        if (existingTask != null) {
-            existingTask.cancel();
-        }
-        
-        // Start collision detection for 0.4 seconds
-        BukkitTask chargeTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            private int ticksElapsed = 0;
+        // Swept collision detection for 0.4 seconds (8 ticks); the first hit ends the charge
+        dashCollider.startDash(player, 8, CHARGE_REACH, target -> {
+            // Apply Slowness V for 0.5 seconds (changed from 1s)
+            target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 
+                10, 4, false, false, false)); // 0.5 seconds, Slowness V
             
-            @Override
-            public void run() {
-                if (!player.isOnline() || ticksElapsed >= 8) { // 8 ticks = 0.4 seconds
-                    BukkitTask task = chargeStateTasks.remove(player.getUniqueId());
-                    if (task != null) {
-                        task.cancel();
-                    }
-                    return;
-                }
-                
-                // Check for nearby entities
-                for (Entity entity : player.getNearbyEntities(1.5, 1.5, 1.5)) {
-                    if (entity instanceof LivingEntity && entity != player) {
-                        LivingEntity target = (LivingEntity) entity;
-                        
-                        // Skip teammates in team mode (unless in practice mode)
-                        if (target instanceof Player) {
-                            Player targetPlayer = (Player) target;
-                            if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                                // Get team manager from VerminPVP plugin
-                                com.verminpvp.VerminPVP verminPlugin = (com.verminpvp.VerminPVP) plugin;
-                                com.verminpvp.managers.TeamManager teamMgr = verminPlugin.getTeamManager();
-                                
-                                com.verminpvp.models.Team playerTeam = teamMgr.getPlayerTeam(player);
-                                com.verminpvp.models.Team targetTeam = teamMgr.getPlayerTeam(targetPlayer);
-                                if (playerTeam != null && playerTeam == targetTeam) {
-                                    continue;
-                                }
-                            }
-                        }
-                        
-                        // Apply Slowness V for 0.5 seconds (changed from 1s)
-                        target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 
-                            10, 4, false, false, false)); // 0.5 seconds, Slowness V
-                        
-                        // Visual effect on hit
-                        target.getWorld().spawnParticle(org.bukkit.Particle.CRIT, 
-                            target.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
-                        
-                        player.sendMessage("§e돌진 적중!");
-                        
-                        // End charge state after hitting
-                        BukkitTask task = chargeStateTasks.remove(player.getUniqueId());
-                        if (task != null) {
-                            task.cancel();
-                        }
-                        return;
-                    }
-                }
-                
-                ticksElapsed++;
-            }
-        }, 0L, 1L); // Check every tick
-        
-        chargeStateTasks.put(player.getUniqueId(), chargeTask);
+            // Visual effect on hit
+            target.getWorld().spawnParticle(org.bukkit.Particle.CRIT, 
+                target.getLocation().add(0, 1, 0), 10, 0.3, 0.5, 0.3, 0.1);
+            
+            player.sendMessage("§e돌진 적중!");
+            return true;
+        });
     }
     
     /**
      * Cleanup all Shapeshifter tasks and disguises
      */
+    @Override
     public void cleanupAll() {
         // Cancel all tasks
-        for (BukkitTask task : evolutionTasks.values()) {
+        for (CombatTicker.TickTask task : evolutionTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
         }
         evolutionTasks.clear();
         
-        for (BukkitTask task : regenTasks.values()) {
+        for (CombatTicker.TickTask task : regenTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
         }
         regenTasks.clear();
         
-        for (BukkitTask task : chargeStateTasks.values()) {
-            if (task != null) {
-                task.cancel();
-            }
-        }
-        chargeStateTasks.clear();
+        dashCollider.clear();
         
         // Remove all disguises
         for (Player player : Bukkit.getOnlinePlayers()) {
@@ -582,29 +514,26 @@ public class ShapeshifterHandler implements Listener {
     /**
      * Cleanup Shapeshifter tasks and disguise for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         
         // Cancel evolution task for this player
-        BukkitTask evolutionTask = evolutionTasks.get(playerId);
+        CombatTicker.TickTask evolutionTask = evolutionTasks.get(playerId);
         if (evolutionTask != null) {
             evolutionTask.cancel();
             evolutionTasks.remove(playerId);
         }
         
         // Cancel regen task for this player
-        BukkitTask regenTask = regenTasks.get(playerId);
+        CombatTicker.TickTask regenTask = regenTasks.get(playerId);
         if (regenTask != null) {
             regenTask.cancel();
             regenTasks.remove(playerId);
         }
         
-        // Cancel charge state task for this player
-        BukkitTask chargeTask = chargeStateTasks.get(playerId);
-        if (chargeTask != null) {
-            chargeTask.cancel();
-            chargeStateTasks.remove(playerId);
-        }
+        // End charge state for this player
+        dashCollider.stopDash(playerId);
         
         // Remove disguise for this player
         if (DisguiseAPI.isDisguised(player)) {
@@ -1,22 +1,22 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.VerminPVP;
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.ItemProvider;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
+import com.verminpvp.models.TimerKind;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -37,41 +37,42 @@ import java.util.UUID;
  * 
  * Golden Shield: Block → Strength II 8s + Speed II 8s + 20 absorption hearts 8s, then disappears
  */
-public class ShieldSoldierHandler implements Listener {
+public class ShieldSoldierHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final EffectApplicator effectApplicator;
     private final DamageHandler damageHandler;
     
     // Track last damage time for absorption passive
     private final Map<UUID, Long> lastDamageTime = new HashMap<>();
     
-    // Track shield cooldowns per shield type
-    private final Map<UUID, Map<String, Long>> shieldCooldowns = new HashMap<>();
-    
-    // Track shield deploy (blocking) cooldowns per shield type
-    private final Map<UUID, Map<String, Long>> shieldDeployCooldowns = new HashMap<>();
-    
     // Track if Golden Shield has been triggered
     private final Map<UUID, Boolean> goldenShieldTriggered = new HashMap<>();
     
     // Track passive scheduler tasks
-    private final Map<UUID, BukkitTask> passiveTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> passiveTasks = new HashMap<>();
     
     public ShieldSoldierHandler(VerminPVP plugin, ClassManager classManager,
-                                 CooldownManager cooldownManager, ItemProvider itemProvider,
+                                 CooldownManager cooldownManager, ItemProvider itemProvider, ClassItemIndex itemIndex,
                                  EffectApplicator effectApplicator, DamageHandler damageHandler) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.effectApplicator = effectApplicator;
         this.damageHandler = damageHandler;
     }
     
+    @Override
+    public void startSchedulers(Player player) {
+        startAbsorptionPassive(player);
+    }
+    
     /**
      * Start absorption passive scheduler for a Shield Soldier
      */
@@ -84,7 +85,7 @@ public class ShieldSoldierHandler implements Listener {
         // Initialize last damage time to now
         lastDamageTime.put(playerId, System.currentTimeMillis());
         
-        BukkitTask task = new BukkitRunnable() {
+        CombatTicker.TickTask task = plugin.getGameManager().getCombatTicker().schedule(playerId, new CombatTicker.TickTask() {
             @Override
             public void run() {
                 if (!player.isOnline() || classManager.getPlayerClass(player) != ClassType.SHIELD_SOLDIER) {
@@ -105,7 +106,7 @@ public class ShieldSoldierHandler implements Listener {
                     }
                 }
             }
-        }.runTaskTimer(plugin, 20L, 20L); // Check every second
+        }, 20L, 20L); // Check every second
         
         passiveTasks.put(playerId, task);
     }
@@ -115,7 +116,7 @@ public class ShieldSoldierHandler implements Listener {
      */
     public void stopAbsorptionPassive(Player player) {
         UUID playerId = player.getUniqueId();
-        BukkitTask task = passiveTasks.remove(playerId);
+        CombatTicker.TickTask task = passiveTasks.remove(playerId);
         if (task != null) {
             task.cancel();
         }
@@ -160,15 +161,10 @@ public class ShieldSoldierHandler implements Listener {
     }
     
     /**
-     * Handle shield blocking
+     * Handle shield blocking (on-hit step for the victim)
      */
-    @EventHandler
-    public void onShieldBlock(EntityDamageByEntityEvent event) {
-        if (!(event.getEntity() instanceof Player)) return;
-        
-        Player victim = (Player) event.getEntity();
-        
-        if (classManager.getPlayerClass(victim) != ClassType.SHIELD_SOLDIER) return;
+    public void onShieldBlock(DamagePipeline.Context context) {
+        Player victim = context.getVictimPlayer();
         
         // Check if victim is blocking
         if (!victim.isBlocking()) return;
@@ -182,10 +178,8 @@ public class ShieldSoldierHandler implements Listener {
         
         // Check shield deploy (blocking) cooldown - 6 seconds for all shields EXCEPT golden shield
         if (!shieldId.equals("golden_shield") && isShieldDeployOnCooldown(victim, shieldId)) {
-            // Cancel the block - shield cannot be deployed during cooldown
-            event.setCancelled(false); // Let damage through
-            long remainingMs = getRemainingDeployCooldown(victim, shieldId);
-            double remainingSec = remainingMs / 1000.0;
+            // Shield cannot be deployed during cooldown - damage goes through
+            double remainingSec = getRemainingDeployCooldown(victim, shieldId) / (double) CooldownManager.TICKS_PER_SECOND;
             
             // Get shield name for display
             String shieldName = "";
@@ -207,15 +201,13 @@ public class ShieldSoldierHandler implements Listener {
         
         // Set deploy cooldown (6 seconds for all shields EXCEPT golden shield)
         if (!shieldId.equals("golden_shield")) {
-            setShieldDeployCooldown(victim, shieldId, 6000);
+            setShieldDeployCooldown(victim, shieldId, 120); // 6s = 120 ticks
         }
         
         // Check shield-specific cooldown
         if (isShieldOnCooldown(victim, shieldId)) {
-            // Cancel the block - shield cannot be used during cooldown
-            event.setCancelled(false); // Let damage through
-            long remainingMs = getRemainingCooldown(victim, shieldId);
-            double remainingSec = remainingMs / 1000.0;
+            // Shield cannot be used during cooldown - damage goes through
+            double remainingSec = cooldownManager.getRemainingCooldown(victim.getUniqueId(), shieldId);
             
             // Get shield name for display
             String shieldName = "";
@@ -239,11 +231,10 @@ public class ShieldSoldierHandler implements Listener {
         switch (shieldId) {
             case "red_shield":
                 // Deal 6 damage to attacker (buffed from 3), 6s cooldown (nerfed from 5s)
-                if (event.getDamager() instanceof Player) {
-                    Player attacker = (Player) event.getDamager();
+                if (context.isMelee()) {
+                    Player attacker = context.getAttacker();
                     damageHandler.applyInstantDamage(attacker, 6.0);
                 }
-                setShieldCooldown(victim, shieldId, 6000);
                 cooldownManager.setCooldown(victim.getUniqueId(), AbilityIds.RED_SHIELD, 6);
                 VerminPVP.getInstance().getCooldownDisplay().showCooldown(victim, AbilityIds.RED_SHIELD, "빨간 방패", 6.0);
                 victim.sendMessage("§c빨간 방패 막기! 공격자에게 6 데미지");
@@ -257,18 +248,16 @@ public class ShieldSoldierHandler implements Listener {
                 } else {
                     victim.sendMessage("§9파란 방패 막기! (이미 흡수 효과 보유)");
                 }
-                setShieldCooldown(victim, shieldId, 11000);
                 cooldownManager.setCooldown(victim.getUniqueId(), AbilityIds.BLUE_SHIELD, 11);
                 VerminPVP.getInstance().getCooldownDisplay().showCooldown(victim, AbilityIds.BLUE_SHIELD, "파란 방패", 11.0);
                 break;
                 
             case "basic_shield":
                 // Apply Weakness I to attacker (1.5s duration, nerfed from 2s), 4s cooldown (nerfed from 3.5s)
-                if (event.getDamager() instanceof Player) {
-                    Player attacker = (Player) event.getDamager();
+                if (context.isMelee()) {
+                    Player attacker = context.getAttacker();
                     effectApplicator.applyEffect(attacker, PotionEffectType.WEAKNESS, 30, 0); // 1.5s = 30 ticks
                 }
-                setShieldCooldown(victim, shieldId, 4000);
                 cooldownManager.setCooldown(victim.getUniqueId(), AbilityIds.BASIC_SHIELD, 4);
                 VerminPVP.getInstance().getCooldownDisplay().showCooldown(victim, AbilityIds.BASIC_SHIELD, "기본 방패", 4.0);
                 victim.sendMessage("§7기본 방패 막기! 공격자에게 약화 부여");
@@ -282,6 +271,7 @@ public class ShieldSoldierHandler implements Listener {
                 
                 // Remove golden shield (one-time use)
                 shield.setAmount(0);
+                itemIndex.invalidate(victim);
                 victim.sendMessage("§6§l황금 방패 발동! 힘 II + 신속 II + 흡수 6칸!");
                 break;
         }
@@ -314,7 +304,7 @@ public class ShieldSoldierHandler implements Listener {
      */
     private void giveGoldenShield(Player player) {
         ItemStack goldenShield = itemProvider.createSpecialItem(ClassType.SHIELD_SOLDIER, "golden_shield");
-        player.getInventory().addItem(goldenShield);
+        itemIndex.give(player, goldenShield);
         player.sendMessage("§6§l황금 방패를 받았습니다! (체력 위기 시 발동)");
     }
     
@@ -322,15 +312,7 @@ public class ShieldSoldierHandler implements Listener {
      * Check if player has golden shield in inventory
      */
     private boolean hasGoldenShield(Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.SHIELD) {
-                String itemId = itemProvider.getItemId(item);
-                if ("golden_shield".equals(itemId)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return itemIndex.has(player, "golden_shield");
     }
     
     /**
@@ -338,24 +320,16 @@ public class ShieldSoldierHandler implements Listener {
      */
     private void activateGoldenShield(Player player) {
         // Find and remove golden shield from inventory
-        for (int i = 0; i < player.getInventory().getSize(); i++) {
-            ItemStack item = player.getInventory().getItem(i);
-            if (item != null && item.getType() == Material.SHIELD) {
-                String itemId = itemProvider.getItemId(item);
-                if ("golden_shield".equals(itemId)) {
-                    // Remove the shield
-                    player.getInventory().setItem(i, null);
-                    
-                    // Apply all buffs: Strength II 8s + Speed I 8s + 12 absorption hearts (6칸) 8s
-                    effectApplicator.applyEffect(player, PotionEffectType.STRENGTH, 160, 1); // Strength II 8s = 160 ticks
-                    effectApplicator.applyEffect(player, PotionEffectType.SPEED, 160, 0); // Speed I 8s = 160 ticks (FIXED from II)
-                    effectApplicator.applyAbsorption(player, 6, 160, "golden_shield"); // 12 absorption hearts (6칸) 8s = 160 ticks
-                    
-                    player.sendMessage("§6§l황금 방패 자동 발동! 힘 II + 신속 I + 흡수 6칸!");
-                    return;
-                }
-            }
+        if (!itemIndex.removeOne(player, "golden_shield")) {
+            return;
         }
+        
+        // Apply all buffs: Strength II 8s + Speed I 8s + 12 absorption hearts (6칸) 8s
+        effectApplicator.applyEffect(player, PotionEffectType.STRENGTH, 160, 1); // Strength II 8s = 160 ticks
+        effectApplicator.applyEffect(player, PotionEffectType.SPEED, 160, 0); // Speed I 8s = 160 ticks (FIXED from II)
+        effectApplicator.applyAbsorption(player, 6, 160, "golden_shield"); // 12 absorption hearts (6칸) 8s = 160 ticks
+        
+        player.sendMessage("§6§l황금 방패 자동 발동! 힘 II + 신속 I + 흡수 6칸!");
     }
     
     /**
@@ -375,104 +349,42 @@ public class ShieldSoldierHandler implements Listener {
         return null;
     }
     
-    /**
-     * Set shield-specific cooldown
-     */
-    private void setShieldCooldown(Player player, String shieldId, long durationMillis) {
-        UUID playerId = player.getUniqueId();
-        shieldCooldowns.putIfAbsent(playerId, new HashMap<>());
-        
-        long endTime = System.currentTimeMillis() + durationMillis;
-        shieldCooldowns.get(playerId).put(shieldId, endTime);
-    }
-    
     /**
      * Set shield deploy (blocking) cooldown
      */
-    private void setShieldDeployCooldown(Player player, String shieldId, long durationMillis) {
-        UUID playerId = player.getUniqueId();
-        shieldDeployCooldowns.putIfAbsent(playerId, new HashMap<>());
-        
-        long endTime = System.currentTimeMillis() + durationMillis;
-        shieldDeployCooldowns.get(playerId).put(shieldId, endTime);
+    private void setShieldDeployCooldown(Player player, String shieldId, long durationTicks) {
+        cooldownManager.setTimer(player.getUniqueId(), TimerKind.DEPLOY_LOCK, shieldId, durationTicks);
     }
     
     /**
      * Check if a specific shield is on cooldown
      */
     private boolean isShieldOnCooldown(Player player, String shieldId) {
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> playerCooldowns = shieldCooldowns.get(playerId);
-        
-        if (playerCooldowns == null || !playerCooldowns.containsKey(shieldId)) {
-            return false;
-        }
-        
-        long cooldownEnd = playerCooldowns.get(shieldId);
-        long currentTime = System.currentTimeMillis();
-        
-        if (currentTime >= cooldownEnd) {
-            playerCooldowns.remove(shieldId);
-            return false;
-        }
-        
-        return true;
+        return cooldownManager.isOnCooldown(player.getUniqueId(), shieldId);
     }
     
     /**
      * Check if a specific shield deploy is on cooldown
      */
     private boolean isShieldDeployOnCooldown(Player player, String shieldId) {
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> playerCooldowns = shieldDeployCooldowns.get(playerId);
-        
-        if (playerCooldowns == null || !playerCooldowns.containsKey(shieldId)) {
-            return false;
-        }
-        
-        long cooldownEnd = playerCooldowns.get(shieldId);
-        long currentTime = System.currentTimeMillis();
-        
-        if (currentTime >= cooldownEnd) {
-            playerCooldowns.remove(shieldId);
-            return false;
-        }
-        
-        return true;
+        return cooldownManager.isActive(player.getUniqueId(), TimerKind.DEPLOY_LOCK, shieldId);
     }
     
     /**
-     * Get remaining cooldown time in milliseconds for a specific shield
+     * Get remaining deploy cooldown time in ticks for a specific shield
      */
-    private long getRemainingCooldown(Player player, String shieldId) {
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> playerCooldowns = shieldCooldowns.get(playerId);
-        
-        if (playerCooldowns == null || !playerCooldowns.containsKey(shieldId)) {
-            return 0;
-        }
-        
-        long cooldownEnd = playerCooldowns.get(shieldId);
-        long currentTime = System.currentTimeMillis();
-        
-        return Math.max(0, cooldownEnd - currentTime);
+    private long getRemainingDeployCooldown(Player player, String shieldId) {
+        return cooldownManager.getRemainingTicks(player.getUniqueId(), TimerKind.DEPLOY_LOCK, shieldId);
     }
     
     /**
-     * Get remaining deploy cooldown time in milliseconds for a specific shield
+     * Clear skill and deploy cooldowns of every shield for a player
      */
-    private long getRemainingDeployCooldown(Player player, String shieldId) {
-        UUID playerId = player.getUniqueId();
-        Map<String, Long> playerCooldowns = shieldDeployCooldowns.get(playerId);
-        
-        if (playerCooldowns == null || !playerCooldowns.containsKey(shieldId)) {
-            return 0;
+    private void clearShieldTimers(UUID playerId) {
+        for (String shieldId : new String[] {AbilityIds.RED_SHIELD, AbilityIds.BLUE_SHIELD, AbilityIds.BASIC_SHIELD}) {
+            cooldownManager.clearCooldown(playerId, shieldId);
+            cooldownManager.clearTimer(playerId, TimerKind.DEPLOY_LOCK, shieldId);
         }
-        
-        long cooldownEnd = playerCooldowns.get(shieldId);
-        long currentTime = System.currentTimeMillis();
-        
-        return Math.max(0, cooldownEnd - currentTime);
     }
     
     /**
@@ -506,7 +418,7 @@ public class ShieldSoldierHandler implements Listener {
         
         // Clear tracking data
         lastDamageTime.remove(playerId);
-        shieldCooldowns.remove(playerId);
+        clearShieldTimers(playerId);
         goldenShieldTriggered.remove(playerId);
         
         // Clear absorption tracking
@@ -518,9 +430,10 @@ public class ShieldSoldierHandler implements Listener {
     /**
      * Clean up all Shield Soldier data (called on game end)
      */
+    @Override
     public void cleanupAll() {
         // Stop all passive tasks
-        for (BukkitTask task : passiveTasks.values()) {
+        for (CombatTicker.TickTask task : passiveTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
@@ -529,25 +442,25 @@ public class ShieldSoldierHandler implements Listener {
         
         // Clear all tracking data
         lastDamageTime.clear();
-        shieldCooldowns.clear();
         goldenShieldTriggered.clear();
     }
     
     /**
      * Clean up Shield Soldier data for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         
         // Stop passive task for this player
-        BukkitTask task = passiveTasks.remove(playerId);
+        CombatTicker.TickTask task = passiveTasks.remove(playerId);
         if (task != null) {
             task.cancel();
         }
         
         // Clear tracking data for this player
         lastDamageTime.remove(playerId);
-        shieldCooldowns.remove(playerId);
+        clearShieldTimers(playerId);
         goldenShieldTriggered.remove(playerId);
     }
 }
@@ -1,16 +1,16 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.MoveDispatcher;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.Team;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -20,7 +20,6 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import java.util.HashMap;
@@ -44,22 +43,24 @@ import java.util.UUID;
  * - Landing: 12 damage to enemies within 20 blocks (24 if hitbox overlaps)
  * - Consumes item after use
  */
-public class StamperHandler implements Listener {
+public class StamperHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final CooldownManager cooldownManager;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final DamageHandler damageHandler;
-    private final TeamManager teamManager;
     private final GameManager gameManager;
+    private final CombatantIndex combatantIndex;
     
     // Track fall heights
     private final Map<UUID, Double> fallStartHeights = new HashMap<>();
     private final Map<UUID, Boolean> isDiving = new HashMap<>();
+    private final MoveDispatcher.Channel fallMoves;
     
     // Track dive gain tasks
-    private final Map<UUID, BukkitTask> diveGainTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> diveGainTasks = new HashMap<>();
     
     // Constants
     private static final int STAMP_COOLDOWN = 20; // seconds
@@ -73,15 +74,22 @@ public class StamperHandler implements Listener {
     private static final double HITBOX_OVERLAP_DISTANCE = 1.5; // blocks
     
     public StamperHandler(Plugin plugin, ClassManager classManager, CooldownManager cooldownManager,
-                         ItemProvider itemProvider, DamageHandler damageHandler, TeamManager teamManager,
-                         GameManager gameManager) {
+                         ItemProvider itemProvider, ClassItemIndex itemIndex, DamageHandler damageHandler,
+                         GameManager gameManager, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.damageHandler = damageHandler;
-        this.teamManager = teamManager;
         this.gameManager = gameManager;
+        this.combatantIndex = combatantIndex;
+        this.fallMoves = gameManager.getMoveDispatcher().register("stamper_fall", this::onPlayerMove);
+    }
+    
+    @Override
+    public void startSchedulers(Player player) {
+        startDiveGainSystem(player);
     }
     
     /**
@@ -102,14 +110,14 @@ public class StamperHandler implements Listener {
         stopDiveGainSystem(player);
         
         // Schedule dive gain every 120 seconds
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
             // Verify player is still online and game is active
             if (!player.isOnline()) {
                 stopDiveGainSystem(player);
                 return;
             }
             
-            if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
+            if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
                 stopDiveGainSystem(player);
                 return;
             }
@@ -121,14 +129,14 @@ public class StamperHandler implements Listener {
             }
             
             // Check if player already has dive (max 1)
-            if (hasDive(player)) {
+            if (itemIndex.has(player, "dive")) {
                 return; // Already has one, don't give another
             }
             
             // Give dive item
             ItemStack dive = itemProvider.createSpecialItem(ClassType.STAMPER, "dive");
             if (dive != null) {
-                player.getInventory().addItem(dive);
+                itemIndex.give(player, dive);
                 player.sendMessage("§6다이브를 획득했습니다!");
             }
         }, DIVE_GAIN_INTERVAL * 20L, DIVE_GAIN_INTERVAL * 20L);
@@ -145,32 +153,16 @@ public class StamperHandler implements Listener {
         }
         
         UUID playerId = player.getUniqueId();
-        BukkitTask task = diveGainTasks.remove(playerId);
+        CombatTicker.TickTask task = diveGainTasks.remove(playerId);
         if (task != null) {
             task.cancel();
         }
     }
     
-    /**
-     * Check if player has dive item
-     */
-    private boolean hasDive(Player player) {
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null) {
-                String itemId = itemProvider.getItemId(item);
-                if ("dive".equals(itemId)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-    
     /**
      * Handle player interactions (right-click for Stamp and Dive)
      */
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    public void onPlayerInteract(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         
         if (classManager.getPlayerClass(player) != ClassType.STAMPER) {
@@ -178,14 +170,6 @@ public class StamperHandler implements Listener {
         }
         
         ItemStack item = event.getItem();
-        if (item == null) {
-            return;
-        }
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) {
-            return;
-        }
         
         if (itemId.equals("stamp")) {
             event.setCancelled(true);
@@ -210,6 +194,7 @@ public class StamperHandler implements Listener {
         // Launch player upward
         Vector velocity = new Vector(0, STAMP_LAUNCH_HEIGHT / 5.0, 0); // Divide by 5 for reasonable velocity
         player.setVelocity(velocity);
+        fallMoves.subscribe(player.getUniqueId());
         
         // Set cooldown
         cooldownManager.setCooldown(player.getUniqueId(), AbilityIds.STAMP, STAMP_COOLDOWN);
@@ -227,36 +212,42 @@ public class StamperHandler implements Listener {
         // Launch player upward (much higher than stamp)
         Vector velocity = new Vector(0, DIVE_LAUNCH_HEIGHT / 5.0, 0);
         player.setVelocity(velocity);
+        fallMoves.subscribe(player.getUniqueId());
         
         // Mark as diving
         isDiving.put(player.getUniqueId(), true);
         
         // Remove dive item
         item.setAmount(item.getAmount() - 1);
+        itemIndex.invalidate(player);
         
         player.sendMessage("§6다이브 사용!");
     }
     
     /**
-     * Track fall heights
+     * Track the peak height of a stamp or dive (subscribed from launch until landing)
      */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
+    private void onPlayerMove(PlayerMoveEvent event) {
         Player player = event.getPlayer();
+        UUID playerId = player.getUniqueId();
         
         if (classManager.getPlayerClass(player) != ClassType.STAMPER) {
+            fallMoves.unsubscribe(playerId);
             return;
         }
         
         // Update fall start height if player is in air
         if (!player.isOnGround()) {
-            UUID playerId = player.getUniqueId();
             double currentHeight = player.getLocation().getY();
             
             // Update to highest point
             if (!fallStartHeights.containsKey(playerId) || currentHeight > fallStartHeights.get(playerId)) {
                 fallStartHeights.put(playerId, currentHeight);
             }
+        } else if (fallStartHeights.remove(playerId) != null) {
+            // Landed without fall damage (short drop or soft landing)
+            isDiving.remove(playerId);
+            fallMoves.unsubscribe(playerId);
         }
     }
     
@@ -284,16 +275,12 @@ public class StamperHandler implements Listener {
         
         UUID playerId = player.getUniqueId();
         
-        // Check if this was a significant fall
-        Double startHeight = fallStartHeights.get(playerId);
-        if (startHeight == null) {
-            return;
-        }
-        
-        double fallDistance = startHeight - player.getLocation().getY();
-        
-        // Clear fall height tracking
-        fallStartHeights.remove(playerId);
+        // Stamps and dives use their tracked peak, other falls the server's fall distance
+        Double startHeight = fallStartHeights.remove(playerId);
+        fallMoves.unsubscribe(playerId);
+        double fallDistance = startHeight != null
+            ? startHeight - player.getLocation().getY()
+            : player.getFallDistance();
         
         // Minimum fall distance to trigger landing damage (3 blocks)
         if (fallDistance < 3.0) {
@@ -320,32 +307,19 @@ public class StamperHandler implements Listener {
         int hitCount = 0;
         
         // Find all entities within range
-        for (Entity entity : player.getNearbyEntities(range, range, range)) {
-            if (!(entity instanceof LivingEntity) || entity == player) {
-                continue;
-            }
-            
-            LivingEntity target = (LivingEntity) entity;
-            
+        for (LivingEntity target : combatantIndex.getNearbyInBox(player, range, range, range)) {
+
             // Check team restrictions (unless in practice mode)
-            if (target instanceof Player) {
-                Player targetPlayer = (Player) target;
-                
-                // Skip if same team in team mode (not practice mode)
-                if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                    Team playerTeam = teamManager.getPlayerTeam(player);
-                    Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                    if (playerTeam != null && playerTeam == targetTeam) {
-                        continue;
-                    }
-                }
+            // Skip if same team in team mode (not practice mode)
+            if (target instanceof Player && !gameManager.isHostile(player, (Player) target)) {
+                continue;
             }
             
             // Check distance for hitbox overlap (2x damage)
-            double distance = landingLoc.distance(target.getLocation());
+            double distanceSquared = landingLoc.distanceSquared(target.getLocation());
             double damage = baseDamage;
             
-            if (distance <= HITBOX_OVERLAP_DISTANCE) {
+            if (distanceSquared <= HITBOX_OVERLAP_DISTANCE * HITBOX_OVERLAP_DISTANCE) {
                 damage *= 2.0; // Double damage if hitbox overlaps
             }
             
@@ -366,9 +340,10 @@ public class StamperHandler implements Listener {
     /**
      * Cleanup all Stamper tasks
      */
+    @Override
     public void cleanupAll() {
         // Cancel all dive gain tasks
-        for (BukkitTask task : diveGainTasks.values()) {
+        for (CombatTicker.TickTask task : diveGainTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
@@ -383,17 +358,19 @@ public class StamperHandler implements Listener {
     /**
      * Cleanup Stamper tasks for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         
         // Cancel dive gain task for this player
-        BukkitTask task = diveGainTasks.get(playerId);
+        CombatTicker.TickTask task = diveGainTasks.get(playerId);
         if (task != null) {
             task.cancel();
             diveGainTasks.remove(playerId);
         }
         
         // Clear tracking for this player
+        fallMoves.unsubscribe(playerId);
         fallStartHeights.remove(playerId);
         isDiving.remove(playerId);
     }
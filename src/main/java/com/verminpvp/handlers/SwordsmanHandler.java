@@ -1,29 +1,25 @@
 package com.verminpvp.handlers;
 
+import com.verminpvp.managers.ClassItemIndex;
 import com.verminpvp.managers.ClassManager;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
 import com.verminpvp.managers.ResourceTracker;
+import com.verminpvp.managers.TargetFinder;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
 import com.verminpvp.models.ResourceType;
-import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.util.RayTraceResult;
-import org.bukkit.util.Vector;
 
 /**
  * Handles Swordsman class abilities and mechanics
@@ -32,7 +28,7 @@ import org.bukkit.util.Vector;
  * Diamond Sword: Right-click to attack forward (8 damage, 12.5s cooldown, grants Netherite Shard)
  * Netherite Sword: Left-click deals 4 base + 16 instant damage (durability 1, max 1)
  */
-public class SwordsmanHandler implements Listener {
+public class SwordsmanHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
@@ -40,7 +36,9 @@ public class SwordsmanHandler implements Listener {
     private final CooldownManager cooldownManager;
     private final ResourceTracker resourceTracker;
     private final ItemProvider itemProvider;
+    private final ClassItemIndex itemIndex;
     private final DamageHandler damageHandler;
+    private final TargetFinder targetFinder;
     
     private static final double RAYCAST_RANGE = 3.5;
     private static final int NETHERITE_SHARD_THRESHOLD = 3;
@@ -48,19 +46,23 @@ public class SwordsmanHandler implements Listener {
     
     public SwordsmanHandler(Plugin plugin, ClassManager classManager, GameManager gameManager,
                            CooldownManager cooldownManager, ResourceTracker resourceTracker, 
-                           ItemProvider itemProvider, DamageHandler damageHandler) {
+                           ItemProvider itemProvider, ClassItemIndex itemIndex, DamageHandler damageHandler,
+                           TargetFinder targetFinder) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.gameManager = gameManager;
         this.cooldownManager = cooldownManager;
         this.resourceTracker = resourceTracker;
         this.itemProvider = itemProvider;
+        this.itemIndex = itemIndex;
         this.damageHandler = damageHandler;
+        this.targetFinder = targetFinder;
     }
     
     /**
      * Give starting items to Swordsman player
      */
+    @Override
     public void giveStartingItems(Player player) {
         // Give Diamond Sword with stone sword damage
         ItemStack diamondSword = new ItemStack(Material.DIAMOND_SWORD);
@@ -88,6 +90,7 @@ public class SwordsmanHandler implements Listener {
                 )
             );
             
+            itemProvider.setItemId(meta, ClassType.SWORDSMAN, "diamond_sword");
             diamondSword.setItemMeta(meta);
         }
         player.getInventory().addItem(diamondSword);
@@ -95,60 +98,45 @@ public class SwordsmanHandler implements Listener {
     
     /**
      * Passive: +1 damage bonus on stone sword attacks only
-     * Applies bonus damage directly to entity health to bypass armor
+     * Applies bonus damage directly to entity health to bypass armor (post-hit step,
+     * runs after the event completes so it happens after all armor calculations)
      */
-    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = false)
-    public void onSwordsmanAttackBonus(EntityDamageByEntityEvent event) {
-        // Skip if event is cancelled
-        if (event.isCancelled()) {
-            return;
-        }
-        if (!(event.getDamager() instanceof Player)) {
+    public void onSwordsmanAttackBonus(DamagePipeline.Context context) {
+        if (!context.isMelee()) {
             return;
         }
         
-        Player attacker = (Player) event.getDamager();
-        ClassData data = classManager.getClassData(attacker);
-        
-        if (data == null || data.getClassType() != ClassType.SWORDSMAN) {
-            return;
-        }
+        Player attacker = context.getAttacker();
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(attacker)) {
+        if (!gameManager.isGameActive(attacker) && !gameManager.isInPracticeMode(attacker)) {
             return;
         }
         
-        ItemStack weapon = attacker.getInventory().getItemInMainHand();
+        ItemStack weapon = context.getWeapon();
         
         // Check if using stone sword only (not diamond or netherite)
-        if (weapon != null && weapon.getType() == Material.STONE_SWORD) {
-            if (!(event.getEntity() instanceof LivingEntity)) {
+        if (weapon.getType() == Material.STONE_SWORD) {
+            LivingEntity target = context.getLivingVictim();
+            if (target == null) {
                 return;
             }
             
-            LivingEntity target = (LivingEntity) event.getEntity();
-            
-            // Schedule the bonus damage to apply after the event completes
-            // This ensures it happens after all armor calculations
-            org.bukkit.Bukkit.getScheduler().runTask(plugin, () -> {
-                if (target.isValid() && !target.isDead()) {
-                    double currentHealth = target.getHealth();
-                    double newHealth = Math.max(0, currentHealth - 1.0);
-                    target.setHealth(newHealth);
-                    
-                    plugin.getLogger().info("[Swordsman] Passive bonus applied! Target health: " + 
-                        currentHealth + " -> " + newHealth);
-                }
-            });
+            if (target.isValid() && !target.isDead()) {
+                double currentHealth = target.getHealth();
+                double newHealth = Math.max(0, currentHealth - 1.0);
+                target.setHealth(newHealth);
+                
+                plugin.getLogger().info("[Swordsman] Passive bonus applied! Target health: " + 
+                    currentHealth + " -> " + newHealth);
+            }
         }
     }
     
     /**
      * Handle Diamond Sword right-click attack
      */
-    @EventHandler
-    public void onDiamondSwordUse(PlayerInteractEvent event) {
+    public void onDiamondSwordUse(PlayerInteractEvent event, String itemId) {
         if (event.getAction() != Action.RIGHT_CLICK_AIR && event.getAction() != Action.RIGHT_CLICK_BLOCK) {
             return;
         }
@@ -161,17 +149,7 @@ public class SwordsmanHandler implements Listener {
         }
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
-            return;
-        }
-        
-        ItemStack item = event.getItem();
-        if (item == null || item.getType() != Material.DIAMOND_SWORD) {
-            return;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName() || !meta.getDisplayName().equals("§b§l다이아 검")) {
+        if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
             return;
         }
         
@@ -185,7 +163,7 @@ public class SwordsmanHandler implements Listener {
         event.setCancelled(true);
         
         // Raycast to find target
-        LivingEntity target = raycastForTarget(player);
+        LivingEntity target = targetFinder.rayTarget(player, RAYCAST_RANGE, 0.5, null);
         
         if (target == null) {
             player.sendMessage("§c대상을 찾을 수 없습니다!");
@@ -194,19 +172,10 @@ public class SwordsmanHandler implements Listener {
         
         // Check if target is a teammate in team mode (not practice mode)
         if (target instanceof Player) {
-            Player targetPlayer = (Player) target;
-            
-            // Get TeamManager from plugin
-            com.verminpvp.VerminPVP pluginInstance = (com.verminpvp.VerminPVP) plugin;
-            com.verminpvp.managers.TeamManager teamManager = pluginInstance.getTeamManager();
-            
             // In team mode (not practice mode), check if target is on same team
-            if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && 
-                !gameManager.isInPracticeMode(player)) {
-                if (teamManager.areSameTeam(player, targetPlayer)) {
-                    player.sendMessage("§c아군을 공격할 수 없습니다!");
-                    return;
-                }
+            if (!gameManager.isHostile(player, (Player) target)) {
+                player.sendMessage("§c아군을 공격할 수 없습니다!");
+                return;
             }
         }
         
@@ -242,15 +211,7 @@ public class SwordsmanHandler implements Listener {
      */
     private void grantNetheriteSword(Player player) {
         // Check if player already has a Netherite Sword
-        int netheriteCount = 0;
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item != null && item.getType() == Material.NETHERITE_SWORD) {
-                ItemMeta meta = item.getItemMeta();
-                if (meta != null && meta.hasDisplayName() && meta.getDisplayName().equals("§5§l네더라이트 검")) {
-                    netheriteCount++;
-                }
-            }
-        }
+        int netheriteCount = itemIndex.count(player, "netherite_sword_ultimate");
         
         // If player already has 1 or more, don't give another
         if (netheriteCount >= 1) {
@@ -271,39 +232,34 @@ public class SwordsmanHandler implements Listener {
                 "§7피해량: 4 (2칸)",
                 "§c내구도: 1회 사용"
             ));
+            itemProvider.setItemId(meta, ClassType.SWORDSMAN, "netherite_sword_ultimate");
             // Set max durability to 1 by setting damage to max-1
             netheriteSword.setDurability((short) (netheriteSword.getType().getMaxDurability() - 1));
             netheriteSword.setItemMeta(meta);
         }
-        player.getInventory().addItem(netheriteSword);
+        itemIndex.give(player, netheriteSword);
         
         player.sendMessage("§5§l궁극기 해금! 네더라이트 검 획득!");
         player.playSound(player.getLocation(), "entity.player.levelup", 1.0f, 1.0f);
     }
     
     /**
-     * Handles Netherite Sword ultimate attack
+     * Handles Netherite Sword ultimate attack (damage modifier step)
      */
-    @EventHandler
-    public void onNetheriteSwordAttack(EntityDamageByEntityEvent event) {
-        if (!(event.getDamager() instanceof Player)) {
+    public void onNetheriteSwordAttack(DamagePipeline.Context context) {
+        if (!context.isMelee()) {
             return;
         }
         
-        Player attacker = (Player) event.getDamager();
-        ClassData data = classManager.getClassData(attacker);
-        
-        if (data == null || data.getClassType() != ClassType.SWORDSMAN) {
-            return;
-        }
+        Player attacker = context.getAttacker();
         
         // Only work in game or practice mode
-        if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(attacker)) {
+        if (!gameManager.isGameActive(attacker) && !gameManager.isInPracticeMode(attacker)) {
             return;
         }
         
-        ItemStack weapon = attacker.getInventory().getItemInMainHand();
-        if (weapon == null || weapon.getType() != Material.NETHERITE_SWORD) {
+        ItemStack weapon = context.getWeapon();
+        if (weapon.getType() != Material.NETHERITE_SWORD) {
             return;
         }
         
@@ -313,45 +269,24 @@ public class SwordsmanHandler implements Listener {
         }
         
         // Apply ultimate damage: 4 base + 16 instant (8 hearts instant)
-        event.setDamage(4.0); // Base damage (respects armor) - 2 hearts
+        context.getEvent().setDamage(4.0); // Base damage (respects armor) - 2 hearts
         
-        if (event.getEntity() instanceof LivingEntity) {
-            LivingEntity target = (LivingEntity) event.getEntity();
+        LivingEntity target = context.getLivingVictim();
+        if (target != null) {
             damageHandler.applyInstantDamage(target, 16.0); // Instant damage (bypasses armor) - 8 hearts
         }
         
         // Remove the sword after use (durability 1)
         weapon.setAmount(0);
+        itemIndex.invalidate(attacker);
         
         attacker.sendMessage("§5§l궁극기 공격!");
     }
     
-    /**
-     * Raycasts forward to find a target entity
-     */
-    private LivingEntity raycastForTarget(Player player) {
-        Location eyeLocation = player.getEyeLocation();
-        Vector direction = eyeLocation.getDirection();
-        
-        // Raycast for entities
-        RayTraceResult result = player.getWorld().rayTraceEntities(
-            eyeLocation,
-            direction,
-            RAYCAST_RANGE,
-            0.5,
-            entity -> entity instanceof LivingEntity && !entity.equals(player)
-        );
-        
-        if (result != null && result.getHitEntity() instanceof LivingEntity) {
-            return (LivingEntity) result.getHitEntity();
-        }
-        
-        return null;
-    }
-    
     /**
      * Cleanup player data
      */
+    @Override
     public void cleanupPlayer(Player player) {
         resourceTracker.clearResource(player.getUniqueId(), ResourceType.PRISMARINE_SHARD);
     }
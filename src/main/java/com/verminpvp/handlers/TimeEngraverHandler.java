@@ -1,13 +1,14 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatantIndex;
 import com.verminpvp.managers.CooldownManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.ProjectileRegistry;
 import com.verminpvp.models.AbilityIds;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.Team;
+import com.verminpvp.models.TimerKind;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Arrow;
@@ -19,12 +20,10 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.ProjectileHitEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.bukkit.util.Vector;
 
 import java.util.ArrayList;
@@ -41,7 +40,7 @@ import java.util.UUID;
  * - Clock Needle Stitch (시곗바늘 꿰메기): Projectile with bonus damage on slowed targets
  * - Eternal Clock (영원한 시계): Ultimate ability with world-wide CC
  */
-public class TimeEngraverHandler implements Listener {
+public class TimeEngraverHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
@@ -49,11 +48,8 @@ public class TimeEngraverHandler implements Listener {
     private final ItemProvider itemProvider;
     private final DamageHandler damageHandler;
     private final EffectApplicator effectApplicator;
-    private final TeamManager teamManager;
     private final GameManager gameManager;
-    
-    // Track projectiles
-    private final Map<UUID, UUID> needleProjectiles = new HashMap<>(); // Arrow UUID -> Player UUID
+    private final CombatantIndex combatantIndex;
     
     // Track time preserves count
     private final Map<UUID, Integer> timePreserves = new HashMap<>();
@@ -61,12 +57,6 @@ public class TimeEngraverHandler implements Listener {
     // Track entities affected by Time Engrave for delayed weakness
     private final Map<UUID, List<UUID>> engraveAffectedEntities = new HashMap<>();
     
-    // Track entities frozen by Time Engrave (position lock)
-    private final Map<UUID, Location> frozenEntities = new HashMap<>();
-    
-    // Track eternal clock active state
-    private final Map<UUID, Long> eternalClockActive = new HashMap<>();
-    
     // Track frozen projectiles
     private final List<UUID> frozenProjectiles = new ArrayList<>();
     
@@ -75,6 +65,7 @@ public class TimeEngraverHandler implements Listener {
     private static final int CLOCK_NEEDLE_COOLDOWN = 12; // seconds
     private static final int CLOCK_NEEDLE_COOLDOWN_DURING_ETERNAL = 1; // seconds during eternal clock
     private static final double TIME_ENGRAVE_RANGE = 8.0; // blocks
+    private static final long TIME_ENGRAVE_FREEZE_TICKS = 40L; // 2 seconds
     private static final double NEEDLE_DAMAGE = 3.0; // damage
     private static final double NEEDLE_BONUS_DAMAGE = 4.0; // bonus damage on slowed targets
     private static final int TIME_PRESERVES_FOR_ETERNAL = 7;
@@ -82,47 +73,21 @@ public class TimeEngraverHandler implements Listener {
     
     public TimeEngraverHandler(Plugin plugin, ClassManager classManager, CooldownManager cooldownManager,
                               ItemProvider itemProvider, DamageHandler damageHandler, EffectApplicator effectApplicator,
-                              TeamManager teamManager, GameManager gameManager) {
+                              GameManager gameManager, CombatantIndex combatantIndex) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.cooldownManager = cooldownManager;
         this.itemProvider = itemProvider;
         this.damageHandler = damageHandler;
         this.effectApplicator = effectApplicator;
-        this.teamManager = teamManager;
         this.gameManager = gameManager;
-    }
-    
-    /**
-     * Enforce position lock for frozen entities (players)
-     */
-    @EventHandler
-    public void onPlayerMove(PlayerMoveEvent event) {
-        Player player = event.getPlayer();
-        
-        // Only enforce freeze if game is active
-        if (!gameManager.isGameActive()) {
-            return;
-        }
-        
-        Location frozenLoc = frozenEntities.get(player.getUniqueId());
-        if (frozenLoc != null) {
-            // Check if player moved from frozen position
-            Location from = event.getFrom();
-            Location to = event.getTo();
-            
-            if (to != null && (from.getX() != to.getX() || from.getY() != to.getY() || from.getZ() != to.getZ())) {
-                // Teleport player back to frozen position
-                event.setTo(frozenLoc);
-            }
-        }
+        this.combatantIndex = combatantIndex;
     }
     
     /**
      * Handle player interactions (right-click for abilities)
      */
-    @EventHandler
-    public void onPlayerInteract(PlayerInteractEvent event) {
+    public void onPlayerInteract(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         
         if (classManager.getPlayerClass(player) != ClassType.TIME_ENGRAVER) {
@@ -130,14 +95,6 @@ public class TimeEngraverHandler implements Listener {
         }
         
         ItemStack item = event.getItem();
-        if (item == null) {
-            return;
-        }
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null) {
-            return;
-        }
         
         if (itemId.equals("time_engrave")) {
             event.setCancelled(true);
@@ -167,34 +124,19 @@ public class TimeEngraverHandler implements Listener {
         int affectedCount = 0;
         
         // Find all entities within range
-        for (Entity entity : player.getNearbyEntities(TIME_ENGRAVE_RANGE, TIME_ENGRAVE_RANGE, TIME_ENGRAVE_RANGE)) {
-            if (!(entity instanceof LivingEntity) || entity == player) {
-                continue;
-            }
-            
-            LivingEntity target = (LivingEntity) entity;
-            
-            // Check team restrictions (only in team mode, not in practice mode)
-            if (target instanceof Player) {
-                Player targetPlayer = (Player) target;
-                
-                // In team mode (not practice), skip same team
-                // But allow affecting teammates in practice mode or solo mode
-                if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                    Team playerTeam = teamManager.getPlayerTeam(player);
-                    Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                    if (playerTeam != null && playerTeam == targetTeam) {
-                        continue; // Skip same team in team mode
-                    }
-                }
+        for (LivingEntity target : combatantIndex.getNearbyInBox(player, TIME_ENGRAVE_RANGE, TIME_ENGRAVE_RANGE, TIME_ENGRAVE_RANGE)) {
+
+            // In team mode (not practice), skip same team
+            // But allow affecting teammates in practice mode or solo mode
+            if (target instanceof Player && !gameManager.isHostile(player, (Player) target)) {
+                continue; // Skip same team in team mode
             }
             
             // Apply Slowness V for 2 seconds (buffed from 1 second)
             target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 40, 4, false, true, true));
             
-            // Freeze position (complete position lock like Navigator's wave riding)
-            Location frozenLoc = target.getLocation().clone();
-            frozenEntities.put(target.getUniqueId(), frozenLoc);
+            // Freeze position (complete position lock)
+            gameManager.getCrowdControl().freeze(target, TIME_ENGRAVE_FREEZE_TICKS);
             
             affectedEntities.add(target.getUniqueId());
             affectedCount++;
@@ -205,24 +147,19 @@ public class TimeEngraverHandler implements Listener {
             engraveAffectedEntities.put(player.getUniqueId(), affectedEntities);
             
             // Schedule weakness application after 2 seconds (changed from 1 second)
-            new BukkitRunnable() {
-                @Override
-                public void run() {
-                    List<UUID> entities = engraveAffectedEntities.remove(player.getUniqueId());
-                    if (entities != null) {
-                        for (UUID entityId : entities) {
-                            Entity entity = Bukkit.getEntity(entityId);
-                            if (entity instanceof LivingEntity) {
-                                LivingEntity target = (LivingEntity) entity;
-                                // Apply Weakness I for 1.5 seconds
-                                target.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 30, 0, false, true, true));
-                            }
-                            // Unfreeze entity
-                            frozenEntities.remove(entityId);
+            gameManager.getCombatTicker().later(player.getUniqueId(), 40L, () -> {
+                List<UUID> entities = engraveAffectedEntities.remove(player.getUniqueId());
+                if (entities != null) {
+                    for (UUID entityId : entities) {
+                        Entity entity = Bukkit.getEntity(entityId);
+                        if (entity instanceof LivingEntity) {
+                            LivingEntity target = (LivingEntity) entity;
+                            // Apply Weakness I for 1.5 seconds
+                            target.addPotionEffect(new PotionEffect(PotionEffectType.WEAKNESS, 30, 0, false, true, true));
                         }
                     }
                 }
-            }.runTaskLater(plugin, 40L); // 2 second delay (changed from 20L)
+            });
         }
         
         // Add time preserves
@@ -249,8 +186,7 @@ public class TimeEngraverHandler implements Listener {
      */
     private void handleClockNeedleStitch(Player player) {
         // Check if eternal clock is active for reduced cooldown
-        Long eternalEnd = eternalClockActive.get(player.getUniqueId());
-        boolean duringEternal = eternalEnd != null && System.currentTimeMillis() < eternalEnd;
+        boolean duringEternal = cooldownManager.isActive(player.getUniqueId(), TimerKind.BUFF_EXPIRY, AbilityIds.ETERNAL_CLOCK);
         
         int cooldown = duringEternal ? CLOCK_NEEDLE_COOLDOWN_DURING_ETERNAL : CLOCK_NEEDLE_COOLDOWN;
         
@@ -270,7 +206,7 @@ public class TimeEngraverHandler implements Listener {
         arrow.setDamage(0.0); // Remove arrow damage
         
         // Track projectile
-        needleProjectiles.put(arrow.getUniqueId(), player.getUniqueId());
+        gameManager.getProjectileRegistry().track(arrow, player, AbilityIds.CLOCK_NEEDLE_STITCH, ProjectileRegistry.DEFAULT_TTL_TICKS);
         
         // Set cooldown
         cooldownManager.setCooldown(player.getUniqueId(), AbilityIds.CLOCK_NEEDLE_STITCH, cooldown);
@@ -282,103 +218,47 @@ public class TimeEngraverHandler implements Listener {
      * Handle Eternal Clock ability (영원한 시계)
      */
     private void handleEternalClock(Player player, ItemStack item) {
-        // Apply effects to all entities in the world
+        // Apply effects to every tracked combatant (players including teammates, and mobs)
         int affectedCount = 0;
         
-        // Affect all players (including teammates)
-        for (Player worldPlayer : Bukkit.getOnlinePlayers()) {
-            if (worldPlayer == player) {
+        for (LivingEntity target : combatantIndex.getAllTracked()) {
+            if (target == player) {
                 continue;
             }
             
             // Apply effects: Slowness V, Darkness, Blindness for 8 seconds
-            worldPlayer.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 160, 4, false, true, true));
-            worldPlayer.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 160, 0, false, true, true));
-            worldPlayer.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 160, 0, false, true, true));
+            target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 160, 4, false, true, true));
+            target.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 160, 0, false, true, true));
+            target.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 160, 0, false, true, true));
             
             // Freeze position (complete position lock like Time Engrave)
-            Location frozenLoc = worldPlayer.getLocation().clone();
-            frozenEntities.put(worldPlayer.getUniqueId(), frozenLoc);
+            gameManager.getCrowdControl().freeze(target, ETERNAL_CLOCK_DURATION * CooldownManager.TICKS_PER_SECOND);
             
             affectedCount++;
         }
         
-        // Affect all living entities (mobs, animals, etc.)
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof LivingEntity && !(entity instanceof Player)) {
-                    LivingEntity livingEntity = (LivingEntity) entity;
-                    
-                    // Apply effects: Slowness V, Darkness, Blindness for 8 seconds
-                    livingEntity.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 160, 4, false, true, true));
-                    livingEntity.addPotionEffect(new PotionEffect(PotionEffectType.DARKNESS, 160, 0, false, true, true));
-                    livingEntity.addPotionEffect(new PotionEffect(PotionEffectType.BLINDNESS, 160, 0, false, true, true));
-                    
-                    // Freeze position for mobs too
-                    frozenEntities.put(livingEntity.getUniqueId(), livingEntity.getLocation().clone());
-                    
-                    affectedCount++;
-                }
+        // Freeze all projectiles in the caster's world
+        for (Projectile projectile : player.getWorld().getEntitiesByClass(Projectile.class)) {
+            if (projectile instanceof org.bukkit.entity.FishHook) {
+                continue;
             }
-        }
-        
-        // Freeze all projectiles in the world
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof Projectile && !(entity instanceof org.bukkit.entity.FishHook)) {
-                    Projectile projectile = (Projectile) entity;
-                    // Don't freeze player's own projectiles
-                    if (projectile.getShooter() != player) {
-                        projectile.setVelocity(new Vector(0, 0, 0));
-                        projectile.setGravity(false);
-                        frozenProjectiles.add(projectile.getUniqueId());
-                    }
-                }
+            // Don't freeze player's own projectiles
+            if (projectile.getShooter() != player) {
+                projectile.setVelocity(new Vector(0, 0, 0));
+                projectile.setGravity(false);
+                frozenProjectiles.add(projectile.getUniqueId());
             }
         }
         
         // Mark eternal clock as active
-        eternalClockActive.put(player.getUniqueId(), System.currentTimeMillis() + (ETERNAL_CLOCK_DURATION * 1000L));
+        cooldownManager.setTimer(player.getUniqueId(), TimerKind.BUFF_EXPIRY, AbilityIds.ETERNAL_CLOCK,
+            ETERNAL_CLOCK_DURATION * CooldownManager.TICKS_PER_SECOND);
         
-        // Store list of frozen entities for this eternal clock
-        List<UUID> eternalClockFrozenEntities = new ArrayList<>();
-        for (Player worldPlayer : Bukkit.getOnlinePlayers()) {
-            if (worldPlayer != player) {
-                eternalClockFrozenEntities.add(worldPlayer.getUniqueId());
-            }
-        }
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
-            for (Entity entity : world.getEntities()) {
-                if (entity instanceof LivingEntity && !(entity instanceof Player)) {
-                    eternalClockFrozenEntities.add(entity.getUniqueId());
-                }
-            }
-        }
-        
-        // Schedule unfreezing after 8 seconds
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                // Unfreeze projectiles
-                for (UUID projectileId : frozenProjectiles) {
-                    Entity entity = Bukkit.getEntity(projectileId);
-                    if (entity instanceof Projectile) {
-                        Projectile projectile = (Projectile) entity;
-                        projectile.setGravity(true);
-                        // Remove the projectile as it's been frozen too long
-                        projectile.remove();
-                    }
-                }
-                frozenProjectiles.clear();
-                
-                // Unfreeze all entities affected by eternal clock
-                for (UUID entityId : eternalClockFrozenEntities) {
-                    frozenEntities.remove(entityId);
-                }
-                
-                eternalClockActive.remove(player.getUniqueId());
-            }
-        }.runTaskLater(plugin, 160L); // 8 seconds
+        // Schedule unfreezing after 8 seconds (match-wide: the projectiles are not the player's)
+        gameManager.getCombatTicker().later(null, 160L, () -> {
+            releaseFrozenProjectiles();
+            cooldownManager.clearTimer(player.getUniqueId(), TimerKind.BUFF_EXPIRY, AbilityIds.ETERNAL_CLOCK);
+        });
         
         // Remove eternal clock item
         item.setAmount(item.getAmount() - 1);
@@ -395,7 +275,7 @@ public class TimeEngraverHandler implements Listener {
         if (!(event.getHitEntity() instanceof LivingEntity)) return;
         
         Arrow arrow = (Arrow) event.getEntity();
-        UUID shooterId = needleProjectiles.remove(arrow.getUniqueId());
+        UUID shooterId = gameManager.getProjectileRegistry().release(arrow, AbilityIds.CLOCK_NEEDLE_STITCH);
         if (shooterId == null) return;
         
         Player shooter = Bukkit.getPlayer(shooterId);
@@ -404,17 +284,9 @@ public class TimeEngraverHandler implements Listener {
         LivingEntity target = (LivingEntity) event.getHitEntity();
         
         // Check team restrictions
-        if (target instanceof Player) {
-            Player targetPlayer = (Player) target;
-            
-            if (gameManager.getGameMode() == com.verminpvp.models.GameMode.TEAM && !gameManager.isInPracticeMode(shooter)) {
-                Team shooterTeam = teamManager.getPlayerTeam(shooter);
-                Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                if (shooterTeam != null && shooterTeam == targetTeam) {
-                    arrow.remove();
-                    return;
-                }
-            }
+        if (target instanceof Player && !gameManager.isHostile(shooter, (Player) target)) {
+            arrow.remove();
+            return;
         }
         
         // Check if target has slowness effect (구속 효과)
@@ -448,23 +320,39 @@ public class TimeEngraverHandler implements Listener {
     /**
      * Cleanup all Time Engraver data
      */
+    @Override
     public void cleanupAll() {
-        needleProjectiles.clear();
         timePreserves.clear();
         engraveAffectedEntities.clear();
-        eternalClockActive.clear();
+        // The scheduled release was cancelled with the combat ticker
+        releaseFrozenProjectiles();
+    }
+    
+    /**
+     * Remove the projectiles frozen by Eternal Clock
+     */
+    private void releaseFrozenProjectiles() {
+        for (UUID projectileId : frozenProjectiles) {
+            Entity entity = Bukkit.getEntity(projectileId);
+            if (entity instanceof Projectile) {
+                Projectile projectile = (Projectile) entity;
+                projectile.setGravity(true);
+                // Remove the projectile as it's been frozen too long
+                projectile.remove();
+            }
+        }
         frozenProjectiles.clear();
-        frozenEntities.clear();
     }
     
     /**
      * Cleanup Time Engraver data for a specific player
      */
+    @Override
     public void cleanupPlayer(Player player) {
         UUID playerId = player.getUniqueId();
         timePreserves.remove(playerId);
         engraveAffectedEntities.remove(playerId);
-        eternalClockActive.remove(playerId);
-        frozenEntities.remove(playerId);
+        cooldownManager.clearTimer(playerId, TimerKind.BUFF_EXPIRY, AbilityIds.ETERNAL_CLOCK);
+        gameManager.getCrowdControl().release(playerId);
     }
 }
@@ -1,6 +1,7 @@
 package com.verminpvp.handlers;
 
 import com.verminpvp.managers.ClassManager;
+import com.verminpvp.managers.CombatTicker;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
@@ -16,7 +17,6 @@ import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -29,7 +29,7 @@ import java.util.UUID;
  * On revive: Take 1 instant damage (0.5 hearts) every 0.5 seconds until death
  * On revive: Gain Speed I, Strength II, Resistance V until death
  */
-public class UndeadHandler implements Listener {
+public class UndeadHandler implements Listener, ClassHandler {
     
     private final Plugin plugin;
     private final ClassManager classManager;
@@ -40,7 +40,7 @@ public class UndeadHandler implements Listener {
     private final Map<UUID, Boolean> hasRevived = new HashMap<>();
     
     // Track damage tasks
-    private final Map<UUID, BukkitTask> damageTasks = new HashMap<>();
+    private final Map<UUID, CombatTicker.TickTask> damageTasks = new HashMap<>();
     
     // Track revival time (to give grace period before damage starts)
     private final Map<UUID, Long> revivalTime = new HashMap<>();
@@ -56,6 +56,7 @@ public class UndeadHandler implements Listener {
     /**
      * Initialize player - set revive status to false
      */
+    @Override
     public void initializePlayer(Player player) {
         hasRevived.put(player.getUniqueId(), false);
     }
@@ -81,7 +82,7 @@ public class UndeadHandler implements Listener {
         
         // Only work in game or practice mode
         boolean inPracticeMode = gameManager.isInPracticeMode(player);
-        if (!gameManager.isGameActive() && !inPracticeMode) {
+        if (!gameManager.isGameActive(player) && !inPracticeMode) {
             return;
         }
         
@@ -94,7 +95,7 @@ public class UndeadHandler implements Listener {
         boolean alreadyRevived = hasRevived.getOrDefault(player.getUniqueId(), false);
         if (alreadyRevived) {
             // Second death - stop damage task to prevent death loop
-            BukkitTask task = damageTasks.remove(player.getUniqueId());
+            CombatTicker.TickTask task = damageTasks.remove(player.getUniqueId());
             if (task != null) {
                 task.cancel();
             }
@@ -178,15 +179,15 @@ public class UndeadHandler implements Listener {
      */
     private void startDamageTask(Player player) {
         // Cancel existing task if any
-        BukkitTask existingTask = damageTasks.remove(player.getUniqueId());
+        CombatTicker.TickTask existingTask = damageTasks.remove(player.getUniqueId());
         if (existingTask != null) {
             existingTask.cancel();
         }
         
         // Start new damage task (1 damage every 0.25 seconds)
-        BukkitTask task = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+        CombatTicker.TickTask task = gameManager.getCombatTicker().schedule(player.getUniqueId(), () -> {
             if (!player.isOnline()) {
-                BukkitTask t = damageTasks.remove(player.getUniqueId());
+                CombatTicker.TickTask t = damageTasks.remove(player.getUniqueId());
                 if (t != null) {
                     t.cancel();
                 }
@@ -195,7 +196,7 @@ public class UndeadHandler implements Listener {
             
             // Check if player is dead or in spectator mode - stop task
             if (player.isDead() || player.getGameMode() == org.bukkit.GameMode.SPECTATOR) {
-                BukkitTask t = damageTasks.remove(player.getUniqueId());
+                CombatTicker.TickTask t = damageTasks.remove(player.getUniqueId());
                 if (t != null) {
                     t.cancel();
                 }
@@ -203,8 +204,8 @@ public class UndeadHandler implements Listener {
             }
             
             // Check if still in game/practice mode
-            if (!gameManager.isGameActive() && !gameManager.isInPracticeMode(player)) {
-                BukkitTask t = damageTasks.remove(player.getUniqueId());
+            if (!gameManager.isGameActive(player) && !gameManager.isInPracticeMode(player)) {
+                CombatTicker.TickTask t = damageTasks.remove(player.getUniqueId());
                 if (t != null) {
                     t.cancel();
                 }
@@ -214,7 +215,7 @@ public class UndeadHandler implements Listener {
             // Check if player is still Undead class
             ClassData data = classManager.getClassData(player);
             if (data == null || data.getClassType() != ClassType.UNDEAD) {
-                BukkitTask t = damageTasks.remove(player.getUniqueId());
+                CombatTicker.TickTask t = damageTasks.remove(player.getUniqueId());
                 if (t != null) {
                     t.cancel();
                 }
@@ -224,7 +225,7 @@ public class UndeadHandler implements Listener {
             // Check if player has revived
             boolean revived = hasRevived.getOrDefault(player.getUniqueId(), false);
             if (!revived) {
-                BukkitTask t = damageTasks.remove(player.getUniqueId());
+                CombatTicker.TickTask t = damageTasks.remove(player.getUniqueId());
                 if (t != null) {
                     t.cancel();
                 }
@@ -255,11 +256,12 @@ public class UndeadHandler implements Listener {
     /**
      * Cleanup player data
      */
+    @Override
     public void cleanupPlayer(Player player) {
         hasRevived.remove(player.getUniqueId());
         revivalTime.remove(player.getUniqueId());
         
-        BukkitTask task = damageTasks.remove(player.getUniqueId());
+        CombatTicker.TickTask task = damageTasks.remove(player.getUniqueId());
         if (task != null) {
             task.cancel();
         }
@@ -273,11 +275,12 @@ public class UndeadHandler implements Listener {
     /**
      * Cleanup all data
      */
+    @Override
     public void cleanupAll() {
         hasRevived.clear();
         revivalTime.clear();
         
-        for (BukkitTask task : damageTasks.values()) {
+        for (CombatTicker.TickTask task : damageTasks.values()) {
             if (task != null) {
                 task.cancel();
             }
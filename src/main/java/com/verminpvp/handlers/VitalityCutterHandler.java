@@ -4,18 +4,12 @@ import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.ClassManager;
 import com.verminpvp.managers.GameManager;
 import com.verminpvp.managers.ItemProvider;
-import com.verminpvp.managers.TeamManager;
+import com.verminpvp.managers.TargetFinder;
 import com.verminpvp.models.ClassType;
-import com.verminpvp.models.GameMode;
-import com.verminpvp.models.Team;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.ItemStack;
 
 /**
  * Handler for Vitality Cutter class abilities
@@ -32,56 +26,40 @@ import org.bukkit.inventory.ItemStack;
  * - Right-click: Deal 2 instant damage (1 heart) to target within 5 blocks
  * - Consumes item after use
  */
-public class VitalityCutterHandler implements Listener {
+public class VitalityCutterHandler implements Listener, ClassHandler {
     
     private final VerminPVP plugin;
     private final ClassManager classManager;
     private final DamageHandler damageHandler;
     private final GameManager gameManager;
-    private final TeamManager teamManager;
     private final ItemProvider itemProvider;
+    private final TargetFinder targetFinder;
     
     public VitalityCutterHandler(VerminPVP plugin, ClassManager classManager, 
                                   DamageHandler damageHandler, GameManager gameManager,
-                                  TeamManager teamManager, ItemProvider itemProvider) {
+                                  ItemProvider itemProvider, TargetFinder targetFinder) {
         this.plugin = plugin;
         this.classManager = classManager;
         this.damageHandler = damageHandler;
         this.gameManager = gameManager;
-        this.teamManager = teamManager;
         this.itemProvider = itemProvider;
+        this.targetFinder = targetFinder;
     }
     
     /**
-     * Handle Vitality Cutter passive on attack
+     * Handle Vitality Cutter passive on attack (damage modifier step)
+     * Hits on teammates never get here, the team kill gate cancels them first
      */
-    @EventHandler
-    public void onAttack(EntityDamageByEntityEvent event) {
-        if (event.isCancelled()) return;
-        if (!(event.getDamager() instanceof Player)) return;
-        if (!(event.getEntity() instanceof org.bukkit.entity.LivingEntity)) return;
+    public void onAttack(DamagePipeline.Context context) {
+        if (!context.isMelee()) return;
         
-        Player attacker = (Player) event.getDamager();
-        if (classManager.getPlayerClass(attacker) != ClassType.VITALITY_CUTTER) return;
+        org.bukkit.entity.LivingEntity target = context.getLivingVictim();
+        if (target == null) return;
         
-        org.bukkit.entity.LivingEntity target = (org.bukkit.entity.LivingEntity) event.getEntity();
-        
-        // Check if target is a teammate in team mode (not practice mode)
-        if (target instanceof Player) {
-            Player targetPlayer = (Player) target;
-            
-            if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(attacker)) {
-                Team attackerTeam = teamManager.getPlayerTeam(attacker);
-                Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                
-                if (attackerTeam != null && attackerTeam == targetTeam) {
-                    return; // Don't apply passive to teammates
-                }
-            }
-        }
+        Player attacker = context.getAttacker();
         
         // Modify base damage to 0 (prevent killing with left-click)
-        event.setDamage(0.0);
+        context.getEvent().setDamage(0.0);
         
         // Calculate 1/6 of target's current health
         double currentHealth = target.getHealth();
@@ -104,48 +82,15 @@ public class VitalityCutterHandler implements Listener {
     /**
      * Handle Life Cut ability (right-click)
      */
-    @EventHandler
-    public void onRightClick(PlayerInteractEvent event) {
+    public void onRightClick(PlayerInteractEvent event, String itemId) {
         Player player = event.getPlayer();
         if (classManager.getPlayerClass(player) != ClassType.VITALITY_CUTTER) return;
         
-        ItemStack item = event.getItem();
-        if (item == null) return;
-        
-        String itemId = itemProvider.getItemId(item);
-        if (itemId == null || !itemId.equals("life_cut")) return;
-        
         event.setCancelled(true);
         
-        // Find nearest entity within 5 blocks
-        LivingEntity target = null;
-        double minDistance = 5.0;
-        
-        for (Entity entity : player.getNearbyEntities(5.0, 5.0, 5.0)) {
-            if (!(entity instanceof LivingEntity) || entity == player) continue;
-            
-            LivingEntity livingEntity = (LivingEntity) entity;
-            
-            // Check if target is a teammate in team mode (not practice mode)
-            if (livingEntity instanceof Player) {
-                Player targetPlayer = (Player) livingEntity;
-                
-                if (gameManager.getGameMode() == GameMode.TEAM && !gameManager.isInPracticeMode(player)) {
-                    Team playerTeam = teamManager.getPlayerTeam(player);
-                    Team targetTeam = teamManager.getPlayerTeam(targetPlayer);
-                    
-                    if (playerTeam != null && playerTeam == targetTeam) {
-                        continue; // Skip teammates
-                    }
-                }
-            }
-            
-            double distance = player.getLocation().distance(livingEntity.getLocation());
-            if (distance < minDistance) {
-                minDistance = distance;
-                target = livingEntity;
-            }
-        }
+        // Find nearest entity within 5 blocks in any direction, skipping teammates in team mode
+        LivingEntity target = targetFinder.coneTarget(player, 5.0, 180.0,
+            entity -> !(entity instanceof Player) || gameManager.isHostile(player, (Player) entity));
         
         if (target == null) {
             player.sendMessage("§c범위 내에 적이 없습니다!");
@@ -2,13 +2,11 @@ package com.verminpvp.handlers;
 
 import com.verminpvp.managers.GameManager;
 import org.bukkit.entity.Player;
-import org.bukkit.entity.Projectile;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.PotionSplashEvent;
@@ -29,35 +27,21 @@ public class WorldProtectionHandler implements Listener {
      * Prevent all PvP damage before game starts (lobby protection)
      * This includes direct attacks, projectiles, and splash potions
      */
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onPlayerDamage(EntityDamageByEntityEvent event) {
+    public void onPlayerDamage(DamagePipeline.Context context) {
         // Only protect players
-        if (!(event.getEntity() instanceof Player)) {
+        Player victim = context.getVictimPlayer();
+        if (victim == null) {
             return;
         }
         
-        // Only block damage when game is NOT active (lobby protection)
-        if (gameManager.isGameActive()) {
+        // Only block damage when the victim's match is NOT active (lobby protection)
+        if (gameManager.isGameActive(victim)) {
             return;
         }
         
-        Player victim = (Player) event.getEntity();
-        
-        // Check if damage is from another player (direct or projectile)
-        Player attacker = null;
-        
-        if (event.getDamager() instanceof Player) {
-            attacker = (Player) event.getDamager();
-        } else if (event.getDamager() instanceof Projectile) {
-            Projectile projectile = (Projectile) event.getDamager();
-            if (projectile.getShooter() instanceof Player) {
-                attacker = (Player) projectile.getShooter();
-            }
-        }
-        
-        // If attacker is a player, cancel the damage (lobby protection)
-        if (attacker != null) {
-            event.setCancelled(true);
+        // If attacker is a player (direct or projectile), cancel the damage (lobby protection)
+        if (context.getAttacker() != null) {
+            context.getEvent().setCancelled(true);
         }
     }
     
@@ -66,11 +50,6 @@ public class WorldProtectionHandler implements Listener {
      */
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPotionSplash(PotionSplashEvent event) {
-        // Only block when game is NOT active (lobby protection)
-        if (gameManager.isGameActive()) {
-            return;
-        }
-        
         // Check if thrower is a player
         if (!(event.getPotion().getShooter() instanceof Player)) {
             return;
@@ -78,6 +57,11 @@ public class WorldProtectionHandler implements Listener {
         
         Player thrower = (Player) event.getPotion().getShooter();
         
+        // Only block when the thrower's match is NOT active (lobby protection)
+        if (gameManager.isGameActive(thrower)) {
+            return;
+        }
+        
         // Remove all affected players except the thrower (allow self-application)
         event.getAffectedEntities().removeIf(entity -> 
             entity instanceof Player && !entity.equals(thrower)
@@ -89,7 +73,7 @@ public class WorldProtectionHandler implements Listener {
      */
     @EventHandler
     public void onBlockBreak(BlockBreakEvent event) {
-        if (gameManager.isGameActive()) {
+        if (gameManager.isGameActive(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
@@ -99,7 +83,7 @@ public class WorldProtectionHandler implements Listener {
      */
     @EventHandler
     public void onBlockPlace(BlockPlaceEvent event) {
-        if (gameManager.isGameActive()) {
+        if (gameManager.isGameActive(event.getPlayer())) {
             event.setCancelled(true);
         }
     }
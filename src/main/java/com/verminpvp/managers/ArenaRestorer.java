@@ -0,0 +1,444 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFertilizeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockMultiPlaceEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.block.SpongeAbsorbEvent;
+import org.bukkit.event.block.TNTPrimeEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.bukkit.event.player.PlayerBucketFillEvent;
+import org.bukkit.event.world.StructureGrowEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Native arena reset from a journal of changed blocks
+ * 
+ * While a match uses a map, the original state of every block that changes around
+ * its spawns (breaks, placements, explosions, fire, liquids, pistons, growth, ...)
+ * is captured the first time it changes. After the match the captured states are
+ * written back a limited number per tick, so a reset costs what the match changed
+ * instead of a whole world regeneration. Changes elsewhere in the world are left alone.
+ * 
+ * A world whose restore is still running can be used by the next match right away:
+ * blocks not yet restored keep their original state in the journal. A world whose
+ * journal outgrows the cap is handed to the full reset fallback instead.
+ */
+public class ArenaRestorer implements Listener {
+    
+    // Blocks written back per tick while restoring
+    private static final int BLOCKS_PER_TICK = 256;
+    
+    // Blocks recorded around the outermost spawns of a map (maps define no bounds)
+    static final int ARENA_MARGIN = 64;
+    
+    // Changed blocks recorded per world before falling back to a full reset
+    private static final int DEFAULT_MAX_CHANGED_BLOCKS = 100_000;
+    
+    private final Plugin plugin;
+    private final CombatTicker combatTicker;
+    private final Predicate<String> fullReset;
+    private final int maxChangedBlocks;
+    
+    // World name -> journal of the arenas tracked in it
+    private final Map<String, Journal> journals = new HashMap<>();
+    
+    // Worlds being written back, in request order
+    private final List<String> restoring = new ArrayList<>();
+    
+    private CombatTicker.TickTask driver;
+    
+    /**
+     * @param fullReset Resets a whole world when its journal overflowed; returns false if unavailable
+     */
+    public ArenaRestorer(Plugin plugin, CombatTicker combatTicker, Predicate<String> fullReset) {
+        this(plugin, combatTicker, fullReset, DEFAULT_MAX_CHANGED_BLOCKS);
+    }
+    
+    ArenaRestorer(Plugin plugin, CombatTicker combatTicker, Predicate<String> fullReset, int maxChangedBlocks) {
+        this.plugin = plugin;
+        this.combatTicker = combatTicker;
+        this.fullReset = fullReset;
+        this.maxChangedBlocks = maxChangedBlocks;
+    }
+    
+    /**
+     * Start capturing block changes around the spawns of a map a match uses
+     * 
+     * A restore still running in the world is paused; the blocks it has not written
+     * back yet stay in the journal and are restored after this match.
+     */
+    public void track(Collection<Location> spawns) {
+        Map<String, Region> regions = new HashMap<>();
+        for (Location spawn : spawns) {
+            if (spawn.getWorld() == null) {
+                continue;
+            }
+            regions.computeIfAbsent(spawn.getWorld().getName(), name -> new Region(spawn))
+                .include(spawn.getBlockX(), spawn.getBlockZ());
+        }
+        
+        for (Map.Entry<String, Region> entry : regions.entrySet()) {
+            journals.computeIfAbsent(entry.getKey(), name -> new Journal()).regions.add(entry.getValue());
+            restoring.remove(entry.getKey());
+        }
+    }
+    
+    /**
+     * Check if block changes in a world are captured
+     */
+    public boolean isTracked(String worldName) {
+        return journals.containsKey(worldName);
+    }
+    
+    /**
+     * Write a world's captured blocks back over the next ticks
+     * 
+     * Capturing continues until the restore is done, so changes made while it runs
+     * (falling blocks, flowing liquids) are restored as well. A world whose journal
+     * overflowed is reset by the full reset fallback if it is available.
+     */
+    public void restore(String worldName) {
+        Journal journal = journals.get(worldName);
+        if (journal == null || restoring.contains(worldName)) {
+            return;
+        }
+        
+        if (journal.overflowed) {
+            if (fullReset.test(worldName)) {
+                journals.remove(worldName);
+                return;
+            }
+            plugin.getLogger().warning("Arena " + worldName + " changed more than " + maxChangedBlocks
+                + " blocks; only those are restored (install Multiverse-Core for full resets)");
+        }
+        
+        restoring.add(worldName);
+        resume();
+    }
+    
+    /**
+     * Start the restore driver if restores are pending
+     */
+    private void resume() {
+        if (!restoring.isEmpty()) {
+            driver = combatTicker.ensureEveryTick(driver, this::tick);
+        }
+    }
+    
+    /**
+     * Write every captured block back immediately (called on shutdown)
+     */
+    public void restoreAllNow() {
+        for (Journal journal : journals.values()) {
+            writeBack(journal.original, Integer.MAX_VALUE);
+        }
+        journals.clear();
+        restoring.clear();
+        
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * Number of captured blocks not yet written back in a world
+     */
+    public int getChangedBlockCount(String worldName) {
+        Journal journal = journals.get(worldName);
+        return journal == null ? 0 : journal.original.size();
+    }
+    
+    /**
+     * Write back the next batch of captured blocks (runs every tick while restores are pending)
+     */
+    void tick() {
+        int budget = BLOCKS_PER_TICK;
+        Iterator<String> iterator = restoring.iterator();
+        while (iterator.hasNext() && budget > 0) {
+            String worldName = iterator.next();
+            Journal journal = journals.get(worldName);
+            budget -= writeBack(journal.original, budget);
+            if (!journal.original.isEmpty()) {
+                continue;
+            }
+            
+            iterator.remove();
+            journals.remove(worldName);
+            plugin.getLogger().info("Arena reset finished: " + worldName);
+        }
+        
+        if (restoring.isEmpty() && driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * Write back up to limit captured blocks of a journal
+     * 
+     * @return The number of blocks written back
+     */
+    private int writeBack(Map<Long, BlockState> original, int limit) {
+        int written = 0;
+        Iterator<BlockState> iterator = original.values().iterator();
+        while (iterator.hasNext() && written < limit) {
+            BlockState state = iterator.next();
+            iterator.remove();
+            // Force the type back and skip physics so liquids and gravity blocks stay put
+            state.update(true, false);
+            written++;
+        }
+        return written;
+    }
+    
+    /**
+     * Get the journal recording a block, or null if the block is outside every tracked arena
+     * (or the journal is full; it is then marked for the full reset fallback)
+     */
+    private Journal journalFor(String worldName, int x, int z) {
+        Journal journal = journals.get(worldName);
+        if (journal == null || journal.overflowed || !journal.covers(x, z)) {
+            return null;
+        }
+        if (journal.original.size() >= maxChangedBlocks) {
+            journal.overflowed = true;
+            return null;
+        }
+        return journal;
+    }
+    
+    /**
+     * Capture a block's current state if it lies in a tracked arena and was not captured yet
+     */
+    private void capture(Block block) {
+        Journal journal = journalFor(block.getWorld().getName(), block.getX(), block.getZ());
+        if (journal != null) {
+            journal.original.computeIfAbsent(key(block.getX(), block.getY(), block.getZ()), k -> block.getState());
+        }
+    }
+    
+    /**
+     * Capture a state taken before the change (placements report the replaced state)
+     */
+    private void capture(BlockState state) {
+        Journal journal = journalFor(state.getWorld().getName(), state.getX(), state.getZ());
+        if (journal != null) {
+            journal.original.putIfAbsent(key(state.getX(), state.getY(), state.getZ()), state);
+        }
+    }
+    
+    private void captureAll(List<Block> blocks) {
+        for (Block block : blocks) {
+            capture(block);
+        }
+    }
+    
+    private void captureLocations(List<BlockState> states) {
+        for (BlockState state : states) {
+            capture(state.getBlock());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(BlockBreakEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        if (event instanceof BlockMultiPlaceEvent) {
+            for (BlockState replaced : ((BlockMultiPlaceEvent) event).getReplacedBlockStates()) {
+                capture(replaced);
+            }
+        } else {
+            capture(event.getBlockReplacedState());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        capture(event.getBlock());
+        captureAll(event.blockList());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        captureAll(event.blockList());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(BlockIgniteEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(BlockFadeEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(BlockFormEvent event) {
+        // Also covers spreading (fire, grass, mushrooms) and entity-formed blocks (frost walker)
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockGrow(BlockGrowEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLeavesDecay(LeavesDecayEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onLiquidFlow(BlockFromToEvent event) {
+        capture(event.getToBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        capture(event.getBlock());
+        capture(event.getBlock().getRelative(event.getDirection()));
+        capturePushed(event.getBlocks(), event.getDirection());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        capture(event.getBlock().getRelative(event.getDirection().getOppositeFace()));
+        capturePushed(event.getBlocks(), event.getDirection());
+    }
+    
+    private void capturePushed(List<Block> blocks, BlockFace direction) {
+        for (Block block : blocks) {
+            capture(block);
+            capture(block.getRelative(direction));
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(EntityChangeBlockEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTntPrime(TNTPrimeEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(PlayerBucketEmptyEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketFill(PlayerBucketFillEvent event) {
+        capture(event.getBlock());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onStructureGrow(StructureGrowEvent event) {
+        captureLocations(event.getBlocks());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFertilize(BlockFertilizeEvent event) {
+        captureLocations(event.getBlocks());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSpongeAbsorb(SpongeAbsorbEvent event) {
+        capture(event.getBlock());
+        captureLocations(event.getBlocks());
+    }
+    
+    /**
+     * Pack block coordinates into one key (26 bits x, 26 bits z, 12 bits y)
+     */
+    static long key(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+    
+    /**
+     * Original states of the blocks changed in the arenas of one world
+     */
+    private static final class Journal {
+        private final Map<Long, BlockState> original = new LinkedHashMap<>();
+        private final List<Region> regions = new ArrayList<>(2);
+        
+        // More blocks changed than the cap allows; recording stopped
+        private boolean overflowed;
+        
+        private boolean covers(int x, int z) {
+            for (int i = 0; i < regions.size(); i++) {
+                if (regions.get(i).contains(x, z)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
+    /**
+     * Column area around the spawns of one map (all heights)
+     */
+    private static final class Region {
+        private int minX;
+        private int maxX;
+        private int minZ;
+        private int maxZ;
+        
+        private Region(Location spawn) {
+            minX = maxX = spawn.getBlockX();
+            minZ = maxZ = spawn.getBlockZ();
+        }
+        
+        private void include(int x, int z) {
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+            minZ = Math.min(minZ, z);
+            maxZ = Math.max(maxZ, z);
+        }
+        
+        private boolean contains(int x, int z) {
+            return x >= minX - ARENA_MARGIN && x <= maxX + ARENA_MARGIN
+                && z >= minZ - ARENA_MARGIN && z <= maxZ + ARENA_MARGIN;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the chunks of a match's arena loaded
+ * 
+ * The arena is the region ArenaRestorer records: the bounding box of the spawns in
+ * each world grown by ARENA_MARGIN blocks, so fights away from the spawns never
+ * load chunks mid-match either.
+ * Chunks are requested asynchronously as soon as the match's map is known (during the
+ * start countdown) and then pinned with plugin chunk tickets until the match closes,
+ * so the match start teleports land in loaded chunks instead of loading every spawn
+ * synchronously in one tick. Matches sharing a chunk share its ticket; the ticket is
+ * removed when the last of them lets go.
+ */
+public class ChunkPreloader {
+    
+    private final Plugin plugin;
+    
+    // Match -> chunks it holds
+    private final Map<String, Set<ChunkRef>> matchChunks = new HashMap<>();
+    
+    // Chunk -> number of matches holding it (a ticket exists while > 0)
+    private final Map<ChunkRef, Integer> holders = new HashMap<>();
+    
+    public ChunkPreloader(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Make a match hold exactly the arena chunks of the given spawns
+     * 
+     * Chunks the match held before but no longer needs are let go, so this can be
+     * called again once the final map is known.
+     */
+    public void hold(String matchId, Collection<Location> spawns) {
+        // World -> spawn bounds {minX, minZ, maxX, maxZ}
+        Map<World, int[]> bounds = new HashMap<>();
+        for (Location spawn : spawns) {
+            World world = spawn.getWorld();
+            if (world == null) {
+                continue;
+            }
+            int x = spawn.getBlockX();
+            int z = spawn.getBlockZ();
+            int[] box = bounds.computeIfAbsent(world, w -> new int[] {x, z, x, z});
+            box[0] = Math.min(box[0], x);
+            box[1] = Math.min(box[1], z);
+            box[2] = Math.max(box[2], x);
+            box[3] = Math.max(box[3], z);
+        }
+        
+        Set<ChunkRef> wanted = new HashSet<>();
+        for (Map.Entry<World, int[]> entry : bounds.entrySet()) {
+            int[] box = entry.getValue();
+            int minChunkX = (box[0] - ArenaRestorer.ARENA_MARGIN) >> 4;
+            int minChunkZ = (box[1] - ArenaRestorer.ARENA_MARGIN) >> 4;
+            int maxChunkX = (box[2] + ArenaRestorer.ARENA_MARGIN) >> 4;
+            int maxChunkZ = (box[3] + ArenaRestorer.ARENA_MARGIN) >> 4;
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    wanted.add(new ChunkRef(entry.getKey(), chunkX, chunkZ));
+                }
+            }
+        }
+        
+        Set<ChunkRef> held = matchChunks.getOrDefault(matchId, new HashSet<>());
+        for (ChunkRef chunk : held) {
+            if (!wanted.contains(chunk)) {
+                letGo(chunk);
+            }
+        }
+        for (ChunkRef chunk : wanted) {
+            if (!held.contains(chunk)) {
+                take(chunk);
+            }
+        }
+        
+        if (wanted.isEmpty()) {
+            matchChunks.remove(matchId);
+        } else {
+            matchChunks.put(matchId, wanted);
+        }
+    }
+    
+    /**
+     * Let go of every chunk a match holds (called when the match closes)
+     */
+    public void release(String matchId) {
+        Set<ChunkRef> held = matchChunks.remove(matchId);
+        if (held == null) {
+            return;
+        }
+        for (ChunkRef chunk : held) {
+            letGo(chunk);
+        }
+    }
+    
+    /**
+     * Number of chunks currently pinned by a ticket (or waiting to load for one)
+     */
+    public int getHeldChunkCount() {
+        return holders.size();
+    }
+    
+    private void take(ChunkRef chunk) {
+        if (holders.merge(chunk, 1, Integer::sum) > 1) {
+            return;
+        }
+        
+        // Load off the main thread, then pin it unless it was let go while loading
+        chunk.world.getChunkAtAsync(chunk.x, chunk.z).thenAccept(loaded -> {
+            if (holders.containsKey(chunk)) {
+                loaded.addPluginChunkTicket(plugin);
+            }
+        });
+    }
+    
+    private void letGo(ChunkRef chunk) {
+        Integer count = holders.get(chunk);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            holders.put(chunk, count - 1);
+            return;
+        }
+        
+        holders.remove(chunk);
+        chunk.world.removePluginChunkTicket(chunk.x, chunk.z, plugin);
+    }
+    
+    /**
+     * Chunk coordinates in a world
+     */
+    private static final class ChunkRef {
+        private final World world;
+        private final int x;
+        private final int z;
+        
+        private ChunkRef(World world, int x, int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+        
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof ChunkRef)) {
+                return false;
+            }
+            ChunkRef chunk = (ChunkRef) other;
+            return x == chunk.x && z == chunk.z && world.equals(chunk.world);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * (31 * world.hashCode() + x) + z;
+        }
+    }
+}
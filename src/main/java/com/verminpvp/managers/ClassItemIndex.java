@@ -0,0 +1,349 @@
+package com.verminpvp.managers;
+
+import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.entity.ProjectileLaunchEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player index of class items held in the inventory
+ * 
+ * Counts and slots per item type are built with one inventory scan and then kept up to
+ * date by the plugin's own give/remove calls, so "how many X does this player hold" is a
+ * map lookup. Inventory changes the index does not make itself (clicks, drags, pickups,
+ * drops, throws, consumption, death) drop the player's entry and it is rebuilt and cached
+ * on the next query. Most of those events fire before the inventory changes; the slot
+ * change that follows drops an entry rebuilt in between. The entry remembers what each
+ * slot holds, so slot changes caused by the index's own give/remove calls match it and
+ * are ignored; only slot changes that disagree with the index drop the entry.
+ */
+public class ClassItemIndex implements Listener {
+    
+    /**
+     * Class items of one player, by item type and by slot
+     */
+    private static final class Entry {
+        private final Map<Integer, Integer> counts = new HashMap<>();
+        private final int[] slotTypes;
+        private final int[] slotAmounts;
+        
+        // Amounts given through the index whose slot is not known yet, by item type
+        private final Map<Integer, Integer> unplaced = new HashMap<>();
+        
+        private Entry(int size) {
+            this.slotTypes = new int[size];
+            this.slotAmounts = new int[size];
+        }
+        
+        private void setSlot(int slot, int itemType, int amount) {
+            slotTypes[slot] = itemType;
+            slotAmounts[slot] = amount;
+        }
+        
+        private int count(int itemType) {
+            return counts.getOrDefault(itemType, 0);
+        }
+        
+        private void add(int itemType, int amount) {
+            int count = count(itemType) + amount;
+            if (count > 0) {
+                counts.put(itemType, count);
+            } else {
+                counts.remove(itemType);
+            }
+        }
+    }
+    
+    private final ItemProvider itemProvider;
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    
+    public ClassItemIndex(ItemProvider itemProvider) {
+        this.itemProvider = itemProvider;
+    }
+    
+    /**
+     * Number of items with the given ID the player holds
+     */
+    public int count(Player player, String itemId) {
+        return entry(player).count(ItemProvider.itemType(itemId));
+    }
+    
+    /**
+     * Whether the player holds at least one item with the given ID
+     */
+    public boolean has(Player player, String itemId) {
+        return count(player, itemId) > 0;
+    }
+    
+    /**
+     * Add an item to the player's inventory and index it
+     * 
+     * @return The amount that did not fit
+     */
+    public int give(Player player, ItemStack item) {
+        if (item == null) {
+            return 0;
+        }
+        
+        // addItem may change the amount of the stack passed in
+        int amount = item.getAmount();
+        int itemType = itemProvider.getItemType(item);
+        
+        int leftover = 0;
+        for (ItemStack rest : player.getInventory().addItem(item).values()) {
+            leftover += rest.getAmount();
+        }
+        
+        Entry entry = entries.get(player.getUniqueId());
+        int placed = amount - leftover;
+        if (entry != null && itemType != ItemProvider.NO_ITEM_TYPE && placed > 0) {
+            // The slot is learnt from the slot change that follows; removeOne rescans until then
+            entry.add(itemType, placed);
+            entry.unplaced.merge(itemType, placed, Integer::sum);
+        }
+        return leftover;
+    }
+    
+    /**
+     * Remove one item with the given ID from the player's inventory
+     * 
+     * @return false if the player holds no such item
+     */
+    public boolean removeOne(Player player, String itemId) {
+        int itemType = ItemProvider.itemType(itemId);
+        Entry entry = entry(player);
+        if (entry.count(itemType) == 0) {
+            return false;
+        }
+        
+        PlayerInventory inventory = player.getInventory();
+        int slot = findSlot(entry, inventory, itemType);
+        if (slot < 0) {
+            // Given since the last scan
+            entries.remove(player.getUniqueId());
+            entry = entry(player);
+            slot = findSlot(entry, inventory, itemType);
+            if (slot < 0) {
+                return false;
+            }
+        }
+        
+        ItemStack item = inventory.getItem(slot);
+        if (item.getAmount() > 1) {
+            entry.setSlot(slot, itemType, item.getAmount() - 1);
+            item.setAmount(item.getAmount() - 1);
+        } else {
+            entry.setSlot(slot, ItemProvider.NO_ITEM_TYPE, 0);
+            inventory.setItem(slot, null);
+        }
+        entry.add(itemType, -1);
+        return true;
+    }
+    
+    /**
+     * Drop the player's entry after an inventory change made outside the index
+     */
+    public void invalidate(Player player) {
+        entries.remove(player.getUniqueId());
+    }
+    
+    /**
+     * Forget a player
+     */
+    public void remove(UUID playerId) {
+        entries.remove(playerId);
+    }
+    
+    /**
+     * Forget all players
+     */
+    public void clear() {
+        entries.clear();
+    }
+    
+    /**
+     * Get the player's entry, scanning the inventory if there is none
+     */
+    private Entry entry(Player player) {
+        UUID playerId = player.getUniqueId();
+        Entry entry = entries.get(playerId);
+        if (entry != null) {
+            return entry;
+        }
+        
+        entry = scan(player.getInventory());
+        entries.put(playerId, entry);
+        return entry;
+    }
+    
+    private Entry scan(PlayerInventory inventory) {
+        ItemStack[] contents = inventory.getContents();
+        Entry entry = new Entry(contents.length);
+        for (int slot = 0; slot < contents.length; slot++) {
+            int itemType = itemProvider.getItemType(contents[slot]);
+            if (itemType != ItemProvider.NO_ITEM_TYPE) {
+                entry.add(itemType, contents[slot].getAmount());
+                entry.setSlot(slot, itemType, contents[slot].getAmount());
+            }
+        }
+        return entry;
+    }
+    
+    /**
+     * First known slot still holding the item type, or -1
+     */
+    private int findSlot(Entry entry, PlayerInventory inventory, int itemType) {
+        for (int slot = 0; slot < entry.slotTypes.length; slot++) {
+            if (entry.slotTypes[slot] != itemType) {
+                continue;
+            }
+            if (itemProvider.getItemType(inventory.getItem(slot)) == itemType) {
+                return slot;
+            }
+            entry.setSlot(slot, ItemProvider.NO_ITEM_TYPE, 0);
+        }
+        return -1;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onSlotChange(PlayerInventorySlotChangeEvent event) {
+        // Fired after the change; only slot contents the index does not expect drop the entry
+        Entry entry = entries.get(event.getPlayer().getUniqueId());
+        if (entry == null) {
+            return;
+        }
+        
+        int oldType = itemProvider.getItemType(event.getOldItemStack());
+        int newType = itemProvider.getItemType(event.getNewItemStack());
+        if (oldType == ItemProvider.NO_ITEM_TYPE && newType == ItemProvider.NO_ITEM_TYPE) {
+            return;
+        }
+        
+        int slot = event.getSlot();
+        if (slot < 0 || slot >= entry.slotTypes.length) {
+            invalidate(event.getPlayer());
+            return;
+        }
+        
+        // Removals made by the index and durability-only changes
+        int newAmount = newType != ItemProvider.NO_ITEM_TYPE ? event.getNewItemStack().getAmount() : 0;
+        if (entry.slotTypes[slot] == newType && entry.slotAmounts[slot] == newAmount) {
+            return;
+        }
+        
+        // An item given through the index landing in its slot
+        int knownType = entry.slotTypes[slot];
+        if (newType != ItemProvider.NO_ITEM_TYPE
+                && (knownType == ItemProvider.NO_ITEM_TYPE || knownType == newType)) {
+            int added = newAmount - entry.slotAmounts[slot];
+            Integer pending = entry.unplaced.get(newType);
+            if (added > 0 && pending != null && pending >= added) {
+                if (pending == added) {
+                    entry.unplaced.remove(newType);
+                } else {
+                    entry.unplaced.put(newType, pending - added);
+                }
+                entry.setSlot(slot, newType, newAmount);
+                return;
+            }
+        }
+        
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (event.getWhoClicked() instanceof Player) {
+            invalidate((Player) event.getWhoClicked());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player) {
+            invalidate((Player) event.getWhoClicked());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onInventoryClose(InventoryCloseEvent event) {
+        // Crafting grid and cursor items return to the inventory
+        if (event.getPlayer() instanceof Player) {
+            invalidate((Player) event.getPlayer());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (event.getEntity() instanceof Player) {
+            invalidate((Player) event.getEntity());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDrop(PlayerDropItemEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onConsume(PlayerItemConsumeEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onItemBreak(PlayerItemBreakEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onProjectileLaunch(ProjectileLaunchEvent event) {
+        if (event.getEntity().getShooter() instanceof Player) {
+            invalidate((Player) event.getEntity().getShooter());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(BlockPlaceEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        invalidate(event.getEntity());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        invalidate(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        remove(event.getPlayer().getUniqueId());
+    }
+}
@@ -1,10 +1,12 @@
 package com.verminpvp.managers;
 
+import com.verminpvp.handlers.ClassHandler;
 import com.verminpvp.models.ClassData;
 import com.verminpvp.models.ClassType;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -13,7 +15,7 @@ import java.util.UUID;
  * Manages player class selection, switching, and state.
  * 
  * Responsibilities:
- * - Track which class each player has selected
+ * - Track which class each player has selected (the only authority; class tags just display it)
  * - Provide starting items when a class is selected
  * - Clear items and effects when switching classes
  * - Store per-player class data (resources, cooldowns)
@@ -23,22 +25,11 @@ public class ClassManager {
     private final Map<UUID, ClassType> playerClasses;
     private final Map<UUID, ClassData> playerData;
     private ItemProvider itemProvider;
+    private ClassItemIndex classItemIndex;
     private ClassTagManager tagManager;
     private TeamManager teamManager;
     private GameManager gameManager;
-    private Object scientistHandler;
-    private Object plagueSpreaderHandler;
-    private Object shieldSoldierHandler;
-    private Object navigatorHandler;
-    private Object criticalCutterHandler;
-    private Object shapeshifterHandler;
-    private Object jugglerHandler;
-    private Object dragonFuryHandler;
-    private Object undeadHandler;
-    private Object swordsmanHandler;
-    private Object stamperHandler;
-    private Object timeEngraverHandler;
-    private Object cavalryHandler;
+    private final Map<ClassType, ClassHandler> classHandlers = new EnumMap<>(ClassType.class);
     
     public ClassManager() {
         this.playerClasses = new HashMap<>();
@@ -63,29 +54,24 @@ public class ClassManager {
     }
     
     /**
-     * Set handlers for starting schedulers
+     * Set the ClassItemIndex (called after initialization)
      */
-    public void setHandlers(Object scientistHandler, Object plagueSpreaderHandler, 
-                           Object shieldSoldierHandler, Object navigatorHandler,
-                           Object criticalCutterHandler, Object shapeshifterHandler,
-                           Object jugglerHandler, Object dragonFuryHandler,
-                           Object undeadHandler, Object swordsmanHandler,
-                           Object stamperHandler, Object timeEngraverHandler,
-                           Object cavalryHandler, Object vitalityCutterHandler,
-                           Object marathonerHandler) {
-        this.scientistHandler = scientistHandler;
-        this.plagueSpreaderHandler = plagueSpreaderHandler;
-        this.shieldSoldierHandler = shieldSoldierHandler;
-        this.navigatorHandler = navigatorHandler;
-        this.criticalCutterHandler = criticalCutterHandler;
-        this.shapeshifterHandler = shapeshifterHandler;
-        this.jugglerHandler = jugglerHandler;
-        this.dragonFuryHandler = dragonFuryHandler;
-        this.undeadHandler = undeadHandler;
-        this.swordsmanHandler = swordsmanHandler;
-        this.stamperHandler = stamperHandler;
-        this.timeEngraverHandler = timeEngraverHandler;
-        this.cavalryHandler = cavalryHandler;
+    public void setClassItemIndex(ClassItemIndex classItemIndex) {
+        this.classItemIndex = classItemIndex;
+    }
+    
+    /**
+     * Register the handler for a class (called during plugin initialization)
+     */
+    public void registerHandler(ClassType classType, ClassHandler handler) {
+        classHandlers.put(classType, handler);
+    }
+    
+    /**
+     * Get the registered handler for a class, or null if none
+     */
+    public ClassHandler getClassHandler(ClassType classType) {
+        return classType == null ? null : classHandlers.get(classType);
     }
     
     /**
@@ -103,6 +89,9 @@ public class ClassManager {
         
         // Store the class type
         playerClasses.put(playerId, classType);
+        if (gameManager != null) {
+            gameManager.getRegistry(playerId).setClass(playerId, classType);
+        }
         
         // Create or update class data
         ClassData data = playerData.get(playerId);
@@ -131,74 +120,9 @@ public class ClassManager {
      * This should be called when the game actually starts, not when classes are selected
      */
     public void startClassSchedulers(Player player, ClassType classType) {
-        try {
-            switch (classType) {
-                case SCIENTIST:
-                    if (scientistHandler != null) {
-                        scientistHandler.getClass()
-                            .getMethod("startPotionGeneration", Player.class)
-                            .invoke(scientistHandler, player);
-                    }
-                    break;
-                case PLAGUE_SPREADER:
-                    if (plagueSpreaderHandler != null) {
-                        plagueSpreaderHandler.getClass()
-                            .getMethod("startGenerationSchedulers", Player.class)
-                            .invoke(plagueSpreaderHandler, player);
-                    }
-                    break;
-                case SHIELD_SOLDIER:
-                    if (shieldSoldierHandler != null) {
-                        shieldSoldierHandler.getClass()
-                            .getMethod("startAbsorptionPassive", Player.class)
-                            .invoke(shieldSoldierHandler, player);
-                    }
-                    break;
-                case NAVIGATOR:
-                    if (navigatorHandler != null) {
-                        navigatorHandler.getClass()
-                            .getMethod("startNavalCombatGeneration", Player.class)
-                            .invoke(navigatorHandler, player);
-                    }
-                    break;
-                case CRITICAL_CUTTER:
-                    if (criticalCutterHandler != null) {
-                        criticalCutterHandler.getClass()
-                            .getMethod("startActionBarDisplay", Player.class)
-                            .invoke(criticalCutterHandler, player);
-                    }
-                    break;
-                case SHAPESHIFTER:
-                    if (shapeshifterHandler != null) {
-                        shapeshifterHandler.getClass()
-                            .getMethod("startEvolutionSystem", Player.class)
-                            .invoke(shapeshifterHandler, player);
-                    }
-                    break;
-                case JUGGLER:
-                    if (jugglerHandler != null) {
-                        jugglerHandler.getClass()
-                            .getMethod("startThrowTimeGainSystem", Player.class)
-                            .invoke(jugglerHandler, player);
-                    }
-                    break;
-                case STAMPER:
-                    if (stamperHandler != null) {
-                        stamperHandler.getClass()
-                            .getMethod("startDiveGainSystem", Player.class)
-                            .invoke(stamperHandler, player);
-                    }
-                    break;
-                case CAVALRY:
-                    if (cavalryHandler != null) {
-                        cavalryHandler.getClass()
-                            .getMethod("applyPassiveEffect", Player.class)
-                            .invoke(cavalryHandler, player);
-                    }
-                    break;
-            }
-        } catch (Exception e) {
-            // Silently fail if handlers not set yet
+        ClassHandler handler = getClassHandler(classType);
+        if (handler != null) {
+            handler.startSchedulers(player);
         }
     }
     
@@ -225,19 +149,16 @@ public class ClassManager {
         
         // Clear inventory first
         player.getInventory().clear();
+        if (classItemIndex != null) {
+            classItemIndex.invalidate(player);
+        }
         
-        // Dragon Fury provides its own items completely (no default weapon or armor)
-        if (classType == ClassType.DRAGON_FURY) {
-            if (dragonFuryHandler != null) {
-                try {
-                    dragonFuryHandler.getClass()
-                        .getMethod("giveStartingItems", Player.class)
-                        .invoke(dragonFuryHandler, player);
-                } catch (Exception e) {
-                    // Silently fail
-                }
-            }
-            return; // Skip default weapon and armor
+        ClassHandler handler = getClassHandler(classType);
+        
+        // Some classes (Dragon Fury) provide their own items completely (no default weapon or armor)
+        if (handler != null && handler.providesFullKit()) {
+            handler.giveStartingItems(player);
+            return;
         }
         
         // Give class weapon
@@ -248,19 +169,6 @@ public class ClassManager {
         
         // Give class-specific starting items
         switch (classType) {
-            case SWORDSMAN:
-                // Use SwordsmanHandler to give starting items
-                if (swordsmanHandler != null) {
-                    try {
-                        swordsmanHandler.getClass()
-                            .getMethod("giveStartingItems", Player.class)
-                            .invoke(swordsmanHandler, player);
-                    } catch (Exception e) {
-                        // Silently fail
-                    }
-                }
-                break;
-                
             case SHIELD_SOLDIER:
                 player.getInventory().addItem(itemProvider.createSpecialItem(ClassType.SHIELD_SOLDIER, "red_shield"));
                 player.getInventory().addItem(itemProvider.createSpecialItem(ClassType.SHIELD_SOLDIER, "blue_shield"));
@@ -286,20 +194,6 @@ public class ClassManager {
                 player.getInventory().addItem(itemProvider.getJugglerHeavyThing());
                 break;
                 
-            case UNDEAD:
-                // Undead starts with default items (stone sword + diamond chestplate)
-                // Initialize undead state
-                if (undeadHandler != null) {
-                    try {
-                        undeadHandler.getClass()
-                            .getMethod("initializePlayer", Player.class)
-                            .invoke(undeadHandler, player);
-                    } catch (Exception e) {
-                        // Silently fail
-                    }
-                }
-                break;
-                
             case STAMPER:
                 player.getInventory().addItem(itemProvider.createSpecialItem(ClassType.STAMPER, "stamp"));
                 break;
@@ -322,6 +216,12 @@ public class ClassManager {
                 player.getInventory().addItem(itemProvider.createSpecialItem(ClassType.VITALITY_CUTTER, "life_cut"));
                 break;
         }
+        
+        // Handler-provided items and state (Swordsman items, Undead revival state)
+        if (handler != null) {
+            handler.giveStartingItems(player);
+            handler.initializePlayer(player);
+        }
     }
     
     /**
@@ -351,10 +251,18 @@ public class ClassManager {
         
         // Remove class type
         playerClasses.remove(playerId);
+        if (gameManager != null) {
+            gameManager.getRegistry(playerId).setClass(playerId, null);
+        }
         
         // Remove class tag
         tagManager.removePlayerClassTag(player);
         
+        // Class items are about to be cleared by the caller
+        if (classItemIndex != null) {
+            classItemIndex.invalidate(player);
+        }
+        
         // Clear class data if it exists
         ClassData data = playerData.get(playerId);
         if (data != null) {
@@ -393,6 +301,12 @@ public class ClassManager {
     public void removePlayer(UUID playerId) {
         playerClasses.remove(playerId);
         playerData.remove(playerId);
+        if (tagManager != null) {
+            tagManager.forgetPlayer(playerId);
+        }
+        if (gameManager != null) {
+            gameManager.getRegistry(playerId).setClass(playerId, null);
+        }
     }
     
     /**
@@ -430,6 +344,11 @@ public class ClassManager {
             return false;
         }
         
+        // Class selection happens in the lobby, so only lobby players compete for classes
+        if (gameManager != null) {
+            return gameManager.getLobbyRegistry().isClassTaken(classType);
+        }
+        
         for (ClassType takenClass : playerClasses.values()) {
             if (takenClass == classType) {
                 return true;
@@ -450,6 +369,10 @@ public class ClassManager {
             return false;
         }
         
+        if (gameManager != null) {
+            return gameManager.getLobbyRegistry().isClassTaken(classType, team);
+        }
+        
         for (Map.Entry<UUID, ClassType> entry : playerClasses.entrySet()) {
             if (entry.getValue() == classType) {
                 Player player = org.bukkit.Bukkit.getPlayer(entry.getKey());
@@ -471,6 +394,10 @@ public class ClassManager {
      * @return The player with that class, or null if no one has it
      */
     public Player getPlayerWithClass(ClassType classType) {
+        if (gameManager != null) {
+            return gameManager.getLobbyRegistry().getClassHolder(classType);
+        }
+        
         for (Map.Entry<UUID, ClassType> entry : playerClasses.entrySet()) {
             if (entry.getValue() == classType) {
                 Player player = org.bukkit.Bukkit.getPlayer(entry.getKey());
@@ -494,6 +421,10 @@ public class ClassManager {
             return null;
         }
         
+        if (gameManager != null) {
+            return gameManager.getLobbyRegistry().getClassHolder(classType, team);
+        }
+        
         for (Map.Entry<UUID, ClassType> entry : playerClasses.entrySet()) {
             if (entry.getValue() == classType) {
                 Player player = org.bukkit.Bukkit.getPlayer(entry.getKey());
@@ -508,6 +439,24 @@ public class ClassManager {
         return null;
     }
     
+    /**
+     * Clean up every class handler's state (called on game end)
+     */
+    public void cleanupAllClassHandlers() {
+        for (ClassHandler handler : classHandlers.values()) {
+            handler.cleanupAll();
+        }
+    }
+    
+    /**
+     * Clean up a single player's state in every class handler
+     */
+    public void cleanupClassHandlers(Player player) {
+        for (ClassHandler handler : classHandlers.values()) {
+            handler.cleanupPlayer(player);
+        }
+    }
+    
     /**
      * Cleanup resources (called on plugin disable)
      */
@@ -8,14 +8,36 @@ import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * Manages player name tags to display their class above their head
+ * 
+ * This is a display sink only: ClassManager owns which class a player has, and this
+ * manager mirrors it into scoreboard teams. The tag each player is shown with is
+ * remembered here so nothing ever has to scan the teams.
  */
 public class ClassTagManager {
     
+    // Class -> scoreboard team name
+    private static final Map<ClassType, String> TEAM_NAMES = new EnumMap<>(ClassType.class);
+    
+    static {
+        for (ClassType classType : ClassType.values()) {
+            TEAM_NAMES.put(classType, "class_" + classType.name().toLowerCase());
+        }
+    }
+    
     private final Scoreboard scoreboard;
     private final TeamManager teamManager;
     private final GameManager gameManager;
+    private final Map<ClassType, org.bukkit.scoreboard.Team> teams = new EnumMap<>(ClassType.class);
+    
+    // Player -> class tag currently shown
+    private final Map<UUID, ClassType> shownTags = new HashMap<>();
     
     public ClassTagManager(TeamManager teamManager, GameManager gameManager) {
         // Get or create main scoreboard
@@ -32,12 +54,18 @@ public class ClassTagManager {
      */
     private void initializeTeams() {
         for (ClassType classType : ClassType.values()) {
-            String teamName = "class_" + classType.name().toLowerCase();
+            String teamName = TEAM_NAMES.get(classType);
             org.bukkit.scoreboard.Team team = scoreboard.getTeam(teamName);
             
             if (team == null) {
                 team = scoreboard.registerNewTeam(teamName);
+            } else {
+                // Left over from a run that did not clean up; its entries are not tracked
+                for (String entry : team.getEntries()) {
+                    team.removeEntry(entry);
+                }
             }
+            teams.put(classType, team);
             
             // Set team prefix (displayed above player's head)
             String prefix = getClassPrefix(classType);
@@ -146,18 +174,18 @@ public class ClassTagManager {
             return;
         }
         
-        // Remove player from all class teams first
+        // Remove player from their previous class team first
         removePlayerFromAllTeams(player);
         
         // Add player to their class team
-        String teamName = "class_" + classType.name().toLowerCase();
-        org.bukkit.scoreboard.Team team = scoreboard.getTeam(teamName);
+        org.bukkit.scoreboard.Team team = teams.get(classType);
         
         if (team != null) {
             team.addEntry(player.getName());
+            shownTags.put(player.getUniqueId(), classType);
             
             // In team mode, set team color for name display
-            if (gameManager != null && gameManager.getGameMode() == GameMode.TEAM) {
+            if (gameManager != null && gameManager.getGameMode(player) == GameMode.TEAM) {
                 Team playerTeam = teamManager.getPlayerTeam(player);
                 if (playerTeam == Team.BLUE) {
                     team.setColor(ChatColor.BLUE);
@@ -204,37 +232,25 @@ public class ClassTagManager {
     }
     
     /**
-     * Remove a player from all class teams
+     * Remove a player from the class team they are shown in
      */
     private void removePlayerFromAllTeams(Player player) {
-        for (ClassType classType : ClassType.values()) {
-            String teamName = "class_" + classType.name().toLowerCase();
-            org.bukkit.scoreboard.Team team = scoreboard.getTeam(teamName);
-            
-            if (team != null && team.hasEntry(player.getName())) {
-                team.removeEntry(player.getName());
-            }
+        ClassType shown = shownTags.remove(player.getUniqueId());
+        if (shown == null) {
+            return;
+        }
+        
+        org.bukkit.scoreboard.Team team = teams.get(shown);
+        if (team != null && team.hasEntry(player.getName())) {
+            team.removeEntry(player.getName());
         }
     }
     
     /**
-     * Get a player's class from their team
+     * Forget the tag shown for a player who left
      */
-    public ClassType getPlayerClassFromTag(Player player) {
-        if (player == null) {
-            return null;
-        }
-        
-        for (ClassType classType : ClassType.values()) {
-            String teamName = "class_" + classType.name().toLowerCase();
-            org.bukkit.scoreboard.Team team = scoreboard.getTeam(teamName);
-            
-            if (team != null && team.hasEntry(player.getName())) {
-                return classType;
-            }
-        }
-        
-        return null;
+    public void forgetPlayer(UUID playerId) {
+        shownTags.remove(playerId);
     }
     
     /**
@@ -242,7 +258,7 @@ public class ClassTagManager {
      */
     public void updateAllPlayerColors() {
         for (Player player : Bukkit.getOnlinePlayers()) {
-            ClassType classType = getPlayerClassFromTag(player);
+            ClassType classType = shownTags.get(player.getUniqueId());
             if (classType != null) {
                 setPlayerClassTag(player, classType);
             }
@@ -253,13 +269,14 @@ public class ClassTagManager {
      * Cleanup all teams (called on plugin disable)
      */
     public void cleanup() {
-        for (ClassType classType : ClassType.values()) {
-            String teamName = "class_" + classType.name().toLowerCase();
+        for (String teamName : TEAM_NAMES.values()) {
             org.bukkit.scoreboard.Team team = scoreboard.getTeam(teamName);
             
             if (team != null) {
                 team.unregister();
             }
         }
+        teams.clear();
+        shownTags.clear();
     }
 }
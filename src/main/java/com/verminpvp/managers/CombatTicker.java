@@ -0,0 +1,312 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Level;
+
+/**
+ * Single game-loop driver for all recurring combat logic
+ * 
+ * Handlers register tick tasks (per-tick, every N ticks, or per-second) instead of
+ * scheduling their own BukkitRunnables. One Bukkit task walks a flat array of
+ * registered tasks each tick, so scheduler overhead stays constant no matter how
+ * many players or abilities are active. Game end cancels the tasks of each match's
+ * players (cancelOwner) and leaves shared engine tasks running; cancelAll() is only
+ * used on plugin disable. The driver stops itself when nothing is registered.
+ */
+public class CombatTicker {
+    
+    public static final long TICKS_PER_SECOND = 20L;
+    
+    private final Plugin plugin;
+    
+    // Active tasks, iterated in registration order every tick
+    private TickTask[] tasks = new TickTask[32];
+    private int taskCount = 0;
+    
+    // Tasks registered while the driver is iterating (merged after the pass)
+    private final List<TickTask> pending = new ArrayList<>();
+    private boolean ticking = false;
+    
+    private BukkitTask driver;
+    private long currentTick = 0;
+    
+    public CombatTicker(Plugin plugin) {
+        this.plugin = plugin;
+    }
+    
+    /**
+     * Recurring unit of work driven by the combat ticker
+     */
+    public abstract static class TickTask {
+        
+        private UUID owner;
+        private long period;
+        private long nextRun;
+        private boolean cancelled;
+        
+        /**
+         * Called on every tick this task is due
+         */
+        public abstract void run();
+        
+        /**
+         * Stop this task; it is dropped from the driver at the end of the current pass
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+        
+        public boolean isCancelled() {
+            return cancelled;
+        }
+        
+        public UUID getOwner() {
+            return owner;
+        }
+    }
+    
+    /**
+     * Register a task that runs after the given delay and then every period ticks
+     * 
+     * @param owner Player the task belongs to (may be null for match-wide tasks)
+     * @param task The task to run
+     * @param delay Initial delay in ticks
+     * @param period Period in ticks (1 = every tick)
+     * @return The registered task
+     */
+    public <T extends TickTask> T schedule(UUID owner, T task, long delay, long period) {
+        task.owner = owner;
+        task.period = Math.max(1L, period);
+        task.nextRun = currentTick + Math.max(1L, delay);
+        task.cancelled = false;
+        
+        if (ticking) {
+            pending.add(task);
+        } else {
+            append(task);
+        }
+        
+        ensureDriver();
+        return task;
+    }
+    
+    /**
+     * Register a runnable after the given delay and then every period ticks
+     */
+    public TickTask schedule(UUID owner, Runnable action, long delay, long period) {
+        return schedule(owner, new TickTask() {
+            @Override
+            public void run() {
+                action.run();
+            }
+        }, delay, period);
+    }
+    
+    /**
+     * Register a runnable for the per-tick phase
+     */
+    public TickTask everyTick(UUID owner, Runnable action) {
+        return schedule(owner, action, 1L, 1L);
+    }
+    
+    /**
+     * Register a runnable for the every-N-ticks phase
+     */
+    public TickTask everyTicks(UUID owner, long ticks, Runnable action) {
+        return schedule(owner, action, ticks, ticks);
+    }
+    
+    /**
+     * Register a runnable that runs once after the given delay
+     */
+    public TickTask later(UUID owner, long delay, Runnable action) {
+        return schedule(owner, new TickTask() {
+            @Override
+            public void run() {
+                cancel();
+                action.run();
+            }
+        }, delay, delay);
+    }
+    
+    /**
+     * Register a runnable for the per-second phase
+     */
+    public TickTask everySecond(UUID owner, Runnable action) {
+        return schedule(owner, action, TICKS_PER_SECOND, TICKS_PER_SECOND);
+    }
+    
+    /**
+     * Keep a per-tick task of a shared engine registered
+     * 
+     * @return The given task while it is live, otherwise a new registration of the action
+     *         (the task may never have started, been stopped, or been dropped by cancelAll())
+     */
+    public TickTask ensureEveryTick(TickTask task, Runnable action) {
+        return ensureEveryTicks(task, 1L, action);
+    }
+    
+    /**
+     * Keep an every-N-ticks task of a shared engine registered
+     * 
+     * @return The given task while it is live, otherwise a new registration of the action
+     */
+    public TickTask ensureEveryTicks(TickTask task, long ticks, Runnable action) {
+        if (task != null && !task.cancelled) {
+            return task;
+        }
+        return everyTicks(null, ticks, action);
+    }
+    
+    /**
+     * Cancel every task owned by a player
+     */
+    public void cancelOwner(UUID owner) {
+        if (owner == null) {
+            return;
+        }
+        for (int i = 0; i < taskCount; i++) {
+            if (owner.equals(tasks[i].owner)) {
+                tasks[i].cancel();
+            }
+        }
+        for (TickTask task : pending) {
+            if (owner.equals(task.owner)) {
+                task.cancel();
+            }
+        }
+    }
+    
+    /**
+     * Cancel every registered task and stop the driver (called on plugin disable)
+     */
+    public void cancelAll() {
+        for (int i = 0; i < taskCount; i++) {
+            tasks[i].cancel();
+            tasks[i] = null;
+        }
+        taskCount = 0;
+        
+        for (TickTask task : pending) {
+            task.cancel();
+        }
+        pending.clear();
+        
+        stopDriver();
+    }
+    
+    /**
+     * Number of live tasks (for diagnostics)
+     */
+    public int getActiveTaskCount() {
+        int count = 0;
+        for (int i = 0; i < taskCount; i++) {
+            if (!tasks[i].cancelled) {
+                count++;
+            }
+        }
+        return count + pending.size();
+    }
+    
+    /**
+     * Number of passes the driver has run
+     * 
+     * The counter does not advance while the driver is stopped (nothing registered), so
+     * it only measures time between values read while some task stays registered.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    /**
+     * One pass of the game loop
+     */
+    private void tick() {
+        currentTick++;
+        ticking = true;
+        
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                TickTask task = tasks[i];
+                if (task == null) {
+                    // cancelAll() ran from inside a task
+                    break;
+                }
+                if (task.cancelled || currentTick < task.nextRun) {
+                    continue;
+                }
+                
+                task.nextRun = currentTick + task.period;
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    plugin.getLogger().log(Level.WARNING, "[ChaosPVP] Combat tick task failed", t);
+                }
+            }
+        } finally {
+            ticking = false;
+        }
+        
+        // Compact cancelled tasks in place
+        int write = 0;
+        for (int read = 0; read < taskCount; read++) {
+            TickTask task = tasks[read];
+            if (!task.cancelled) {
+                tasks[write++] = task;
+            }
+        }
+        for (int i = write; i < taskCount; i++) {
+            tasks[i] = null;
+        }
+        taskCount = write;
+        
+        // Merge tasks registered during this pass
+        if (!pending.isEmpty()) {
+            for (TickTask task : pending) {
+                if (!task.cancelled) {
+                    append(task);
+                }
+            }
+            pending.clear();
+        }
+        
+        if (taskCount == 0) {
+            stopDriver();
+        } else {
+            ensureDriver();
+        }
+    }
+    
+    private void append(TickTask task) {
+        if (taskCount == tasks.length) {
+            TickTask[] grown = new TickTask[tasks.length * 2];
+            System.arraycopy(tasks, 0, grown, 0, taskCount);
+            tasks = grown;
+        }
+        tasks[taskCount++] = task;
+    }
+    
+    /**
+     * Start the Bukkit driver task if it is not running (it may also have been
+     * cancelled externally by BukkitScheduler#cancelTasks)
+     */
+    private void ensureDriver() {
+        if (driver != null && !driver.isCancelled()) {
+            return;
+        }
+        driver = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+    
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+}
@@ -0,0 +1,560 @@
+package com.verminpvp.managers;
+
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Spatial index of tracked combatants for area-of-effect queries
+ * 
+ * Only worlds bound by a match (or a practice session) are indexed; binding a world
+ * seeds it with the living entities already in it, and the last release drops them.
+ * Players are bucketed into 8x8 block columns per world and re-bucketed from
+ * movement events only when they cross a cell border; riders and ridden mobs are
+ * re-bucketed from vehicle move events. Other mobs are tracked from the moment they
+ * enter a bound world (spawned or loaded with their chunk) until they leave it, and
+ * are re-bucketed on a slow sweep that runs only while some world is bound.
+ * Queries visit only the cells overlapping the search area and compare squared
+ * distances against live positions read into a reused Location.
+ */
+public class CombatantIndex implements Listener {
+    
+    private static final int CELL_SHIFT = 3; // 8 block cells
+    private static final long RESWEEP_INTERVAL_TICKS = 10L;
+    
+    // Extra search margin for mobs that moved since the last sweep
+    private static final double STALE_MARGIN = 4.0;
+    
+    private final CombatTicker combatTicker;
+    
+    // Entity UUID -> entry
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    
+    // Owner (match or practice session) -> worlds it binds
+    private final Map<String, Set<UUID>> bindings = new HashMap<>();
+    
+    // World UUID -> number of owners binding it (indexed while > 0)
+    private final Map<UUID, Integer> boundWorlds = new HashMap<>();
+    
+    // World UUID -> (cell key -> entries in that cell)
+    private final Map<UUID, Map<Long, List<Entry>>> grids = new HashMap<>();
+    
+    // Reused position buffer so queries do not allocate a Location per entity
+    private final Location scratch = new Location(null, 0, 0, 0);
+    
+    private CombatTicker.TickTask sweepTask;
+    
+    public CombatantIndex(CombatTicker combatTicker) {
+        this.combatTicker = combatTicker;
+    }
+    
+    /**
+     * Make an owner bind exactly the given worlds
+     * 
+     * Worlds nobody bound before are seeded with their living entities; worlds no
+     * owner binds anymore are dropped. The sweep runs while any world is bound.
+     */
+    public void bind(String ownerId, Collection<World> worlds) {
+        Set<UUID> wanted = new HashSet<>();
+        for (World world : worlds) {
+            if (world != null) {
+                wanted.add(world.getUID());
+            }
+        }
+        
+        Set<UUID> held = bindings.getOrDefault(ownerId, new HashSet<>());
+        for (UUID worldId : held) {
+            if (!wanted.contains(worldId)) {
+                unbindWorld(worldId);
+            }
+        }
+        for (World world : worlds) {
+            if (world != null && !held.contains(world.getUID())) {
+                bindWorld(world);
+            }
+        }
+        
+        if (wanted.isEmpty()) {
+            bindings.remove(ownerId);
+        } else {
+            bindings.put(ownerId, wanted);
+        }
+        resume();
+    }
+    
+    /**
+     * Release every world an owner binds
+     */
+    public void release(String ownerId) {
+        bind(ownerId, new ArrayList<>());
+    }
+    
+    /**
+     * Check if a world is indexed
+     */
+    public boolean isBound(World world) {
+        return world != null && boundWorlds.containsKey(world.getUID());
+    }
+    
+    /**
+     * Start or stop the sweep to match the bound worlds
+     */
+    private void resume() {
+        if (boundWorlds.isEmpty()) {
+            if (sweepTask != null) {
+                sweepTask.cancel();
+                sweepTask = null;
+            }
+            return;
+        }
+        sweepTask = combatTicker.ensureEveryTicks(sweepTask, RESWEEP_INTERVAL_TICKS, this::sweep);
+    }
+    
+    /**
+     * Stop the sweep and drop every binding and entry
+     */
+    public void shutdown() {
+        if (sweepTask != null) {
+            sweepTask.cancel();
+            sweepTask = null;
+        }
+        bindings.clear();
+        boundWorlds.clear();
+        entries.clear();
+        grids.clear();
+    }
+    
+    private void bindWorld(World world) {
+        if (boundWorlds.merge(world.getUID(), 1, Integer::sum) == 1) {
+            for (LivingEntity entity : world.getLivingEntities()) {
+                track(entity);
+            }
+        }
+    }
+    
+    private void unbindWorld(UUID worldId) {
+        Integer count = boundWorlds.get(worldId);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            boundWorlds.put(worldId, count - 1);
+            return;
+        }
+        
+        boundWorlds.remove(worldId);
+        entries.values().removeIf(entry -> worldId.equals(entry.worldId));
+        grids.remove(worldId);
+    }
+    
+    /**
+     * Start tracking an entity in a bound world (no-op if already tracked)
+     */
+    public void track(LivingEntity entity) {
+        if (entity == null || entries.containsKey(entity.getUniqueId())) {
+            return;
+        }
+        
+        entity.getLocation(scratch);
+        if (!isBound(scratch.getWorld())) {
+            return;
+        }
+        Entry entry = new Entry(entity);
+        entries.put(entity.getUniqueId(), entry);
+        insert(entry, scratch.getWorld(), cellKey(scratch.getBlockX(), scratch.getBlockZ()));
+    }
+    
+    /**
+     * Stop tracking an entity
+     */
+    public void untrack(UUID entityId) {
+        Entry entry = entries.remove(entityId);
+        if (entry != null) {
+            detach(entry);
+        }
+    }
+    
+    /**
+     * Number of entities currently tracked
+     */
+    public int size() {
+        return entries.size();
+    }
+    
+    /**
+     * Get living entities whose position is within a sphere
+     */
+    public List<LivingEntity> getNearby(World world, double x, double y, double z, double radius) {
+        List<LivingEntity> result = new ArrayList<>();
+        collectNearby(world, x, y, z, radius, result);
+        return result;
+    }
+    
+    /**
+     * Get living entities whose position is within a sphere around a location
+     */
+    public List<LivingEntity> getNearby(Location center, double radius) {
+        return getNearby(center.getWorld(), center.getX(), center.getY(), center.getZ(), radius);
+    }
+    
+    /**
+     * Collect living entities within a sphere into the given list (cleared first)
+     */
+    public void collectNearby(World world, double x, double y, double z, double radius, List<LivingEntity> out) {
+        out.clear();
+        if (world == null || radius < 0) {
+            return;
+        }
+        
+        double radiusSquared = radius * radius;
+        Map<Long, List<Entry>> grid = grids.get(world.getUID());
+        if (grid == null) {
+            return;
+        }
+        
+        visitCells(grid, x - radius, z - radius, x + radius, z + radius, (entity) -> {
+            double dx = scratch.getX() - x;
+            double dy = scratch.getY() - y;
+            double dz = scratch.getZ() - z;
+            if (dx * dx + dy * dy + dz * dz <= radiusSquared) {
+                out.add(entity);
+            }
+        }, world);
+    }
+    
+    /**
+     * Get living entities whose position is within an axis-aligned box,
+     * matching the semantics of Entity#getNearbyEntities
+     */
+    public List<LivingEntity> getNearbyInBox(World world, double x, double y, double z,
+                                             double rangeX, double rangeY, double rangeZ) {
+        List<LivingEntity> result = new ArrayList<>();
+        if (world == null) {
+            return result;
+        }
+        
+        Map<Long, List<Entry>> grid = grids.get(world.getUID());
+        if (grid == null) {
+            return result;
+        }
+        
+        visitCells(grid, x - rangeX, z - rangeZ, x + rangeX, z + rangeZ, (entity) -> {
+            if (Math.abs(scratch.getX() - x) <= rangeX
+                && Math.abs(scratch.getY() - y) <= rangeY
+                && Math.abs(scratch.getZ() - z) <= rangeZ) {
+                result.add(entity);
+            }
+        }, world);
+        return result;
+    }
+    
+    /**
+     * Collect living entities whose live position is inside [min, max] into the given list (cleared first)
+     */
+    public void collectInBounds(World world, double minX, double minY, double minZ,
+                                double maxX, double maxY, double maxZ, List<LivingEntity> out) {
+        out.clear();
+        if (world == null) {
+            return;
+        }
+        
+        Map<Long, List<Entry>> grid = grids.get(world.getUID());
+        if (grid == null) {
+            return;
+        }
+        
+        visitCells(grid, minX, minZ, maxX, maxZ, (entity) -> {
+            if (scratch.getX() >= minX && scratch.getX() <= maxX
+                && scratch.getY() >= minY && scratch.getY() <= maxY
+                && scratch.getZ() >= minZ && scratch.getZ() <= maxZ) {
+                out.add(entity);
+            }
+        }, world);
+    }
+    
+    /**
+     * Get living entities within a box around another entity (the entity itself is excluded)
+     */
+    public List<LivingEntity> getNearbyInBox(LivingEntity source, double rangeX, double rangeY, double rangeZ) {
+        Location loc = source.getLocation();
+        List<LivingEntity> result = getNearbyInBox(loc.getWorld(), loc.getX(), loc.getY(), loc.getZ(),
+            rangeX, rangeY, rangeZ);
+        result.remove(source);
+        return result;
+    }
+    
+    /**
+     * Snapshot of every tracked, valid entity (used by map-wide abilities)
+     */
+    public List<LivingEntity> getAllTracked() {
+        List<LivingEntity> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            if (entry.entity.isValid()) {
+                result.add(entry.entity);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Visit every valid entity in the cells overlapping [minX, maxX] x [minZ, maxZ], padded
+     * by the stale margin. The entity's position is loaded into the scratch location before
+     * the visitor runs.
+     */
+    private void visitCells(Map<Long, List<Entry>> grid, double minX, double minZ, double maxX, double maxZ,
+                            java.util.function.Consumer<LivingEntity> visitor, World world) {
+        int minCellX = ((int) Math.floor(minX - STALE_MARGIN)) >> CELL_SHIFT;
+        int maxCellX = ((int) Math.floor(maxX + STALE_MARGIN)) >> CELL_SHIFT;
+        int minCellZ = ((int) Math.floor(minZ - STALE_MARGIN)) >> CELL_SHIFT;
+        int maxCellZ = ((int) Math.floor(maxZ + STALE_MARGIN)) >> CELL_SHIFT;
+        
+        for (int cx = minCellX; cx <= maxCellX; cx++) {
+            for (int cz = minCellZ; cz <= maxCellZ; cz++) {
+                List<Entry> cell = grid.get(pack(cx, cz));
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size(); i++) {
+                    LivingEntity entity = cell.get(i).entity;
+                    if (!entity.isValid()) {
+                        continue;
+                    }
+                    entity.getLocation(scratch);
+                    if (scratch.getWorld() != world) {
+                        continue;
+                    }
+                    visitor.accept(entity);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Re-bucket an entity if it left its cell; players entering or leaving a bound
+     * world start or stop being tracked
+     */
+    private void update(LivingEntity entity, Location location) {
+        if (location == null || location.getWorld() == null) {
+            return;
+        }
+        
+        Entry entry = entries.get(entity.getUniqueId());
+        if (!isBound(location.getWorld())) {
+            if (entry != null) {
+                untrack(entity.getUniqueId());
+            }
+            return;
+        }
+        if (entry == null) {
+            if (entity instanceof Player) {
+                entry = new Entry(entity);
+                entries.put(entity.getUniqueId(), entry);
+                insert(entry, location.getWorld(), cellKey(location.getBlockX(), location.getBlockZ()));
+            }
+            return;
+        }
+        
+        long key = cellKey(location.getBlockX(), location.getBlockZ());
+        if (entry.cellKey == key && location.getWorld().getUID().equals(entry.worldId)) {
+            return;
+        }
+        
+        detach(entry);
+        insert(entry, location.getWorld(), key);
+    }
+    
+    /**
+     * Drop dead/removed entities and re-bucket mobs that moved
+     */
+    private void sweep() {
+        List<UUID> stale = null;
+        for (Entry entry : entries.values()) {
+            LivingEntity entity = entry.entity;
+            if (entity.isValid()) {
+                // Players and riders re-bucket from their move events
+                if (entity instanceof Player || entity.isInsideVehicle()) {
+                    continue;
+                }
+                entity.getLocation(scratch);
+                if (isBound(scratch.getWorld())) {
+                    update(entity, scratch);
+                    continue;
+                }
+            } else if (entity instanceof Player && ((Player) entity).isOnline()) {
+                // Players stay tracked while dead/respawning; only drop removed mobs
+                continue;
+            }
+            
+            if (stale == null) {
+                stale = new ArrayList<>();
+            }
+            stale.add(entity.getUniqueId());
+        }
+        
+        if (stale != null) {
+            for (UUID id : stale) {
+                untrack(id);
+            }
+        }
+    }
+    
+    private void insert(Entry entry, World world, long key) {
+        if (world == null) {
+            return;
+        }
+        entry.worldId = world.getUID();
+        entry.cellKey = key;
+        grids.computeIfAbsent(entry.worldId, k -> new HashMap<>())
+             .computeIfAbsent(key, k -> new ArrayList<>(4))
+             .add(entry);
+    }
+    
+    private void detach(Entry entry) {
+        if (entry.worldId == null) {
+            return;
+        }
+        Map<Long, List<Entry>> grid = grids.get(entry.worldId);
+        if (grid != null) {
+            List<Entry> cell = grid.get(entry.cellKey);
+            if (cell != null) {
+                cell.remove(entry);
+                if (cell.isEmpty()) {
+                    grid.remove(entry.cellKey);
+                }
+            }
+        }
+        entry.worldId = null;
+    }
+    
+    private static long cellKey(int blockX, int blockZ) {
+        return pack(blockX >> CELL_SHIFT, blockZ >> CELL_SHIFT);
+    }
+    
+    private static long pack(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+    
+    // Incremental updates from player and entity events
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        track(event.getPlayer());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        untrack(event.getPlayer().getUniqueId());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        Location from = event.getFrom();
+        // Only re-bucket when the player crosses a cell border
+        if ((to.getBlockX() >> CELL_SHIFT) == (from.getBlockX() >> CELL_SHIFT)
+            && (to.getBlockZ() >> CELL_SHIFT) == (from.getBlockZ() >> CELL_SHIFT)) {
+            return;
+        }
+        update(event.getPlayer(), to);
+    }
+    
+    /**
+     * Re-bucket a ridden vehicle and its riders (riding players fire no player move events)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onVehicleMove(VehicleMoveEvent event) {
+        Location to = event.getTo();
+        Location from = event.getFrom();
+        if ((to.getBlockX() >> CELL_SHIFT) == (from.getBlockX() >> CELL_SHIFT)
+            && (to.getBlockZ() >> CELL_SHIFT) == (from.getBlockZ() >> CELL_SHIFT)) {
+            return;
+        }
+        if (event.getVehicle() instanceof LivingEntity) {
+            update((LivingEntity) event.getVehicle(), to);
+        }
+        for (org.bukkit.entity.Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof LivingEntity) {
+                update((LivingEntity) passenger, to);
+            }
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onTeleport(PlayerTeleportEvent event) {
+        update(event.getPlayer(), event.getTo());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        update(event.getPlayer(), event.getRespawnLocation());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        Player player = event.getPlayer();
+        update(player, player.getLocation());
+    }
+    
+    /**
+     * Track mobs entering a world: spawned, loaded with their chunk, or arriving from another world
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAddToWorld(EntityAddToWorldEvent event) {
+        if (event.getEntity() instanceof LivingEntity && !(event.getEntity() instanceof Player)) {
+            track((LivingEntity) event.getEntity());
+        }
+    }
+    
+    /**
+     * Untrack mobs leaving a world (they are tracked again if their chunk loads back)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            untrack(event.getEntity().getUniqueId());
+        }
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(EntityDeathEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            untrack(event.getEntity().getUniqueId());
+        }
+    }
+    
+    /**
+     * Tracked entity and its current cell
+     */
+    private static final class Entry {
+        private final LivingEntity entity;
+        private UUID worldId;
+        private long cellKey;
+        
+        private Entry(LivingEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
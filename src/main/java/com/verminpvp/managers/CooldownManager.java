@@ -1,144 +1,345 @@
 package com.verminpvp.managers;
 
+import com.verminpvp.models.AbilityIds;
+import com.verminpvp.models.TimerKind;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 /**
- * Manages ability cooldowns for all players.
- * Thread-safe implementation using ConcurrentHashMap.
+ * Manages ability cooldowns and all other timed player state.
+ * 
+ * This is the single timer store for the plugin: ability cooldowns, shield deploy
+ * locks, absorption sources and buff expiries are all kept here, keyed by
+ * TimerKind and the AbilityIds index. Each player has one long[] of end ticks
+ * with one slot per (ability, kind), so query, set and reduce do not allocate or
+ * hash ability strings. The String methods are thin adapters over the index-based ones;
+ * setters register new ids, lookups of ids that were never set report no cooldown.
  */
 public class CooldownManager {
     
-    // Map: Player UUID -> (Ability ID -> Cooldown End Time in milliseconds)
-    private final Map<UUID, Map<String, Long>> cooldowns;
+    public static final long TICKS_PER_SECOND = 20L;
+    
+    // Wall-clock tick length used when no server tick source is supplied
+    private static final long NANOS_PER_TICK = 50_000_000L;
+    
+    private static final int KIND_COUNT = TimerKind.values().length;
+    
+    // Map: Player UUID -> End tick per (ability index, timer kind) slot (0 = inactive)
+    private final Map<UUID, long[]> cooldowns;
+    
+    // Current server tick
+    private final LongSupplier tickClock;
+    
+    /**
+     * Receives each running cooldown of a player without boxing
+     */
+    @FunctionalInterface
+    public interface CooldownVisitor {
+        void accept(int abilityIndex, long remainingTicks);
+    }
     
+    /**
+     * Create a cooldown manager driven by a wall-clock tick (used outside the server)
+     */
     public CooldownManager() {
+        this(() -> System.nanoTime() / NANOS_PER_TICK);
+    }
+    
+    /**
+     * Create a cooldown manager driven by the given tick source
+     * 
+     * @param tickClock Supplies the current server tick
+     */
+    public CooldownManager(LongSupplier tickClock) {
         this.cooldowns = new ConcurrentHashMap<>();
+        this.tickClock = tickClock;
     }
     
     /**
-     * Checks if an ability is currently on cooldown for a player.
+     * Starts a timer for a player.
      * 
      * @param playerUuid The player's UUID
-     * @param abilityId The ability identifier
-     * @return true if the ability is on cooldown, false otherwise
+     * @param kind The kind of timer
+     * @param abilityIndex The ability index from AbilityIds
+     * @param durationTicks The timer duration in ticks
      */
-    public boolean isOnCooldown(UUID playerUuid, String abilityId) {
-        if (playerUuid == null || abilityId == null) {
-            return false;
+    public void setTimer(UUID playerUuid, TimerKind kind, int abilityIndex, long durationTicks) {
+        if (playerUuid == null || abilityIndex < 0 || durationTicks <= 0) {
+            return;
         }
         
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (playerCooldowns == null) {
-            return false;
+        int slot = slot(kind, abilityIndex);
+        long[] endTicks = cooldowns.get(playerUuid);
+        if (endTicks == null || slot >= endTicks.length) {
+            endTicks = grow(playerUuid, endTicks, slot);
         }
-        
-        Long endTime = playerCooldowns.get(abilityId);
-        if (endTime == null) {
-            return false;
+        endTicks[slot] = tickClock.getAsLong() + durationTicks;
+    }
+    
+    /**
+     * Gets the remaining time of a timer in ticks.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityIndex The ability index from AbilityIds
+     * @return The remaining time in ticks, or 0 if the timer is not running
+     */
+    public long getRemainingTicks(UUID playerUuid, TimerKind kind, int abilityIndex) {
+        if (playerUuid == null || abilityIndex < 0) {
+            return 0L;
         }
         
-        long currentTime = System.currentTimeMillis();
-        if (currentTime >= endTime) {
-            // Cooldown expired, remove it
-            playerCooldowns.remove(abilityId);
-            return false;
+        long[] endTicks = cooldowns.get(playerUuid);
+        int slot = slot(kind, abilityIndex);
+        if (endTicks == null || slot >= endTicks.length) {
+            return 0L;
         }
         
-        return true;
+        long remaining = endTicks[slot] - tickClock.getAsLong();
+        return remaining > 0 ? remaining : 0L;
     }
     
     /**
-     * Sets a cooldown for an ability.
+     * Checks if a timer is running for a player.
      * 
      * @param playerUuid The player's UUID
-     * @param abilityId The ability identifier
-     * @param durationSeconds The cooldown duration in seconds
+     * @param kind The kind of timer
+     * @param abilityIndex The ability index from AbilityIds
+     * @return true if the timer has not expired, false otherwise
      */
-    public void setCooldown(UUID playerUuid, String abilityId, double durationSeconds) {
-        if (playerUuid == null || abilityId == null || durationSeconds <= 0) {
-            return;
-        }
-        
-        long endTime = System.currentTimeMillis() + (long)(durationSeconds * 1000);
-        
-        cooldowns.computeIfAbsent(playerUuid, k -> new ConcurrentHashMap<>())
-                 .put(abilityId, endTime);
+    public boolean isActive(UUID playerUuid, TimerKind kind, int abilityIndex) {
+        return getRemainingTicks(playerUuid, kind, abilityIndex) > 0;
     }
     
     /**
-     * Reduces the cooldown of an ability by a percentage.
+     * Shortens a running timer by a percentage of its remaining time.
      * 
      * @param playerUuid The player's UUID
-     * @param abilityId The ability identifier
+     * @param kind The kind of timer
+     * @param abilityIndex The ability index from AbilityIds
      * @param reductionPercent The percentage to reduce (0.0 to 1.0, e.g., 0.5 for 50%)
      */
-    public void reduceCooldown(UUID playerUuid, String abilityId, double reductionPercent) {
-        if (playerUuid == null || abilityId == null || reductionPercent <= 0) {
+    public void reduceTimer(UUID playerUuid, TimerKind kind, int abilityIndex, double reductionPercent) {
+        if (reductionPercent <= 0) {
             return;
         }
         
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (playerCooldowns == null) {
+        long remainingTicks = getRemainingTicks(playerUuid, kind, abilityIndex);
+        if (remainingTicks <= 0) {
             return;
         }
         
-        Long endTime = playerCooldowns.get(abilityId);
-        if (endTime == null) {
+        long[] endTicks = cooldowns.get(playerUuid);
+        int slot = slot(kind, abilityIndex);
+        long reduction = (long) (remainingTicks * reductionPercent);
+        if (reduction >= remainingTicks) {
+            endTicks[slot] = 0L;
+        } else {
+            endTicks[slot] -= reduction;
+        }
+    }
+    
+    /**
+     * Stops a timer for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityIndex The ability index from AbilityIds
+     */
+    public void clearTimer(UUID playerUuid, TimerKind kind, int abilityIndex) {
+        if (playerUuid == null || abilityIndex < 0) {
             return;
         }
         
-        long currentTime = System.currentTimeMillis();
-        long remainingTime = endTime - currentTime;
-        
-        if (remainingTime <= 0) {
-            playerCooldowns.remove(abilityId);
+        long[] endTicks = cooldowns.get(playerUuid);
+        int slot = slot(kind, abilityIndex);
+        if (endTicks != null && slot < endTicks.length) {
+            endTicks[slot] = 0L;
+        }
+    }
+    
+    /**
+     * Starts a timer for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityId The ability (or source) identifier
+     * @param durationTicks The timer duration in ticks
+     */
+    public void setTimer(UUID playerUuid, TimerKind kind, String abilityId, long durationTicks) {
+        if (playerUuid == null || abilityId == null || durationTicks <= 0) {
             return;
         }
-        
-        long reduction = (long)(remainingTime * reductionPercent);
-        long newEndTime = endTime - reduction;
-        
-        if (newEndTime <= currentTime) {
-            playerCooldowns.remove(abilityId);
-        } else {
-            playerCooldowns.put(abilityId, newEndTime);
+        setTimer(playerUuid, kind, AbilityIds.register(abilityId), durationTicks);
+    }
+    
+    /**
+     * Gets the remaining time of a timer in ticks.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityId The ability (or source) identifier
+     * @return The remaining time in ticks, or 0 if the timer is not running
+     */
+    public long getRemainingTicks(UUID playerUuid, TimerKind kind, String abilityId) {
+        if (abilityId == null) {
+            return 0L;
+        }
+        return getRemainingTicks(playerUuid, kind, AbilityIds.indexOf(abilityId));
+    }
+    
+    /**
+     * Checks if a timer is running for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityId The ability (or source) identifier
+     * @return true if the timer has not expired, false otherwise
+     */
+    public boolean isActive(UUID playerUuid, TimerKind kind, String abilityId) {
+        return getRemainingTicks(playerUuid, kind, abilityId) > 0;
+    }
+    
+    /**
+     * Stops a timer for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param kind The kind of timer
+     * @param abilityId The ability (or source) identifier
+     */
+    public void clearTimer(UUID playerUuid, TimerKind kind, String abilityId) {
+        if (abilityId == null) {
+            return;
         }
+        clearTimer(playerUuid, kind, AbilityIds.indexOf(abilityId));
+    }
+    
+    /**
+     * Checks if an ability is currently on cooldown for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityIndex The ability index from AbilityIds
+     * @return true if the ability is on cooldown, false otherwise
+     */
+    public boolean isOnCooldown(UUID playerUuid, int abilityIndex) {
+        return isActive(playerUuid, TimerKind.COOLDOWN, abilityIndex);
+    }
+    
+    /**
+     * Sets a cooldown for an ability.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityIndex The ability index from AbilityIds
+     * @param durationSeconds The cooldown duration in seconds
+     */
+    public void setCooldown(UUID playerUuid, int abilityIndex, double durationSeconds) {
+        if (durationSeconds <= 0) {
+            return;
+        }
+        setTimer(playerUuid, TimerKind.COOLDOWN, abilityIndex, secondsToTicks(durationSeconds));
+    }
+    
+    /**
+     * Reduces the cooldown of an ability by a percentage.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityIndex The ability index from AbilityIds
+     * @param reductionPercent The percentage to reduce (0.0 to 1.0, e.g., 0.5 for 50%)
+     */
+    public void reduceCooldown(UUID playerUuid, int abilityIndex, double reductionPercent) {
+        reduceTimer(playerUuid, TimerKind.COOLDOWN, abilityIndex, reductionPercent);
     }
     
     /**
      * Gets the remaining cooldown time in seconds.
      * 
      * @param playerUuid The player's UUID
-     * @param abilityId The ability identifier
+     * @param abilityIndex The ability index from AbilityIds
      * @return The remaining cooldown in seconds, or 0 if not on cooldown
      */
-    public double getRemainingCooldown(UUID playerUuid, String abilityId) {
-        if (playerUuid == null || abilityId == null) {
-            return 0.0;
+    public double getRemainingCooldown(UUID playerUuid, int abilityIndex) {
+        return getRemainingTicks(playerUuid, abilityIndex) / (double) TICKS_PER_SECOND;
+    }
+    
+    /**
+     * Gets the remaining cooldown time in ticks.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityIndex The ability index from AbilityIds
+     * @return The remaining cooldown in ticks, or 0 if not on cooldown
+     */
+    public long getRemainingTicks(UUID playerUuid, int abilityIndex) {
+        return getRemainingTicks(playerUuid, TimerKind.COOLDOWN, abilityIndex);
+    }
+    
+    /**
+     * Clears a specific cooldown for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityIndex The ability index from AbilityIds
+     */
+    public void clearCooldown(UUID playerUuid, int abilityIndex) {
+        clearTimer(playerUuid, TimerKind.COOLDOWN, abilityIndex);
+    }
+    
+    /**
+     * Checks if an ability is currently on cooldown for a player.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityId The ability identifier
+     * @return true if the ability is on cooldown, false otherwise
+     */
+    public boolean isOnCooldown(UUID playerUuid, String abilityId) {
+        if (abilityId == null) {
+            return false;
         }
-        
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (playerCooldowns == null) {
-            return 0.0;
+        return isOnCooldown(playerUuid, AbilityIds.indexOf(abilityId));
+    }
+    
+    /**
+     * Sets a cooldown for an ability.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityId The ability identifier
+     * @param durationSeconds The cooldown duration in seconds
+     */
+    public void setCooldown(UUID playerUuid, String abilityId, double durationSeconds) {
+        if (playerUuid == null || abilityId == null || durationSeconds <= 0) {
+            return;
         }
-        
-        Long endTime = playerCooldowns.get(abilityId);
-        if (endTime == null) {
-            return 0.0;
+        setCooldown(playerUuid, AbilityIds.register(abilityId), durationSeconds);
+    }
+    
+    /**
+     * Reduces the cooldown of an ability by a percentage.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityId The ability identifier
+     * @param reductionPercent The percentage to reduce (0.0 to 1.0, e.g., 0.5 for 50%)
+     */
+    public void reduceCooldown(UUID playerUuid, String abilityId, double reductionPercent) {
+        if (abilityId == null) {
+            return;
         }
-        
-        long currentTime = System.currentTimeMillis();
-        long remainingMs = endTime - currentTime;
-        
-        if (remainingMs <= 0) {
-            playerCooldowns.remove(abilityId);
+        reduceCooldown(playerUuid, AbilityIds.indexOf(abilityId), reductionPercent);
+    }
+    
+    /**
+     * Gets the remaining cooldown time in seconds.
+     * 
+     * @param playerUuid The player's UUID
+     * @param abilityId The ability identifier
+     * @return The remaining cooldown in seconds, or 0 if not on cooldown
+     */
+    public double getRemainingCooldown(UUID playerUuid, String abilityId) {
+        if (abilityId == null) {
             return 0.0;
         }
-        
-        return remainingMs / 1000.0;
+        return getRemainingCooldown(playerUuid, AbilityIds.indexOf(abilityId));
     }
     
     /**
@@ -161,42 +362,48 @@ public class CooldownManager {
      * @param abilityId The ability identifier
      */
     public void clearCooldown(UUID playerUuid, String abilityId) {
-        if (playerUuid == null || abilityId == null) {
+        if (abilityId == null) {
             return;
         }
-        
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (playerCooldowns != null) {
-            playerCooldowns.remove(abilityId);
-        }
+        clearCooldown(playerUuid, AbilityIds.indexOf(abilityId));
     }
     
     /**
-     * Gets all active cooldowns for a player.
+     * Visits every running cooldown of a player without allocating.
      * 
      * @param playerUuid The player's UUID
-     * @return A map of ability IDs to remaining cooldown times in seconds
+     * @param visitor Receives the ability index and remaining ticks of each cooldown
      */
-    public Map<String, Double> getActiveCooldowns(UUID playerUuid) {
+    public void forEachActiveCooldown(UUID playerUuid, CooldownVisitor visitor) {
         if (playerUuid == null) {
-            return new HashMap<>();
+            return;
         }
         
-        Map<String, Long> playerCooldowns = cooldowns.get(playerUuid);
-        if (playerCooldowns == null) {
-            return new HashMap<>();
+        long[] endTicks = cooldowns.get(playerUuid);
+        if (endTicks == null) {
+            return;
         }
         
-        Map<String, Double> activeCooldowns = new HashMap<>();
-        long currentTime = System.currentTimeMillis();
-        
-        playerCooldowns.forEach((abilityId, endTime) -> {
-            long remainingMs = endTime - currentTime;
-            if (remainingMs > 0) {
-                activeCooldowns.put(abilityId, remainingMs / 1000.0);
+        long now = tickClock.getAsLong();
+        for (int slot = TimerKind.COOLDOWN.ordinal(); slot < endTicks.length; slot += KIND_COUNT) {
+            long remaining = endTicks[slot] - now;
+            if (remaining > 0) {
+                visitor.accept(slot / KIND_COUNT, remaining);
             }
-        });
-        
+        }
+    }
+    
+    /**
+     * Gets all active cooldowns for a player.
+     * Allocates a map; per-tick callers should use forEachActiveCooldown instead.
+     * 
+     * @param playerUuid The player's UUID
+     * @return A map of ability IDs to remaining cooldown times in seconds
+     */
+    public Map<String, Double> getActiveCooldowns(UUID playerUuid) {
+        Map<String, Double> activeCooldowns = new HashMap<>();
+        forEachActiveCooldown(playerUuid, (abilityIndex, remainingTicks) ->
+            activeCooldowns.put(AbilityIds.idOf(abilityIndex), remainingTicks / (double) TICKS_PER_SECOND));
         return activeCooldowns;
     }
     
@@ -209,4 +416,50 @@ public class CooldownManager {
     public void removePlayer(UUID playerUuid) {
         clearCooldowns(playerUuid);
     }
+    
+    /**
+     * Removes all timers for all players (called on game end)
+     */
+    public void clearAll() {
+        cooldowns.clear();
+    }
+    
+    /**
+     * Drops players whose timers have all expired
+     */
+    public void sweepExpired() {
+        long now = tickClock.getAsLong();
+        cooldowns.values().removeIf(endTicks -> {
+            for (long endTick : endTicks) {
+                if (endTick > now) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+    
+    /**
+     * Convert a duration in seconds to ticks (at least one tick)
+     */
+    public static long secondsToTicks(double seconds) {
+        return Math.max(1L, Math.round(seconds * TICKS_PER_SECOND));
+    }
+    
+    private static int slot(TimerKind kind, int abilityIndex) {
+        return abilityIndex * KIND_COUNT + kind.ordinal();
+    }
+    
+    /**
+     * Grow (or create) a player's end-tick array so it can hold the given slot
+     */
+    private long[] grow(UUID playerUuid, long[] endTicks, int slot) {
+        int size = Math.max(AbilityIds.count() * KIND_COUNT, slot + 1);
+        long[] grown = new long[size];
+        if (endTicks != null) {
+            System.arraycopy(endTicks, 0, grown, 0, endTicks.length);
+        }
+        cooldowns.put(playerUuid, grown);
+        return grown;
+    }
 }
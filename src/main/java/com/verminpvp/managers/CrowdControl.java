@@ -0,0 +1,291 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.util.Vector;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * Freeze, root and slow states for players and mobs alike
+ * 
+ * Each state has an expiry tick. Movement is stopped through transient attribute
+ * modifiers (movement speed and jump strength) rather than by teleporting players
+ * back on every move event, so the client simply cannot walk. One combat ticker task
+ * enforces the states once per tick: it expires them, pulls frozen entities back to
+ * their anchor if knockback or gravity moved them, and drops entities that died or
+ * left. The task only runs while someone is controlled.
+ * 
+ * - Freeze: no walking or jumping, position pinned to where the freeze started
+ * - Root: no walking or jumping
+ * - Slow: movement speed reduced by a fraction
+ */
+public class CrowdControl implements Listener {
+    
+    // How far a frozen entity may drift before it is pulled back (0.1 blocks, squared)
+    private static final double ANCHOR_TOLERANCE_SQUARED = 0.01;
+    
+    private final CombatTicker combatTicker;
+    private final LongSupplier tickClock;
+    private final NamespacedKey speedKey;
+    private final AttributeModifier noJump;
+    
+    // Entity -> active states
+    private final Map<UUID, State> states = new HashMap<>();
+    
+    // Reused location for anchor checks (main thread only)
+    private final Location scratch = new Location(null, 0, 0, 0);
+    
+    private CombatTicker.TickTask driver;
+    
+    /**
+     * @param tickClock Supplies the current server tick
+     */
+    public CrowdControl(Plugin plugin, CombatTicker combatTicker, LongSupplier tickClock) {
+        this.combatTicker = combatTicker;
+        this.tickClock = tickClock;
+        this.speedKey = new NamespacedKey(plugin, "crowd_control_speed");
+        this.noJump = new AttributeModifier(new NamespacedKey(plugin, "crowd_control_jump"), -1.0,
+            AttributeModifier.Operation.MULTIPLY_SCALAR_1);
+    }
+    
+    /**
+     * Freeze an entity in place (an existing freeze keeps its anchor and the later expiry)
+     */
+    public void freeze(LivingEntity target, long durationTicks) {
+        State state = stateOf(target);
+        state.freezeUntil = Math.max(state.freezeUntil, tickClock.getAsLong() + durationTicks);
+        if (state.anchor == null) {
+            state.anchor = target.getLocation();
+        }
+        update(state);
+    }
+    
+    /**
+     * Stop an entity from walking and jumping without pinning its position
+     */
+    public void root(LivingEntity target, long durationTicks) {
+        State state = stateOf(target);
+        state.rootUntil = Math.max(state.rootUntil, tickClock.getAsLong() + durationTicks);
+        update(state);
+    }
+    
+    /**
+     * Reduce an entity's movement speed by a fraction (0.0 - 1.0); the stronger slow wins
+     */
+    public void slow(LivingEntity target, long durationTicks, double amount) {
+        State state = stateOf(target);
+        long now = tickClock.getAsLong();
+        state.slowAmount = state.slowUntil > now ? Math.max(state.slowAmount, amount) : amount;
+        state.slowUntil = Math.max(state.slowUntil, now + durationTicks);
+        update(state);
+    }
+    
+    /**
+     * Check if an entity is frozen
+     */
+    public boolean isFrozen(UUID entityId) {
+        State state = states.get(entityId);
+        return state != null && state.freezeUntil > tickClock.getAsLong();
+    }
+    
+    /**
+     * Check if an entity cannot walk (frozen or rooted)
+     */
+    public boolean isRooted(UUID entityId) {
+        State state = states.get(entityId);
+        if (state == null) {
+            return false;
+        }
+        long now = tickClock.getAsLong();
+        return state.freezeUntil > now || state.rootUntil > now;
+    }
+    
+    /**
+     * Number of entities under any state
+     */
+    public int getControlledCount() {
+        return states.size();
+    }
+    
+    /**
+     * Drop every state of an entity and restore its movement
+     */
+    public void release(UUID entityId) {
+        State state = states.remove(entityId);
+        if (state != null) {
+            restore(state);
+        }
+    }
+    
+    /**
+     * Drop every state (called on game end)
+     */
+    public void clear() {
+        for (State state : states.values()) {
+            restore(state);
+        }
+        states.clear();
+        stopDriver();
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(EntityDeathEvent event) {
+        release(event.getEntity().getUniqueId());
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        release(event.getPlayer().getUniqueId());
+    }
+    
+    /**
+     * Expire and enforce all states (runs every tick while someone is controlled)
+     */
+    void tick() {
+        Iterator<State> iterator = states.values().iterator();
+        while (iterator.hasNext()) {
+            State state = iterator.next();
+            LivingEntity entity = state.entity;
+            if (!entity.isValid() || entity.isDead() || !update(state)) {
+                iterator.remove();
+                restore(state);
+                continue;
+            }
+            
+            if (state.anchor == null) {
+                continue;
+            }
+            
+            entity.getLocation(scratch);
+            if (scratch.getWorld() != state.anchor.getWorld()) {
+                // Teleported to another world (match end, lobby), let it go
+                iterator.remove();
+                restore(state);
+            } else if (scratch.distanceSquared(state.anchor) > ANCHOR_TOLERANCE_SQUARED) {
+                state.anchor.setYaw(scratch.getYaw());
+                state.anchor.setPitch(scratch.getPitch());
+                entity.teleport(state.anchor);
+                entity.setVelocity(new Vector());
+            }
+        }
+        
+        if (states.isEmpty()) {
+            stopDriver();
+        }
+    }
+    
+    private State stateOf(LivingEntity target) {
+        State state = states.computeIfAbsent(target.getUniqueId(), id -> new State(target));
+        driver = combatTicker.ensureEveryTick(driver, this::tick);
+        return state;
+    }
+    
+    /**
+     * Expire elapsed states and bring the entity's modifiers in line with the rest
+     * 
+     * @return false if no state is left
+     */
+    private boolean update(State state) {
+        long now = tickClock.getAsLong();
+        if (state.freezeUntil <= now) {
+            state.freezeUntil = 0;
+            state.anchor = null;
+        }
+        if (state.rootUntil <= now) {
+            state.rootUntil = 0;
+        }
+        if (state.slowUntil <= now) {
+            state.slowUntil = 0;
+            state.slowAmount = 0.0;
+        }
+        
+        boolean immobile = state.freezeUntil != 0 || state.rootUntil != 0;
+        double speed = immobile ? -1.0 : -state.slowAmount;
+        setSpeed(state, speed);
+        setJumpBlocked(state, immobile);
+        
+        return immobile || state.slowUntil != 0;
+    }
+    
+    private void restore(State state) {
+        setSpeed(state, 0.0);
+        setJumpBlocked(state, false);
+    }
+    
+    private void setSpeed(State state, double amount) {
+        double current = state.speedModifier == null ? 0.0 : state.speedModifier.getAmount();
+        if (current == amount) {
+            return;
+        }
+        
+        AttributeInstance movement = state.entity.getAttribute(Attribute.MOVEMENT_SPEED);
+        if (movement == null) {
+            return;
+        }
+        if (state.speedModifier != null) {
+            movement.removeModifier(state.speedModifier);
+            state.speedModifier = null;
+        }
+        if (amount != 0.0) {
+            state.speedModifier = new AttributeModifier(speedKey, amount, AttributeModifier.Operation.MULTIPLY_SCALAR_1);
+            movement.addTransientModifier(state.speedModifier);
+        }
+    }
+    
+    private void setJumpBlocked(State state, boolean blocked) {
+        if (state.jumpBlocked == blocked) {
+            return;
+        }
+        
+        AttributeInstance jump = state.entity.getAttribute(Attribute.JUMP_STRENGTH);
+        if (jump == null) {
+            return;
+        }
+        if (blocked) {
+            jump.addTransientModifier(noJump);
+        } else {
+            jump.removeModifier(noJump);
+        }
+        state.jumpBlocked = blocked;
+    }
+    
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * States of one entity (0 = inactive) and the modifiers currently applied to it
+     */
+    private static final class State {
+        private final LivingEntity entity;
+        private Location anchor;
+        private long freezeUntil;
+        private long rootUntil;
+        private long slowUntil;
+        private double slowAmount;
+        private AttributeModifier speedModifier;
+        private boolean jumpBlocked;
+        
+        private State(LivingEntity entity) {
+            this.entity = entity;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Swept collision checks for dash and charge abilities
+ * 
+ * While a dash runs, a combat ticker task moves the player's box along the segment
+ * travelled since the previous tick and tests it against the tracked combatants near
+ * that segment only. The index pads the cells it visits by its stale margin and
+ * compares live positions, so mobs that moved since its last sweep are still found
+ * without re-bucketing anything. Fast movement can no longer skip over a target
+ * between two checks, and no work is done at all while nobody is dashing.
+ */
+public class DashCollider {
+    
+    /**
+     * Called with the first hostile entity the dash runs into on a tick
+     */
+    public interface HitCallback {
+        /**
+         * @return true to end the dash, false to keep dashing (the same target is not hit twice)
+         */
+        boolean onHit(LivingEntity target);
+    }
+    
+    // Entry time reported when the swept box misses
+    static final double NO_HIT = Double.MAX_VALUE;
+    
+    // Slack around the swept segment when asking the index for candidates (covers mob sizes)
+    private static final double CANDIDATE_MARGIN = 2.0;
+    
+    private final GameManager gameManager;
+    private final CombatantIndex combatantIndex;
+    
+    // Player -> running dash
+    private final Map<UUID, Dash> dashes = new HashMap<>();
+    
+    public DashCollider(GameManager gameManager, CombatantIndex combatantIndex) {
+        this.gameManager = gameManager;
+        this.combatantIndex = combatantIndex;
+    }
+    
+    /**
+     * Start (or restart) a dash for a player
+     * 
+     * @param player The dashing player
+     * @param ticks How long collisions are checked
+     * @param reach How far the player's box is grown on every side
+     * @param callback Receives hits; its return value decides whether the dash ends
+     */
+    public void startDash(Player player, int ticks, double reach, HitCallback callback) {
+        stopDash(player.getUniqueId());
+        
+        Dash dash = new Dash(player, ticks, reach, callback);
+        dashes.put(player.getUniqueId(), dash);
+        gameManager.getCombatTicker().schedule(player.getUniqueId(), dash, 1L, 1L);
+    }
+    
+    /**
+     * End a player's dash, if any
+     */
+    public void stopDash(UUID playerId) {
+        Dash dash = dashes.remove(playerId);
+        if (dash != null) {
+            dash.cancel();
+        }
+    }
+    
+    /**
+     * Check if a player is dashing
+     */
+    public boolean isDashing(UUID playerId) {
+        Dash dash = dashes.get(playerId);
+        return dash != null && !dash.isCancelled();
+    }
+    
+    /**
+     * End every dash (combat ticker tasks are cancelled separately on game end)
+     */
+    public void clear() {
+        for (Dash dash : dashes.values()) {
+            dash.cancel();
+        }
+        dashes.clear();
+    }
+    
+    /**
+     * A running dash: the player's position last tick and who was already hit
+     */
+    private final class Dash extends CombatTicker.TickTask {
+        private final Player player;
+        private final double reach;
+        private final HitCallback callback;
+        private final Location from;
+        private final Location to = new Location(null, 0, 0, 0);
+        private final Location position = new Location(null, 0, 0, 0);
+        private final List<LivingEntity> candidates = new ArrayList<>();
+        private final Set<UUID> hit = new HashSet<>();
+        private int ticksLeft;
+        
+        private Dash(Player player, int ticks, double reach, HitCallback callback) {
+            this.player = player;
+            this.reach = reach;
+            this.callback = callback;
+            this.ticksLeft = ticks;
+            this.from = player.getLocation();
+        }
+        
+        @Override
+        public void run() {
+            if (!player.isOnline() || player.isDead() || ticksLeft-- <= 0) {
+                finish();
+                return;
+            }
+            
+            player.getLocation(to);
+            if (to.getWorld() != from.getWorld()) {
+                // Teleported to another world, start over from here
+                copy(to, from);
+                return;
+            }
+            
+            LivingEntity target = firstHit();
+            copy(to, from);
+            
+            if (target != null) {
+                hit.add(target.getUniqueId());
+                if (callback.onHit(target)) {
+                    finish();
+                }
+            }
+        }
+        
+        private void finish() {
+            cancel();
+            dashes.remove(player.getUniqueId(), this);
+        }
+        
+        /**
+         * Hostile tracked entity the player's box touches first along from -> to
+         */
+        private LivingEntity firstHit() {
+            World world = to.getWorld();
+            double dx = to.getX() - from.getX();
+            double dy = to.getY() - from.getY();
+            double dz = to.getZ() - from.getZ();
+            
+            double halfWidth = player.getWidth() / 2.0 + reach;
+            double height = player.getHeight();
+            
+            // Candidates whose feet are near the swept segment only
+            double horizontal = halfWidth + CANDIDATE_MARGIN;
+            combatantIndex.collectInBounds(world,
+                Math.min(from.getX(), to.getX()) - horizontal,
+                Math.min(from.getY(), to.getY()) - reach - CANDIDATE_MARGIN,
+                Math.min(from.getZ(), to.getZ()) - horizontal,
+                Math.max(from.getX(), to.getX()) + horizontal,
+                Math.max(from.getY(), to.getY()) + height + reach + CANDIDATE_MARGIN,
+                Math.max(from.getZ(), to.getZ()) + horizontal,
+                candidates);
+            
+            LivingEntity first = null;
+            double firstTime = NO_HIT;
+            for (LivingEntity candidate : candidates) {
+                if (candidate.equals(player) || hit.contains(candidate.getUniqueId())) {
+                    continue;
+                }
+                if (candidate instanceof Player && !gameManager.isHostile(player, (Player) candidate)) {
+                    continue;
+                }
+                
+                candidate.getLocation(position);
+                double targetHalfWidth = candidate.getWidth() / 2.0;
+                
+                // Player box [x +- halfWidth, y - reach .. y + height + reach] against the target box
+                double time = entryTime(from.getX(), from.getY(), from.getZ(), dx, dy, dz,
+                    position.getX() - targetHalfWidth - halfWidth,
+                    position.getY() - height - reach,
+                    position.getZ() - targetHalfWidth - halfWidth,
+                    position.getX() + targetHalfWidth + halfWidth,
+                    position.getY() + candidate.getHeight() + reach,
+                    position.getZ() + targetHalfWidth + halfWidth);
+                if (time < firstTime) {
+                    firstTime = time;
+                    first = candidate;
+                }
+            }
+            return first;
+        }
+    }
+    
+    private static void copy(Location source, Location target) {
+        target.setWorld(source.getWorld());
+        target.setX(source.getX());
+        target.setY(source.getY());
+        target.setZ(source.getZ());
+    }
+    
+    /**
+     * Time in [0, 1] at which a point moving from (x, y, z) by (dx, dy, dz) enters a box,
+     * or NO_HIT if it does not touch the box during the move
+     * 
+     * The box is the target's box grown by the mover's box (Minkowski sum), so this is
+     * the swept test of two axis-aligned boxes.
+     */
+    static double entryTime(double x, double y, double z, double dx, double dy, double dz,
+                            double minX, double minY, double minZ,
+                            double maxX, double maxY, double maxZ) {
+        double enter = 0.0;
+        double exit = 1.0;
+        
+        if (dx == 0.0) {
+            if (x < minX || x > maxX) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minX - x) / dx;
+            double t2 = (maxX - x) / dx;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        
+        if (dy == 0.0) {
+            if (y < minY || y > maxY) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minY - y) / dy;
+            double t2 = (maxY - y) / dy;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        
+        if (dz == 0.0) {
+            if (z < minZ || z > maxZ) {
+                return NO_HIT;
+            }
+        } else {
+            double t1 = (minZ - z) / dz;
+            double t2 = (maxZ - z) / dz;
+            enter = Math.max(enter, Math.min(t1, t2));
+            exit = Math.min(exit, Math.max(t1, t2));
+        }
+        
+        return enter <= exit ? enter : NO_HIT;
+    }
+}
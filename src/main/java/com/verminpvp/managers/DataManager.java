@@ -6,140 +6,228 @@ import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
 
 /**
- * Manages persistent data storage for maps and lobby locations
+ * Manages persistent data storage for maps, lobby locations and music settings
+ * 
+ * data.yml is the primary store for everything. Setting storage.binaryMapCache to true
+ * in data.yml also writes the locations to maps.dat (see MapSnapshot), which is then
+ * read at startup instead of the YAML while it is at least as new as data.yml. Either
+ * way each world's data is applied only once that world is loaded. maps.yml is the
+ * import/export file (same layout as data.yml).
+ * 
+ * Saving is write-behind: saveData() only marks the data dirty. Changes made within
+ * SAVE_DELAY_TICKS are coalesced into one snapshot, which a background thread writes
+ * atomically (temp file + rename). shutdown() flushes synchronously on disable.
  */
-public class DataManager {
+public class DataManager implements Listener {
+    
+    private static final long SAVE_DELAY_TICKS = 20L; // 1 second
+    private static final String BINARY_CACHE_PATH = "storage.binaryMapCache";
     
     private final Plugin plugin;
     private final File dataFile;
-    private FileConfiguration config;
+    private final File mapDataFile;
+    private final File yamlFile;
+    private FileConfiguration config; // Holds music settings between saves
     private final MapManager mapManager;
     private final LobbyManager lobbyManager;
     
+    // Map data of worlds that are not loaded yet (decoded when the world loads)
+    private MapSnapshot unloadedWorlds = new MapSnapshot();
+    
+    // Write-behind state
+    private final ExecutorService writer;
+    private final AtomicReference<PendingSave> pendingWrite = new AtomicReference<>();
+    private BukkitTask saveTask;
+    
+    /**
+     * Data captured on the main thread for the writer thread
+     */
+    private static final class PendingSave {
+        private final String settings;
+        private final byte[] mapData; // null unless the binary cache is enabled
+        
+        private PendingSave(String settings, byte[] mapData) {
+            this.settings = settings;
+            this.mapData = mapData;
+        }
+    }
+    
     public DataManager(Plugin plugin, MapManager mapManager, LobbyManager lobbyManager) {
         this.plugin = plugin;
         this.mapManager = mapManager;
         this.lobbyManager = lobbyManager;
         this.dataFile = new File(plugin.getDataFolder(), "data.yml");
+        this.mapDataFile = new File(plugin.getDataFolder(), "maps.dat");
+        this.yamlFile = new File(plugin.getDataFolder(), "maps.yml");
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ChaosPVP-DataWriter");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
     
     /**
      * Load all data from file
      */
     public void loadData() {
-        if (!dataFile.exists()) {
-            plugin.getLogger().info("데이터 파일이 없습니다. 새로 생성됩니다.");
-            return;
+        if (dataFile.exists()) {
+            config = YamlConfiguration.loadConfiguration(dataFile);
         }
         
-        config = YamlConfiguration.loadConfiguration(dataFile);
-        
-        // Load lobby location
-        if (config.contains("lobby")) {
-            Location lobby = deserializeLocation(config.getConfigurationSection("lobby"));
-            if (lobby != null) {
-                lobbyManager.setLobbyLocation(lobby);
-                plugin.getLogger().info("로비 위치 로드 완료");
+        // The binary cache is only trusted when it was written together with (or after) data.yml
+        boolean cacheTried = false;
+        if (isBinaryCacheEnabled() && mapDataFile.exists() && mapDataFile.lastModified() >= dataFile.lastModified()) {
+            cacheTried = true;
+            if (loadBinary()) {
+                return;
             }
         }
         
-        // Load spawn maps
-        if (config.contains("maps")) {
-            ConfigurationSection mapsSection = config.getConfigurationSection("maps");
-            if (mapsSection != null) {
-                for (String key : mapsSection.getKeys(false)) {
-                    ConfigurationSection mapSection = mapsSection.getConfigurationSection(key);
-                    if (mapSection != null) {
-                        Location loc = deserializeLocation(mapSection);
-                        String name = mapSection.getString("name");
-                        if (loc != null) {
-                            mapManager.addSpawnLocation(loc, name);
-                        }
-                    }
-                }
-                plugin.getLogger().info("일반 맵 " + mapManager.getSpawnLocationCount() + "개 로드 완료");
-            }
+        MapSnapshot stored = config != null ? readYaml(config) : new MapSnapshot();
+        if (!stored.isEmpty()) {
+            applySnapshot(stored);
+            return;
         }
         
-        // Load practice map
-        if (config.contains("practiceMap")) {
-            ConfigurationSection practiceSection = config.getConfigurationSection("practiceMap");
-            if (practiceSection != null) {
-                Location loc = deserializeLocation(practiceSection);
-                String name = practiceSection.getString("name");
-                if (loc != null) {
-                    mapManager.setPracticeMap(loc, name);
-                    plugin.getLogger().info("연습 맵 로드 완료");
-                }
-            }
+        // Locations that only exist in maps.dat (written while it was the only map store)
+        if (!cacheTried && mapDataFile.exists() && loadBinary()) {
+            saveData();
+            plugin.getLogger().info("maps.dat의 맵 데이터를 data.yml에 다시 저장합니다.");
+            return;
         }
         
-        // Load map slot 1
-        if (config.contains("mapSlot1")) {
-            ConfigurationSection slot1Section = config.getConfigurationSection("mapSlot1");
-            if (slot1Section != null) {
-                Location loc = deserializeLocation(slot1Section);
-                String name = slot1Section.getString("name");
-                if (loc != null) {
-                    mapManager.setSlot1Map(loc, name);
-                    plugin.getLogger().info("1번 맵 슬롯 로드 완료");
-                }
-            }
+        if (config == null) {
+            plugin.getLogger().info("데이터 파일이 없습니다. 새로 생성됩니다.");
         }
-        
-        // Load map slot 2
-        if (config.contains("mapSlot2")) {
-            ConfigurationSection slot2Section = config.getConfigurationSection("mapSlot2");
-            if (slot2Section != null) {
-                Location loc = deserializeLocation(slot2Section);
-                String name = slot2Section.getString("name");
-                if (loc != null) {
-                    mapManager.setSlot2Map(loc, name);
-                    plugin.getLogger().info("2번 맵 슬롯 로드 완료");
-                }
+    }
+    
+    /**
+     * Check if locations are also written to the binary cache (maps.dat)
+     */
+    public boolean isBinaryCacheEnabled() {
+        return config != null && config.getBoolean(BINARY_CACHE_PATH, false);
+    }
+    
+    /**
+     * Apply the locations stored in maps.dat
+     * 
+     * @return false if the file could not be read (it is moved aside)
+     */
+    private boolean loadBinary() {
+        try {
+            applySnapshot(MapSnapshot.fromBytes(Files.readAllBytes(mapDataFile.toPath())));
+            return true;
+        } catch (IOException e) {
+            // Keep the unreadable file aside so the next save does not overwrite it
+            plugin.getLogger().severe("맵 데이터 로드 실패: " + e.getMessage());
+            File broken = new File(plugin.getDataFolder(), "maps.dat.broken");
+            if (mapDataFile.renameTo(broken)) {
+                plugin.getLogger().severe("손상된 맵 데이터를 " + broken.getName() + "로 옮겼습니다.");
             }
+            return false;
+        }
+    }
+    
+    /**
+     * Load map data of a world once it is loaded
+     */
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent event) {
+        World world = event.getWorld();
+        if (!unloadedWorlds.hasWorld(world.getName())) {
+            return;
         }
         
-        // Load slot 1 spawns
-        if (config.contains("slot1Spawns")) {
-            ConfigurationSection slot1SpawnsSection = config.getConfigurationSection("slot1Spawns");
-            if (slot1SpawnsSection != null) {
-                for (String key : slot1SpawnsSection.getKeys(false)) {
-                    ConfigurationSection spawnSection = slot1SpawnsSection.getConfigurationSection(key);
-                    if (spawnSection != null) {
-                        Location loc = deserializeLocation(spawnSection);
-                        if (loc != null) {
-                            mapManager.addSlot1Spawn(loc);
-                        }
-                    }
-                }
-                plugin.getLogger().info("1번 맵 스폰 " + mapManager.getSlot1SpawnCount() + "개 로드 완료");
+        try {
+            List<MapSnapshot.Point> points = unloadedWorlds.getPoints(world.getName());
+            unloadedWorlds.removeWorld(world.getName());
+            applyPoints(world, points);
+        } catch (IOException e) {
+            plugin.getLogger().severe("맵 데이터 로드 실패 (" + world.getName() + "): " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Apply a snapshot; worlds that are not loaded are kept encoded until they load
+     */
+    private void applySnapshot(MapSnapshot snapshot) {
+        int deferred = 0;
+        for (String worldName : snapshot.getWorldNames()) {
+            World world = Bukkit.getWorld(worldName);
+            if (world == null) {
+                unloadedWorlds.copyWorld(snapshot, worldName);
+                deferred++;
+                continue;
+            }
+            
+            try {
+                applyPoints(world, snapshot.getPoints(worldName));
+            } catch (IOException e) {
+                // Keep the raw data so it is saved back unchanged
+                unloadedWorlds.copyWorld(snapshot, worldName);
+                plugin.getLogger().severe("맵 데이터 로드 실패 (" + worldName + "): " + e.getMessage());
             }
         }
         
-        // Load slot 2 spawns
-        if (config.contains("slot2Spawns")) {
-            ConfigurationSection slot2SpawnsSection = config.getConfigurationSection("slot2Spawns");
-            if (slot2SpawnsSection != null) {
-                for (String key : slot2SpawnsSection.getKeys(false)) {
-                    ConfigurationSection spawnSection = slot2SpawnsSection.getConfigurationSection(key);
-                    if (spawnSection != null) {
-                        Location loc = deserializeLocation(spawnSection);
-                        if (loc != null) {
-                            mapManager.addSlot2Spawn(loc);
-                        }
-                    }
-                }
-                plugin.getLogger().info("2번 맵 스폰 " + mapManager.getSlot2SpawnCount() + "개 로드 완료");
+        if (deferred > 0) {
+            plugin.getLogger().info("로드되지 않은 월드 " + deferred + "개의 맵 데이터는 월드가 로드될 때 불러옵니다.");
+        }
+    }
+    
+    /**
+     * Register the points of a loaded world with the map and lobby managers
+     */
+    private void applyPoints(World world, List<MapSnapshot.Point> points) {
+        for (MapSnapshot.Point point : points) {
+            Location loc = new Location(world, point.getX(), point.getY(), point.getZ(), point.getYaw(), point.getPitch());
+            switch (point.getKind()) {
+                case LOBBY:
+                    lobbyManager.setLobbyLocation(loc);
+                    break;
+                case MAP:
+                    mapManager.addSpawnLocation(loc, point.getName());
+                    break;
+                case PRACTICE_MAP:
+                    mapManager.setPracticeMap(loc, point.getName());
+                    break;
+                case SLOT1_MAP:
+                    mapManager.setSlot1Map(loc, point.getName());
+                    break;
+                case SLOT2_MAP:
+                    mapManager.setSlot2Map(loc, point.getName());
+                    break;
+                case SLOT1_SPAWN:
+                    mapManager.addSlot1Spawn(loc);
+                    break;
+                case SLOT2_SPAWN:
+                    mapManager.addSlot2Spawn(loc);
+                    break;
             }
         }
+        plugin.getLogger().info("맵 데이터 로드 완료: " + world.getName() + " (" + points.size() + "개)");
     }
     
     // ===== Music Settings =====
@@ -227,141 +315,315 @@ public class DataManager {
         if (config == null) config = new YamlConfiguration();
         config.set("music.pitch", pitch);
         saveData();
-    }
-    
+    }    
     /**
-     * Save all data to file
+     * Mark data as changed; it is written asynchronously after a short delay
+     * (all changes within the delay are saved together)
      */
     public void saveData() {
-        config = new YamlConfiguration();
-        
-        // Save lobby location
-        if (lobbyManager.hasLobbyLocation()) {
-            ConfigurationSection lobbySection = config.createSection("lobby");
-            serializeLocation(lobbySection, lobbyManager.getLobbyLocation());
+        if (!plugin.isEnabled()) {
+            // Scheduler is unavailable while disabling
+            flush();
+            return;
         }
         
-        // Save spawn maps
-        List<Location> spawnMaps = mapManager.getAllSpawnLocations();
-        if (!spawnMaps.isEmpty()) {
-            ConfigurationSection mapsSection = config.createSection("maps");
-            for (int i = 0; i < spawnMaps.size(); i++) {
-                Location loc = spawnMaps.get(i);
-                ConfigurationSection mapSection = mapsSection.createSection("map" + i);
-                serializeLocation(mapSection, loc);
-                String name = mapManager.getMapName(loc);
-                if (name != null) {
-                    mapSection.set("name", name);
+        // A pending save task may have been cancelled by someone else
+        if (saveTask == null || saveTask.isCancelled()) {
+            saveTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                saveTask = null;
+                
+                // Snapshot on the main thread, write on the writer thread
+                if (pendingWrite.getAndSet(capture()) == null) {
+                    writer.execute(this::writePending);
                 }
-            }
+            }, SAVE_DELAY_TICKS);
         }
-        
-        // Save practice map
-        if (mapManager.hasPracticeMap()) {
-            ConfigurationSection practiceSection = config.createSection("practiceMap");
-            serializeLocation(practiceSection, mapManager.getPracticeMap());
-            String name = mapManager.getPracticeMapName();
-            if (name != null) {
-                practiceSection.set("name", name);
+    }
+    
+    /**
+     * Write all data to file synchronously (pending asynchronous saves are replaced)
+     */
+    public void flush() {
+        if (saveTask != null) {
+            saveTask.cancel();
+            saveTask = null;
+        }
+        pendingWrite.set(null);
+        writeFiles(capture());
+    }
+    
+    /**
+     * Flush data and stop the writer thread (called on plugin disable)
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("데이터 저장 스레드가 종료되지 않았습니다.");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+    
+    // ===== YAML Import/Export =====
+    
+    /**
+     * Export all map data to maps.yml
+     * 
+     * @param callback Called on the main thread with the number of exported worlds, or -1 on failure
+     */
+    public void exportYaml(IntConsumer callback) {
+        MapSnapshot snapshot = buildMapSnapshot();
+        YamlConfiguration yaml = new YamlConfiguration();
+        if (!writeYaml(yaml, snapshot)) {
+            callback.accept(-1);
+            return;
         }
         
-        // Save map slot 1
-        if (mapManager.hasSlot1Map()) {
-            ConfigurationSection slot1Section = config.createSection("mapSlot1");
-            serializeLocation(slot1Section, mapManager.getSlot1Map());
-            String name = mapManager.getSlot1MapName();
-            if (name != null) {
-                slot1Section.set("name", name);
-            }
+        byte[] data = yaml.saveToString().getBytes(StandardCharsets.UTF_8);
+        int worldCount = snapshot.getWorldNames().size();
+        writer.execute(() -> {
+            boolean written = writeAtomically(yamlFile, data);
+            Bukkit.getScheduler().runTask(plugin, () -> callback.accept(written ? worldCount : -1));
+        });
+    }
+    
+    /**
+     * Replace all map data with the contents of maps.yml
+     * 
+     * @param callback Called on the main thread with the number of imported worlds, or -1 if maps.yml is missing
+     */
+    public void importYaml(IntConsumer callback) {
+        if (!yamlFile.exists()) {
+            callback.accept(-1);
+            return;
         }
         
-        // Save map slot 2
-        if (mapManager.hasSlot2Map()) {
-            ConfigurationSection slot2Section = config.createSection("mapSlot2");
-            serializeLocation(slot2Section, mapManager.getSlot2Map());
-            String name = mapManager.getSlot2MapName();
-            if (name != null) {
-                slot2Section.set("name", name);
+        // Parse on the writer thread, apply on the main thread
+        writer.execute(() -> {
+            MapSnapshot snapshot = readYaml(YamlConfiguration.loadConfiguration(yamlFile));
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                lobbyManager.clearLobbyLocation();
+                mapManager.clearAllMapData();
+                unloadedWorlds = new MapSnapshot();
+                applySnapshot(snapshot);
+                saveData();
+                callback.accept(snapshot.getWorldNames().size());
+            });
+        });
+    }
+    
+    /**
+     * Read locations from the YAML layout (lobby, maps, practiceMap, mapSlot1/2, slot1Spawns/slot2Spawns)
+     */
+    private MapSnapshot readYaml(ConfigurationSection root) {
+        Map<String, List<MapSnapshot.Point>> worlds = new LinkedHashMap<>();
+        for (MapSnapshot.Kind kind : MapSnapshot.Kind.values()) {
+            String path = yamlPath(kind, 0);
+            int listSeparator = path.indexOf('.');
+            if (listSeparator < 0) {
+                readYamlPoint(worlds, kind, root.getConfigurationSection(path));
+                continue;
+            }
+            
+            ConfigurationSection listSection = root.getConfigurationSection(path.substring(0, listSeparator));
+            if (listSection != null) {
+                for (String key : listSection.getKeys(false)) {
+                    readYamlPoint(worlds, kind, listSection.getConfigurationSection(key));
+                }
             }
         }
         
-        // Save slot 1 spawns
-        List<Location> slot1Spawns = mapManager.getSlot1Spawns();
-        if (!slot1Spawns.isEmpty()) {
-            ConfigurationSection slot1SpawnsSection = config.createSection("slot1Spawns");
-            for (int i = 0; i < slot1Spawns.size(); i++) {
-                Location loc = slot1Spawns.get(i);
-                ConfigurationSection spawnSection = slot1SpawnsSection.createSection("spawn" + i);
-                serializeLocation(spawnSection, loc);
+        MapSnapshot snapshot = new MapSnapshot();
+        for (Map.Entry<String, List<MapSnapshot.Point>> entry : worlds.entrySet()) {
+            snapshot.setPoints(entry.getKey(), entry.getValue());
+        }
+        return snapshot;
+    }
+    
+    /**
+     * Write the locations of a snapshot in the YAML layout
+     * 
+     * @return false if a world's data could not be decoded (it is left out)
+     */
+    private boolean writeYaml(ConfigurationSection root, MapSnapshot snapshot) {
+        boolean complete = true;
+        int[] counters = new int[MapSnapshot.Kind.values().length];
+        for (String worldName : snapshot.getWorldNames()) {
+            try {
+                for (MapSnapshot.Point point : snapshot.getPoints(worldName)) {
+                    int index = counters[point.getKind().ordinal()]++;
+                    writeYamlPoint(root.createSection(yamlPath(point.getKind(), index)), worldName, point);
+                }
+            } catch (IOException e) {
+                plugin.getLogger().severe("맵 데이터 변환 실패 (" + worldName + "): " + e.getMessage());
+                complete = false;
             }
         }
+        return complete;
+    }
+    
+    private void readYamlPoint(Map<String, List<MapSnapshot.Point>> worlds, MapSnapshot.Kind kind, ConfigurationSection section) {
+        if (section == null) {
+            return;
+        }
         
-        // Save slot 2 spawns
-        List<Location> slot2Spawns = mapManager.getSlot2Spawns();
-        if (!slot2Spawns.isEmpty()) {
-            ConfigurationSection slot2SpawnsSection = config.createSection("slot2Spawns");
-            for (int i = 0; i < slot2Spawns.size(); i++) {
-                Location loc = slot2Spawns.get(i);
-                ConfigurationSection spawnSection = slot2SpawnsSection.createSection("spawn" + i);
-                serializeLocation(spawnSection, loc);
-            }
+        String worldName = section.getString("world");
+        if (worldName == null) {
+            return;
         }
         
-        // Write to file
+        worlds.computeIfAbsent(worldName, key -> new ArrayList<>()).add(new MapSnapshot.Point(kind,
+            section.getDouble("x"), section.getDouble("y"), section.getDouble("z"),
+            (float) section.getDouble("yaw"), (float) section.getDouble("pitch"),
+            section.getString("name")));
+    }
+    
+    private void writeYamlPoint(ConfigurationSection section, String worldName, MapSnapshot.Point point) {
+        section.set("world", worldName);
+        section.set("x", point.getX());
+        section.set("y", point.getY());
+        section.set("z", point.getZ());
+        section.set("yaw", point.getYaw());
+        section.set("pitch", point.getPitch());
+        if (point.getName() != null) {
+            section.set("name", point.getName());
+        }
+    }
+    
+    /**
+     * YAML path of a point (list kinds use an index suffix)
+     */
+    private static String yamlPath(MapSnapshot.Kind kind, int index) {
+        switch (kind) {
+            case LOBBY:
+                return "lobby";
+            case MAP:
+                return "maps.map" + index;
+            case PRACTICE_MAP:
+                return "practiceMap";
+            case SLOT1_MAP:
+                return "mapSlot1";
+            case SLOT2_MAP:
+                return "mapSlot2";
+            case SLOT1_SPAWN:
+                return "slot1Spawns.spawn" + index;
+            default:
+                return "slot2Spawns.spawn" + index;
+        }
+    }
+    
+    // ===== Writing =====
+    
+    /**
+     * Write the latest pending snapshot (runs on the writer thread)
+     */
+    private void writePending() {
+        PendingSave save = pendingWrite.getAndSet(null);
+        if (save != null) {
+            writeFiles(save);
+        }
+    }
+    
+    private synchronized void writeFiles(PendingSave save) {
+        // data.yml first, so a cache written after it is never older
+        if (writeAtomically(dataFile, save.settings.getBytes(StandardCharsets.UTF_8))
+                && (save.mapData == null || writeAtomically(mapDataFile, save.mapData))) {
+            plugin.getLogger().info("데이터 저장 완료");
+        }
+    }
+    
+    /**
+     * Write data to a temp file and rename it over the target file
+     */
+    private boolean writeAtomically(File target, byte[] data) {
+        File tempFile = new File(target.getParentFile(), target.getName() + ".tmp");
         try {
             // Create plugin data folder if it doesn't exist
             if (!plugin.getDataFolder().exists()) {
                 plugin.getDataFolder().mkdirs();
             }
-            config.save(dataFile);
-            plugin.getLogger().info("데이터 저장 완료");
+            Files.write(tempFile.toPath(), data);
+            try {
+                Files.move(tempFile.toPath(), target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
         } catch (IOException e) {
             plugin.getLogger().severe("데이터 저장 실패: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
     }
     
     /**
-     * Serialize a location to a configuration section
+     * Capture all data (must run on the main thread)
      */
-    private void serializeLocation(ConfigurationSection section, Location loc) {
-        if (loc == null || loc.getWorld() == null) {
-            return;
+    private PendingSave capture() {
+        YamlConfiguration settings = new YamlConfiguration();
+        if (config != null && config.isConfigurationSection("music")) {
+            settings.createSection("music", config.getConfigurationSection("music").getValues(false));
         }
-        section.set("world", loc.getWorld().getName());
-        section.set("x", loc.getX());
-        section.set("y", loc.getY());
-        section.set("z", loc.getZ());
-        section.set("yaw", loc.getYaw());
-        section.set("pitch", loc.getPitch());
+        if (config != null && config.contains(BINARY_CACHE_PATH)) {
+            settings.set(BINARY_CACHE_PATH, config.getBoolean(BINARY_CACHE_PATH));
+        }
+        
+        MapSnapshot snapshot = buildMapSnapshot();
+        writeYaml(settings, snapshot);
+        return new PendingSave(settings.saveToString(), isBinaryCacheEnabled() ? snapshot.toBytes() : null);
     }
     
     /**
-     * Deserialize a location from a configuration section
+     * Build a map snapshot from the map and lobby managers (must run on the main thread)
      */
-    private Location deserializeLocation(ConfigurationSection section) {
-        if (section == null) {
-            return null;
-        }
+    private MapSnapshot buildMapSnapshot() {
+        Map<String, List<MapSnapshot.Point>> worlds = new LinkedHashMap<>();
         
-        String worldName = section.getString("world");
-        if (worldName == null) {
-            return null;
+        if (lobbyManager.hasLobbyLocation()) {
+            addPoint(worlds, MapSnapshot.Kind.LOBBY, lobbyManager.getLobbyLocation(), null);
         }
-        
-        World world = Bukkit.getWorld(worldName);
-        if (world == null) {
-            plugin.getLogger().warning("월드를 찾을 수 없습니다: " + worldName);
-            return null;
+        for (Location loc : mapManager.getAllSpawnLocations()) {
+            addPoint(worlds, MapSnapshot.Kind.MAP, loc, mapManager.getMapName(loc));
+        }
+        if (mapManager.hasPracticeMap()) {
+            addPoint(worlds, MapSnapshot.Kind.PRACTICE_MAP, mapManager.getPracticeMap(), mapManager.getPracticeMapName());
+        }
+        if (mapManager.hasSlot1Map()) {
+            addPoint(worlds, MapSnapshot.Kind.SLOT1_MAP, mapManager.getSlot1Map(), mapManager.getSlot1MapName());
+        }
+        if (mapManager.hasSlot2Map()) {
+            addPoint(worlds, MapSnapshot.Kind.SLOT2_MAP, mapManager.getSlot2Map(), mapManager.getSlot2MapName());
+        }
+        for (Location loc : mapManager.getSlot1Spawns()) {
+            addPoint(worlds, MapSnapshot.Kind.SLOT1_SPAWN, loc, null);
+        }
+        for (Location loc : mapManager.getSlot2Spawns()) {
+            addPoint(worlds, MapSnapshot.Kind.SLOT2_SPAWN, loc, null);
         }
         
-        double x = section.getDouble("x");
-        double y = section.getDouble("y");
-        double z = section.getDouble("z");
-        float yaw = (float) section.getDouble("yaw");
-        float pitch = (float) section.getDouble("pitch");
+        MapSnapshot snapshot = new MapSnapshot();
+        for (Map.Entry<String, List<MapSnapshot.Point>> entry : worlds.entrySet()) {
+            snapshot.setPoints(entry.getKey(), entry.getValue());
+        }
         
-        return new Location(world, x, y, z, yaw, pitch);
+        // Data of worlds that were not loaded this session is saved back unchanged
+        for (String worldName : unloadedWorlds.getWorldNames()) {
+            if (!snapshot.hasWorld(worldName)) {
+                snapshot.copyWorld(unloadedWorlds, worldName);
+            }
+        }
+        return snapshot;
+    }
+    
+    private void addPoint(Map<String, List<MapSnapshot.Point>> worlds, MapSnapshot.Kind kind, Location loc, String name) {
+        if (loc == null || loc.getWorld() == null) {
+            return;
+        }
+        worlds.computeIfAbsent(loc.getWorld().getName(), key -> new ArrayList<>()).add(new MapSnapshot.Point(kind,
+            loc.getX(), loc.getY(), loc.getZ(), loc.getYaw(), loc.getPitch(), name));
     }
 }
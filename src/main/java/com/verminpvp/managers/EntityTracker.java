@@ -0,0 +1,214 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Registry of the entities game end has to remove
+ * 
+ * Entities the plugin spawns (horses, poison fields, potion clouds) are tracked by
+ * their handlers, and every non-player entity spawning in a world an active match
+ * uses (mobs, drops, projectiles) is tracked from the spawn event. Entities leave
+ * the registry when they are gone (death, pickup, despawn, removal). Entities in
+ * unloaded chunks stay tracked; game end loads their chunk to remove them.
+ * Game end removes exactly the tracked entities of the released worlds, a bounded
+ * number per tick, instead of scanning every entity of every loaded world.
+ */
+public class EntityTracker implements Listener {
+    
+    // Entities removed per tick while a cleanup is pending
+    private static final int REMOVALS_PER_TICK = 64;
+    
+    private final CombatTicker combatTicker;
+    private final Predicate<World> arenaWorld;
+    
+    // Entity -> tracked entity, in spawn order
+    private final Map<UUID, Entity> tracked = new LinkedHashMap<>();
+    
+    // Entities waiting to be removed
+    private final Deque<Entity> removals = new ArrayDeque<>();
+    
+    private CombatTicker.TickTask driver;
+    
+    /**
+     * @param arenaWorld Tests if a world is used by an active match
+     */
+    public EntityTracker(CombatTicker combatTicker, Predicate<World> arenaWorld) {
+        this.combatTicker = combatTicker;
+        this.arenaWorld = arenaWorld;
+    }
+    
+    /**
+     * Track an entity the plugin spawned (wherever it spawned)
+     */
+    public void track(Entity entity) {
+        tracked.put(entity.getUniqueId(), entity);
+    }
+    
+    /**
+     * Check if an entity is tracked
+     */
+    public boolean isTracked(Entity entity) {
+        return tracked.containsKey(entity.getUniqueId());
+    }
+    
+    /**
+     * Number of tracked entities
+     */
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+    
+    /**
+     * Number of entities waiting to be removed
+     */
+    public int getPendingRemovalCount() {
+        return removals.size();
+    }
+    
+    /**
+     * Remove the tracked entities in the given worlds over the next ticks (called on game end)
+     * 
+     * @return The number of entities queued for removal
+     */
+    public int removeIn(Collection<World> worlds) {
+        int queued = 0;
+        Iterator<Entity> iterator = tracked.values().iterator();
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+            if (worlds.contains(entity.getWorld())) {
+                iterator.remove();
+                removals.add(entity);
+                queued++;
+            }
+        }
+        
+        if (!removals.isEmpty()) {
+            driver = combatTicker.ensureEveryTick(driver, this::tick);
+        }
+        return queued;
+    }
+    
+    /**
+     * Remove every tracked entity of a type right away
+     * 
+     * @return The number of entities removed
+     */
+    public int removeAll(Class<? extends Entity> type) {
+        int removed = 0;
+        Iterator<Entity> iterator = tracked.values().iterator();
+        while (iterator.hasNext()) {
+            Entity entity = iterator.next();
+            if (type.isInstance(entity)) {
+                iterator.remove();
+                discard(entity, false);
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    /**
+     * Remove every entity still waiting for removal right away (called on shutdown)
+     */
+    public void flush() {
+        while (!removals.isEmpty()) {
+            discard(removals.poll(), true);
+        }
+        
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * Track non-player entities spawning in worlds used by an active match
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent event) {
+        Entity entity = event.getEntity();
+        if (!(entity instanceof Player) && arenaWorld.test(entity.getWorld())) {
+            track(entity);
+        }
+    }
+    
+    /**
+     * Forget entities that died, despawned, were picked up or were removed
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemove(EntityRemoveEvent event) {
+        // Entities unloaded with their chunk still exist (persistent horses) and stay tracked
+        if (event.getCause() != EntityRemoveEvent.Cause.UNLOAD) {
+            tracked.remove(event.getEntity().getUniqueId());
+        }
+    }
+    
+    /**
+     * Remove the next batch of queued entities (runs every tick while removals are pending)
+     */
+    void tick() {
+        for (int i = 0; i < REMOVALS_PER_TICK && !removals.isEmpty(); i++) {
+            discard(removals.poll(), false);
+        }
+        
+        if (removals.isEmpty() && driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * Remove an entity, loading its chunk first if it was unloaded
+     * 
+     * A tracked entity that is not valid was unloaded with its chunk (gone entities are
+     * untracked), so the reference is stale: the entity is looked up again by UUID in
+     * its chunk once loaded, in the background unless immediately is set.
+     */
+    private void discard(Entity entity, boolean immediately) {
+        if (entity.isValid()) {
+            entity.remove();
+            return;
+        }
+        
+        Location location = entity.getLocation();
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        
+        UUID entityId = entity.getUniqueId();
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        if (immediately) {
+            removeFrom(world.getChunkAt(chunkX, chunkZ), entityId);
+        } else {
+            world.getChunkAtAsync(chunkX, chunkZ).thenAccept(chunk -> removeFrom(chunk, entityId));
+        }
+    }
+    
+    private void removeFrom(Chunk chunk, UUID entityId) {
+        for (Entity entity : chunk.getEntities()) {
+            if (entity.getUniqueId().equals(entityId)) {
+                entity.remove();
+            }
+        }
+    }
+}
@@ -4,8 +4,9 @@ import com.verminpvp.VerminPVP;
 import com.verminpvp.models.ClassType;
 import com.verminpvp.models.GameMode;
 import com.verminpvp.models.Team;
-import net.md_5.bungee.api.ChatMessageType;
-import net.md_5.bungee.api.chat.TextComponent;
+import com.verminpvp.ui.ActionBarCompositor;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -15,37 +16,55 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 /**
  * Manages game state, timer, and player effects during the game
+ * 
+ * Each game runs as its own Match (arena) with its own participants, map slot,
+ * timer and boss bar, so several matches can run on one server at the same time.
  */
 public class GameManager {
     
     private final Plugin plugin;
     private final ClassManager classManager;
     private final TeamManager teamManager;
+    private final CombatTicker combatTicker;
+    private final MoveDispatcher moveDispatcher;
+    private final CrowdControl crowdControl;
+    private final ProjectileRegistry projectileRegistry;
+    private final ChunkPreloader chunkPreloader;
+    private final ArenaRestorer arenaRestorer;
+    private final EntityTracker entityTracker;
     private ExcludeManager excludeManager;
     private MapManager mapManager;
     private LobbyManager lobbyManager;
     private com.verminpvp.managers.MusicManager musicManager;
     
-    private boolean gameActive = false;
-    private boolean countdownActive = false;
     private boolean monitoringClassSelection = false;
-    private boolean inFreezePeriod = false; // Track freeze period (first 10 seconds of game)
-    private GameMode gameMode = GameMode.SOLO; // Default to solo mode (개인전)
-    private int gameTimeRemaining = 0; // in seconds
-    private BukkitTask gameTimerTask;
-    private BukkitTask effectTask;
+    private GameMode gameMode = GameMode.SOLO; // Mode for the next match - default to solo mode (개인전)
     private BukkitTask classSelectionMonitorTask;
-    private org.bukkit.boss.BossBar timeBossBar; // Boss bar for time display
     private ClassType bannedClass = null; // Track banned class from voting
     
+    // Matches by id, the match each participant belongs to, and the match in countdown
+    private final Map<String, Match> matches = new LinkedHashMap<>();
+    private final Map<UUID, Match> playerMatches = new HashMap<>();
+    private Match countdownMatch;
+    private int nextMatchId = 1;
+    
+    // Registry of online players that are not in a match (class selection, practice mode)
+    private final ParticipantRegistry lobbyRegistry = new ParticipantRegistry();
+    
+    // Ally/enemy table for targeting checks, rebuilt after team, mode and practice changes
+    private final HostilityMatrix lobbyHostility;
+    
     // Track original player states
     private final Map<UUID, Boolean> originalOpStatus = new HashMap<>();
     private final Map<UUID, org.bukkit.GameMode> originalGameMode = new HashMap<>();
@@ -65,10 +84,6 @@ public class GameManager {
     // Track practice mode boss bars (player UUID -> BossBar)
     private final Map<UUID, org.bukkit.boss.BossBar> practiceModeBossBars = new HashMap<>();
     
-    // Track game worlds for reset
-    private final Set<String> gameWorlds = new HashSet<>();
-    private boolean multiverseEnabled = false;
-    
     private static final int GAME_DURATION = 300; // 5 minutes in seconds
     private static final int COUNTDOWN_DURATION = 10; // 10 seconds countdown
     private static final int FREEZE_DURATION = 10; // 10 seconds freeze
@@ -79,23 +94,19 @@ public class GameManager {
         this.plugin = plugin;
         this.classManager = classManager;
         this.teamManager = teamManager;
-        
-        // Check if Multiverse-Core is available
-        checkMultiverseCore();
-    }
-    
-    /**
-     * Check if Multiverse-Core plugin is available
-     */
-    private void checkMultiverseCore() {
-        Plugin mvPlugin = Bukkit.getPluginManager().getPlugin("Multiverse-Core");
-        if (mvPlugin != null && mvPlugin.isEnabled()) {
-            multiverseEnabled = true;
-            plugin.getLogger().info("Multiverse-Core detected! World reset feature enabled.");
-        } else {
-            multiverseEnabled = false;
-            plugin.getLogger().info("Multiverse-Core not found. World reset feature disabled.");
-            plugin.getLogger().info("Install Multiverse-Core to enable automatic world reset after games.");
+        this.combatTicker = new CombatTicker(plugin);
+        this.moveDispatcher = new MoveDispatcher();
+        this.crowdControl = new CrowdControl(plugin, combatTicker, Bukkit::getCurrentTick);
+        this.projectileRegistry = new ProjectileRegistry(plugin, combatTicker, Bukkit::getCurrentTick);
+        this.chunkPreloader = new ChunkPreloader(plugin);
+        this.arenaRestorer = new ArenaRestorer(plugin, combatTicker, this::regenerateWorld);
+        this.entityTracker = new EntityTracker(combatTicker, world -> isWorldInUse(world.getName(), null));
+        this.lobbyHostility = new HostilityMatrix(lobbyRegistry,
+            playerId -> gameMode == GameMode.TEAM && !isInPracticeMode(playerId));
+        
+        // Register players that are already online (plugin reload)
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            lobbyRegistry.add(player, teamManager.getPlayerTeam(player), classManager.getPlayerClass(player), false);
         }
     }
     
@@ -115,6 +126,48 @@ public class GameManager {
         Bukkit.getLogger().info("[ChaosPVP] Saved OP status for " + player.getName() + ": " + isOp);
     }
     
+    /**
+     * Get the combat tick driver that class handlers register recurring work with
+     */
+    public CombatTicker getCombatTicker() {
+        return combatTicker;
+    }
+    
+    /**
+     * Get the move dispatcher that class handlers route movement-sensitive states through
+     */
+    public MoveDispatcher getMoveDispatcher() {
+        return moveDispatcher;
+    }
+    
+    /**
+     * Get the crowd-control engine that owns freeze, root and slow states
+     */
+    public CrowdControl getCrowdControl() {
+        return crowdControl;
+    }
+    
+    /**
+     * Get the registry that tags ability projectiles with their owner
+     */
+    public ProjectileRegistry getProjectileRegistry() {
+        return projectileRegistry;
+    }
+    
+    /**
+     * Get the arena restorer that records and undoes block changes in game worlds
+     */
+    public ArenaRestorer getArenaRestorer() {
+        return arenaRestorer;
+    }
+    
+    /**
+     * Get the registry of spawned entities that game end removes
+     */
+    public EntityTracker getEntityTracker() {
+        return entityTracker;
+    }
+    
     /**
      * Get the MapManager instance
      */
@@ -132,12 +185,203 @@ public class GameManager {
         this.musicManager = musicManager;
     }
     
+    // ========== Matches ==========
+    
+    /**
+     * Get the match a player is taking part in
+     * 
+     * @return The player's match, or null if the player is not in a match
+     */
+    public Match getMatch(Player player) {
+        return player != null ? playerMatches.get(player.getUniqueId()) : null;
+    }
+    
+    /**
+     * Get all matches on the server
+     */
+    public Collection<Match> getMatches() {
+        return Collections.unmodifiableCollection(matches.values());
+    }
+    
+    /**
+     * Get the participant registry a player belongs to (their match, or the lobby)
+     */
+    public ParticipantRegistry getRegistry(UUID playerId) {
+        Match match = playerMatches.get(playerId);
+        return match != null ? match.getRegistry() : lobbyRegistry;
+    }
+    
+    /**
+     * Get the participant registry of players that are not in a match
+     */
+    public ParticipantRegistry getLobbyRegistry() {
+        return lobbyRegistry;
+    }
+    
+    /**
+     * Remove every player from their team in all registries
+     */
+    public void clearRegistryTeams() {
+        lobbyRegistry.clearTeams();
+        for (Match match : matches.values()) {
+            match.getRegistry().clearTeams();
+        }
+    }
+    
+    /**
+     * Check if an acting player's abilities may hurt a target player
+     * 
+     * Teammates are spared only in team mode outside practice mode.
+     */
+    public boolean isHostile(Player actor, Player target) {
+        return getHostility(actor.getUniqueId()).isHostile(actor, target);
+    }
+    
+    /**
+     * Get the ally/enemy table of a player's match (the lobby table if not in one)
+     */
+    private HostilityMatrix getHostility(UUID playerId) {
+        Match match = playerMatches.get(playerId);
+        return match != null ? match.getHostility() : lobbyHostility;
+    }
+    
+    /**
+     * Register a joining player (rejoining match players keep their match entry)
+     */
+    public void onPlayerJoin(Player player) {
+        Match match = getMatch(player);
+        if (match != null) {
+            match.getRegistry().setOnline(player);
+        } else {
+            lobbyRegistry.add(player, teamManager.getPlayerTeam(player), classManager.getPlayerClass(player), false);
+        }
+    }
+    
+    /**
+     * Unregister a quitting player (match players stay registered but no longer count as alive)
+     */
+    public void onPlayerQuit(Player player) {
+        Match match = getMatch(player);
+        if (match != null) {
+            match.getRegistry().setOffline(player.getUniqueId());
+        } else {
+            lobbyRegistry.remove(player.getUniqueId());
+        }
+    }
+    
+    /**
+     * Mark a match player as eliminated
+     */
+    public void onPlayerDeath(Player player) {
+        Match match = getMatch(player);
+        if (match != null) {
+            match.getRegistry().setAlive(player.getUniqueId(), false);
+        }
+    }
+    
+    /**
+     * Check if a player can join the next match (not excluded and not already in a match)
+     */
+    public boolean isAvailableForMatch(Player player) {
+        if (excludeManager != null && excludeManager.isExcluded(player)) {
+            return false;
+        }
+        return !playerMatches.containsKey(player.getUniqueId());
+    }
+    
+    /**
+     * Create a new match and register it
+     */
+    private Match createMatch() {
+        Match match = new Match("arena-" + nextMatchId++, gameMode, this::isInPracticeMode);
+        matches.put(match.getId(), match);
+        return match;
+    }
+    
+    /**
+     * Add a player to a match
+     */
+    private void addToMatch(Match match, Player player) {
+        lobbyRegistry.remove(player.getUniqueId());
+        match.getRegistry().add(player, teamManager.getPlayerTeam(player), classManager.getPlayerClass(player),
+            player.getGameMode() == org.bukkit.GameMode.ADVENTURE);
+        playerMatches.put(player.getUniqueId(), match);
+    }
+    
+    /**
+     * Unregister a match, return its online players to the lobby registry and release its map slot
+     */
+    private void closeMatch(Match match) {
+        for (UUID playerId : match.getParticipants()) {
+            playerMatches.remove(playerId, match);
+        }
+        for (Player player : match.getOnlinePlayers()) {
+            lobbyRegistry.add(player, teamManager.getPlayerTeam(player), classManager.getPlayerClass(player), false);
+        }
+        matches.remove(match.getId());
+        if (countdownMatch == match) {
+            countdownMatch = null;
+        }
+        if (mapManager != null) {
+            mapManager.releaseSlots(match.getId());
+        }
+        chunkPreloader.release(match.getId());
+        CombatantIndex combatantIndex = ((VerminPVP) plugin).getCombatantIndex();
+        if (combatantIndex != null) {
+            combatantIndex.release(match.getId());
+        }
+        Bukkit.getLogger().info("[ChaosPVP] Closed match " + match.getId());
+    }
+    
+    /**
+     * Check if any match other than the given one is still in progress
+     */
+    private boolean hasOtherRunningMatch(Match match) {
+        for (Match other : matches.values()) {
+            if (other != match && other.isRunning()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check if a world is used by a running match other than the given one
+     */
+    private boolean isWorldInUse(String worldName, Match except) {
+        for (Match other : matches.values()) {
+            if (other != except && other.isRunning() && other.getGameWorlds().contains(worldName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get the worlds a finished match can clean up and restore
+     * (every world when no other match is running, otherwise only its own unshared worlds)
+     */
+    private List<World> getReleasableWorlds(Match match) {
+        if (!hasOtherRunningMatch(match)) {
+            return Bukkit.getWorlds();
+        }
+        
+        List<World> worlds = new ArrayList<>();
+        for (String worldName : match.getGameWorlds()) {
+            World world = Bukkit.getWorld(worldName);
+            if (world != null && !isWorldInUse(worldName, match)) {
+                worlds.add(world);
+            }
+        }
+        return worlds;
+    }
+    
     /**
      * Start monitoring for class selection completion
-     * Once all non-excluded players have selected a class, start the countdown
+     * Once all available players have selected a class, start the countdown
      */
     public void startClassSelectionMonitoring() {
-        if (monitoringClassSelection || gameActive || countdownActive) {
+        if (monitoringClassSelection || countdownMatch != null) {
             return;
         }
         
@@ -145,8 +389,8 @@ public class GameManager {
         
         // Check every second if all players have selected classes
         classSelectionMonitorTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            // Stop monitoring if game is no longer active or monitoring was cancelled
-            if (!monitoringClassSelection || gameActive || countdownActive) {
+            // Stop monitoring if a countdown started or monitoring was cancelled
+            if (!monitoringClassSelection || countdownMatch != null) {
                 if (classSelectionMonitorTask != null) {
                     classSelectionMonitorTask.cancel();
                     classSelectionMonitorTask = null;
@@ -160,8 +404,8 @@ public class GameManager {
             int playersWithClass = 0;
             
             for (Player player : Bukkit.getOnlinePlayers()) {
-                // Skip excluded players
-                if (excludeManager != null && excludeManager.isExcluded(player)) {
+                // Skip excluded players and players already in a match
+                if (!isAvailableForMatch(player)) {
                     continue;
                 }
                 
@@ -195,13 +439,34 @@ public class GameManager {
     /**
      * Start countdown before teleporting to map
      * Called after all players have selected their classes
+     * Every available player joins a new match
      */
     public void startCountdownAndGame() {
-        if (gameActive || countdownActive) {
+        if (countdownMatch != null) {
+            return;
+        }
+        
+        Match match = createMatch();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (isAvailableForMatch(player)) {
+                addToMatch(match, player);
+            }
+        }
+        
+        if (match.getParticipants().isEmpty()) {
+            closeMatch(match);
             return;
         }
         
-        countdownActive = true;
+        Bukkit.getLogger().info("[ChaosPVP] Created match " + match.getId() + " with " + match.getParticipants().size() + " players");
+        
+        countdownMatch = match;
+        match.setCountdownActive(true);
+        
+        // Load the arena while the countdown runs
+        if (mapManager != null) {
+            chunkPreloader.hold(match.getId(), getExpectedSpawns(match));
+        }
         
         // Schedule individual countdown messages using runTaskLater
         for (int i = 0; i <= COUNTDOWN_DURATION; i++) {
@@ -210,26 +475,46 @@ public class GameManager {
             if (secondsLeft > 0) {
                 // Schedule countdown message
                 Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                    if (countdownActive) {
-                        Bukkit.broadcastMessage("§e게임 시작까지: §f" + secondsLeft + "초");
+                    if (match.isCountdownActive()) {
+                        match.broadcast("§e게임 시작까지: §f" + secondsLeft + "초");
                     }
                 }, i * 20L);
             } else {
                 // Schedule game start
                 Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                    if (countdownActive) {
-                        countdownActive = false;
-                        teleportAndStartGame();
+                    if (match.isCountdownActive()) {
+                        match.setCountdownActive(false);
+                        if (countdownMatch == match) {
+                            countdownMatch = null;
+                        }
+                        teleportAndStartGame(match);
                     }
                 }, i * 20L);
             }
         }
     }
     
+    /**
+     * Get the spawn points a match in countdown will most likely be sent to
+     * (mirrors the slot choice in teleportPlayersToRandomMapSpawns)
+     */
+    private List<Location> getExpectedSpawns(Match match) {
+        int votedSlot = mapManager.getSlotNumber(mapManager.getVotedMap());
+        if (votedSlot == 0 && !hasOtherRunningMatch(match)) {
+            return mapManager.getAllSpawnLocations();
+        }
+        
+        int slot = mapManager.getFreeSlot(votedSlot);
+        if (slot == 0) {
+            return Collections.emptyList();
+        }
+        return mapManager.getSpawnLocationsForSlot(mapManager.getSlotMap(slot));
+    }
+    
     /**
      * Teleport players to lobby and start the game with freeze period
      */
-    private void teleportAndStartGame() {
+    private void teleportAndStartGame(Match match) {
         // Get lobby location
         Location lobbyLocation = null;
         if (lobbyManager != null && lobbyManager.hasLobbyLocation()) {
@@ -237,13 +522,14 @@ public class GameManager {
         }
         
         if (lobbyLocation == null) {
-            Bukkit.broadcastMessage("§c로비를 찾을 수 없습니다!");
-            Bukkit.broadcastMessage("§7관리자는 /로비 지정 명령어로 로비를 설정해주세요.");
+            match.broadcast("§c로비를 찾을 수 없습니다!");
+            match.broadcast("§7관리자는 /로비 지정 명령어로 로비를 설정해주세요.");
+            closeMatch(match);
             return;
         }
         
         // Broadcast lobby teleport
-        Bukkit.broadcastMessage("§a로비로 이동합니다...");
+        match.broadcast("§a로비로 이동합니다...");
         
         // Set world difficulty to NORMAL and disable natural regeneration
         if (lobbyLocation.getWorld() != null) {
@@ -251,14 +537,16 @@ public class GameManager {
             lobbyLocation.getWorld().setGameRule(org.bukkit.GameRule.NATURAL_REGENERATION, false);
         }
         
-        // Teleport all non-excluded players to lobby
+        // Excluded players who are not in a match watch as spectators
         for (Player player : Bukkit.getOnlinePlayers()) {
-            if (excludeManager != null && excludeManager.isExcluded(player)) {
+            if (excludeManager != null && excludeManager.isExcluded(player) && getMatch(player) == null) {
                 player.setGameMode(org.bukkit.GameMode.SPECTATOR);
                 player.sendMessage("§7게임 참여에서 제외되어 관전 모드로 전환되었습니다.");
-                continue;
             }
-            
+        }
+        
+        // Teleport all match players to lobby
+        for (Player player : match.getOnlinePlayers()) {
             // NOTE: OP status and game mode are already saved and handled by StartGameCommand
             // Do NOT save/remove OP here to avoid overwriting the original status
             
@@ -274,359 +562,361 @@ public class GameManager {
         }
         
         // Immediately teleport to map (no 10 second wait)
-        teleportPlayersToRandomMapSpawns();
+        teleportPlayersToRandomMapSpawns(match);
     }
     
     /**
-     * Teleport each player to a random map spawn location
+     * Teleport each match player to a random spawn location of the match's map
+     * The voted map slot is bound to the match; if another match is using it, a free slot is used instead
      */
-    private void teleportPlayersToRandomMapSpawns() {
+    private void teleportPlayersToRandomMapSpawns(Match match) {
         // Check if a voted map is available
         Location votedMap = mapManager.getVotedMap();
         
-        if (votedMap != null) {
-            // Use voted map - get all spawn points for this map
-            java.util.List<Location> mapSpawns = mapManager.getSpawnLocationsForSlot(votedMap);
+        // Clear voted map for next game
+        mapManager.clearVotedMap();
+        
+        // Bind a map slot to this match
+        int votedSlot = mapManager.getSlotNumber(votedMap);
+        int slot = votedSlot;
+        if (slot != 0 || hasOtherRunningMatch(match)) {
+            slot = mapManager.getFreeSlot(votedSlot);
+            if (slot == 0) {
+                match.broadcast("§c사용 가능한 맵이 없습니다! 다른 게임이 끝난 후 다시 시작해주세요.");
+                abortMatch(match);
+                return;
+            }
+            if (votedSlot != 0 && slot != votedSlot) {
+                match.broadcast("§e투표로 선택된 맵은 다른 게임에서 사용 중이라 다른 맵으로 이동합니다.");
+            }
+            mapManager.claimSlot(slot, match.getId());
+        }
+        
+        if (slot != 0) {
+            Location slotMap = mapManager.getSlotMap(slot);
+            String slotMapName = mapManager.getSlotMapName(slot);
+            match.setMap(slot, slotMap, slotMapName);
+            
+            // Use bound map - get all spawn points for this map
+            java.util.List<Location> mapSpawns = mapManager.getSpawnLocationsForSlot(slotMap);
             
             if (mapSpawns.isEmpty()) {
-                Bukkit.broadcastMessage("§c선택된 맵에 스폰 포인트가 없습니다!");
-                Bukkit.broadcastMessage("§7관리자는 /맵지정 명령어로 해당 맵에 스폰 포인트를 추가해주세요.");
+                match.broadcast("§c선택된 맵에 스폰 포인트가 없습니다!");
+                match.broadcast("§7관리자는 /맵지정 명령어로 해당 맵에 스폰 포인트를 추가해주세요.");
+                abortMatch(match);
                 return;
             }
             
-            Bukkit.broadcastMessage("§e투표로 선택된 맵으로 이동합니다!");
-            
-            // Clear game worlds set
-            gameWorlds.clear();
+            match.broadcast(slot == votedSlot ? "§e투표로 선택된 맵으로 이동합니다!" : "§e맵으로 이동합니다!");
             
             // Track game world for reset
-            if (votedMap.getWorld() != null) {
-                gameWorlds.add(votedMap.getWorld().getName());
+            match.getGameWorlds().clear();
+            if (slotMap.getWorld() != null) {
+                match.getGameWorlds().add(slotMap.getWorld().getName());
             }
+            arenaRestorer.track(mapSpawns);
+            
+            // Keep the bound map loaded for the match (usually already loaded during the countdown)
+            chunkPreloader.hold(match.getId(), mapSpawns);
             
             // Shuffle spawn locations to ensure randomness
             java.util.Collections.shuffle(mapSpawns);
             
             // Teleport each player to a unique spawn location
             int spawnIndex = 0;
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                    // Get unique spawn location (cycle through if more players than spawns)
-                    Location spawn = mapSpawns.get(spawnIndex % mapSpawns.size()).clone();
-                    spawnIndex++;
-                    
-                    player.teleport(spawn);
-                    player.sendTitle("§a맵 도착", "§710초 후 게임 시작", 10, 40, 10);
-                }
+            for (Player player : match.getAlivePlayers()) {
+                // Get unique spawn location (cycle through if more players than spawns)
+                Location spawn = mapSpawns.get(spawnIndex % mapSpawns.size()).clone();
+                spawnIndex++;
+                
+                player.teleportAsync(spawn);
+                player.sendTitle("§a맵 도착", "§710초 후 게임 시작", 10, 40, 10);
             }
             
-            // Check if it's sky island map and start effects
-            // Debug log
-            Bukkit.getLogger().info("[ChaosPVP] Checking if voted map is sky island...");
-            Bukkit.getLogger().info("[ChaosPVP] Voted map: " + votedMap);
-            Bukkit.getLogger().info("[ChaosPVP] Slot1 map: " + mapManager.getSlot1Map() + ", name: " + mapManager.getSlot1MapName());
-            Bukkit.getLogger().info("[ChaosPVP] Slot2 map: " + mapManager.getSlot2Map() + ", name: " + mapManager.getSlot2MapName());
+            Bukkit.getLogger().info("[ChaosPVP] Match " + match.getId() + " bound to slot " + slot + ": " + slotMapName);
             
-            // Check which slot was voted for
-            String votedMapName = null;
-            if (mapManager.getSlot1Map() != null && votedMap.equals(mapManager.getSlot1Map())) {
-                votedMapName = mapManager.getSlot1MapName();
-                Bukkit.getLogger().info("[ChaosPVP] Voted map is Slot 1: " + votedMapName);
-            } else if (mapManager.getSlot2Map() != null && votedMap.equals(mapManager.getSlot2Map())) {
-                votedMapName = mapManager.getSlot2MapName();
-                Bukkit.getLogger().info("[ChaosPVP] Voted map is Slot 2: " + votedMapName);
-            }
-            
-            // Check if the voted map name contains "하늘섬" or "skyisland" (case insensitive)
-            if (votedMapName != null && (votedMapName.contains("하늘섬") || votedMapName.toLowerCase().contains("skyisland") || votedMapName.toLowerCase().contains("sky"))) {
+            // Check if the map name contains "하늘섬" or "skyisland" (case insensitive)
+            if (slotMapName != null && (slotMapName.contains("하늘섬") || slotMapName.toLowerCase().contains("skyisland") || slotMapName.toLowerCase().contains("sky"))) {
                 Bukkit.getLogger().info("[ChaosPVP] Sky island detected! Starting effects...");
                 VerminPVP pluginInstance = (VerminPVP) plugin;
-                if (pluginInstance.getSkyIslandEffectHandler() != null) {
-                    pluginInstance.getSkyIslandEffectHandler().startEffects(votedMap);
-                    Bukkit.broadcastMessage("§b하늘섬 맵 효과가 활성화되었습니다!");
-                } else {
+                if (pluginInstance.getSkyIslandEffectHandler() == null) {
                     Bukkit.getLogger().warning("[ChaosPVP] SkyIslandEffectHandler is null!");
+                } else if (pluginInstance.getSkyIslandEffectHandler().isActive()) {
+                    Bukkit.getLogger().info("[ChaosPVP] Sky island effects already run by another match");
+                } else {
+                    pluginInstance.getSkyIslandEffectHandler().startEffects(slotMap);
+                    match.setSkyIslandEffects(true);
+                    match.broadcast("§b하늘섬 맵 효과가 활성화되었습니다!");
                 }
             } else {
-                Bukkit.getLogger().info("[ChaosPVP] Not a sky island map (name: " + votedMapName + ")");
+                Bukkit.getLogger().info("[ChaosPVP] Not a sky island map (name: " + slotMapName + ")");
             }
-            
-            // Clear voted map for next game
-            mapManager.clearVotedMap();
         } else {
-            // No voted map, use random map (old behavior)
+            // No voted map and no other match running, use random map (old behavior)
             // Check if maps are available
             if (mapManager == null || !mapManager.hasSpawnLocations()) {
-                Bukkit.broadcastMessage("§c맵을 찾을 수 없습니다!");
-                Bukkit.broadcastMessage("§7관리자는 /맵지정 명령어로 맵을 설정해주세요.");
+                match.broadcast("§c맵을 찾을 수 없습니다!");
+                match.broadcast("§7관리자는 /맵지정 명령어로 맵을 설정해주세요.");
+                abortMatch(match);
                 return;
             }
             
             java.util.List<Location> availableSpawns = new java.util.ArrayList<>(mapManager.getAllSpawnLocations());
             
             if (availableSpawns.isEmpty()) {
-                Bukkit.broadcastMessage("§c사용 가능한 맵이 없습니다!");
+                match.broadcast("§c사용 가능한 맵이 없습니다!");
+                abortMatch(match);
                 return;
             }
             
             // Broadcast map teleport
-            Bukkit.broadcastMessage("§e맵으로 이동합니다!");
+            match.broadcast("§e맵으로 이동합니다!");
             
             // Clear game worlds set
-            gameWorlds.clear();
+            match.getGameWorlds().clear();
             
             // Shuffle spawn locations to ensure randomness
             java.util.Collections.shuffle(availableSpawns);
             
+            // Keep the spawns that will be used loaded for the match
+            List<Player> alivePlayers = match.getAlivePlayers();
+            List<Location> usedSpawns = availableSpawns.subList(0, Math.min(alivePlayers.size(), availableSpawns.size()));
+            chunkPreloader.hold(match.getId(), usedSpawns);
+            arenaRestorer.track(usedSpawns);
+            
             // Teleport each player to a unique spawn location
             int spawnIndex = 0;
-            for (Player player : Bukkit.getOnlinePlayers()) {
-                if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                    // Get unique spawn location (cycle through if more players than spawns)
-                    Location spawn = availableSpawns.get(spawnIndex % availableSpawns.size()).clone();
-                    spawnIndex++;
-                    
-                    // Track game world for reset
-                    if (spawn.getWorld() != null) {
-                        gameWorlds.add(spawn.getWorld().getName());
-                    }
-                    
-                    // Teleport player
-                    player.teleport(spawn);
-                    
-                    // Show title
-                    player.sendTitle("§a맵 도착", "§710초 후 게임 시작", 10, 40, 10);
+            for (Player player : alivePlayers) {
+                // Get unique spawn location (cycle through if more players than spawns)
+                Location spawn = availableSpawns.get(spawnIndex % availableSpawns.size()).clone();
+                spawnIndex++;
+                
+                // Track game world for reset
+                if (spawn.getWorld() != null) {
+                    match.getGameWorlds().add(spawn.getWorld().getName());
                 }
+                
+                // Teleport player
+                player.teleportAsync(spawn);
+                
+                // Show title
+                player.sendTitle("§a맵 도착", "§710초 후 게임 시작", 10, 40, 10);
             }
         }
         
+        // Index combatants in the match's worlds from now on
+        bindCombatWorlds(match);
+        
         // Start freeze period
-        startFreezePeriodWithCountdown();
+        startFreezePeriodWithCountdown(match);
+    }
+    
+    /**
+     * Let the spatial index track the worlds a match plays in (released when the match closes)
+     */
+    private void bindCombatWorlds(Match match) {
+        CombatantIndex combatantIndex = ((VerminPVP) plugin).getCombatantIndex();
+        if (combatantIndex == null) {
+            return;
+        }
+        
+        List<World> worlds = new ArrayList<>();
+        for (String worldName : match.getGameWorlds()) {
+            World world = Bukkit.getWorld(worldName);
+            if (world != null) {
+                worlds.add(world);
+            }
+        }
+        combatantIndex.bind(match.getId(), worlds);
     }
     
     /**
      * Start freeze period with countdown (non-repeating)
      */
-    private void startFreezePeriodWithCountdown() {
-        Bukkit.broadcastMessage("§e10초 후 게임이 시작됩니다!");
+    private void startFreezePeriodWithCountdown(Match match) {
+        match.broadcast("§e10초 후 게임이 시작됩니다!");
         
         // Set freeze period flag
-        inFreezePeriod = true;
+        match.setInFreezePeriod(true);
+        MoveDispatcher.Channel freezeMoves = moveDispatcher.getChannel(MoveDispatcher.FREEZE_PERIOD);
         
         // Apply freeze effects to all players
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                // Slowness 255 (완전히 움직이지 못하게)
-                player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 
-                    FREEZE_DURATION * 20, 255, false, false, false));
-                // Jump Boost -100 (점프 불가)
-                player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP_BOOST, 
-                    FREEZE_DURATION * 20, 128, false, false, false));
-                // Mining Fatigue 255 (블록 파괴 불가)
-                player.addPotionEffect(new PotionEffect(PotionEffectType.MINING_FATIGUE, 
-                    FREEZE_DURATION * 20, 255, false, false, false));
+        for (Player player : match.getAlivePlayers()) {
+            if (freezeMoves != null) {
+                freezeMoves.subscribe(player.getUniqueId());
             }
+            
+            // Slowness 255 (완전히 움직이지 못하게)
+            player.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, 
+                FREEZE_DURATION * 20, 255, false, false, false));
+            // Jump Boost -100 (점프 불가)
+            player.addPotionEffect(new PotionEffect(PotionEffectType.JUMP_BOOST, 
+                FREEZE_DURATION * 20, 128, false, false, false));
+            // Mining Fatigue 255 (블록 파괴 불가)
+            player.addPotionEffect(new PotionEffect(PotionEffectType.MINING_FATIGUE, 
+                FREEZE_DURATION * 20, 255, false, false, false));
         }
         
         // Schedule countdown messages
         for (int i = 1; i <= FREEZE_DURATION; i++) {
             final int secondsLeft = FREEZE_DURATION - i + 1;
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                        player.spigot().sendMessage(ChatMessageType.ACTION_BAR, 
-                            new TextComponent("§c움직일 수 있을 때까지: §f" + secondsLeft + "초"));
-                    }
+                if (!match.isInFreezePeriod()) {
+                    return;
+                }
+                Component text = Component.text()
+                    .append(Component.text("움직일 수 있을 때까지: ", NamedTextColor.RED))
+                    .append(Component.text(secondsLeft + "초", NamedTextColor.WHITE))
+                    .build();
+                ActionBarCompositor compositor = ((VerminPVP) plugin).getActionBarCompositor();
+                for (Player player : match.getRegistry().getAlivePlayers()) {
+                    compositor.set(player, ActionBarCompositor.Slot.TIMER, text, 25L);
                 }
             }, i * 20L);
         }
         
         // Start game after freeze period
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            startGame();
+            if (match.isInFreezePeriod()) {
+                startGame(match);
+            }
         }, (FREEZE_DURATION + 1) * 20L);
     }
     
     /**
      * Start the game (called after freeze period)
      */
-    public void startGame() {
-        if (gameActive) {
+    private void startGame(Match match) {
+        if (match.isGameActive()) {
             return;
         }
         
         // End freeze period
-        inFreezePeriod = false;
+        match.setInFreezePeriod(false);
+        MoveDispatcher.Channel freezeMoves = moveDispatcher.getChannel(MoveDispatcher.FREEZE_PERIOD);
+        if (freezeMoves != null) {
+            for (UUID playerId : match.getParticipants()) {
+                freezeMoves.unsubscribe(playerId);
+            }
+        }
         
-        gameActive = true;
+        match.setGameActive(true);
         
         // Set game duration
-        gameTimeRemaining = GAME_DURATION; // 5 minutes
+        match.setGameTimeRemaining(GAME_DURATION); // 5 minutes
         
         // Broadcast game start
-        Bukkit.broadcastMessage("§a§l게임 시작!");
-        Bukkit.broadcastMessage("§e게임 모드: " + gameMode.getDisplayName());
-        Bukkit.broadcastMessage("§e게임 시간: 5분");
+        match.broadcast("§a§l게임 시작!");
+        match.broadcast("§e게임 모드: " + match.getGameMode().getDisplayName());
+        match.broadcast("§e게임 시간: 5분");
         
         // Play game start music after 10 seconds (after freeze period ends) - OPTIONAL
         if (musicManager != null && musicManager.isMusicEnabled()) {
             Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (gameActive) {
-                    musicManager.playGameStartMusic();
+                if (match.isGameActive()) {
+                    for (Player player : match.getAlivePlayers()) {
+                        musicManager.playMusicForPlayer(player);
+                    }
                 }
             }, 200L); // 10 seconds = 200 ticks
         }
         
         // Create boss bar for time display
-        createTimeBossBar();
+        match.createTimeBossBar();
         
         // Remove freeze effects and give starting items
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                player.removePotionEffect(PotionEffectType.SLOWNESS);
-                player.removePotionEffect(PotionEffectType.JUMP_BOOST);
-                player.removePotionEffect(PotionEffectType.MINING_FATIGUE);
-                
-                // Get player's class
-                ClassType playerClass = classManager.getPlayerClass(player);
-                
-                // Give stone sword to classes that need it
-                // Exclude: Plague Spreader, Shield Soldier, Critical Cutter, Navigator, Captain, Shapeshifter, Juggler, Dragon Fury, Swordsman, Cavalry, Vitality Cutter
-                if (playerClass != ClassType.PLAGUE_SPREADER &&
-                    playerClass != ClassType.SHIELD_SOLDIER && 
-                    playerClass != ClassType.CRITICAL_CUTTER &&
-                    playerClass != ClassType.NAVIGATOR &&
-                    playerClass != ClassType.CAPTAIN &&
-                    playerClass != ClassType.SHAPESHIFTER &&
-                    playerClass != ClassType.JUGGLER &&
-                    playerClass != ClassType.DRAGON_FURY &&
-                    playerClass != ClassType.SWORDSMAN &&
-                    playerClass != ClassType.CAVALRY &&
-                    playerClass != ClassType.VITALITY_CUTTER) {
-                    // All other classes get stone sword
-                    org.bukkit.inventory.ItemStack stoneSword = new org.bukkit.inventory.ItemStack(org.bukkit.Material.STONE_SWORD);
-                    org.bukkit.inventory.meta.ItemMeta swordMeta = stoneSword.getItemMeta();
-                    if (swordMeta != null) {
-                        swordMeta.setUnbreakable(true);
-                        swordMeta.setDisplayName("§7돌검");
-                        stoneSword.setItemMeta(swordMeta);
-                    }
-                    player.getInventory().addItem(stoneSword);
+        for (Player player : match.getAlivePlayers()) {
+            player.removePotionEffect(PotionEffectType.SLOWNESS);
+            player.removePotionEffect(PotionEffectType.JUMP_BOOST);
+            player.removePotionEffect(PotionEffectType.MINING_FATIGUE);
+            
+            // Get player's class
+            ClassType playerClass = classManager.getPlayerClass(player);
+            
+            // Give stone sword to classes that need it
+            // Exclude: Plague Spreader, Shield Soldier, Critical Cutter, Navigator, Captain, Shapeshifter, Juggler, Dragon Fury, Swordsman, Cavalry, Vitality Cutter
+            if (playerClass != ClassType.PLAGUE_SPREADER &&
+                playerClass != ClassType.SHIELD_SOLDIER && 
+                playerClass != ClassType.CRITICAL_CUTTER &&
+                playerClass != ClassType.NAVIGATOR &&
+                playerClass != ClassType.CAPTAIN &&
+                playerClass != ClassType.SHAPESHIFTER &&
+                playerClass != ClassType.JUGGLER &&
+                playerClass != ClassType.DRAGON_FURY &&
+                playerClass != ClassType.SWORDSMAN &&
+                playerClass != ClassType.CAVALRY &&
+                playerClass != ClassType.VITALITY_CUTTER) {
+                // All other classes get stone sword
+                org.bukkit.inventory.ItemStack stoneSword = new org.bukkit.inventory.ItemStack(org.bukkit.Material.STONE_SWORD);
+                org.bukkit.inventory.meta.ItemMeta swordMeta = stoneSword.getItemMeta();
+                if (swordMeta != null) {
+                    swordMeta.setUnbreakable(true);
+                    swordMeta.setDisplayName("§7돌검");
+                    stoneSword.setItemMeta(swordMeta);
                 }
-                
-                // Give diamond chestplate (unbreakable) to all classes
-                // Dragon Fury has iron armor set, so skip
-                if (playerClass != ClassType.DRAGON_FURY) {
-                    org.bukkit.inventory.ItemStack diamondChestplate = new org.bukkit.inventory.ItemStack(org.bukkit.Material.DIAMOND_CHESTPLATE);
-                    org.bukkit.inventory.meta.ItemMeta chestplateMeta = diamondChestplate.getItemMeta();
-                    if (chestplateMeta != null) {
-                        chestplateMeta.setUnbreakable(true);
-                        chestplateMeta.setDisplayName("§b다이아몬드 흉갑");
-                        diamondChestplate.setItemMeta(chestplateMeta);
-                    }
-                    player.getInventory().setChestplate(diamondChestplate);
+                player.getInventory().addItem(stoneSword);
+            }
+            
+            // Give diamond chestplate (unbreakable) to all classes
+            // Dragon Fury has iron armor set, so skip
+            if (playerClass != ClassType.DRAGON_FURY) {
+                org.bukkit.inventory.ItemStack diamondChestplate = new org.bukkit.inventory.ItemStack(org.bukkit.Material.DIAMOND_CHESTPLATE);
+                org.bukkit.inventory.meta.ItemMeta chestplateMeta = diamondChestplate.getItemMeta();
+                if (chestplateMeta != null) {
+                    chestplateMeta.setUnbreakable(true);
+                    chestplateMeta.setDisplayName("§b다이아몬드 흉갑");
+                    diamondChestplate.setItemMeta(chestplateMeta);
                 }
+                player.getInventory().setChestplate(diamondChestplate);
             }
         }
         
-        // Start all class-specific schedulers NOW (cooldowns and item generation begin here)
-        classManager.startAllClassSchedulers();
+        // Start class-specific schedulers for this match's players NOW (cooldowns and item generation begin here)
+        for (Player player : match.getOnlinePlayers()) {
+            ClassType playerClass = classManager.getPlayerClass(player);
+            if (playerClass != null) {
+                classManager.startClassSchedulers(player, playerClass);
+            }
+        }
         
         // Start game timer
-        startGameTimer();
+        startGameTimer(match);
         
         // Start effect refresh task
-        startEffectRefresh();
+        startEffectRefresh(match);
         
         // Check win condition immediately (for single player games)
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (gameActive) {
+            if (match.isGameActive()) {
                 Bukkit.getLogger().info("[ChaosPVP] Checking initial win condition after game start");
-                checkWinCondition();
+                checkWinCondition(match);
             }
         }, 20L); // Check after 1 second
     }
     
     /**
-     * Create boss bar for time display
-     */
-    private void createTimeBossBar() {
-        // Remove existing boss bar if any
-        if (timeBossBar != null) {
-            timeBossBar.removeAll();
-            timeBossBar = null;
-        }
-        
-        // Create new boss bar
-        timeBossBar = Bukkit.createBossBar(
-            "§a§l게임 진행 중",
-            org.bukkit.boss.BarColor.GREEN,
-            org.bukkit.boss.BarStyle.SOLID
-        );
-        
-        // Add all adventure mode players to boss bar
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                timeBossBar.addPlayer(player);
-            }
-        }
-        
-        // Make boss bar visible
-        timeBossBar.setVisible(true);
-    }
-    
-    /**
-     * Update boss bar with current time
-     */
-    private void updateTimeBossBar() {
-        if (timeBossBar == null) return;
-        
-        int minutes = gameTimeRemaining / 60;
-        int seconds = gameTimeRemaining % 60;
-        
-        // Update title
-        String title = String.format("§e남은 시간: §f%d:%02d", minutes, seconds);
-        timeBossBar.setTitle(title);
-        
-        // Update progress (0.0 to 1.0)
-        double progress = (double) gameTimeRemaining / GAME_DURATION;
-        timeBossBar.setProgress(Math.max(0.0, Math.min(1.0, progress)));
-        
-        // Change color based on time remaining
-        if (gameTimeRemaining <= 30) {
-            timeBossBar.setColor(org.bukkit.boss.BarColor.RED);
-        } else if (gameTimeRemaining <= 60) {
-            timeBossBar.setColor(org.bukkit.boss.BarColor.YELLOW);
-        } else {
-            timeBossBar.setColor(org.bukkit.boss.BarColor.GREEN);
-        }
-    }
-    
-    /**
-     * Remove boss bar
-     */
-    private void removeTimeBossBar() {
-        if (timeBossBar != null) {
-            timeBossBar.removeAll();
-            timeBossBar.setVisible(false);
-            timeBossBar = null;
-        }
-    }
-    
-    /**
-     * Set the game mode (team or solo)
+     * Set the game mode (team or solo) for the next match
      */
     public void setGameMode(GameMode mode) {
         this.gameMode = mode;
+        lobbyHostility.invalidate();
     }
     
     /**
-     * Get the current game mode
+     * Get the game mode the next match will use
      */
     public GameMode getGameMode() {
         return gameMode;
     }
     
+    /**
+     * Get the game mode of a player's match (the next match's mode if not in one)
+     */
+    public GameMode getGameMode(Player player) {
+        Match match = getMatch(player);
+        return match != null ? match.getGameMode() : gameMode;
+    }
+    
     /**
      * Set the banned class (from voting)
      */
@@ -649,41 +939,68 @@ public class GameManager {
     }
     
     /**
-     * End the game and announce winner
-     * This is called when the game timer runs out
+     * End a match and announce winner
+     * This is called when the match timer runs out
      */
-    public void endGame() {
-        if (!gameActive) {
+    private void endGame(Match match) {
+        if (!match.isGameActive()) {
             return;
         }
         
-        // Set all flags to false
-        gameActive = false;
-        countdownActive = false;
-        monitoringClassSelection = false;
-        inFreezePeriod = false;
+        // Stop match tasks and class effects
+        stopMatch(match);
         
-        // Cancel tasks
-        if (gameTimerTask != null) {
-            gameTimerTask.cancel();
-            gameTimerTask = null;
-        }
+        // Clean up world (remove mobs and items)
+        cleanupWorld(match);
         
-        if (effectTask != null) {
-            effectTask.cancel();
-            effectTask = null;
-        }
+        // Restore world settings
+        restoreWorldSettings(match);
         
+        // Restore player states, remove effects and clear classes
+        restoreMatchPlayers(match);
+        
+        // Determine winner
+        announceWinner(match);
+        
+        closeMatch(match);
+    }
+    
+    /**
+     * Forcefully end every match without announcing winners
+     */
+    public void forceEndGame() {
+        monitoringClassSelection = false;
         if (classSelectionMonitorTask != null) {
             classSelectionMonitorTask.cancel();
             classSelectionMonitorTask = null;
         }
         
-        // Reset game time
-        gameTimeRemaining = 0;
+        // Write a pending write-behind save now instead of relying on its delayed task
+        VerminPVP verminPlugin = (VerminPVP) plugin;
+        if (verminPlugin.getDataManager() != null) {
+            verminPlugin.getDataManager().flush();
+        }
+        
+        // Cancel match-owned tasks only; engine tasks (index sweep, arena resets, saves) keep running
+        List<Match> endedMatches = new ArrayList<>(matches.values());
+        for (Match match : endedMatches) {
+            match.resetState();
+            match.cancelTasks();
+            for (UUID playerId : match.getParticipants()) {
+                combatTicker.cancelOwner(playerId);
+            }
+        }
+        moveDispatcher.clear();
+        crowdControl.clear();
+        projectileRegistry.clear();
         
-        // Remove boss bar
-        removeTimeBossBar();
+        // End practice sessions (their timers belong to the game, not the engines)
+        for (UUID playerId : new ArrayList<>(practiceModeStatus.keySet())) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                setPracticeMode(player, false);
+            }
+        }
         
         // Stop game music
         if (musicManager != null) {
@@ -691,166 +1008,185 @@ public class GameManager {
         }
         
         // Stop sky island effects if active
-        VerminPVP pluginInstance = (VerminPVP) plugin;
-        if (pluginInstance.getSkyIslandEffectHandler() != null) {
-            pluginInstance.getSkyIslandEffectHandler().stopEffects();
+        if (verminPlugin.getSkyIslandEffectHandler() != null) {
+            verminPlugin.getSkyIslandEffectHandler().stopEffects();
         }
         
         // Clean up class-specific effects
-        cleanupClassEffects();
+        classManager.cleanupAllClassHandlers();
+        verminPlugin.getCooldownManager().clearAll();
         
         // Clean up world (remove mobs and items)
-        cleanupWorld();
+        cleanupWorld(Bukkit.getWorlds());
         
         // Restore world settings
-        restoreWorldSettings();
+        restoreWorldSettings(Bukkit.getWorlds());
         
-        // Restore player states and remove effects
+        // Restore player states and remove effects (everyone, including players still in the lobby phase)
         for (Player player : Bukkit.getOnlinePlayers()) {
-            removeGameEffects(player);
-            restorePlayerState(player);
-            
-            // Remove glowing effect
-            player.setGlowing(false);
-            
-            // Clear all resources (including Scientist's Ultimate Ingredient stacks)
-            VerminPVP pluginInstance2 = (VerminPVP) plugin;
-            if (pluginInstance2.getResourceTracker() != null) {
-                pluginInstance2.getResourceTracker().clearResources(player.getUniqueId());
+            restoreAfterGame(player);
+        }
+        
+        // Teleport all players to lobby if set
+        if (lobbyManager != null && lobbyManager.hasLobbyLocation()) {
+            Location lobbyLocation = lobbyManager.getLobbyLocation();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                player.teleport(lobbyLocation);
             }
+            Bukkit.broadcastMessage("§a모든 플레이어가 로비로 이동했습니다!");
         }
         
-        // CRITICAL: Clear all player classes to prevent duplicate class issues in next game
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            classManager.clearPlayerClass(player);
+        for (Match match : endedMatches) {
+            resetGameWorlds(match);
         }
         
-        // Determine winner
-        announceWinner();
+        for (Match match : endedMatches) {
+            closeMatch(match);
+        }
+        
+        Bukkit.broadcastMessage("§c게임이 강제 종료되었습니다!");
     }
     
     /**
-     * Forcefully end the game without announcing winner
+     * Stop a match: reset flags, cancel its tasks and clean up its class effects
      */
-    public void forceEndGame() {
-        // Set all flags to false FIRST
-        gameActive = false;
-        countdownActive = false;
-        monitoringClassSelection = false;
-        inFreezePeriod = false;
-        
-        // Cancel ALL scheduled tasks for this plugin
-        Bukkit.getScheduler().cancelTasks(plugin);
+    private void stopMatch(Match match) {
+        boolean lastMatch = !hasOtherRunningMatch(match);
         
-        // Explicitly set task references to null
-        gameTimerTask = null;
-        effectTask = null;
-        classSelectionMonitorTask = null;
+        match.resetState();
+        match.cancelTasks();
         
-        // Reset game time
-        gameTimeRemaining = 0;
+        // Stop this match's combat tick tasks, move subscriptions and crowd control
+        for (UUID playerId : match.getParticipants()) {
+            combatTicker.cancelOwner(playerId);
+            moveDispatcher.unsubscribeAll(playerId);
+            crowdControl.release(playerId);
+        }
         
-        // Remove boss bar
-        removeTimeBossBar();
+        // Stop cooldown displays
+        VerminPVP pluginInstance = (VerminPVP) plugin;
+        if (pluginInstance.getCooldownDisplay() != null) {
+            for (Player player : match.getOnlinePlayers()) {
+                pluginInstance.getCooldownDisplay().cancelDisplay(player);
+            }
+        }
         
         // Stop game music
         if (musicManager != null) {
-            musicManager.stopAllMusic();
+            for (Player player : match.getOnlinePlayers()) {
+                musicManager.stopMusicForPlayer(player);
+            }
         }
         
-        // Stop sky island effects if active
-        VerminPVP pluginInstance = (VerminPVP) plugin;
-        if (pluginInstance.getSkyIslandEffectHandler() != null) {
+        // Stop sky island effects if this match started them
+        if (match.hasSkyIslandEffects() && pluginInstance.getSkyIslandEffectHandler() != null) {
             pluginInstance.getSkyIslandEffectHandler().stopEffects();
+            match.setSkyIslandEffects(false);
         }
         
         // Clean up class-specific effects
-        cleanupClassEffects();
-        
-        // Clean up world (remove mobs and items)
-        cleanupWorld();
-        
-        // Restore world settings
-        restoreWorldSettings();
-        
-        // Restore player states and remove effects
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            removeGameEffects(player);
-            restorePlayerState(player);
-            
-            // Remove glowing effect
-            player.setGlowing(false);
-            
-            // Clear all resources (including Scientist's Ultimate Ingredient stacks)
-            VerminPVP pluginInstance2 = (VerminPVP) plugin;
-            if (pluginInstance2.getResourceTracker() != null) {
-                pluginInstance2.getResourceTracker().clearResources(player.getUniqueId());
-            }
+        cleanupClassEffects(match, lastMatch);
+    }
+    
+    /**
+     * Restore every player of a match and clear their classes
+     */
+    private void restoreMatchPlayers(Match match) {
+        for (Player player : match.getOnlinePlayers()) {
+            restoreAfterGame(player);
         }
+    }
+    
+    /**
+     * Restore a player after a game: remove effects, restore state, clear resources and class
+     */
+    private void restoreAfterGame(Player player) {
+        removeGameEffects(player);
+        restorePlayerState(player);
         
-        // CRITICAL: Clear all player classes to prevent duplicate class issues in next game
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            classManager.clearPlayerClass(player);
-        }
+        // Remove glowing effect
+        player.setGlowing(false);
         
-        // Teleport all players to lobby if set
-        teleportAllToLobby();
+        // Clear all resources (including Scientist's Ultimate Ingredient stacks)
+        VerminPVP pluginInstance = (VerminPVP) plugin;
+        if (pluginInstance.getResourceTracker() != null) {
+            pluginInstance.getResourceTracker().clearResources(player.getUniqueId());
+        }
         
-        Bukkit.broadcastMessage("§c게임이 강제 종료되었습니다!");
+        // CRITICAL: Clear player class to prevent duplicate class issues in next game
+        classManager.clearPlayerClass(player);
     }
     
     /**
-     * Teleport all players to lobby location
+     * Teleport all match players to lobby location
      */
-    private void teleportAllToLobby() {
+    private void teleportAllToLobby(Match match) {
         if (lobbyManager == null || !lobbyManager.hasLobbyLocation()) {
+            resetGameWorlds(match);
             return;
         }
         
         Location lobbyLocation = lobbyManager.getLobbyLocation();
         
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        for (Player player : match.getOnlinePlayers()) {
             player.teleport(lobbyLocation);
         }
         
-        Bukkit.broadcastMessage("§a모든 플레이어가 로비로 이동했습니다!");
+        match.broadcast("§a모든 플레이어가 로비로 이동했습니다!");
         
         // Reset game worlds after teleporting players
-        resetGameWorlds();
+        resetGameWorlds(match);
     }
     
     /**
-     * Reset game worlds using Multiverse-Core
+     * Restore the blocks a match changed in its game worlds (spread over the next ticks)
+     * Worlds still used by another running match are skipped
      */
-    private void resetGameWorlds() {
-        if (!multiverseEnabled || gameWorlds.isEmpty()) {
+    private void resetGameWorlds(Match match) {
+        if (match.getGameWorlds().isEmpty()) {
             return;
         }
         
-        plugin.getLogger().info("Resetting game worlds: " + gameWorlds);
-        
-        for (String worldName : gameWorlds) {
-            try {
-                // Use Bukkit command to regenerate world via Multiverse-Core
-                Bukkit.getScheduler().runTask(plugin, () -> {
-                    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "mv regen " + worldName);
-                    plugin.getLogger().info("World reset command sent for: " + worldName);
-                });
-            } catch (Exception e) {
-                plugin.getLogger().warning("Failed to reset world " + worldName + ": " + e.getMessage());
+        for (String worldName : match.getGameWorlds()) {
+            if (isWorldInUse(worldName, match)) {
+                plugin.getLogger().info("Skipping reset of " + worldName + " (used by another match)");
+                continue;
             }
+            plugin.getLogger().info("Resetting " + worldName + ": "
+                + arenaRestorer.getChangedBlockCount(worldName) + " changed blocks");
+            arenaRestorer.restore(worldName);
         }
         
         // Clear the set after reset
-        gameWorlds.clear();
+        match.getGameWorlds().clear();
+    }
+    
+    /**
+     * Regenerate a whole world with Multiverse-Core (fallback for arenas that changed too much to journal)
+     * 
+     * @return false if Multiverse-Core is not available
+     */
+    private boolean regenerateWorld(String worldName) {
+        if (!Bukkit.getPluginManager().isPluginEnabled("Multiverse-Core")) {
+            return false;
+        }
+        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "mv regen " + worldName);
+        plugin.getLogger().info("World reset command sent for: " + worldName);
+        return true;
+    }
+    
+    /**
+     * Restore world settings to default for the worlds a match releases
+     */
+    private void restoreWorldSettings(Match match) {
+        restoreWorldSettings(getReleasableWorlds(match));
     }
     
     /**
      * Restore world settings to default
      */
-    private void restoreWorldSettings() {
-        // Restore world settings for all worlds
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
+    private void restoreWorldSettings(List<World> worlds) {
+        for (org.bukkit.World world : worlds) {
             // Re-enable natural regeneration
             world.setGameRule(org.bukkit.GameRule.NATURAL_REGENERATION, true);
         }
@@ -906,77 +1242,44 @@ public class GameManager {
     }
     
     /**
-     * Clean up all class-specific effects (called on game end)
+     * Clean up class-specific effects of a finished match
+     * The last running match clears everything; otherwise only its own players are cleaned up
      */
-    private void cleanupClassEffects() {
-        VerminPVP pluginInstance = (VerminPVP) plugin;
+    private void cleanupClassEffects(Match match, boolean lastMatch) {
+        CooldownManager cooldownManager = ((VerminPVP) plugin).getCooldownManager();
         
-        // Clean up Plague Spreader poison fields
-        if (pluginInstance.getPlagueSpreaderHandler() != null) {
-            pluginInstance.getPlagueSpreaderHandler().cleanupAll();
-        }
-        
-        // Clean up Shield Soldier passive tasks and tracking
-        if (pluginInstance.getShieldSoldierHandler() != null) {
-            pluginInstance.getShieldSoldierHandler().cleanupAll();
-        }
-        
-        // Clean up Shapeshifter evolution tasks and disguises
-        if (pluginInstance.getShapeshifterHandler() != null) {
-            pluginInstance.getShapeshifterHandler().cleanupAll();
-        }
-        
-        // Clean up Juggler throw time gain tasks
-        if (pluginInstance.getJugglerHandler() != null) {
-            pluginInstance.getJugglerHandler().cleanupAll();
-        }
-        
-        // Clean up Time Engraver frozen entities and effects
-        if (pluginInstance.getTimeEngraverHandler() != null) {
-            pluginInstance.getTimeEngraverHandler().cleanupAll();
+        if (lastMatch) {
+            // Plague fields, shield passives, disguises, horses, frozen entities, etc.
+            classManager.cleanupAllClassHandlers();
+            
+            // Cooldowns, deploy locks, absorption sources and buff timers
+            cooldownManager.clearAll();
+            return;
         }
         
-        // Clean up Cavalry horses
-        if (pluginInstance.getCavalryHandler() != null) {
-            pluginInstance.getCavalryHandler().cleanupAll();
+        for (Player player : match.getOnlinePlayers()) {
+            classManager.cleanupClassHandlers(player);
         }
-        
-        // Clean up Marathoner sprint tracking and buffs
-        if (pluginInstance.getMarathonerHandler() != null) {
-            pluginInstance.getMarathonerHandler().cleanupAll();
+        for (UUID playerId : match.getParticipants()) {
+            cooldownManager.removePlayer(playerId);
         }
     }
     
     /**
-     * Clean up world by removing mobs and items (called on game end)
+     * Clean up the worlds a finished match releases (remove mobs and items)
      */
-    private void cleanupWorld() {
-        // Remove all mobs and items from all worlds
-        for (org.bukkit.World world : Bukkit.getWorlds()) {
-            for (org.bukkit.entity.Entity entity : world.getEntities()) {
-                // Skip players
-                if (entity instanceof Player) {
-                    continue;
-                }
-                
-                // Remove mobs (monsters, animals, etc.)
-                if (entity instanceof org.bukkit.entity.Monster ||
-                    entity instanceof org.bukkit.entity.Animals ||
-                    entity instanceof org.bukkit.entity.WaterMob ||
-                    entity instanceof org.bukkit.entity.Flying ||
-                    entity instanceof org.bukkit.entity.Slime ||
-                    entity instanceof org.bukkit.entity.Ambient) {
-                    entity.remove();
-                }
-                
-                // Remove dropped items
-                if (entity instanceof org.bukkit.entity.Item) {
-                    entity.remove();
-                }
-            }
-        }
+    private void cleanupWorld(Match match) {
+        cleanupWorld(getReleasableWorlds(match));
+    }
+    
+    /**
+     * Clean up worlds by removing the entities spawned during the game (called on game end)
+     */
+    private void cleanupWorld(List<World> worlds) {
+        // Only tracked entities are removed, spread over the next ticks
+        int queued = entityTracker.removeIn(worlds);
         
-        Bukkit.getLogger().info("[ChaosPVP] World cleanup complete - removed all mobs and items");
+        Bukkit.getLogger().info("[ChaosPVP] World cleanup started - removing " + queued + " spawned entities");
     }
     
     /**
@@ -1027,49 +1330,50 @@ public class GameManager {
     /**
      * Start the game timer countdown
      */
-    private void startGameTimer() {
-        gameTimerTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (!gameActive) {
+    private void startGameTimer(Match match) {
+        match.setGameTimerTask(Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!match.isGameActive()) {
                 return;
             }
             
-            gameTimeRemaining--;
+            int gameTimeRemaining = match.getGameTimeRemaining() - 1;
+            match.setGameTimeRemaining(gameTimeRemaining);
             
             // Update boss bar
-            updateTimeBossBar();
+            match.updateTimeBossBar(GAME_DURATION);
             
             // Check if time is up
             if (gameTimeRemaining <= 0) {
-                endGame();
+                endGame(match);
             }
             
             // Announce time milestones
             if (gameTimeRemaining == 240) { // 4 minutes
-                Bukkit.broadcastMessage("§e남은 시간: 4분");
+                match.broadcast("§e남은 시간: 4분");
             } else if (gameTimeRemaining == 180) { // 3 minutes
-                Bukkit.broadcastMessage("§e남은 시간: 3분");
+                match.broadcast("§e남은 시간: 3분");
             } else if (gameTimeRemaining == 120) { // 2 minutes
-                Bukkit.broadcastMessage("§e남은 시간: 2분");
+                match.broadcast("§e남은 시간: 2분");
             } else if (gameTimeRemaining == 60) { // 1 minute
-                Bukkit.broadcastMessage("§c남은 시간: 1분!");
+                match.broadcast("§c남은 시간: 1분!");
             } else if (gameTimeRemaining == 30) { // 30 seconds
-                Bukkit.broadcastMessage("§c남은 시간: 30초!");
+                match.broadcast("§c남은 시간: 30초!");
             } else if (gameTimeRemaining <= 10 && gameTimeRemaining > 0) {
-                Bukkit.broadcastMessage("§c" + gameTimeRemaining + "초!");
+                match.broadcast("§c" + gameTimeRemaining + "초!");
             }
-        }, 20L, 20L); // Run every second
+        }, 20L, 20L)); // Run every second
     }
     
     /**
      * Start effect refresh task to maintain effects
      */
-    private void startEffectRefresh() {
-        effectTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
-            if (!gameActive) {
+    private void startEffectRefresh(Match match) {
+        match.setEffectTask(Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (!match.isGameActive()) {
                 return;
             }
             
-            for (Player player : Bukkit.getOnlinePlayers()) {
+            for (Player player : match.getRegistry().getOnlinePlayers()) {
                 // Refresh effects if they're missing
                 if (!player.hasPotionEffect(PotionEffectType.SATURATION)) {
                     player.addPotionEffect(new PotionEffect(PotionEffectType.SATURATION, 
@@ -1080,199 +1384,178 @@ public class GameManager {
                         Integer.MAX_VALUE, 0, false, false, false));
                 }
                 // Refresh glow effect in team mode
-                if (gameMode == GameMode.TEAM && !player.hasPotionEffect(PotionEffectType.GLOWING)) {
+                if (match.getGameMode() == GameMode.TEAM && !player.hasPotionEffect(PotionEffectType.GLOWING)) {
                     player.addPotionEffect(new PotionEffect(PotionEffectType.GLOWING, 
                         Integer.MAX_VALUE, 0, false, false, false));
                 }
             }
-        }, 100L, 100L); // Run every 5 seconds
+            
+            // Drop players whose timers have all expired
+            ((VerminPVP) plugin).getCooldownManager().sweepExpired();
+        }, 100L, 100L)); // Run every 5 seconds
     }
     
     /**
-     * Display time remaining to all players via action bar
+     * Display time remaining to all match players via action bar
      */
-    private void displayTimeRemaining() {
-        int minutes = gameTimeRemaining / 60;
-        int seconds = gameTimeRemaining % 60;
+    private void displayTimeRemaining(Match match) {
+        int minutes = match.getGameTimeRemaining() / 60;
+        int seconds = match.getGameTimeRemaining() % 60;
         
-        String timeText = String.format("§e남은 시간: §f%d:%02d", minutes, seconds);
+        Component timeText = Component.text()
+            .append(Component.text("남은 시간: ", NamedTextColor.YELLOW))
+            .append(Component.text(String.format("%d:%02d", minutes, seconds), NamedTextColor.WHITE))
+            .build();
         
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            player.spigot().sendMessage(ChatMessageType.ACTION_BAR, 
-                new TextComponent(timeText));
+        ActionBarCompositor compositor = ((VerminPVP) plugin).getActionBarCompositor();
+        for (Player player : match.getRegistry().getOnlinePlayers()) {
+            compositor.set(player, ActionBarCompositor.Slot.TIMER, timeText, 25L);
         }
     }
     
     /**
      * Announce the winner based on remaining players
      */
-    private void announceWinner() {
-        if (gameMode == GameMode.TEAM) {
-            announceTeamWinner();
+    private void announceWinner(Match match) {
+        if (match.getGameMode() == GameMode.TEAM) {
+            announceTeamWinner(match);
         } else {
-            announceSoloWinner();
+            announceSoloWinner(match);
         }
     }
     
     /**
      * Announce team mode winner
      */
-    private void announceTeamWinner() {
-        Map<Team, Integer> teamCounts = new HashMap<>();
-        
-        // Count alive players per team (Adventure mode only)
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                Team team = teamManager.getPlayerTeam(player);
-                if (team != null) {
-                    teamCounts.put(team, teamCounts.getOrDefault(team, 0) + 1);
-                }
-            }
-        }
-        
-        // Find winning team
-        Team winningTeam = null;
-        int maxPlayers = 0;
-        
-        for (Map.Entry<Team, Integer> entry : teamCounts.entrySet()) {
-            if (entry.getValue() > maxPlayers) {
-                maxPlayers = entry.getValue();
-                winningTeam = entry.getKey();
-            }
-        }
+    private void announceTeamWinner(Match match) {
+        // Winning team is the one with the most alive players
+        Team winningTeam = match.getRegistry().getLeadingTeam();
+        int maxPlayers = winningTeam != null ? match.getRegistry().getAliveCount(winningTeam) : 0;
         
         // Announce winner
-        Bukkit.broadcastMessage("§6§l======================");
-        Bukkit.broadcastMessage("§a§l게임 종료!");
+        match.broadcast("§6§l======================");
+        match.broadcast("§a§l게임 종료!");
         
         if (winningTeam != null && maxPlayers > 0) {
-            Bukkit.broadcastMessage("§e§l승리 팀: §f" + winningTeam.getDisplayName());
-            Bukkit.broadcastMessage("§7생존 인원: " + maxPlayers + "명");
+            match.broadcast("§e§l승리 팀: §f" + winningTeam.getDisplayName());
+            match.broadcast("§7생존 인원: " + maxPlayers + "명");
         } else {
-            Bukkit.broadcastMessage("§7무승부!");
+            match.broadcast("§7무승부!");
         }
         
-        Bukkit.broadcastMessage("§6§l======================");
+        match.broadcast("§6§l======================");
         
         // Teleport all players to lobby
-        teleportAllToLobby();
+        teleportAllToLobby(match);
     }
     
     /**
      * Announce solo mode winner
      */
-    private void announceSoloWinner() {
-        Player winner = null;
-        int aliveCount = 0;
-        
-        // Find alive players (Adventure mode only)
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                winner = player;
-                aliveCount++;
-            }
-        }
+    private void announceSoloWinner(Match match) {
+        Player[] alive = match.getRegistry().getAlivePlayers();
+        int aliveCount = alive.length;
+        Player winner = aliveCount > 0 ? alive[0] : null;
         
         // Announce winner
-        Bukkit.broadcastMessage("§6§l======================");
-        Bukkit.broadcastMessage("§a§l게임 종료!");
+        match.broadcast("§6§l======================");
+        match.broadcast("§a§l게임 종료!");
         
         if (aliveCount == 1 && winner != null) {
-            Bukkit.broadcastMessage("§e§l승리자: §f" + winner.getName());
+            match.broadcast("§e§l승리자: §f" + winner.getName());
         } else if (aliveCount > 1) {
-            Bukkit.broadcastMessage("§7생존자: " + aliveCount + "명");
+            match.broadcast("§7생존자: " + aliveCount + "명");
         } else {
-            Bukkit.broadcastMessage("§7승자 없음!");
+            match.broadcast("§7승자 없음!");
         }
         
-        Bukkit.broadcastMessage("§6§l======================");
+        match.broadcast("§6§l======================");
         
         // Teleport all players to lobby
-        teleportAllToLobby();
+        teleportAllToLobby(match);
     }
     
     /**
-     * Check win condition during the game
-     * Called after each player death to see if game should end
+     * Check win condition in every active match
      */
     public void checkWinCondition() {
-        if (!gameActive) {
+        for (Match match : new ArrayList<>(matches.values())) {
+            checkWinCondition(match);
+        }
+    }
+    
+    /**
+     * Check win condition in a player's match
+     * Called after each player death to see if the match should end
+     */
+    public void checkWinCondition(Player player) {
+        Match match = getMatch(player);
+        if (match != null) {
+            checkWinCondition(match);
+        }
+    }
+    
+    /**
+     * Check win condition during the game
+     */
+    private void checkWinCondition(Match match) {
+        if (!match.isGameActive()) {
             return;
         }
         
-        Bukkit.getLogger().info("[ChaosPVP] Checking win condition, game mode: " + gameMode);
+        Bukkit.getLogger().info("[ChaosPVP] Checking win condition for " + match.getId() + ", game mode: " + match.getGameMode());
         
-        if (gameMode == GameMode.TEAM) {
-            checkTeamWinCondition();
+        if (match.getGameMode() == GameMode.TEAM) {
+            checkTeamWinCondition(match);
         } else {
-            checkSoloWinCondition();
+            checkSoloWinCondition(match);
         }
     }
     
     /**
      * Check win condition for team mode
      */
-    private void checkTeamWinCondition() {
-        Map<Team, Integer> teamCounts = new HashMap<>();
-        int playersWithoutTeam = 0;
+    private void checkTeamWinCondition(Match match) {
+        ParticipantRegistry registry = match.getRegistry();
+        int playersWithoutTeam = registry.getAliveCount(null);
+        int teamsWithPlayers = registry.getAliveTeamCount();
         
-        // Count alive players per team (Adventure mode only)
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                Team team = teamManager.getPlayerTeam(player);
-                if (team != null) {
-                    teamCounts.put(team, teamCounts.getOrDefault(team, 0) + 1);
-                } else {
-                    playersWithoutTeam++;
-                }
-            }
-        }
-        
-        Bukkit.getLogger().info("[ChaosPVP] Team mode - Team counts: " + teamCounts + ", Players without team: " + playersWithoutTeam);
+        Bukkit.getLogger().info("[ChaosPVP] Team mode - Alive players: " + registry.getAliveCount() + ", Players without team: " + playersWithoutTeam);
         
         // If there are players without team, treat as solo mode
-        if (playersWithoutTeam > 0 && teamCounts.isEmpty()) {
+        if (playersWithoutTeam > 0 && teamsWithPlayers == 0) {
             Bukkit.getLogger().info("[ChaosPVP] Team mode but no teams assigned, switching to solo check");
-            checkSoloWinCondition();
+            checkSoloWinCondition(match);
             return;
         }
         
         // Find winning team
-        int teamsWithPlayers = 0;
-        Team winningTeam = null;
-        int winningTeamCount = 0;
-        
-        for (Map.Entry<Team, Integer> entry : teamCounts.entrySet()) {
-            if (entry.getValue() > 0) {
-                teamsWithPlayers++;
-                winningTeam = entry.getKey();
-                winningTeamCount = entry.getValue();
-            }
-        }
+        Team winningTeam = registry.getLeadingTeam();
+        int winningTeamCount = winningTeam != null ? registry.getAliveCount(winningTeam) : 0;
         
         Bukkit.getLogger().info("[ChaosPVP] Team mode - Teams with players: " + teamsWithPlayers);
         
         // If only one team has players (or no teams), they win
         if (teamsWithPlayers == 1 && winningTeam != null) {
             Bukkit.getLogger().info("[ChaosPVP] Team mode - Winning team: " + winningTeam.getDisplayName());
-            Bukkit.broadcastMessage("§6§l======================");
-            Bukkit.broadcastMessage("§a§l게임 종료!");
-            Bukkit.broadcastMessage("§e§l승리 팀: §f" + winningTeam.getDisplayName());
-            Bukkit.broadcastMessage("§7생존 인원: " + winningTeamCount + "명");
-            Bukkit.broadcastMessage("§6§l======================");
+            match.broadcast("§6§l======================");
+            match.broadcast("§a§l게임 종료!");
+            match.broadcast("§e§l승리 팀: §f" + winningTeam.getDisplayName());
+            match.broadcast("§7생존 인원: " + winningTeamCount + "명");
+            match.broadcast("§6§l======================");
             
             // End game
-            endGameImmediately();
+            endGameImmediately(match);
         } else if (teamsWithPlayers == 0) {
             // No survivors
             Bukkit.getLogger().info("[ChaosPVP] Team mode - No survivors");
-            Bukkit.broadcastMessage("§6§l======================");
-            Bukkit.broadcastMessage("§a§l게임 종료!");
-            Bukkit.broadcastMessage("§7승자 없음!");
-            Bukkit.broadcastMessage("§6§l======================");
+            match.broadcast("§6§l======================");
+            match.broadcast("§a§l게임 종료!");
+            match.broadcast("§7승자 없음!");
+            match.broadcast("§6§l======================");
             
             // End game
-            endGameImmediately();
+            endGameImmediately(match);
         } else {
             Bukkit.getLogger().info("[ChaosPVP] Team mode - Game continues with " + teamsWithPlayers + " teams");
         }
@@ -1282,40 +1565,33 @@ public class GameManager {
     /**
      * Check win condition for solo mode
      */
-    private void checkSoloWinCondition() {
-        Player winner = null;
-        int aliveCount = 0;
-        
-        // Find alive players (Adventure mode only)
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (player.getGameMode() == org.bukkit.GameMode.ADVENTURE) {
-                winner = player;
-                aliveCount++;
-            }
-        }
+    private void checkSoloWinCondition(Match match) {
+        Player[] alive = match.getRegistry().getAlivePlayers();
+        int aliveCount = match.getRegistry().getAliveCount();
+        Player winner = alive.length > 0 ? alive[0] : null;
         
         Bukkit.getLogger().info("[ChaosPVP] Solo mode - Alive players: " + aliveCount);
         
         // If only one player alive (or less), they win
         if (aliveCount == 1 && winner != null) {
             Bukkit.getLogger().info("[ChaosPVP] Solo mode - Winner: " + winner.getName());
-            Bukkit.broadcastMessage("§6§l======================");
-            Bukkit.broadcastMessage("§a§l게임 종료!");
-            Bukkit.broadcastMessage("§e§l승리자: §f" + winner.getName());
-            Bukkit.broadcastMessage("§6§l======================");
+            match.broadcast("§6§l======================");
+            match.broadcast("§a§l게임 종료!");
+            match.broadcast("§e§l승리자: §f" + winner.getName());
+            match.broadcast("§6§l======================");
             
             // End game
-            endGameImmediately();
+            endGameImmediately(match);
         } else if (aliveCount == 0) {
             // No survivors
             Bukkit.getLogger().info("[ChaosPVP] Solo mode - No survivors");
-            Bukkit.broadcastMessage("§6§l======================");
-            Bukkit.broadcastMessage("§a§l게임 종료!");
-            Bukkit.broadcastMessage("§7승자 없음!");
-            Bukkit.broadcastMessage("§6§l======================");
+            match.broadcast("§6§l======================");
+            match.broadcast("§a§l게임 종료!");
+            match.broadcast("§7승자 없음!");
+            match.broadcast("§6§l======================");
             
             // End game
-            endGameImmediately();
+            endGameImmediately(match);
         } else {
             Bukkit.getLogger().info("[ChaosPVP] Solo mode - Game continues with " + aliveCount + " players");
         }
@@ -1323,83 +1599,63 @@ public class GameManager {
     }
     
     /**
-     * End game immediately without checking win conditions again
+     * End a match immediately without checking win conditions again
      */
-    private void endGameImmediately() {
-        // Set all flags to false
-        gameActive = false;
-        countdownActive = false;
-        monitoringClassSelection = false;
-        
-        // Cancel tasks
-        if (gameTimerTask != null) {
-            gameTimerTask.cancel();
-            gameTimerTask = null;
-        }
-        
-        if (effectTask != null) {
-            effectTask.cancel();
-            effectTask = null;
-        }
-        
-        if (classSelectionMonitorTask != null) {
-            classSelectionMonitorTask.cancel();
-            classSelectionMonitorTask = null;
-        }
-        
-        // Reset game time
-        gameTimeRemaining = 0;
+    private void endGameImmediately(Match match) {
+        // Stop match tasks and class effects
+        stopMatch(match);
         
-        // Remove boss bar
-        removeTimeBossBar();
-        
-        // Stop sky island effects if active
-        VerminPVP pluginInstance = (VerminPVP) plugin;
-        if (pluginInstance.getSkyIslandEffectHandler() != null) {
-            pluginInstance.getSkyIslandEffectHandler().stopEffects();
-        }
-        
-        // Clean up class-specific effects
-        cleanupClassEffects();
+        // Clean up world (remove mobs and items)
+        cleanupWorld(match);
         
         // Restore world settings
-        restoreWorldSettings();
-        
-        // Restore player states and remove effects
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            removeGameEffects(player);
-            restorePlayerState(player);
-            
-            // Remove glowing effect
-            player.setGlowing(false);
-            
-            // Clear all resources (including Scientist's Ultimate Ingredient stacks)
-            if (pluginInstance.getResourceTracker() != null) {
-                pluginInstance.getResourceTracker().clearResources(player.getUniqueId());
-            }
-        }
+        restoreWorldSettings(match);
         
-        // CRITICAL: Clear all player classes to prevent duplicate class issues in next game
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            classManager.clearPlayerClass(player);
-        }
+        // Restore player states, remove effects and clear classes
+        restoreMatchPlayers(match);
         
         // Teleport all players to lobby
-        teleportAllToLobby();
+        teleportAllToLobby(match);
+        
+        closeMatch(match);
+    }
+    
+    /**
+     * Abort a match that could not be started (e.g. no free map slot)
+     */
+    private void abortMatch(Match match) {
+        stopMatch(match);
+        restoreWorldSettings(match);
+        restoreMatchPlayers(match);
+        closeMatch(match);
     }
     
     /**
-     * Check if game is currently active
+     * Check if any match is currently in game
      */
     public boolean isGameActive() {
-        return gameActive;
+        for (Match match : matches.values()) {
+            if (match.isGameActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check if a player's match is currently in game
+     */
+    public boolean isGameActive(Player player) {
+        Match match = getMatch(player);
+        return match != null && match.isGameActive();
     }
     
     /**
-     * Check if in freeze period (first 10 seconds of game)
+     * Check if a player's match is in freeze period (first 10 seconds of game)
      */
-    public boolean isInFreezePeriod() {
-        return inFreezePeriod;
+    public boolean isInFreezePeriod(Player player) {
+        Match match = getMatch(player);
+        return match != null && match.isInFreezePeriod();
     }
     
     /**
@@ -1410,10 +1666,11 @@ public class GameManager {
     }
     
     /**
-     * Get remaining game time in seconds
+     * Get remaining game time of a player's match in seconds
      */
-    public int getGameTimeRemaining() {
-        return gameTimeRemaining;
+    public int getGameTimeRemaining(Player player) {
+        Match match = getMatch(player);
+        return match != null ? match.getGameTimeRemaining() : 0;
     }
     
     /**
@@ -1421,14 +1678,24 @@ public class GameManager {
      */
     public void setPracticeMode(Player player, boolean inPracticeMode) {
         UUID playerId = player.getUniqueId();
+        getHostility(playerId).invalidate();
         
+        CombatantIndex combatantIndex = ((VerminPVP) plugin).getCombatantIndex();
         if (inPracticeMode) {
             practiceModeStatus.put(playerId, true);
             
+            // Practice abilities need the practice world indexed
+            if (combatantIndex != null) {
+                combatantIndex.bind("practice-" + playerId, Collections.singletonList(player.getWorld()));
+            }
+            
             // Start 5-minute timer with boss bar
             startPracticeModeTimer(player);
         } else {
             practiceModeStatus.remove(playerId);
+            if (combatantIndex != null) {
+                combatantIndex.release("practice-" + playerId);
+            }
             
             // Cancel timer if exists
             BukkitTask timer = practiceModeTimers.remove(playerId);
@@ -1574,21 +1841,8 @@ public class GameManager {
      * End practice mode for a specific player
      */
     private void endPracticeModeForPlayer(Player player) {
-        VerminPVP pluginInstance = (VerminPVP) plugin;
-        
         // Clean up all class-specific effects for this player
-        if (pluginInstance.getPlagueSpreaderHandler() != null) {
-            pluginInstance.getPlagueSpreaderHandler().cleanupPlayer(player);
-        }
-        if (pluginInstance.getShieldSoldierHandler() != null) {
-            pluginInstance.getShieldSoldierHandler().cleanupPlayer(player);
-        }
-        if (pluginInstance.getShapeshifterHandler() != null) {
-            pluginInstance.getShapeshifterHandler().cleanupPlayer(player);
-        }
-        if (pluginInstance.getJugglerHandler() != null) {
-            pluginInstance.getJugglerHandler().cleanupPlayer(player);
-        }
+        classManager.cleanupClassHandlers(player);
         
         // Clear player class
         classManager.clearPlayerClass(player);
@@ -1626,7 +1880,14 @@ public class GameManager {
      * Check if a player is in practice mode
      */
     public boolean isInPracticeMode(Player player) {
-        return practiceModeStatus.getOrDefault(player.getUniqueId(), false);
+        return isInPracticeMode(player.getUniqueId());
+    }
+    
+    /**
+     * Check if a player is in practice mode by UUID
+     */
+    public boolean isInPracticeMode(UUID playerId) {
+        return practiceModeStatus.getOrDefault(playerId, false);
     }
     
     /**
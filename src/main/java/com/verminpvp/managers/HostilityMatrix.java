@@ -0,0 +1,98 @@
+package com.verminpvp.managers;
+
+import com.verminpvp.models.Team;
+import org.bukkit.entity.Player;
+
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Relation table between the participants of one match (or of the lobby) for targeting checks
+ * 
+ * Rows and columns are the slots of the match's ParticipantRegistry and the relation
+ * of each pair is stored in a byte matrix. The matrix is rebuilt lazily on the first
+ * query after a membership or team change in the registry, or after a game mode or
+ * practice mode change, so AoE and collision loops pay one array read per target
+ * instead of mode, practice and team lookups.
+ * 
+ * Rows belong to the acting player: in team mode (outside practice mode) members of
+ * the same team (the player included) are allies, everyone else is an enemy. Players
+ * outside the registry are neutral.
+ */
+public class HostilityMatrix {
+    
+    public static final byte NEUTRAL = 0;
+    public static final byte ALLY = 1;
+    public static final byte ENEMY = 2;
+    
+    private static final byte[][] NO_RELATIONS = new byte[0][];
+    
+    private final ParticipantRegistry registry;
+    private final Predicate<UUID> teamRulesApply;
+    
+    private byte[][] relations = NO_RELATIONS;
+    private int builtRevision;
+    private boolean dirty = true;
+    
+    /**
+     * @param registry Participants the table covers, indexed by their slots
+     * @param teamRulesApply Whether a player's attacks spare teammates (team mode, not practice)
+     */
+    public HostilityMatrix(ParticipantRegistry registry, Predicate<UUID> teamRulesApply) {
+        this.registry = registry;
+        this.teamRulesApply = teamRulesApply;
+    }
+    
+    /**
+     * Mark the table stale after a game mode or practice mode change
+     * (registry membership and team changes are picked up on their own)
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+    
+    /**
+     * Relation of a target as seen by an acting player
+     */
+    public byte getRelation(Player actor, Player target) {
+        if (dirty || builtRevision != registry.getRevision()) {
+            rebuild();
+        }
+        
+        int row = registry.getSlot(actor.getUniqueId());
+        int column = registry.getSlot(target.getUniqueId());
+        if (row < 0 || column < 0) {
+            return NEUTRAL;
+        }
+        return relations[row][column];
+    }
+    
+    /**
+     * Whether the acting player's abilities may hurt the target (enemies and unknown players)
+     */
+    public boolean isHostile(Player actor, Player target) {
+        return getRelation(actor, target) != ALLY;
+    }
+    
+    private void rebuild() {
+        int count = registry.getSlotCount();
+        
+        Team[] teams = new Team[count];
+        boolean[] teamRules = new boolean[count];
+        for (int slot = 0; slot < count; slot++) {
+            UUID playerId = registry.getPlayerId(slot);
+            teams[slot] = registry.getTeam(slot);
+            teamRules[slot] = playerId != null && teamRulesApply.test(playerId);
+        }
+        
+        relations = new byte[count][count];
+        for (int row = 0; row < count; row++) {
+            for (int column = 0; column < count; column++) {
+                boolean allied = teamRules[row] && teams[row] != null && teams[row] == teams[column];
+                relations[row][column] = allied ? ALLY : ENEMY;
+            }
+        }
+        builtRevision = registry.getRevision();
+        dirty = false;
+    }
+}
@@ -18,25 +18,118 @@ import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Provides class-specific items with NBT tagging for identification
+ * 
+ * Every item is built once into a template and handed out as a clone. Besides the string
+ * item ID, items carry an integer item type (see {@link #itemType(String)}) so they can be
+ * identified without reading a string.
  */
 public class ItemProvider {
     
+    /**
+     * Item type of items without an item ID
+     */
+    public static final int NO_ITEM_TYPE = 0;
+    
+    // Template keys for items that are not special items
+    private static final String WEAPON_TEMPLATE = "#weapon";
+    private static final String ULTIMATE_TEMPLATE = "#ultimate";
+    
+    // Special item IDs per class, built up front by buildTemplates()
+    private static final Map<ClassType, String[]> SPECIAL_ITEM_IDS = new EnumMap<>(ClassType.class);
+    
+    static {
+        SPECIAL_ITEM_IDS.put(ClassType.SWORDSMAN, new String[] {"diamond_sword"});
+        SPECIAL_ITEM_IDS.put(ClassType.SCIENTIST, new String[] {
+            "instant_damage", "instant_healing", "slowness", "blindness", "resistance", "poison"});
+        SPECIAL_ITEM_IDS.put(ClassType.PLAGUE_SPREADER, new String[] {"virulent_engine", "extreme_poison_engine"});
+        SPECIAL_ITEM_IDS.put(ClassType.SHIELD_SOLDIER, new String[] {
+            "red_shield", "blue_shield", "basic_shield", "golden_shield"});
+        SPECIAL_ITEM_IDS.put(ClassType.CRITICAL_CUTTER, new String[] {"guaranteed_critical"});
+        SPECIAL_ITEM_IDS.put(ClassType.NAVIGATOR, new String[] {"naval_combat", "wave_riding_item", "harpoon"});
+        SPECIAL_ITEM_IDS.put(ClassType.CAPTAIN, new String[] {"naval_combat", "captains_command", "captains_harpoon"});
+        SPECIAL_ITEM_IDS.put(ClassType.STAMPER, new String[] {"stamp", "dive"});
+        SPECIAL_ITEM_IDS.put(ClassType.TIME_ENGRAVER, new String[] {"time_engrave", "clock_needle_stitch", "eternal_clock"});
+        SPECIAL_ITEM_IDS.put(ClassType.CAVALRY, new String[] {"mount_dismount", "sweep"});
+        SPECIAL_ITEM_IDS.put(ClassType.MARATHONER, new String[] {"crouching_start"});
+        SPECIAL_ITEM_IDS.put(ClassType.VITALITY_CUTTER, new String[] {"life_cut"});
+    }
+    
     private final Plugin plugin;
     private final NamespacedKey classItemKey;
     private final NamespacedKey itemIdKey;
+    private final NamespacedKey itemTypeKey;
     private final NamespacedKey infiniteDurabilityKey;
     
+    // Class -> (item ID or template key -> prototype, null if the class has no such item)
+    private final Map<ClassType, Map<String, ItemStack>> templates = new EnumMap<>(ClassType.class);
+    
+    // Item type -> item ID, to catch two IDs sharing a type
+    private final Map<Integer, String> itemTypes = new HashMap<>();
+    
     public ItemProvider(Plugin plugin) {
         this.plugin = plugin;
         this.classItemKey = new NamespacedKey(plugin, "class_item");
         this.itemIdKey = new NamespacedKey(plugin, "item_id");
+        this.itemTypeKey = new NamespacedKey(plugin, "item_type");
         this.infiniteDurabilityKey = new NamespacedKey(plugin, "infinite_durability");
     }
     
+    /**
+     * Build the templates of all class items up front
+     */
+    public void buildTemplates() {
+        for (ClassType classType : ClassType.values()) {
+            createClassWeapon(classType);
+            createUltimateItem(classType);
+            for (String itemId : SPECIAL_ITEM_IDS.getOrDefault(classType, new String[0])) {
+                createSpecialItem(classType, itemId);
+            }
+        }
+        createMinecraftRegenerationPotion();
+        getJugglerLightThing();
+        getJugglerHeavyThing();
+        getJugglerThrowTime();
+        
+        int count = 0;
+        for (Map<String, ItemStack> classTemplates : templates.values()) {
+            for (ItemStack template : classTemplates.values()) {
+                if (template != null) {
+                    count++;
+                }
+            }
+        }
+        plugin.getLogger().info("Built " + count + " item templates");
+    }
+    
+    /**
+     * Get a clone of a template, building the template on first use
+     */
+    private ItemStack fromTemplate(ClassType classType, String key, Supplier<ItemStack> builder) {
+        Map<String, ItemStack> classTemplates = templates.computeIfAbsent(classType, type -> new HashMap<>());
+        ItemStack template = classTemplates.get(key);
+        if (template == null && !classTemplates.containsKey(key)) {
+            template = builder.get();
+            if (template != null) {
+                ItemMeta meta = template.getItemMeta();
+                String itemId = meta.getPersistentDataContainer().get(itemIdKey, PersistentDataType.STRING);
+                if (itemId != null) {
+                    meta.getPersistentDataContainer().set(itemTypeKey, PersistentDataType.INTEGER, registerItemType(itemId));
+                    template.setItemMeta(meta);
+                }
+            }
+            classTemplates.put(key, template);
+        }
+        return template != null ? template.clone() : null;
+    }
+    
     /**
      * Creates the primary weapon for a class
      */
@@ -45,6 +138,10 @@ public class ItemProvider {
             throw new IllegalArgumentException("ClassType cannot be null");
         }
         
+        return fromTemplate(classType, WEAPON_TEMPLATE, () -> buildClassWeapon(classType));
+    }
+    
+    private ItemStack buildClassWeapon(ClassType classType) {
         switch (classType) {
             case SWORDSMAN:
                 return createSwordsmanWeapon();
@@ -83,6 +180,10 @@ public class ItemProvider {
             throw new IllegalArgumentException("ClassType and itemId cannot be null");
         }
         
+        return fromTemplate(classType, itemId, () -> buildSpecialItem(classType, itemId));
+    }
+    
+    private ItemStack buildSpecialItem(ClassType classType, String itemId) {
         switch (classType) {
             case SWORDSMAN:
                 return createSwordsmanSpecialItem(itemId);
@@ -117,6 +218,10 @@ public class ItemProvider {
      * Creates a Minecraft Instant Health II potion for Scientist
      */
     public ItemStack createMinecraftRegenerationPotion() {
+        return fromTemplate(ClassType.SCIENTIST, "minecraft_regeneration_potion", this::buildMinecraftRegenerationPotion);
+    }
+    
+    private ItemStack buildMinecraftRegenerationPotion() {
         ItemStack potion = new ItemStack(Material.POTION);
         org.bukkit.inventory.meta.PotionMeta meta = (org.bukkit.inventory.meta.PotionMeta) potion.getItemMeta();
         
@@ -146,6 +251,10 @@ public class ItemProvider {
             throw new IllegalArgumentException("ClassType cannot be null");
         }
         
+        return fromTemplate(classType, ULTIMATE_TEMPLATE, () -> buildUltimateItem(classType));
+    }
+    
+    private ItemStack buildUltimateItem(ClassType classType) {
         switch (classType) {
             case SWORDSMAN:
                 return createNetheriteSword();
@@ -169,6 +278,16 @@ public class ItemProvider {
         return pdc.has(classItemKey, PersistentDataType.STRING);
     }
     
+    /**
+     * Marks an item built outside ItemProvider as a class item with the given ID
+     */
+    public void setItemId(ItemMeta meta, ClassType classType, String itemId) {
+        PersistentDataContainer pdc = meta.getPersistentDataContainer();
+        pdc.set(classItemKey, PersistentDataType.STRING, classType.name());
+        pdc.set(itemIdKey, PersistentDataType.STRING, itemId);
+        pdc.set(itemTypeKey, PersistentDataType.INTEGER, registerItemType(itemId));
+    }
+    
     /**
      * Gets the item ID from a class item
      */
@@ -182,6 +301,51 @@ public class ItemProvider {
         return pdc.get(itemIdKey, PersistentDataType.STRING);
     }
     
+    /**
+     * Gets the integer item type of a class item, or NO_ITEM_TYPE
+     */
+    public int getItemType(ItemStack item) {
+        if (item == null || !item.hasItemMeta()) {
+            return NO_ITEM_TYPE;
+        }
+        
+        PersistentDataContainer pdc = item.getItemMeta().getPersistentDataContainer();
+        Integer type = pdc.get(itemTypeKey, PersistentDataType.INTEGER);
+        if (type != null) {
+            return type;
+        }
+        
+        // Item tagged before item types existed
+        String itemId = pdc.get(itemIdKey, PersistentDataType.STRING);
+        return itemId != null ? itemType(itemId) : NO_ITEM_TYPE;
+    }
+    
+    /**
+     * Checks if an item is the class item with the given ID
+     */
+    public boolean isItem(ItemStack item, String itemId) {
+        return getItemType(item) == itemType(itemId);
+    }
+    
+    /**
+     * Integer item type of an item ID
+     * 
+     * Derived from String.hashCode, which is fixed by the language specification, so the
+     * value stays the same across restarts and does not depend on registration order.
+     */
+    public static int itemType(String itemId) {
+        return itemId.hashCode();
+    }
+    
+    private int registerItemType(String itemId) {
+        int type = itemType(itemId);
+        String existing = itemTypes.putIfAbsent(type, itemId);
+        if (type == NO_ITEM_TYPE || (existing != null && !existing.equals(itemId))) {
+            throw new IllegalStateException("Item type of " + itemId + " is not unique");
+        }
+        return type;
+    }
+    
     // Private helper methods for creating specific items
     
     private ItemStack createSwordsmanWeapon() {
@@ -757,6 +921,10 @@ public class ItemProvider {
      * Get Juggler Light Thing item (Snowball)
      */
     public ItemStack getJugglerLightThing() {
+        return fromTemplate(ClassType.JUGGLER, "light_thing", this::buildJugglerLightThing);
+    }
+    
+    private ItemStack buildJugglerLightThing() {
         ItemStack item = new ItemStack(Material.SNOWBALL);
         ItemMeta meta = item.getItemMeta();
         
@@ -783,6 +951,10 @@ public class ItemProvider {
      * Get Juggler Heavy Thing item (Wind Charge)
      */
     public ItemStack getJugglerHeavyThing() {
+        return fromTemplate(ClassType.JUGGLER, "heavy_thing", this::buildJugglerHeavyThing);
+    }
+    
+    private ItemStack buildJugglerHeavyThing() {
         ItemStack item = new ItemStack(Material.WIND_CHARGE);
         ItemMeta meta = item.getItemMeta();
         
@@ -810,6 +982,10 @@ public class ItemProvider {
      * Get Juggler Throw Time item
      */
     public ItemStack getJugglerThrowTime() {
+        return fromTemplate(ClassType.JUGGLER, "throw_time", this::buildJugglerThrowTime);
+    }
+    
+    private ItemStack buildJugglerThrowTime() {
         ItemStack item = new ItemStack(Material.CLOCK);
         ItemMeta meta = item.getItemMeta();
         
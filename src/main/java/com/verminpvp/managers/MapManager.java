@@ -27,6 +27,9 @@ public class MapManager {
     private String slot2MapName;
     private Location votedMap; // The map selected by voting
     
+    // Arena binding: slot number (1 or 2) -> id of the match running on it
+    private final Map<Integer, String> slotOwners = new HashMap<>();
+    
     // Dedicated spawn lists for each map slot
     private final List<Location> slot1Spawns;
     private final List<Location> slot2Spawns;
@@ -246,6 +249,81 @@ public class MapManager {
         return slot2Map != null;
     }
     
+    /**
+     * Get the slot number (1 or 2) of a slot map location, or 0 if it is not a slot
+     */
+    public int getSlotNumber(Location location) {
+        if (location == null) {
+            return 0;
+        }
+        if (slot1Map != null && location.equals(slot1Map)) {
+            return 1;
+        }
+        if (slot2Map != null && location.equals(slot2Map)) {
+            return 2;
+        }
+        return 0;
+    }
+    
+    /**
+     * Get the map location of a slot (1 or 2)
+     */
+    public Location getSlotMap(int slot) {
+        return slot == 1 ? getSlot1Map() : slot == 2 ? getSlot2Map() : null;
+    }
+    
+    /**
+     * Get the map name of a slot (1 or 2)
+     */
+    public String getSlotMapName(int slot) {
+        return slot == 1 ? slot1MapName : slot == 2 ? slot2MapName : null;
+    }
+    
+    /**
+     * Bind a map slot to a match
+     * 
+     * @return false if the slot is already bound to another match
+     */
+    public boolean claimSlot(int slot, String matchId) {
+        String owner = slotOwners.get(slot);
+        if (owner != null && !owner.equals(matchId)) {
+            return false;
+        }
+        slotOwners.put(slot, matchId);
+        return true;
+    }
+    
+    /**
+     * Release every slot bound to a match
+     */
+    public void releaseSlots(String matchId) {
+        slotOwners.values().removeIf(owner -> owner.equals(matchId));
+    }
+    
+    /**
+     * Check if a map slot is bound to a running match
+     */
+    public boolean isSlotClaimed(int slot) {
+        return slotOwners.containsKey(slot);
+    }
+    
+    /**
+     * Get a configured slot that is not bound to any match, preferring the given slot
+     * 
+     * @return The free slot number, or 0 if every configured slot is in use
+     */
+    public int getFreeSlot(int preferredSlot) {
+        if (preferredSlot != 0 && getSlotMap(preferredSlot) != null && !isSlotClaimed(preferredSlot)) {
+            return preferredSlot;
+        }
+        for (int slot = 1; slot <= 2; slot++) {
+            if (getSlotMap(slot) != null && !isSlotClaimed(slot)) {
+                return slot;
+            }
+        }
+        return 0;
+    }
+    
     /**
      * Set the voted map (selected by players)
      */
@@ -397,4 +475,18 @@ public class MapManager {
     public void clearSlot2Spawns() {
         slot2Spawns.clear();
     }
+    
+    /**
+     * Clear all maps, map slots and spawns (used before importing map data)
+     */
+    public void clearAllMapData() {
+        clearAllSpawnLocations();
+        clearPracticeMap();
+        setSlot1Map(null, null);
+        setSlot2Map(null, null);
+        clearSlot1Spawns();
+        clearSlot2Spawns();
+        votedMap = null;
+        lastSelectedMap = null;
+    }
 }
@@ -0,0 +1,227 @@
+package com.verminpvp.managers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Versioned binary snapshot of map, spawn and lobby locations
+ * 
+ * Points are grouped per world and every world section stays encoded until it is
+ * requested, so worlds that are not loaded this session are never parsed.
+ * 
+ * Layout: int magic, short version, int world count, then per world a UTF world name,
+ * an int section length and the section. A section is an int point count followed by
+ * byte kind, double x/y/z, float yaw/pitch and an optional UTF name per point.
+ */
+public class MapSnapshot {
+    
+    private static final int MAGIC = 0x43505644; // "CPVD"
+    private static final short VERSION = 1;
+    private static final Kind[] KINDS = Kind.values();
+    
+    /**
+     * What a stored location is used for
+     */
+    public enum Kind {
+        LOBBY,
+        MAP,
+        PRACTICE_MAP,
+        SLOT1_MAP,
+        SLOT2_MAP,
+        SLOT1_SPAWN,
+        SLOT2_SPAWN
+    }
+    
+    /**
+     * A stored location (world-independent, the world is the section it belongs to)
+     */
+    public static final class Point {
+        private final Kind kind;
+        private final double x;
+        private final double y;
+        private final double z;
+        private final float yaw;
+        private final float pitch;
+        private final String name;
+        
+        public Point(Kind kind, double x, double y, double z, float yaw, float pitch, String name) {
+            this.kind = kind;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.yaw = yaw;
+            this.pitch = pitch;
+            this.name = name;
+        }
+        
+        public Kind getKind() {
+            return kind;
+        }
+        
+        public double getX() {
+            return x;
+        }
+        
+        public double getY() {
+            return y;
+        }
+        
+        public double getZ() {
+            return z;
+        }
+        
+        public float getYaw() {
+            return yaw;
+        }
+        
+        public float getPitch() {
+            return pitch;
+        }
+        
+        public String getName() {
+            return name;
+        }
+    }
+    
+    // Encoded point sections per world name
+    private final Map<String, byte[]> sections = new LinkedHashMap<>();
+    
+    /**
+     * Get the names of all worlds with stored points
+     */
+    public Set<String> getWorldNames() {
+        return Collections.unmodifiableSet(sections.keySet());
+    }
+    
+    public boolean hasWorld(String worldName) {
+        return sections.containsKey(worldName);
+    }
+    
+    public boolean isEmpty() {
+        return sections.isEmpty();
+    }
+    
+    /**
+     * Decode the points stored for a world
+     */
+    public List<Point> getPoints(String worldName) throws IOException {
+        byte[] section = sections.get(worldName);
+        if (section == null) {
+            return new ArrayList<>();
+        }
+        
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(section));
+        int count = in.readInt();
+        List<Point> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int kind = in.readUnsignedByte();
+            if (kind >= KINDS.length) {
+                throw new IOException("Unknown point kind " + kind + " in world " + worldName);
+            }
+            double x = in.readDouble();
+            double y = in.readDouble();
+            double z = in.readDouble();
+            float yaw = in.readFloat();
+            float pitch = in.readFloat();
+            String name = in.readBoolean() ? in.readUTF() : null;
+            points.add(new Point(KINDS[kind], x, y, z, yaw, pitch, name));
+        }
+        return points;
+    }
+    
+    /**
+     * Store the points of a world (replaces any existing section)
+     */
+    public void setPoints(String worldName, List<Point> points) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(4 + points.size() * 42);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(points.size());
+            for (Point point : points) {
+                out.writeByte(point.kind.ordinal());
+                out.writeDouble(point.x);
+                out.writeDouble(point.y);
+                out.writeDouble(point.z);
+                out.writeFloat(point.yaw);
+                out.writeFloat(point.pitch);
+                out.writeBoolean(point.name != null);
+                if (point.name != null) {
+                    out.writeUTF(point.name);
+                }
+            }
+            sections.put(worldName, bytes.toByteArray());
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Copy a world section from another snapshot without decoding it
+     */
+    public void copyWorld(MapSnapshot source, String worldName) {
+        byte[] section = source.sections.get(worldName);
+        if (section != null) {
+            sections.put(worldName, section);
+        }
+    }
+    
+    public void removeWorld(String worldName) {
+        sections.remove(worldName);
+    }
+    
+    /**
+     * Encode the snapshot
+     */
+    public byte[] toBytes() {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(sections.size());
+            for (Map.Entry<String, byte[]> entry : sections.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                out.write(entry.getValue());
+            }
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            // In-memory streams do not throw
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * Read a snapshot; only the world index is parsed, sections are decoded on demand
+     */
+    public static MapSnapshot fromBytes(byte[] data) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a map data file");
+        }
+        short version = in.readShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported map data version " + version);
+        }
+        
+        MapSnapshot snapshot = new MapSnapshot();
+        int worldCount = in.readInt();
+        for (int i = 0; i < worldCount; i++) {
+            String worldName = in.readUTF();
+            byte[] section = new byte[in.readInt()];
+            in.readFully(section);
+            snapshot.sections.put(worldName, section);
+        }
+        return snapshot;
+    }
+}
@@ -0,0 +1,294 @@
+package com.verminpvp.managers;
+
+import com.verminpvp.models.GameMode;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * A single game (arena) running on the server
+ * 
+ * Owns its participants (in a ParticipantRegistry) and their HostilityMatrix, bound map
+ * slot, game timer and boss bar so several matches can run side by side. Created and driven by GameManager.
+ */
+public class Match {
+    
+    private final String id;
+    private final ParticipantRegistry registry = new ParticipantRegistry();
+    private final HostilityMatrix hostility;
+    private GameMode gameMode;
+    
+    private boolean countdownActive = false;
+    private boolean inFreezePeriod = false;
+    private boolean gameActive = false;
+    private int gameTimeRemaining = 0; // in seconds
+    
+    // Map slot bound to this match (0 = random spawns, not bound to a slot)
+    private int mapSlot = 0;
+    private Location mapLocation;
+    private String mapName;
+    private boolean skyIslandEffects = false;
+    
+    // Worlds this match played in (for cleanup and reset)
+    private final Set<String> gameWorlds = new HashSet<>();
+    
+    private BukkitTask gameTimerTask;
+    private BukkitTask effectTask;
+    private org.bukkit.boss.BossBar timeBossBar;
+    
+    /**
+     * @param inPracticeMode Whether a player is in practice mode (teammates are not spared)
+     */
+    public Match(String id, GameMode gameMode, Predicate<UUID> inPracticeMode) {
+        this.id = id;
+        this.gameMode = gameMode;
+        this.hostility = new HostilityMatrix(registry,
+            playerId -> this.gameMode == GameMode.TEAM && !inPracticeMode.test(playerId));
+    }
+    
+    /**
+     * Get the match id
+     */
+    public String getId() {
+        return id;
+    }
+    
+    // ========== Participants ==========
+    
+    /**
+     * Get the participant registry (teams, classes and alive state)
+     */
+    public ParticipantRegistry getRegistry() {
+        return registry;
+    }
+    
+    /**
+     * Get the ally/enemy table of the participants
+     */
+    public HostilityMatrix getHostility() {
+        return hostility;
+    }
+    
+    public boolean hasParticipant(UUID playerId) {
+        return registry.contains(playerId);
+    }
+    
+    /**
+     * Get all participant UUIDs (including offline players)
+     */
+    public Set<UUID> getParticipants() {
+        return registry.getPlayerIds();
+    }
+    
+    /**
+     * Get participants that are currently online
+     */
+    public List<Player> getOnlinePlayers() {
+        return Arrays.asList(registry.getOnlinePlayers());
+    }
+    
+    /**
+     * Get participants that are still alive (online and not eliminated)
+     */
+    public List<Player> getAlivePlayers() {
+        return Arrays.asList(registry.getAlivePlayers());
+    }
+    
+    /**
+     * Send a message to all online participants
+     */
+    public void broadcast(String message) {
+        for (Player player : registry.getOnlinePlayers()) {
+            player.sendMessage(message);
+        }
+    }
+    
+    // ========== State ==========
+    
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+    
+    public void setGameMode(GameMode gameMode) {
+        this.gameMode = gameMode;
+        hostility.invalidate();
+    }
+    
+    public boolean isCountdownActive() {
+        return countdownActive;
+    }
+    
+    public void setCountdownActive(boolean countdownActive) {
+        this.countdownActive = countdownActive;
+    }
+    
+    public boolean isInFreezePeriod() {
+        return inFreezePeriod;
+    }
+    
+    public void setInFreezePeriod(boolean inFreezePeriod) {
+        this.inFreezePeriod = inFreezePeriod;
+    }
+    
+    public boolean isGameActive() {
+        return gameActive;
+    }
+    
+    public void setGameActive(boolean gameActive) {
+        this.gameActive = gameActive;
+    }
+    
+    /**
+     * Check if the match is in progress (countdown, freeze period or game)
+     */
+    public boolean isRunning() {
+        return countdownActive || inFreezePeriod || gameActive;
+    }
+    
+    public int getGameTimeRemaining() {
+        return gameTimeRemaining;
+    }
+    
+    public void setGameTimeRemaining(int gameTimeRemaining) {
+        this.gameTimeRemaining = gameTimeRemaining;
+    }
+    
+    // ========== Map ==========
+    
+    /**
+     * Bind the match to a map slot (0 = random spawns)
+     */
+    public void setMap(int mapSlot, Location mapLocation, String mapName) {
+        this.mapSlot = mapSlot;
+        this.mapLocation = mapLocation;
+        this.mapName = mapName;
+    }
+    
+    public int getMapSlot() {
+        return mapSlot;
+    }
+    
+    public Location getMapLocation() {
+        return mapLocation;
+    }
+    
+    public String getMapName() {
+        return mapName;
+    }
+    
+    public boolean hasSkyIslandEffects() {
+        return skyIslandEffects;
+    }
+    
+    public void setSkyIslandEffects(boolean skyIslandEffects) {
+        this.skyIslandEffects = skyIslandEffects;
+    }
+    
+    public Set<String> getGameWorlds() {
+        return gameWorlds;
+    }
+    
+    // ========== Tasks and boss bar ==========
+    
+    public void setGameTimerTask(BukkitTask gameTimerTask) {
+        this.gameTimerTask = gameTimerTask;
+    }
+    
+    public void setEffectTask(BukkitTask effectTask) {
+        this.effectTask = effectTask;
+    }
+    
+    /**
+     * Create the time boss bar for all alive participants
+     */
+    public void createTimeBossBar() {
+        removeTimeBossBar();
+        
+        timeBossBar = Bukkit.createBossBar(
+            "§a§l게임 진행 중",
+            org.bukkit.boss.BarColor.GREEN,
+            org.bukkit.boss.BarStyle.SOLID
+        );
+        
+        for (Player player : registry.getAlivePlayers()) {
+            timeBossBar.addPlayer(player);
+        }
+        
+        timeBossBar.setVisible(true);
+    }
+    
+    /**
+     * Update the time boss bar with the remaining time
+     * 
+     * @param gameDuration Total game duration in seconds
+     */
+    public void updateTimeBossBar(int gameDuration) {
+        if (timeBossBar == null) return;
+        
+        int minutes = gameTimeRemaining / 60;
+        int seconds = gameTimeRemaining % 60;
+        
+        // Update title
+        String title = String.format("§e남은 시간: §f%d:%02d", minutes, seconds);
+        timeBossBar.setTitle(title);
+        
+        // Update progress (0.0 to 1.0)
+        double progress = (double) gameTimeRemaining / gameDuration;
+        timeBossBar.setProgress(Math.max(0.0, Math.min(1.0, progress)));
+        
+        // Change color based on time remaining
+        if (gameTimeRemaining <= 30) {
+            timeBossBar.setColor(org.bukkit.boss.BarColor.RED);
+        } else if (gameTimeRemaining <= 60) {
+            timeBossBar.setColor(org.bukkit.boss.BarColor.YELLOW);
+        } else {
+            timeBossBar.setColor(org.bukkit.boss.BarColor.GREEN);
+        }
+    }
+    
+    /**
+     * Remove the time boss bar
+     */
+    public void removeTimeBossBar() {
+        if (timeBossBar != null) {
+            timeBossBar.removeAll();
+            timeBossBar.setVisible(false);
+            timeBossBar = null;
+        }
+    }
+    
+    /**
+     * Cancel the game timer and effect refresh tasks and remove the boss bar
+     */
+    public void cancelTasks() {
+        if (gameTimerTask != null) {
+            gameTimerTask.cancel();
+            gameTimerTask = null;
+        }
+        
+        if (effectTask != null) {
+            effectTask.cancel();
+            effectTask = null;
+        }
+        
+        removeTimeBossBar();
+    }
+    
+    /**
+     * Reset all state flags (called when the match ends)
+     */
+    public void resetState() {
+        countdownActive = false;
+        inFreezePeriod = false;
+        gameActive = false;
+        gameTimeRemaining = 0;
+    }
+}
@@ -0,0 +1,194 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Single PlayerMoveEvent listener for movement-sensitive class states
+ * 
+ * Handlers register a named channel once and subscribe players while they are in the
+ * state the channel cares about (frozen, fall-tracked, sprint-tracked, ...). A move is
+ * dropped after one map lookup unless the player is subscribed somewhere, and moves
+ * that only turn the head never reach a channel. Each channel counts its invocations.
+ * 
+ * Subscriptions survive a quit so rejoining match players keep their state; match end
+ * drops them together with the player's combat ticker tasks.
+ * 
+ * Dispatch runs at HIGHEST, the priority the freeze period listener always had, so
+ * the destinations set by freezing channels are not overridden by later listeners.
+ */
+public class MoveDispatcher implements Listener {
+    
+    // Channel GameManager subscribes match players to during the freeze period
+    public static final String FREEZE_PERIOD = "freeze_period";
+    
+    private static final Channel[] NO_CHANNELS = new Channel[0];
+    
+    /**
+     * Receives moves of subscribed players that changed position
+     */
+    public interface MoveHandler {
+        void onMove(PlayerMoveEvent event);
+    }
+    
+    /**
+     * A registered move handler and its subscribers
+     */
+    public final class Channel {
+        private final String name;
+        private final MoveHandler handler;
+        private long invocations;
+        
+        private Channel(String name, MoveHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public long getInvocations() {
+            return invocations;
+        }
+        
+        /**
+         * Route a player's moves to this channel
+         */
+        public void subscribe(UUID playerId) {
+            Channel[] current = subscriptions.getOrDefault(playerId, NO_CHANNELS);
+            for (Channel channel : current) {
+                if (channel == this) {
+                    return;
+                }
+            }
+            
+            Channel[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = this;
+            subscriptions.put(playerId, updated);
+        }
+        
+        /**
+         * Stop routing a player's moves to this channel
+         */
+        public void unsubscribe(UUID playerId) {
+            Channel[] current = subscriptions.get(playerId);
+            if (current == null) {
+                return;
+            }
+            
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != this) {
+                    continue;
+                }
+                
+                if (current.length == 1) {
+                    subscriptions.remove(playerId);
+                } else {
+                    // Copy instead of editing in place, a dispatch may be walking the old array
+                    Channel[] updated = new Channel[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    subscriptions.put(playerId, updated);
+                }
+                return;
+            }
+        }
+        
+        /**
+         * Check if a player's moves are routed to this channel
+         */
+        public boolean isSubscribed(UUID playerId) {
+            for (Channel channel : subscriptions.getOrDefault(playerId, NO_CHANNELS)) {
+                if (channel == this) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    
+    // Channel name -> channel, in registration order
+    private final Map<String, Channel> channels = new LinkedHashMap<>();
+    
+    // Player -> channels the player is subscribed to (replaced, never edited)
+    private final Map<UUID, Channel[]> subscriptions = new HashMap<>();
+    
+    /**
+     * Register a move handler under a unique name
+     */
+    public Channel register(String name, MoveHandler handler) {
+        if (channels.containsKey(name)) {
+            throw new IllegalArgumentException("Move channel already registered: " + name);
+        }
+        
+        Channel channel = new Channel(name, handler);
+        channels.put(name, channel);
+        return channel;
+    }
+    
+    /**
+     * Get a channel by name, or null if nothing registered it
+     */
+    public Channel getChannel(String name) {
+        return channels.get(name);
+    }
+    
+    /**
+     * Drop all of a player's subscriptions
+     */
+    public void unsubscribeAll(UUID playerId) {
+        subscriptions.remove(playerId);
+    }
+    
+    /**
+     * Drop every subscription (channels stay registered)
+     */
+    public void clear() {
+        subscriptions.clear();
+    }
+    
+    /**
+     * Invocations per channel since startup
+     */
+    public Map<String, Long> getInvocationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Channel channel : channels.values()) {
+            counts.put(channel.name, channel.invocations);
+        }
+        return counts;
+    }
+    
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        
+        Channel[] subscribed = subscriptions.get(event.getPlayer().getUniqueId());
+        if (subscribed == null) {
+            return;
+        }
+        
+        // Head rotation only
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        if (to == null || (from.getX() == to.getX() && from.getY() == to.getY() && from.getZ() == to.getZ())) {
+            return;
+        }
+        
+        for (Channel channel : subscribed) {
+            channel.invocations++;
+            channel.handler.onMove(event);
+        }
+    }
+}
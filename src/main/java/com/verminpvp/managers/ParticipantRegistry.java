@@ -0,0 +1,467 @@
+package com.verminpvp.managers;
+
+import com.verminpvp.models.ClassType;
+import com.verminpvp.models.Team;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Participant registry for one match (or for the lobby)
+ * 
+ * Players are bucketed by team with cached member arrays, alive counts per team
+ * and a class-to-player map per team. Everything is updated on join, quit, death,
+ * team and class changes, so win checks, teammate lookups and class checks never
+ * scan the online player list.
+ */
+public class ParticipantRegistry {
+    
+    private static final Team[] TEAMS = Team.values();
+    private static final int NO_TEAM = TEAMS.length; // Bucket for players without a team
+    private static final int BUCKETS = TEAMS.length + 1;
+    private static final Player[] NO_PLAYERS = new Player[0];
+    
+    /**
+     * Registry state of a single player
+     */
+    private static final class Entry {
+        private final UUID playerId;
+        private final int slot;
+        private Player player; // null while offline
+        private int bucket = NO_TEAM;
+        private ClassType classType;
+        private boolean alive;
+        
+        private Entry(UUID playerId, int slot) {
+            this.playerId = playerId;
+            this.slot = slot;
+        }
+    }
+    
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>();
+    
+    // Dense slot per entry, reused after removal (for per-slot tables such as HostilityMatrix)
+    private Entry[] slots = new Entry[16];
+    private int slotCount = 0;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    
+    // Bumped on every membership or team change
+    private int revision = 0;
+    
+    // Alive counts per bucket, total, and number of teams with alive members
+    private final int[] aliveCounts = new int[BUCKETS];
+    private int aliveTotal = 0;
+    private int aliveTeams = 0;
+    
+    // Class holders per bucket (holder and how many players in the bucket have the class)
+    private final Map<ClassType, UUID>[] classOwners;
+    private final int[][] classCounts = new int[BUCKETS][ClassType.values().length];
+    
+    // Cached arrays, rebuilt lazily after membership changes
+    private final Player[][] members = new Player[BUCKETS][];
+    private Player[] onlinePlayers;
+    private Player[] alivePlayers;
+    
+    @SuppressWarnings("unchecked")
+    public ParticipantRegistry() {
+        classOwners = new Map[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            classOwners[i] = new EnumMap<>(ClassType.class);
+        }
+    }
+    
+    // ========== Maintenance (join, quit, death, team and class changes) ==========
+    
+    /**
+     * Add a player (or refresh an existing entry when the player rejoins)
+     */
+    public void add(Player player, Team team, ClassType classType, boolean alive) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry == null) {
+            entry = new Entry(player.getUniqueId(), allocateSlot());
+            entries.put(entry.playerId, entry);
+            slots[entry.slot] = entry;
+        }
+        entry.player = player;
+        moveBucket(entry, bucketOf(team));
+        setClass(entry, classType);
+        setAlive(entry, alive);
+        invalidate();
+    }
+    
+    /**
+     * Remove a player completely
+     */
+    public void remove(UUID playerId) {
+        Entry entry = entries.remove(playerId);
+        if (entry == null) {
+            return;
+        }
+        slots[entry.slot] = null;
+        freeSlots.push(entry.slot);
+        setAlive(entry, false);
+        setClass(entry, null);
+        invalidate();
+    }
+    
+    /**
+     * Mark a player as online again (keeps team, class and alive state)
+     */
+    public void setOnline(Player player) {
+        Entry entry = entries.get(player.getUniqueId());
+        if (entry != null) {
+            entry.player = player;
+            invalidate();
+        }
+    }
+    
+    /**
+     * Mark a player as offline; an offline player no longer counts as alive
+     */
+    public void setOffline(UUID playerId) {
+        Entry entry = entries.get(playerId);
+        if (entry != null) {
+            entry.player = null;
+            setAlive(entry, false);
+            invalidate();
+        }
+    }
+    
+    /**
+     * Set whether a player is still alive (false on elimination)
+     */
+    public void setAlive(UUID playerId, boolean alive) {
+        Entry entry = entries.get(playerId);
+        if (entry != null && entry.alive != alive) {
+            setAlive(entry, alive);
+            alivePlayers = null;
+        }
+    }
+    
+    /**
+     * Move a player to a team (null = no team)
+     */
+    public void setTeam(UUID playerId, Team team) {
+        Entry entry = entries.get(playerId);
+        if (entry != null && entry.bucket != bucketOf(team)) {
+            moveBucket(entry, bucketOf(team));
+            invalidate();
+        }
+    }
+    
+    /**
+     * Move every player out of their team
+     */
+    public void clearTeams() {
+        for (Entry entry : entries.values()) {
+            moveBucket(entry, NO_TEAM);
+        }
+        invalidate();
+    }
+    
+    /**
+     * Set a player's class (null = no class)
+     */
+    public void setClass(UUID playerId, ClassType classType) {
+        Entry entry = entries.get(playerId);
+        if (entry != null) {
+            setClass(entry, classType);
+        }
+    }
+    
+    // ========== Queries ==========
+    
+    public boolean contains(UUID playerId) {
+        return entries.containsKey(playerId);
+    }
+    
+    /**
+     * Get all registered player UUIDs (including offline players)
+     */
+    public Set<UUID> getPlayerIds() {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+    
+    public boolean isAlive(UUID playerId) {
+        Entry entry = entries.get(playerId);
+        return entry != null && entry.alive;
+    }
+    
+    /**
+     * Get a player's slot (stable while the player is registered), or -1
+     */
+    public int getSlot(UUID playerId) {
+        Entry entry = entries.get(playerId);
+        return entry != null ? entry.slot : -1;
+    }
+    
+    /**
+     * Number of slots handed out so far (slots are below this bound)
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+    
+    /**
+     * Get the player in a slot, or null if the slot is free
+     */
+    public UUID getPlayerId(int slot) {
+        Entry entry = slots[slot];
+        return entry != null ? entry.playerId : null;
+    }
+    
+    /**
+     * Get the team of the player in a slot (null = no team or free slot)
+     */
+    public Team getTeam(int slot) {
+        Entry entry = slots[slot];
+        return entry != null && entry.bucket != NO_TEAM ? TEAMS[entry.bucket] : null;
+    }
+    
+    /**
+     * Counter that changes whenever membership or teams change
+     */
+    public int getRevision() {
+        return revision;
+    }
+    
+    /**
+     * Get online players (cached array, do not modify)
+     */
+    public Player[] getOnlinePlayers() {
+        if (onlinePlayers == null) {
+            onlinePlayers = collect(-1, false);
+        }
+        return onlinePlayers;
+    }
+    
+    /**
+     * Get alive players (cached array, do not modify)
+     */
+    public Player[] getAlivePlayers() {
+        if (alivePlayers == null) {
+            alivePlayers = collect(-1, true);
+        }
+        return alivePlayers;
+    }
+    
+    /**
+     * Get online members of a team (cached array, do not modify)
+     */
+    public Player[] getTeamMembers(Team team) {
+        int bucket = bucketOf(team);
+        if (members[bucket] == null) {
+            members[bucket] = collect(bucket, false);
+        }
+        return members[bucket];
+    }
+    
+    /**
+     * Number of alive players
+     */
+    public int getAliveCount() {
+        return aliveTotal;
+    }
+    
+    /**
+     * Number of alive players in a team (null = players without a team)
+     */
+    public int getAliveCount(Team team) {
+        return aliveCounts[bucketOf(team)];
+    }
+    
+    /**
+     * Number of teams that still have alive members
+     */
+    public int getAliveTeamCount() {
+        return aliveTeams;
+    }
+    
+    /**
+     * Get the team with the most alive members (first team wins ties), or null if none
+     */
+    public Team getLeadingTeam() {
+        Team leader = null;
+        int best = 0;
+        for (int i = 0; i < TEAMS.length; i++) {
+            if (aliveCounts[i] > best) {
+                best = aliveCounts[i];
+                leader = TEAMS[i];
+            }
+        }
+        return leader;
+    }
+    
+    /**
+     * Check if any player has a class
+     */
+    public boolean isClassTaken(ClassType classType) {
+        if (classType == null) {
+            return false;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            if (classCounts[i][classType.ordinal()] > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Check if a player in a team has a class
+     */
+    public boolean isClassTaken(ClassType classType, Team team) {
+        return classType != null && classCounts[bucketOf(team)][classType.ordinal()] > 0;
+    }
+    
+    /**
+     * Get a player holding a class in a team (null team = players without a team)
+     */
+    public Player getClassHolder(ClassType classType, Team team) {
+        if (classType == null) {
+            return null;
+        }
+        Entry entry = entries.get(classOwners[bucketOf(team)].get(classType));
+        return entry != null ? entry.player : null;
+    }
+    
+    /**
+     * Get any online player holding a class
+     */
+    public Player getClassHolder(ClassType classType) {
+        if (classType == null) {
+            return null;
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            Entry entry = entries.get(classOwners[i].get(classType));
+            if (entry != null && entry.player != null) {
+                return entry.player;
+            }
+        }
+        return null;
+    }
+    
+    // ========== Internals ==========
+    
+    private int allocateSlot() {
+        Integer free = freeSlots.poll();
+        if (free != null) {
+            return free;
+        }
+        if (slotCount == slots.length) {
+            slots = Arrays.copyOf(slots, slotCount * 2);
+        }
+        return slotCount++;
+    }
+    
+    private static int bucketOf(Team team) {
+        return team == null ? NO_TEAM : team.ordinal();
+    }
+    
+    private void setAlive(Entry entry, boolean alive) {
+        if (entry.alive == alive) {
+            return;
+        }
+        entry.alive = alive;
+        int delta = alive ? 1 : -1;
+        aliveTotal += delta;
+        aliveCounts[entry.bucket] += delta;
+        if (entry.bucket != NO_TEAM) {
+            if (alive && aliveCounts[entry.bucket] == 1) {
+                aliveTeams++;
+            } else if (!alive && aliveCounts[entry.bucket] == 0) {
+                aliveTeams--;
+            }
+        }
+    }
+    
+    private void moveBucket(Entry entry, int bucket) {
+        if (entry.bucket == bucket) {
+            return;
+        }
+        ClassType classType = entry.classType;
+        boolean alive = entry.alive;
+        setClass(entry, null);
+        setAlive(entry, false);
+        entry.bucket = bucket;
+        setClass(entry, classType);
+        setAlive(entry, alive);
+    }
+    
+    private void setClass(Entry entry, ClassType classType) {
+        if (entry.classType == classType) {
+            return;
+        }
+        
+        ClassType previous = entry.classType;
+        entry.classType = classType;
+        
+        if (previous != null) {
+            classCounts[entry.bucket][previous.ordinal()]--;
+            Map<ClassType, UUID> owners = classOwners[entry.bucket];
+            if (entry.playerId.equals(owners.get(previous))) {
+                owners.remove(previous);
+                // Another player in the bucket may still hold the class (solo mode allows duplicates)
+                if (classCounts[entry.bucket][previous.ordinal()] > 0) {
+                    for (Entry other : entries.values()) {
+                        if (other.bucket == entry.bucket && other.classType == previous) {
+                            owners.put(previous, other.playerId);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+        
+        if (classType != null) {
+            classCounts[entry.bucket][classType.ordinal()]++;
+            classOwners[entry.bucket].putIfAbsent(classType, entry.playerId);
+        }
+    }
+    
+    private void invalidate() {
+        revision++;
+        for (int i = 0; i < BUCKETS; i++) {
+            members[i] = null;
+        }
+        onlinePlayers = null;
+        alivePlayers = null;
+    }
+    
+    /**
+     * Collect online players of a bucket (-1 = all buckets), optionally only alive ones
+     */
+    private Player[] collect(int bucket, boolean aliveOnly) {
+        int count = 0;
+        for (Entry entry : entries.values()) {
+            if (matches(entry, bucket, aliveOnly)) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return NO_PLAYERS;
+        }
+        
+        Player[] result = new Player[count];
+        int index = 0;
+        for (Entry entry : entries.values()) {
+            if (matches(entry, bucket, aliveOnly)) {
+                result[index++] = entry.player;
+            }
+        }
+        return result;
+    }
+    
+    private static boolean matches(Entry entry, int bucket, boolean aliveOnly) {
+        return entry.player != null
+            && (bucket < 0 || entry.bucket == bucket)
+            && (!aliveOnly || entry.alive);
+    }
+}
@@ -0,0 +1,246 @@
+package com.verminpvp.managers;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.ProjectileHitEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Owner and ability tags for ability projectiles
+ * 
+ * The owner and ability are written to the projectile's own persistent data, so
+ * handlers no longer keep projectile -> owner maps. The registry only remembers when
+ * each tag expires: a tag is dropped when a handler consumes the hit, when the
+ * projectile hits a block or an entity no handler cared about (a miss), or when its
+ * time to live runs out, whichever comes first. Missed shots therefore cannot pile
+ * up, and the live counts show that the registry stays bounded.
+ */
+public class ProjectileRegistry implements Listener {
+    
+    // Time to live for projectiles without a more specific rule (10 seconds)
+    public static final long DEFAULT_TTL_TICKS = 200L;
+    
+    private final CombatTicker combatTicker;
+    private final LongSupplier tickClock;
+    private final NamespacedKey ownerKey;
+    private final NamespacedKey abilityKey;
+    
+    // Projectile -> live tag
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    
+    // Earliest expiry among the live tags (skips the sweep until then)
+    private long nextExpiry = Long.MAX_VALUE;
+    
+    private CombatTicker.TickTask driver;
+    
+    /**
+     * @param tickClock Supplies the current server tick
+     */
+    public ProjectileRegistry(Plugin plugin, CombatTicker combatTicker, LongSupplier tickClock) {
+        this.combatTicker = combatTicker;
+        this.tickClock = tickClock;
+        this.ownerKey = new NamespacedKey(plugin, "projectile_owner");
+        this.abilityKey = new NamespacedKey(plugin, "projectile_ability");
+    }
+    
+    /**
+     * Tag a projectile with its owner and ability
+     */
+    public void track(Projectile projectile, Player owner, String ability, long ttlTicks) {
+        track(projectile, owner, ability, ttlTicks, null);
+    }
+    
+    /**
+     * Tag a projectile with its owner and ability
+     * 
+     * @param ttlTicks Ticks until the tag expires if the projectile hits nothing
+     * @param onMiss Called when the projectile misses or expires unconsumed (may be null)
+     */
+    public void track(Projectile projectile, Player owner, String ability, long ttlTicks,
+                      Consumer<Projectile> onMiss) {
+        PersistentDataContainer data = projectile.getPersistentDataContainer();
+        data.set(ownerKey, PersistentDataType.STRING, owner.getUniqueId().toString());
+        data.set(abilityKey, PersistentDataType.STRING, ability);
+        
+        long expiresAt = tickClock.getAsLong() + ttlTicks;
+        entries.put(projectile.getUniqueId(), new Entry(projectile, owner.getUniqueId(), ability, expiresAt, onMiss));
+        nextExpiry = Math.min(nextExpiry, expiresAt);
+        driver = combatTicker.ensureEveryTick(driver, this::tick);
+    }
+    
+    /**
+     * Get the owner of a projectile fired by an ability, or null if it carries no such tag
+     */
+    public UUID getOwner(Projectile projectile, String ability) {
+        PersistentDataContainer data = projectile.getPersistentDataContainer();
+        if (!ability.equals(data.get(abilityKey, PersistentDataType.STRING))) {
+            return null;
+        }
+        
+        String owner = data.get(ownerKey, PersistentDataType.STRING);
+        return owner == null ? null : UUID.fromString(owner);
+    }
+    
+    /**
+     * Consume a projectile's tag after its hit was handled
+     * 
+     * @return The owner, or null if the projectile carries no tag for the ability
+     */
+    public UUID release(Projectile projectile, String ability) {
+        UUID owner = getOwner(projectile, ability);
+        if (owner != null) {
+            untag(projectile);
+            entries.remove(projectile.getUniqueId());
+        }
+        return owner;
+    }
+    
+    /**
+     * Drop the tags of every projectile a player fired (no miss callbacks)
+     */
+    public void releaseOwner(UUID ownerId) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.owner.equals(ownerId)) {
+                iterator.remove();
+                untag(entry.projectile);
+            }
+        }
+    }
+    
+    /**
+     * Check if a projectile still carries a live tag
+     */
+    public boolean isTracked(Projectile projectile) {
+        return entries.containsKey(projectile.getUniqueId());
+    }
+    
+    /**
+     * Number of live tags
+     */
+    public int getLiveCount() {
+        return entries.size();
+    }
+    
+    /**
+     * Number of live tags per ability
+     */
+    public Map<String, Integer> getLiveCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (Entry entry : entries.values()) {
+            counts.merge(entry.ability, 1, Integer::sum);
+        }
+        return counts;
+    }
+    
+    /**
+     * Drop every tag without miss callbacks (called on game end)
+     */
+    public void clear() {
+        for (Entry entry : entries.values()) {
+            untag(entry.projectile);
+        }
+        entries.clear();
+        nextExpiry = Long.MAX_VALUE;
+        
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * A hit no handler consumed is a miss (runs after the class handlers)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onProjectileHit(ProjectileHitEvent event) {
+        Entry entry = entries.remove(event.getEntity().getUniqueId());
+        if (entry != null) {
+            miss(entry);
+        }
+    }
+    
+    /**
+     * Expire tags whose time to live ran out (runs every tick while tags are live)
+     */
+    void tick() {
+        long now = tickClock.getAsLong();
+        if (now < nextExpiry) {
+            return;
+        }
+        
+        List<Entry> expired = new ArrayList<>();
+        long earliest = Long.MAX_VALUE;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt <= now) {
+                iterator.remove();
+                expired.add(entry);
+            } else {
+                earliest = Math.min(earliest, entry.expiresAt);
+            }
+        }
+        nextExpiry = earliest;
+        
+        // Callbacks run after the sweep, they may track new projectiles
+        for (Entry entry : expired) {
+            miss(entry);
+        }
+        
+        if (entries.isEmpty() && driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    private void miss(Entry entry) {
+        untag(entry.projectile);
+        if (entry.onMiss != null) {
+            entry.onMiss.accept(entry.projectile);
+        }
+    }
+    
+    private void untag(Projectile projectile) {
+        PersistentDataContainer data = projectile.getPersistentDataContainer();
+        data.remove(ownerKey);
+        data.remove(abilityKey);
+    }
+    
+    /**
+     * A live tag and when it expires
+     */
+    private static final class Entry {
+        private final Projectile projectile;
+        private final UUID owner;
+        private final String ability;
+        private final long expiresAt;
+        private final Consumer<Projectile> onMiss;
+        
+        private Entry(Projectile projectile, UUID owner, String ability, long expiresAt,
+                      Consumer<Projectile> onMiss) {
+            this.projectile = projectile;
+            this.owner = owner;
+            this.ability = ability;
+            this.expiresAt = expiresAt;
+            this.onMiss = onMiss;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Targeting for "attack in front" abilities
+ * 
+ * Both lookups ask the combatant index once for the entities around the player's eye
+ * and then test each candidate against the look direction, instead of probing the
+ * world for entities at several points along the way.
+ * 
+ * - Ray: the entity whose box (grown by the ray size) the look ray enters first
+ * - Cone: the closest entity whose body center lies within range and the cone angle
+ */
+public class TargetFinder {
+    
+    // Slack around the range when asking the index for candidates (covers mob sizes)
+    private static final double CANDIDATE_MARGIN = 2.0;
+    
+    private final CombatantIndex combatantIndex;
+    
+    // Reused candidate list (main thread only)
+    private final List<LivingEntity> candidates = new ArrayList<>();
+    
+    public TargetFinder(CombatantIndex combatantIndex) {
+        this.combatantIndex = combatantIndex;
+    }
+    
+    /**
+     * Get the first entity along the player's look ray
+     * 
+     * @param player The attacking player (never returned)
+     * @param range Ray length in blocks from the eye
+     * @param raySize How far entity boxes are grown, like World#rayTraceEntities
+     * @param filter Extra condition on targets, or null for any living entity
+     */
+    public LivingEntity rayTarget(Player player, double range, double raySize, Predicate<LivingEntity> filter) {
+        Location eye = player.getEyeLocation();
+        Vector look = eye.getDirection();
+        double dx = look.getX() * range;
+        double dy = look.getY() * range;
+        double dz = look.getZ() * range;
+        
+        LivingEntity first = null;
+        double firstTime = DashCollider.NO_HIT;
+        for (LivingEntity candidate : candidates(player, eye, range)) {
+            if (filter != null && !filter.test(candidate)) {
+                continue;
+            }
+            
+            Location position = candidate.getLocation();
+            double halfWidth = candidate.getWidth() / 2.0 + raySize;
+            double time = DashCollider.entryTime(eye.getX(), eye.getY(), eye.getZ(), dx, dy, dz,
+                position.getX() - halfWidth, position.getY() - raySize, position.getZ() - halfWidth,
+                position.getX() + halfWidth, position.getY() + candidate.getHeight() + raySize,
+                position.getZ() + halfWidth);
+            if (time < firstTime) {
+                firstTime = time;
+                first = candidate;
+            }
+        }
+        return first;
+    }
+    
+    /**
+     * Get the closest entity inside a cone around the player's look direction
+     * 
+     * @param player The attacking player (never returned)
+     * @param range Cone length in blocks from the eye
+     * @param halfAngle Angle between the look direction and the cone edge in degrees (180 = all around)
+     * @param filter Extra condition on targets, or null for any living entity
+     */
+    public LivingEntity coneTarget(Player player, double range, double halfAngle, Predicate<LivingEntity> filter) {
+        Location eye = player.getEyeLocation();
+        Vector look = eye.getDirection();
+        double minCos = Math.cos(Math.toRadians(halfAngle));
+        
+        LivingEntity closest = null;
+        double closestSquared = range * range;
+        for (LivingEntity candidate : candidates(player, eye, range)) {
+            if (filter != null && !filter.test(candidate)) {
+                continue;
+            }
+            
+            Location position = candidate.getLocation();
+            double toX = position.getX() - eye.getX();
+            double toY = position.getY() + candidate.getHeight() / 2.0 - eye.getY();
+            double toZ = position.getZ() - eye.getZ();
+            double distanceSquared = toX * toX + toY * toY + toZ * toZ;
+            if (distanceSquared > closestSquared) {
+                continue;
+            }
+            
+            // Inside the cone when cos(angle to target) >= minCos
+            double dot = toX * look.getX() + toY * look.getY() + toZ * look.getZ();
+            if (distanceSquared == 0.0 || dot >= minCos * Math.sqrt(distanceSquared)) {
+                closestSquared = distanceSquared;
+                closest = candidate;
+            }
+        }
+        return closest;
+    }
+    
+    /**
+     * Tracked entities around the eye, the player excluded
+     */
+    private List<LivingEntity> candidates(Player player, Location eye, double range) {
+        combatantIndex.collectNearby(eye.getWorld(), eye.getX(), eye.getY(), eye.getZ(),
+            range + CANDIDATE_MARGIN, candidates);
+        candidates.remove(player);
+        return candidates;
+    }
+}
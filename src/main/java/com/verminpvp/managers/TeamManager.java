@@ -23,6 +23,7 @@ public class TeamManager {
     
     private final Random random;
     private final Map<UUID, Team> playerTeams;
+    private GameManager gameManager;
     private org.bukkit.scoreboard.Team blueTeam;
     private org.bukkit.scoreboard.Team redTeam;
     
@@ -32,6 +33,13 @@ public class TeamManager {
         initializeScoreboardTeams();
     }
     
+    /**
+     * Set the game manager (participant registries are kept in sync with team changes)
+     */
+    public void setGameManager(GameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+    
     /**
      * Initialize scoreboard teams for display
      */
@@ -68,6 +76,9 @@ public class TeamManager {
     public void setPlayerTeam(Player player, Team team) {
         // Store team assignment FIRST before any scoreboard operations
         playerTeams.put(player.getUniqueId(), team);
+        if (gameManager != null) {
+            gameManager.getRegistry(player.getUniqueId()).setTeam(player.getUniqueId(), team);
+        }
         
         // Remove from both scoreboard teams first to prevent conflicts
         if (blueTeam != null) blueTeam.removeEntry(player.getName());
@@ -113,6 +124,9 @@ public class TeamManager {
      */
     public void clearPlayerTeam(Player player) {
         playerTeams.remove(player.getUniqueId());
+        if (gameManager != null) {
+            gameManager.getRegistry(player.getUniqueId()).setTeam(player.getUniqueId(), null);
+        }
         
         // Remove from scoreboard teams
         if (blueTeam != null) blueTeam.removeEntry(player.getName());
@@ -124,6 +138,9 @@ public class TeamManager {
      */
     public void clearAllTeams() {
         playerTeams.clear();
+        if (gameManager != null) {
+            gameManager.clearRegistryTeams();
+        }
         
         // Clear scoreboard teams
         if (blueTeam != null) {
@@ -150,6 +167,18 @@ public class TeamManager {
             return new ArrayList<>();
         }
         
+        // Teammates come from the player's own match (or the lobby)
+        if (gameManager != null) {
+            Player[] members = gameManager.getRegistry(player.getUniqueId()).getTeamMembers(playerTeam);
+            List<Player> teammates = new ArrayList<>(members.length);
+            for (Player member : members) {
+                if (!member.equals(player)) {
+                    teammates.add(member);
+                }
+            }
+            return teammates;
+        }
+        
         return Bukkit.getOnlinePlayers().stream()
             .filter(p -> !p.equals(player))
             .filter(p -> getPlayerTeam(p) == playerTeam)
@@ -163,6 +192,28 @@ public class TeamManager {
      * @return A random teammate, or null if no teammates available
      */
     public Player getRandomTeammate(Player player) {
+        Team playerTeam = getPlayerTeam(player);
+        if (playerTeam != null && gameManager != null) {
+            // Pick straight from the cached member array without building a list
+            Player[] members = gameManager.getRegistry(player.getUniqueId()).getTeamMembers(playerTeam);
+            int others = members.length;
+            for (Player member : members) {
+                if (member.equals(player)) {
+                    others--;
+                }
+            }
+            if (others == 0) {
+                return null;
+            }
+            int pick = random.nextInt(others);
+            for (Player member : members) {
+                if (!member.equals(player) && pick-- == 0) {
+                    return member;
+                }
+            }
+            return null;
+        }
+        
         List<Player> teammates = getTeammates(player);
         if (teammates.isEmpty()) {
             return null;
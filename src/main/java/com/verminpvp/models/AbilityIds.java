@@ -1,7 +1,15 @@
 package com.verminpvp.models;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Constants for ability identifiers used in cooldown tracking
+ * 
+ * Every ability id is also assigned a dense int index so per-player cooldowns
+ * can be stored in a flat long[] instead of a string-keyed map. The constants below
+ * are registered up front; other ids get an index when a timer is first set for them,
+ * and lookups of ids that were never set return -1 ("no cooldown").
  */
 public final class AbilityIds {
     
@@ -36,6 +44,7 @@ public final class AbilityIds {
     // Time Engraver abilities
     public static final String TIME_ENGRAVE = "time_engrave";
     public static final String CLOCK_NEEDLE_STITCH = "clock_needle_stitch";
+    public static final String ETERNAL_CLOCK = "eternal_clock";
     
     // Cavalry abilities
     public static final String MOUNT_DISMOUNT = "mount_dismount";
@@ -44,6 +53,95 @@ public final class AbilityIds {
     // Marathoner abilities
     public static final String CROUCHING_START = "crouching_start";
     
+    // Critical Cutter abilities
+    public static final String GUARANTEED_CRITICAL = "guaranteed_critical";
+    
+    // Shapeshifter abilities
+    public static final String SHAPESHIFTER_CHARGE = "shapeshifter_charge";
+    
+    // Dragon Fury abilities
+    public static final String DRAGON_FURY_COUNTER = "dragon_fury_counter";
+    
+    // Juggler abilities
+    public static final String JUGGLER_LIGHT = "juggler_light";
+    public static final String JUGGLER_HEAVY = "juggler_heavy";
+    
+    // Shield Soldier absorption sources
+    public static final String GOLDEN_SHIELD = "golden_shield";
+    public static final String SHIELD_SOLDIER_PASSIVE = "shield_soldier_passive";
+    
+    // Dense registry: ability id <-> index
+    private static final Map<String, Integer> INDICES = new ConcurrentHashMap<>();
+    private static volatile String[] ids = new String[32];
+    private static int count = 0;
+    
+    static {
+        for (String id : new String[] {
+                DIAMOND_SWORD, POTION_GENERATION, VIRULENT_ENGINE, EXTREME_POISON_ENGINE,
+                RED_SHIELD, BLUE_SHIELD, BASIC_SHIELD, WAVE_RIDING, HARPOON_THROW, NAVAL_COMBAT_GEN,
+                CAPTAINS_COMMAND, CAPTAINS_HARPOON, STAMP, DIVE, TIME_ENGRAVE, CLOCK_NEEDLE_STITCH,
+                ETERNAL_CLOCK, MOUNT_DISMOUNT, SWEEP, CROUCHING_START, GUARANTEED_CRITICAL,
+                SHAPESHIFTER_CHARGE, DRAGON_FURY_COUNTER, JUGGLER_LIGHT, JUGGLER_HEAVY, GOLDEN_SHIELD,
+                SHIELD_SOLDIER_PASSIVE}) {
+            register(id);
+        }
+    }
+    
+    /**
+     * Get the index of an ability id, registering it if it is new
+     * (only timer setters register; lookups use indexOf)
+     * 
+     * @param id The ability identifier
+     * @return The dense index for the ability
+     */
+    public static int register(String id) {
+        Integer index = INDICES.get(id);
+        if (index != null) {
+            return index;
+        }
+        
+        synchronized (AbilityIds.class) {
+            index = INDICES.get(id);
+            if (index != null) {
+                return index;
+            }
+            
+            if (count == ids.length) {
+                String[] grown = new String[ids.length * 2];
+                System.arraycopy(ids, 0, grown, 0, count);
+                ids = grown;
+            }
+            ids[count] = id;
+            INDICES.put(id, count);
+            return count++;
+        }
+    }
+    
+    /**
+     * Get the index of an ability id without registering it
+     * 
+     * @return The dense index, or -1 if the id was never registered
+     */
+    public static int indexOf(String id) {
+        Integer index = INDICES.get(id);
+        return index != null ? index : -1;
+    }
+    
+    /**
+     * Get the ability id for an index
+     */
+    public static String idOf(int index) {
+        String[] snapshot = ids;
+        return index >= 0 && index < snapshot.length ? snapshot[index] : null;
+    }
+    
+    /**
+     * Number of registered abilities
+     */
+    public static int count() {
+        return INDICES.size();
+    }
+    
     private AbilityIds() {
         // Prevent instantiation
     }
@@ -5,20 +5,19 @@ import java.util.Map;
 import java.util.UUID;
 
 /**
- * Stores per-player class state including cooldowns, resources, and class-specific data
+ * Stores per-player class state including resources and class-specific data
+ * (cooldowns and other timers live in CooldownManager)
  */
 public class ClassData {
     
     private final UUID playerId;
     private ClassType classType;
-    private final Map<String, Long> cooldowns;
     private final Map<ResourceType, Integer> resources;
     private final Map<String, Object> classSpecificData;
     
     public ClassData(UUID playerId, ClassType classType) {
         this.playerId = playerId;
         this.classType = classType;
-        this.cooldowns = new HashMap<>();
         this.resources = new HashMap<>();
         this.classSpecificData = new HashMap<>();
         
@@ -40,11 +39,6 @@ public class ClassData {
         this.classType = classType;
     }
     
-    // Cooldown methods
-    public Map<String, Long> getCooldowns() {
-        return cooldowns;
-    }
-    
     // Resource methods
     public int getResourceCount(ResourceType type) {
         return resources.getOrDefault(type, 0);
@@ -130,7 +124,6 @@ public class ClassData {
      * Clear all data (used when switching classes)
      */
     public void clear() {
-        cooldowns.clear();
         resources.replaceAll((k, v) -> 0);
         classSpecificData.clear();
     }
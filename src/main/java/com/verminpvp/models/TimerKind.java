@@ -0,0 +1,26 @@
+package com.verminpvp.models;
+
+/**
+ * Enum representing the kinds of timed state kept in the cooldown timer store
+ */
+public enum TimerKind {
+    /**
+     * Ability cooldown - ability cannot be used until it expires
+     */
+    COOLDOWN,
+    
+    /**
+     * Deploy lock - item cannot be deployed (e.g. shield blocking) until it expires
+     */
+    DEPLOY_LOCK,
+    
+    /**
+     * Absorption source - prevents absorption from the same source stacking
+     */
+    ABSORPTION_SOURCE,
+    
+    /**
+     * Buff expiry - a timed ability state is active until it expires
+     */
+    BUFF_EXPIRY
+}
@@ -0,0 +1,231 @@
+package com.verminpvp.ui;
+
+import com.verminpvp.managers.CombatTicker;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.NamedTextColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Composes the action bar from several sources (game timer, class status, cooldowns)
+ * 
+ * Sources set segments per player and slot instead of sending packets themselves.
+ * Once per tick the segments of changed players are joined in slot order and sent only
+ * if the result differs from what the player last received. Unchanged content is resent
+ * every KEEP_ALIVE_TICKS so it does not fade. The pass is a combat ticker task that
+ * stops itself when no player has segments.
+ */
+public class ActionBarCompositor {
+    
+    /**
+     * Action bar slots, in display order
+     */
+    public enum Slot {
+        TIMER,
+        STATUS,
+        COOLDOWN
+    }
+    
+    private static final Slot[] SLOTS = Slot.values();
+    private static final Component SEPARATOR = Component.text(" | ", NamedTextColor.GRAY);
+    private static final long KEEP_ALIVE_TICKS = 40L; // Action bar text fades after ~3 seconds
+    
+    /**
+     * Action bar state of a single player
+     */
+    private static final class View {
+        private final Player player;
+        private final Component[] segments = new Component[SLOTS.length];
+        private final long[] expiresAt = new long[SLOTS.length]; // 0 = until cleared
+        private boolean dirty;
+        private Component lastSent;
+        private long lastSentTick;
+        
+        private View(Player player) {
+            this.player = player;
+        }
+        
+        private boolean isEmpty() {
+            for (Component segment : segments) {
+                if (segment != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+    
+    private final CombatTicker combatTicker;
+    private final Map<UUID, View> views = new HashMap<>();
+    private final List<Runnable> updaters = new ArrayList<>();
+    private CombatTicker.TickTask driver;
+    private long currentTick = 0;
+    
+    public ActionBarCompositor(CombatTicker combatTicker) {
+        this.combatTicker = combatTicker;
+    }
+    
+    /**
+     * Register a source that refreshes its segments at the start of every pass
+     */
+    public void addUpdater(Runnable updater) {
+        updaters.add(updater);
+    }
+    
+    /**
+     * Set a segment until it is cleared or replaced
+     * 
+     * Passing the same (cached) component again is free: nothing is recomposed or sent.
+     */
+    public void set(Player player, Slot slot, Component segment) {
+        set(player, slot, segment, 0L);
+    }
+    
+    /**
+     * Set a segment that disappears after the given number of ticks (0 = until cleared)
+     */
+    public void set(Player player, Slot slot, Component segment, long durationTicks) {
+        if (segment == null) {
+            clear(player, slot);
+            return;
+        }
+        
+        View view = views.get(player.getUniqueId());
+        if (view == null || view.player != player) {
+            view = new View(player);
+            views.put(player.getUniqueId(), view);
+        }
+        
+        int index = slot.ordinal();
+        if (view.segments[index] != segment) {
+            view.segments[index] = segment;
+            view.dirty = true;
+        }
+        view.expiresAt[index] = durationTicks > 0 ? currentTick + durationTicks : 0L;
+        
+        ensureDriver();
+    }
+    
+    /**
+     * Clear a segment
+     */
+    public void clear(Player player, Slot slot) {
+        View view = views.get(player.getUniqueId());
+        if (view != null && view.segments[slot.ordinal()] != null) {
+            view.segments[slot.ordinal()] = null;
+            view.dirty = true;
+        }
+    }
+    
+    /**
+     * Forget a player (the action bar is left to fade)
+     */
+    public void removePlayer(UUID playerId) {
+        views.remove(playerId);
+    }
+    
+    /**
+     * Forget all players and stop the driver
+     */
+    public void clearAll() {
+        views.clear();
+        stopDriver();
+    }
+    
+    private void ensureDriver() {
+        driver = combatTicker.ensureEveryTick(driver, this::tick);
+    }
+    
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel();
+            driver = null;
+        }
+    }
+    
+    /**
+     * One pass: refresh sources, expire segments, send changed action bars
+     */
+    private void tick() {
+        currentTick++;
+        
+        for (Runnable updater : updaters) {
+            updater.run();
+        }
+        
+        Iterator<View> iterator = views.values().iterator();
+        while (iterator.hasNext()) {
+            View view = iterator.next();
+            if (!view.player.isOnline()) {
+                iterator.remove();
+                continue;
+            }
+            
+            for (int i = 0; i < SLOTS.length; i++) {
+                if (view.segments[i] != null && view.expiresAt[i] != 0L && view.expiresAt[i] <= currentTick) {
+                    view.segments[i] = null;
+                    view.dirty = true;
+                }
+            }
+            
+            if (view.dirty) {
+                view.dirty = false;
+                Component rendered = compose(view);
+                Component previous = view.lastSent != null ? view.lastSent : Component.empty();
+                if (!rendered.equals(previous)) {
+                    send(view, rendered);
+                    continue;
+                }
+            }
+            
+            if (view.lastSent != null && currentTick - view.lastSentTick >= KEEP_ALIVE_TICKS) {
+                send(view, view.lastSent);
+            }
+            
+            if (view.isEmpty()) {
+                iterator.remove();
+            }
+        }
+        
+        if (views.isEmpty()) {
+            stopDriver();
+        }
+    }
+    
+    /**
+     * Join the segments of a view in slot order
+     */
+    private Component compose(View view) {
+        TextComponent.Builder builder = Component.text();
+        boolean first = true;
+        for (Component segment : view.segments) {
+            if (segment == null) {
+                continue;
+            }
+            if (!first) {
+                builder.append(SEPARATOR);
+            }
+            builder.append(segment);
+            first = false;
+        }
+        return first ? Component.empty() : builder.build();
+    }
+    
+    private void send(View view, Component rendered) {
+        view.player.sendActionBar(rendered);
+        if (rendered.equals(Component.empty())) {
+            // Cleared: nothing to keep alive
+            view.lastSent = null;
+        } else {
+            view.lastSent = rendered;
+            view.lastSentTick = currentTick;
+        }
+    }
+}
@@ -2,135 +2,198 @@ package com.verminpvp.ui;
 
 import com.verminpvp.VerminPVP;
 import com.verminpvp.managers.CooldownManager;
+import com.verminpvp.models.AbilityIds;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.format.TextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 /**
  * Displays cooldown information to players using action bar
+ * 
+ * Cooldowns are rendered into the COOLDOWN slot of the ActionBarCompositor from a single
+ * update pass. Whole lines are cached per (ability, filled segments, tenth of a second),
+ * so an update only looks up a component.
  */
 public class CooldownDisplay {
     
+    private static final int BAR_LENGTH = 20;
+    private static final long UPDATE_TICKS = 2L; // 0.1 seconds
+    private static final long READY_DISPLAY_TICKS = 40L;
+    
     private final VerminPVP plugin;
     private final CooldownManager cooldownManager;
-    private final Map<UUID, BukkitRunnable> activeDisplays;
+    private final ActionBarCompositor compositor;
+    private final Map<UUID, Display> activeDisplays;
+    
+    // Component caches
+    private final Map<Integer, AbilityLines> lineCache = new HashMap<>(); // ability index -> bar lines
+    private final Map<String, Component> readyCache = new HashMap<>();
+    private final List<Component> secondsCache = new ArrayList<>(); // "3.4초" per tenth
+    private final List<Component> shortSecondsCache = new ArrayList<>(); // "3.4s" per tenth
+    
+    private long tick = 0;
+    
+    /**
+     * An active cooldown display; update returns false once everything is ready
+     */
+    private interface Display {
+        boolean update();
+    }
     
-    public CooldownDisplay(VerminPVP plugin, CooldownManager cooldownManager) {
+    /**
+     * Cached bar components of one ability
+     */
+    private static final class AbilityLines {
+        final Component[] bars = new Component[BAR_LENGTH + 1]; // prefix per filled count
+        final Component[][] lines = new Component[BAR_LENGTH + 1][]; // full line per filled count and tenth
+    }
+    
+    public CooldownDisplay(VerminPVP plugin, CooldownManager cooldownManager, ActionBarCompositor compositor) {
         this.plugin = plugin;
         this.cooldownManager = cooldownManager;
+        this.compositor = compositor;
         this.activeDisplays = new HashMap<>();
+        compositor.addUpdater(this::update);
     }
     
     /**
      * Show cooldown bar for a specific ability
      */
     public void showCooldown(Player player, String abilityId, String abilityName, double cooldownSeconds) {
-        // Cancel existing display for this player
-        cancelDisplay(player);
+        // Resolve the ability index once instead of on every update
+        int abilityIndex = AbilityIds.indexOf(abilityId);
+        if (abilityIndex < 0) {
+            return;
+        }
+        AbilityLines lines = lineCache.computeIfAbsent(abilityIndex, index -> new AbilityLines());
         
-        // Create new display task
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), abilityId);
-                
-                if (remaining <= 0) {
-                    // Cooldown finished
-                    player.sendActionBar(Component.text("✓ " + abilityName + " 준비 완료!", NamedTextColor.GREEN));
-                    cancel();
-                    activeDisplays.remove(player.getUniqueId());
-                    return;
-                }
-                
-                // Calculate progress
-                double progress = 1.0 - (remaining / cooldownSeconds);
-                int barLength = 20;
-                int filledBars = (int) (progress * barLength);
-                
-                // Create progress bar
-                StringBuilder bar = new StringBuilder();
-                bar.append("§e").append(abilityName).append(" §7[");
-                
-                for (int i = 0; i < barLength; i++) {
-                    if (i < filledBars) {
-                        bar.append("§a█");
-                    } else {
-                        bar.append("§7█");
-                    }
-                }
-                
-                bar.append("§7] §c").append(String.format("%.1f", remaining)).append("초");
-                
-                player.sendActionBar(Component.text(bar.toString()));
+        Display display = () -> {
+            if (!player.isOnline()) {
+                return false;
+            }
+            
+            double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), abilityIndex);
+            
+            if (remaining <= 0) {
+                // Cooldown finished
+                compositor.set(player, ActionBarCompositor.Slot.COOLDOWN, getReadyComponent(abilityName), READY_DISPLAY_TICKS);
+                return false;
             }
+            
+            // Calculate progress
+            double progress = 1.0 - (remaining / cooldownSeconds);
+            int filledBars = Math.max(0, Math.min(BAR_LENGTH, (int) (progress * BAR_LENGTH)));
+            
+            compositor.set(player, ActionBarCompositor.Slot.COOLDOWN, getLineComponent(lines, abilityName, filledBars, remaining));
+            return true;
         };
         
-        task.runTaskTimer(plugin, 0L, 2L); // Update every 2 ticks (0.1 seconds)
-        activeDisplays.put(player.getUniqueId(), task);
+        activeDisplays.put(player.getUniqueId(), display);
+        display.update();
     }
     
     /**
      * Show multiple cooldowns at once
      */
     public void showMultipleCooldowns(Player player, Map<String, CooldownInfo> cooldowns) {
-        // Cancel existing display
-        cancelDisplay(player);
+        Component separator = Component.text(" | ", NamedTextColor.GRAY);
         
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                StringBuilder display = new StringBuilder();
-                boolean allReady = true;
-                
-                for (Map.Entry<String, CooldownInfo> entry : cooldowns.entrySet()) {
-                    String abilityId = entry.getKey();
-                    CooldownInfo info = entry.getValue();
-                    
-                    double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), abilityId);
-                    
-                    if (remaining > 0) {
-                        allReady = false;
-                        display.append("§e").append(info.shortName).append(" §c")
-                               .append(String.format("%.1f", remaining)).append("s §7| ");
-                    } else {
-                        display.append("§a").append(info.shortName).append(" ✓ §7| ");
-                    }
+        // Resolve indices and label components once; the line is only rebuilt when a
+        // remaining time changes by a tenth of a second
+        int size = cooldowns.size();
+        int[] indices = new int[size];
+        Component[] pendingLabels = new Component[size];
+        Component[] readyLabels = new Component[size];
+        int i = 0;
+        for (Map.Entry<String, CooldownInfo> entry : cooldowns.entrySet()) {
+            indices[i] = AbilityIds.indexOf(entry.getKey());
+            pendingLabels[i] = Component.text(entry.getValue().shortName + " ", NamedTextColor.YELLOW);
+            readyLabels[i] = Component.text(entry.getValue().shortName + " ✓", NamedTextColor.GREEN);
+            i++;
+        }
+        int[] lastTenths = new int[size];
+        Arrays.fill(lastTenths, -1);
+        Component[] lastLine = new Component[1];
+        
+        Display display = () -> {
+            if (!player.isOnline()) {
+                return false;
+            }
+            
+            boolean allReady = true;
+            boolean changed = false;
+            for (int slot = 0; slot < size; slot++) {
+                double remaining = cooldownManager.getRemainingCooldown(player.getUniqueId(), indices[slot]);
+                int tenths = remaining > 0 ? Math.max(1, (int) Math.round(remaining * 10)) : 0;
+                if (tenths > 0) {
+                    allReady = false;
                 }
-                
-                if (allReady) {
-                    player.sendActionBar(Component.text("§a모든 스킬 준비 완료!", NamedTextColor.GREEN));
-                    cancel();
-                    activeDisplays.remove(player.getUniqueId());
-                    return;
+                if (tenths != lastTenths[slot]) {
+                    lastTenths[slot] = tenths;
+                    changed = true;
                 }
-                
-                // Remove trailing separator
-                if (display.length() > 3) {
-                    display.setLength(display.length() - 3);
+            }
+            
+            if (allReady) {
+                compositor.set(player, ActionBarCompositor.Slot.COOLDOWN, getReadyComponent(null), READY_DISPLAY_TICKS);
+                return false;
+            }
+            
+            if (changed) {
+                TextComponent.Builder builder = Component.text();
+                for (int slot = 0; slot < size; slot++) {
+                    if (slot > 0) {
+                        builder.append(separator);
+                    }
+                    if (lastTenths[slot] > 0) {
+                        builder.append(pendingLabels[slot])
+                            .append(getSecondsComponent(shortSecondsCache, lastTenths[slot] / 10.0, "s"));
+                    } else {
+                        builder.append(readyLabels[slot]);
+                    }
                 }
-                
-                player.sendActionBar(Component.text(display.toString()));
+                lastLine[0] = builder.build();
             }
+            
+            compositor.set(player, ActionBarCompositor.Slot.COOLDOWN, lastLine[0]);
+            return true;
         };
         
-        task.runTaskTimer(plugin, 0L, 4L); // Update every 4 ticks (0.2 seconds)
-        activeDisplays.put(player.getUniqueId(), task);
+        activeDisplays.put(player.getUniqueId(), display);
+        display.update();
+    }
+    
+    /**
+     * Update all active displays (called by the compositor every tick)
+     */
+    private void update() {
+        if (activeDisplays.isEmpty() || ++tick % UPDATE_TICKS != 0) {
+            return;
+        }
+        
+        Iterator<Display> iterator = activeDisplays.values().iterator();
+        while (iterator.hasNext()) {
+            if (!iterator.next().update()) {
+                iterator.remove();
+            }
+        }
     }
     
     /**
      * Cancel cooldown display for a player
      */
     public void cancelDisplay(Player player) {
-        BukkitRunnable task = activeDisplays.remove(player.getUniqueId());
-        if (task != null) {
-            task.cancel();
+        if (activeDisplays.remove(player.getUniqueId()) != null) {
+            compositor.clear(player, ActionBarCompositor.Slot.COOLDOWN);
         }
     }
     
@@ -138,12 +201,86 @@ public class CooldownDisplay {
      * Cancel all displays
      */
     public void cancelAllDisplays() {
-        for (BukkitRunnable task : activeDisplays.values()) {
-            task.cancel();
+        for (UUID playerId : activeDisplays.keySet()) {
+            Player player = plugin.getServer().getPlayer(playerId);
+            if (player != null) {
+                compositor.clear(player, ActionBarCompositor.Slot.COOLDOWN);
+            }
         }
         activeDisplays.clear();
     }
     
+    /**
+     * Get the cached "name [████    ] 3.4초" line for an ability, fill level and remaining time
+     */
+    private Component getLineComponent(AbilityLines lines, String abilityName, int filledBars, double seconds) {
+        int tenths = (int) Math.round(seconds * 10);
+        Component[] row = lines.lines[filledBars];
+        if (row == null || row.length <= tenths) {
+            Component[] grown = new Component[Math.max(tenths + 1, row == null ? 0 : row.length * 2)];
+            if (row != null) {
+                System.arraycopy(row, 0, grown, 0, row.length);
+            }
+            row = grown;
+            lines.lines[filledBars] = row;
+        }
+        
+        Component line = row[tenths];
+        if (line == null) {
+            line = Component.text()
+                .append(getBarComponent(lines, abilityName, filledBars))
+                .append(getSecondsComponent(secondsCache, seconds, "초"))
+                .build();
+            row[tenths] = line;
+        }
+        return line;
+    }
+    
+    /**
+     * Get the cached "name [████    ] " prefix for an ability and fill level
+     */
+    private Component getBarComponent(AbilityLines lines, String abilityName, int filledBars) {
+        Component[] bars = lines.bars;
+        Component bar = bars[filledBars];
+        if (bar == null) {
+            StringBuilder filled = new StringBuilder();
+            StringBuilder empty = new StringBuilder();
+            for (int i = 0; i < BAR_LENGTH; i++) {
+                (i < filledBars ? filled : empty).append('█');
+            }
+            bar = Component.text()
+                .append(Component.text(abilityName + " ", NamedTextColor.YELLOW))
+                .append(Component.text("[", NamedTextColor.GRAY))
+                .append(Component.text(filled.toString(), NamedTextColor.GREEN))
+                .append(Component.text(empty + "] ", NamedTextColor.GRAY))
+                .build();
+            bars[filledBars] = bar;
+        }
+        return bar;
+    }
+    
+    /**
+     * Get the cached remaining-time text for a number of seconds (rounded to a tenth)
+     */
+    private Component getSecondsComponent(List<Component> cache, double seconds, String unit) {
+        int tenths = (int) Math.round(seconds * 10);
+        while (cache.size() <= tenths) {
+            int value = cache.size();
+            cache.add(Component.text((value / 10) + "." + (value % 10) + unit, NamedTextColor.RED));
+        }
+        return cache.get(tenths);
+    }
+    
+    /**
+     * Get the cached ready message (null name = all abilities)
+     */
+    private Component getReadyComponent(String abilityName) {
+        String key = abilityName != null ? abilityName : "";
+        return readyCache.computeIfAbsent(key, name -> name.isEmpty()
+            ? Component.text("모든 스킬 준비 완료!", NamedTextColor.GREEN)
+            : Component.text("✓ " + name + " 준비 완료!", NamedTextColor.GREEN));
+    }
+    
     /**
      * Information about a cooldown for display
      */
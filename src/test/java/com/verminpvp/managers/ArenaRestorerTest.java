@@ -0,0 +1,150 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.entity.Player;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ArenaRestorer
+ */
+class ArenaRestorerTest {
+    
+    private World world;
+    private Player player;
+    private ArenaRestorer restorer;
+    private final List<String> fullResets = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = Mockito.mock(Plugin.class);
+        when(plugin.getLogger()).thenReturn(Logger.getLogger("ChaosPVP"));
+        world = Mockito.mock(World.class);
+        when(world.getName()).thenReturn("arena");
+        player = Mockito.mock(Player.class);
+        restorer = new ArenaRestorer(plugin, Mockito.mock(CombatTicker.class), fullResets::add, 1000);
+    }
+    
+    private void trackArena() {
+        restorer.track(List.of(new Location(world, 0, 64, 0), new Location(world, 30, 64, 30)));
+    }
+    
+    /**
+     * Block in the arena world whose state is a fresh mock on every read
+     */
+    private Block mockBlock(int x, int y, int z) {
+        Block block = Mockito.mock(Block.class);
+        when(block.getWorld()).thenReturn(world);
+        when(block.getX()).thenReturn(x);
+        when(block.getY()).thenReturn(y);
+        when(block.getZ()).thenReturn(z);
+        when(block.getState()).thenAnswer(invocation -> Mockito.mock(BlockState.class));
+        return block;
+    }
+    
+    private void breakBlock(Block block) {
+        restorer.onBlockBreak(new BlockBreakEvent(block, player));
+    }
+    
+    @Test
+    void testOnlyTrackedWorldsAreRecorded() {
+        breakBlock(mockBlock(0, 64, 0));
+        assertEquals(0, restorer.getChangedBlockCount("arena"));
+        
+        trackArena();
+        breakBlock(mockBlock(0, 64, 0));
+        assertEquals(1, restorer.getChangedBlockCount("arena"));
+    }
+    
+    @Test
+    void testFirstChangeKeepsTheOriginalState() {
+        trackArena();
+        Block block = mockBlock(5, -10, -5);
+        breakBlock(block);
+        breakBlock(block);
+        
+        assertEquals(1, restorer.getChangedBlockCount("arena"));
+        verify(block, times(1)).getState();
+    }
+    
+    @Test
+    void testRestoreIsSpreadOverTicks() {
+        trackArena();
+        for (int i = 0; i < 300; i++) {
+            breakBlock(mockBlock(i % 20, 64, i / 20));
+        }
+        
+        restorer.restore("arena");
+        restorer.tick();
+        assertEquals(44, restorer.getChangedBlockCount("arena"));
+        
+        restorer.tick();
+        assertEquals(0, restorer.getChangedBlockCount("arena"));
+        assertFalse(restorer.isTracked("arena"));
+    }
+    
+    @Test
+    void testTrackingAgainPausesTheRestore() {
+        trackArena();
+        for (int i = 0; i < 300; i++) {
+            breakBlock(mockBlock(i % 20, 64, i / 20));
+        }
+        restorer.restore("arena");
+        restorer.tick();
+        
+        // The next match starts before the reset finished: the rest waits for its end
+        trackArena();
+        restorer.tick();
+        assertEquals(44, restorer.getChangedBlockCount("arena"));
+        assertTrue(restorer.isTracked("arena"));
+        
+        restorer.restore("arena");
+        restorer.tick();
+        assertEquals(0, restorer.getChangedBlockCount("arena"));
+    }
+    
+    @Test
+    void testOnlyBlocksAroundTheSpawnsAreRecorded() {
+        trackArena();
+        breakBlock(mockBlock(30 + ArenaRestorer.ARENA_MARGIN, 64, -ArenaRestorer.ARENA_MARGIN));
+        breakBlock(mockBlock(31 + ArenaRestorer.ARENA_MARGIN, 64, 0));
+        breakBlock(mockBlock(0, 64, -1 - ArenaRestorer.ARENA_MARGIN));
+        
+        assertEquals(1, restorer.getChangedBlockCount("arena"));
+    }
+    
+    @Test
+    void testOverflowFallsBackToFullReset() {
+        trackArena();
+        for (int i = 0; i < 1001; i++) {
+            breakBlock(mockBlock(i % 40, 64, i / 40));
+        }
+        assertEquals(1000, restorer.getChangedBlockCount("arena"));
+        
+        restorer.restore("arena");
+        assertEquals(List.of("arena"), fullResets);
+        assertFalse(restorer.isTracked("arena"));
+    }
+    
+    @Test
+    void testKeyKeepsNegativeCoordinatesApart() {
+        assertNotEquals(ArenaRestorer.key(-1, 64, 0), ArenaRestorer.key(1, 64, 0));
+        assertNotEquals(ArenaRestorer.key(0, -64, 0), ArenaRestorer.key(0, 64, 0));
+        assertNotEquals(ArenaRestorer.key(0, 64, -1), ArenaRestorer.key(0, 64, 1));
+    }
+}
@@ -0,0 +1,77 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ChunkPreloader
+ */
+class ChunkPreloaderTest {
+    
+    private Plugin plugin;
+    private World world;
+    private Chunk chunk;
+    private ChunkPreloader preloader;
+    
+    @BeforeEach
+    void setUp() {
+        plugin = Mockito.mock(Plugin.class);
+        world = Mockito.mock(World.class);
+        chunk = Mockito.mock(Chunk.class);
+        when(world.getChunkAtAsync(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(chunk));
+        preloader = new ChunkPreloader(plugin);
+    }
+    
+    @Test
+    void testHoldPinsArenaAroundSpawns() {
+        // Spawn bounds 1..8 grown by the 64 block arena margin: chunks -4..4 on both axes
+        preloader.hold("match-1", List.of(new Location(world, 8, 64, 8), new Location(world, 1, 64, 1)));
+        
+        assertEquals(81, preloader.getHeldChunkCount());
+        verify(chunk, times(81)).addPluginChunkTicket(plugin);
+        
+        preloader.release("match-1");
+        assertEquals(0, preloader.getHeldChunkCount());
+        verify(world, times(81)).removePluginChunkTicket(anyInt(), anyInt(), Mockito.eq(plugin));
+    }
+    
+    @Test
+    void testHoldAgainOnlyChangesTheDifference() {
+        preloader.hold("match-1", List.of(new Location(world, 8, 64, 8)));
+        preloader.hold("match-1", List.of(new Location(world, 24, 64, 8)));
+        
+        // Chunk columns -4..4 -> -3..5: column -4 let go, column 5 taken
+        assertEquals(81, preloader.getHeldChunkCount());
+        verify(world, times(90)).getChunkAtAsync(anyInt(), anyInt());
+        verify(world, times(9)).removePluginChunkTicket(anyInt(), anyInt(), Mockito.eq(plugin));
+    }
+    
+    @Test
+    void testSharedChunksStayUntilLastMatchLetsGo() {
+        preloader.hold("match-1", List.of(new Location(world, 8, 64, 8)));
+        preloader.hold("match-2", List.of(new Location(world, 8, 64, 8)));
+        verify(world, times(81)).getChunkAtAsync(anyInt(), anyInt());
+        
+        preloader.release("match-1");
+        verify(world, never()).removePluginChunkTicket(anyInt(), anyInt(), Mockito.eq(plugin));
+        
+        preloader.release("match-2");
+        assertEquals(0, preloader.getHeldChunkCount());
+        verify(world, times(81)).removePluginChunkTicket(anyInt(), anyInt(), Mockito.eq(plugin));
+    }
+}
@@ -0,0 +1,168 @@
+package com.verminpvp.managers;
+
+import io.papermc.paper.event.player.PlayerInventorySlotChangeEvent;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClassItemIndex
+ */
+class ClassItemIndexTest {
+    
+    private ItemProvider itemProvider;
+    private PlayerInventory inventory;
+    private Player player;
+    private ClassItemIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        itemProvider = Mockito.mock(ItemProvider.class);
+        inventory = Mockito.mock(PlayerInventory.class);
+        player = Mockito.mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.addItem(any(ItemStack[].class))).thenReturn(new HashMap<>());
+        
+        index = new ClassItemIndex(itemProvider);
+    }
+    
+    private ItemStack mockItem(String itemId, int amount) {
+        ItemStack item = Mockito.mock(ItemStack.class);
+        when(item.getAmount()).thenReturn(amount);
+        when(itemProvider.getItemType(item)).thenReturn(ItemProvider.itemType(itemId));
+        return item;
+    }
+    
+    @Test
+    void testCountScansOnce() {
+        ItemStack engines = mockItem("virulent_engine", 2);
+        ItemStack dive = mockItem("dive", 1);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {null, engines, dive});
+        
+        assertEquals(2, index.count(player, "virulent_engine"));
+        assertEquals(1, index.count(player, "dive"));
+        assertFalse(index.has(player, "golden_shield"));
+        
+        verify(inventory, times(1)).getContents();
+    }
+    
+    @Test
+    void testRebuiltEntryIsCached() {
+        ItemStack dive = mockItem("dive", 1);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {dive});
+        
+        index.invalidate(player);
+        index.count(player, "dive");
+        index.count(player, "dive");
+        verify(inventory, times(1)).getContents();
+    }
+    
+    @Test
+    void testSlotChangeInvalidatesOnlyForClassItems() {
+        ItemStack dive = mockItem("dive", 1);
+        ItemStack air = mockItem("air", 0);
+        when(itemProvider.getItemType(air)).thenReturn(ItemProvider.NO_ITEM_TYPE);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {dive});
+        index.count(player, "dive");
+        
+        // Durability change of the same stack keeps the entry
+        PlayerInventorySlotChangeEvent worn = Mockito.mock(PlayerInventorySlotChangeEvent.class);
+        when(worn.getPlayer()).thenReturn(player);
+        when(worn.getSlot()).thenReturn(0);
+        when(worn.getOldItemStack()).thenReturn(dive);
+        when(worn.getNewItemStack()).thenReturn(dive);
+        index.onSlotChange(worn);
+        index.count(player, "dive");
+        verify(inventory, times(1)).getContents();
+        
+        // Using up the item drops it
+        PlayerInventorySlotChangeEvent usedUp = Mockito.mock(PlayerInventorySlotChangeEvent.class);
+        when(usedUp.getPlayer()).thenReturn(player);
+        when(usedUp.getSlot()).thenReturn(0);
+        when(usedUp.getOldItemStack()).thenReturn(dive);
+        when(usedUp.getNewItemStack()).thenReturn(air);
+        index.onSlotChange(usedUp);
+        index.count(player, "dive");
+        verify(inventory, times(2)).getContents();
+    }
+    
+    @Test
+    void testGiveUpdatesCountWithoutScan() {
+        when(inventory.getContents()).thenReturn(new ItemStack[0]);
+        assertEquals(0, index.count(player, "naval_combat"));
+        
+        ItemStack navalCombat = mockItem("naval_combat", 1);
+        index.give(player, navalCombat);
+        
+        assertEquals(1, index.count(player, "naval_combat"));
+        verify(inventory, times(1)).getContents();
+    }
+    
+    @Test
+    void testOwnChangesKeepEntry() {
+        ItemStack engines = mockItem("virulent_engine", 2);
+        ItemStack engine = mockItem("virulent_engine", 1);
+        ItemStack navalCombat = mockItem("naval_combat", 1);
+        ItemStack air = mockItem("air", 0);
+        when(itemProvider.getItemType(air)).thenReturn(ItemProvider.NO_ITEM_TYPE);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {engines, null});
+        when(inventory.getItem(0)).thenReturn(engines);
+        
+        // Slot change caused by removeOne
+        assertTrue(index.removeOne(player, "virulent_engine"));
+        PlayerInventorySlotChangeEvent removed = Mockito.mock(PlayerInventorySlotChangeEvent.class);
+        when(removed.getPlayer()).thenReturn(player);
+        when(removed.getSlot()).thenReturn(0);
+        when(removed.getOldItemStack()).thenReturn(engines);
+        when(removed.getNewItemStack()).thenReturn(engine);
+        index.onSlotChange(removed);
+        
+        // Slot change caused by give
+        index.give(player, navalCombat);
+        PlayerInventorySlotChangeEvent given = Mockito.mock(PlayerInventorySlotChangeEvent.class);
+        when(given.getPlayer()).thenReturn(player);
+        when(given.getSlot()).thenReturn(1);
+        when(given.getOldItemStack()).thenReturn(air);
+        when(given.getNewItemStack()).thenReturn(navalCombat);
+        index.onSlotChange(given);
+        
+        assertEquals(1, index.count(player, "virulent_engine"));
+        assertEquals(1, index.count(player, "naval_combat"));
+        verify(inventory, times(1)).getContents();
+        
+        // A stack growing without a give was not made by the index
+        ItemStack navalCombats = mockItem("naval_combat", 2);
+        PlayerInventorySlotChangeEvent pickedUp = Mockito.mock(PlayerInventorySlotChangeEvent.class);
+        when(pickedUp.getPlayer()).thenReturn(player);
+        when(pickedUp.getSlot()).thenReturn(1);
+        when(pickedUp.getOldItemStack()).thenReturn(navalCombat);
+        when(pickedUp.getNewItemStack()).thenReturn(navalCombats);
+        index.onSlotChange(pickedUp);
+        index.count(player, "naval_combat");
+        verify(inventory, times(2)).getContents();
+    }
+    
+    @Test
+    void testRemoveOne() {
+        ItemStack engines = mockItem("virulent_engine", 2);
+        when(inventory.getContents()).thenReturn(new ItemStack[] {null, engines});
+        when(inventory.getItem(1)).thenReturn(engines);
+        
+        assertTrue(index.removeOne(player, "virulent_engine"));
+        verify(engines).setAmount(1);
+        assertEquals(1, index.count(player, "virulent_engine"));
+        
+        assertFalse(index.removeOne(player, "extreme_poison_engine"));
+    }
+}
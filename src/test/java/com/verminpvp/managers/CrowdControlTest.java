@@ -0,0 +1,123 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for CrowdControl
+ */
+class CrowdControlTest {
+    
+    private long now;
+    private CrowdControl crowdControl;
+    private LivingEntity entity;
+    private AttributeInstance movement;
+    private AttributeInstance jump;
+    private Location position;
+    
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = Mockito.mock(Plugin.class);
+        when(plugin.getName()).thenReturn("ChaosPVP");
+        crowdControl = new CrowdControl(plugin, Mockito.mock(CombatTicker.class), () -> now);
+        
+        position = new Location(Mockito.mock(World.class), 10, 64, 10);
+        movement = Mockito.mock(AttributeInstance.class);
+        jump = Mockito.mock(AttributeInstance.class);
+        entity = Mockito.mock(LivingEntity.class);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.isValid()).thenReturn(true);
+        when(entity.getAttribute(Attribute.MOVEMENT_SPEED)).thenReturn(movement);
+        when(entity.getAttribute(Attribute.JUMP_STRENGTH)).thenReturn(jump);
+        when(entity.getLocation()).thenAnswer(invocation -> position.clone());
+        when(entity.getLocation(any(Location.class))).thenAnswer(invocation -> {
+            Location target = invocation.getArgument(0);
+            target.setWorld(position.getWorld());
+            target.setX(position.getX());
+            target.setY(position.getY());
+            target.setZ(position.getZ());
+            return target;
+        });
+    }
+    
+    @Test
+    void testFreezeStopsMovementUntilExpiry() {
+        crowdControl.freeze(entity, 40);
+        
+        ArgumentCaptor<AttributeModifier> speed = ArgumentCaptor.forClass(AttributeModifier.class);
+        verify(movement).addTransientModifier(speed.capture());
+        assertEquals(-1.0, speed.getValue().getAmount());
+        verify(jump).addTransientModifier(any());
+        assertTrue(crowdControl.isFrozen(entity.getUniqueId()));
+        
+        now = 39;
+        crowdControl.tick();
+        assertTrue(crowdControl.isFrozen(entity.getUniqueId()));
+        verify(movement, never()).removeModifier(any(AttributeModifier.class));
+        
+        now = 40;
+        crowdControl.tick();
+        assertFalse(crowdControl.isFrozen(entity.getUniqueId()));
+        verify(movement).removeModifier(speed.getValue());
+        verify(jump).removeModifier(any(AttributeModifier.class));
+        assertEquals(0, crowdControl.getControlledCount());
+    }
+    
+    @Test
+    void testFrozenEntityIsPulledBackToAnchor() {
+        crowdControl.freeze(entity, 40);
+        
+        now = 1;
+        position.add(0.0, 0.0, 1.0);
+        crowdControl.tick();
+        
+        verify(entity).teleport(any(Location.class));
+        assertTrue(crowdControl.isFrozen(entity.getUniqueId()));
+    }
+    
+    @Test
+    void testSlowOutlivesRoot() {
+        crowdControl.slow(entity, 60, 0.4);
+        crowdControl.root(entity, 20);
+        assertTrue(crowdControl.isRooted(entity.getUniqueId()));
+        
+        now = 20;
+        crowdControl.tick();
+        assertFalse(crowdControl.isRooted(entity.getUniqueId()));
+        
+        // Slow -> root -> slow again
+        ArgumentCaptor<AttributeModifier> speed = ArgumentCaptor.forClass(AttributeModifier.class);
+        verify(movement, times(3)).addTransientModifier(speed.capture());
+        assertEquals(-0.4, speed.getValue().getAmount(), 1e-9);
+        assertEquals(1, crowdControl.getControlledCount());
+    }
+    
+    @Test
+    void testReleaseRestoresMovement() {
+        crowdControl.root(entity, 100);
+        crowdControl.release(entity.getUniqueId());
+        
+        assertFalse(crowdControl.isRooted(entity.getUniqueId()));
+        verify(movement).removeModifier(any(AttributeModifier.class));
+        verify(jump).removeModifier(any(AttributeModifier.class));
+        assertEquals(0, crowdControl.getControlledCount());
+    }
+}
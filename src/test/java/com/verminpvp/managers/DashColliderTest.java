@@ -0,0 +1,40 @@
+package com.verminpvp.managers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the swept box test in DashCollider
+ */
+class DashColliderTest {
+    
+    // Unit box around (5, 0, 0)
+    private static double entryTime(double x, double y, double z, double dx, double dy, double dz) {
+        return DashCollider.entryTime(x, y, z, dx, dy, dz, 4, -1, -1, 6, 1, 1);
+    }
+    
+    @Test
+    void testFastMoveThroughBoxHits() {
+        // Moves 10 blocks in one tick, both ends outside the box
+        assertEquals(0.4, entryTime(0, 0, 0, 10, 0, 0), 1e-9);
+    }
+    
+    @Test
+    void testStandingInsideHitsAtStart() {
+        assertEquals(0.0, entryTime(5, 0, 0, 0, 0, 0), 1e-9);
+    }
+    
+    @Test
+    void testMissingBoxDoesNotHit() {
+        assertEquals(DashCollider.NO_HIT, entryTime(0, 2, 0, 10, 0, 0));
+        assertEquals(DashCollider.NO_HIT, entryTime(0, 0, 0, 3, 0, 0));
+        assertEquals(DashCollider.NO_HIT, entryTime(0, 0, 0, -10, 0, 0));
+    }
+    
+    @Test
+    void testDiagonalClipsCorner() {
+        assertTrue(entryTime(0, 0, -4, 8, 0, 8) < 1.0);
+        assertEquals(DashCollider.NO_HIT, entryTime(0, 0, -6, 8, 0, 4));
+    }
+}
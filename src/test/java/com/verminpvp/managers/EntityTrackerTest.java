@@ -0,0 +1,123 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.AreaEffectCloud;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Horse;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.entity.EntityRemoveEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for EntityTracker
+ */
+class EntityTrackerTest {
+    
+    private World arena;
+    private World lobby;
+    private EntityTracker tracker;
+    
+    @BeforeEach
+    void setUp() {
+        arena = Mockito.mock(World.class);
+        lobby = Mockito.mock(World.class);
+        tracker = new EntityTracker(Mockito.mock(CombatTicker.class), world -> world == arena);
+    }
+    
+    private <T extends Entity> T mockEntity(Class<T> type, World world) {
+        T entity = Mockito.mock(type);
+        when(entity.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(entity.getWorld()).thenReturn(world);
+        when(entity.isValid()).thenReturn(true);
+        return entity;
+    }
+    
+    @Test
+    void testOnlyArenaSpawnsAreTracked() {
+        Item arenaDrop = mockEntity(Item.class, arena);
+        Item lobbyDrop = mockEntity(Item.class, lobby);
+        Player player = mockEntity(Player.class, arena);
+        
+        tracker.onEntitySpawn(new EntitySpawnEvent(arenaDrop));
+        tracker.onEntitySpawn(new EntitySpawnEvent(lobbyDrop));
+        tracker.onEntitySpawn(new EntitySpawnEvent(player));
+        
+        assertTrue(tracker.isTracked(arenaDrop));
+        assertFalse(tracker.isTracked(lobbyDrop));
+        assertFalse(tracker.isTracked(player));
+    }
+    
+    @Test
+    void testRemovalIsSpreadOverTicks() {
+        for (int i = 0; i < 100; i++) {
+            tracker.track(mockEntity(Item.class, arena));
+        }
+        Entity lobbyHorse = mockEntity(Entity.class, lobby);
+        tracker.track(lobbyHorse);
+        
+        assertEquals(100, tracker.removeIn(List.of(arena)));
+        assertEquals(1, tracker.getTrackedCount());
+        
+        tracker.tick();
+        assertEquals(36, tracker.getPendingRemovalCount());
+        
+        tracker.tick();
+        assertEquals(0, tracker.getPendingRemovalCount());
+        verify(lobbyHorse, never()).remove();
+    }
+    
+    @Test
+    void testUnloadedEntitiesAreRemovedFromTheirChunk() {
+        Horse horse = mockEntity(Horse.class, arena);
+        Item drop = mockEntity(Item.class, arena);
+        tracker.track(horse);
+        tracker.track(drop);
+        
+        // The horse's chunk unloads (stale reference), the drop is picked up
+        when(horse.isValid()).thenReturn(false);
+        when(horse.getLocation()).thenReturn(new Location(arena, 40, 64, -8));
+        tracker.onEntityRemove(new EntityRemoveEvent(horse, EntityRemoveEvent.Cause.UNLOAD));
+        tracker.onEntityRemove(new EntityRemoveEvent(drop, EntityRemoveEvent.Cause.PICKUP));
+        assertTrue(tracker.isTracked(horse));
+        assertFalse(tracker.isTracked(drop));
+        
+        Horse reloaded = Mockito.mock(Horse.class);
+        when(reloaded.getUniqueId()).thenReturn(horse.getUniqueId());
+        Chunk chunk = Mockito.mock(Chunk.class);
+        when(chunk.getEntities()).thenReturn(new Entity[] {reloaded});
+        when(arena.getChunkAtAsync(2, -1)).thenReturn(CompletableFuture.completedFuture(chunk));
+        
+        assertEquals(1, tracker.removeIn(List.of(arena)));
+        tracker.tick();
+        verify(reloaded).remove();
+        verify(horse, never()).remove();
+    }
+    
+    @Test
+    void testRemoveAllByType() {
+        AreaEffectCloud cloud = mockEntity(AreaEffectCloud.class, lobby);
+        Item drop = mockEntity(Item.class, arena);
+        tracker.track(cloud);
+        tracker.track(drop);
+        
+        assertEquals(1, tracker.removeAll(AreaEffectCloud.class));
+        verify(cloud).remove();
+        verify(drop, never()).remove();
+        assertTrue(tracker.isTracked(drop));
+    }
+}
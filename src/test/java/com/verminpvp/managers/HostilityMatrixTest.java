@@ -0,0 +1,107 @@
+package com.verminpvp.managers;
+
+import com.verminpvp.models.Team;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for HostilityMatrix
+ */
+class HostilityMatrixTest {
+    
+    private final ParticipantRegistry registry = new ParticipantRegistry();
+    private final Set<UUID> teamRules = new HashSet<>();
+    private int rebuilds;
+    
+    private HostilityMatrix matrix;
+    private Player blue1;
+    private Player blue2;
+    private Player red1;
+    
+    @BeforeEach
+    void setUp() {
+        blue1 = mockPlayer(Team.BLUE);
+        blue2 = mockPlayer(Team.BLUE);
+        red1 = mockPlayer(Team.RED);
+        
+        matrix = new HostilityMatrix(registry, playerId -> {
+            if (playerId.equals(blue1.getUniqueId())) {
+                rebuilds++;
+            }
+            return teamRules.contains(playerId);
+        });
+    }
+    
+    private Player mockPlayer(Team team) {
+        Player player = Mockito.mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        registry.add(player, team, null, true);
+        teamRules.add(player.getUniqueId());
+        return player;
+    }
+    
+    @Test
+    void testTeammatesAreAllies() {
+        assertFalse(matrix.isHostile(blue1, blue2));
+        assertTrue(matrix.isHostile(blue1, red1));
+        assertTrue(matrix.isHostile(red1, blue2));
+        assertEquals(HostilityMatrix.ALLY, matrix.getRelation(blue2, blue1));
+        assertEquals(HostilityMatrix.ENEMY, matrix.getRelation(blue2, red1));
+    }
+    
+    @Test
+    void testRebuildsOnlyAfterChanges() {
+        matrix.isHostile(blue1, blue2);
+        matrix.isHostile(blue1, red1);
+        assertEquals(1, rebuilds);
+        
+        // Registry team changes are picked up without invalidate
+        registry.setTeam(red1.getUniqueId(), Team.BLUE);
+        assertFalse(matrix.isHostile(blue1, red1));
+        assertEquals(2, rebuilds);
+        
+        // Mode and practice changes need invalidate
+        teamRules.remove(blue1.getUniqueId());
+        assertFalse(matrix.isHostile(blue1, red1));
+        matrix.invalidate();
+        assertTrue(matrix.isHostile(blue1, red1));
+        assertEquals(3, rebuilds);
+    }
+    
+    @Test
+    void testNoTeamRulesMakesEveryoneHostile() {
+        // Solo mode or practice mode
+        teamRules.remove(blue1.getUniqueId());
+        matrix.invalidate();
+        
+        assertTrue(matrix.isHostile(blue1, blue2));
+        assertTrue(matrix.isHostile(blue1, blue1));
+        assertFalse(matrix.isHostile(blue2, blue1));
+    }
+    
+    @Test
+    void testPlayersWithoutTeamAreHostile() {
+        registry.setTeam(blue1.getUniqueId(), null);
+        registry.setTeam(blue2.getUniqueId(), null);
+        
+        assertTrue(matrix.isHostile(blue1, blue2));
+    }
+    
+    @Test
+    void testUnknownPlayerIsNeutral() {
+        Player stranger = Mockito.mock(Player.class);
+        when(stranger.getUniqueId()).thenReturn(UUID.randomUUID());
+        
+        assertEquals(HostilityMatrix.NEUTRAL, matrix.getRelation(blue1, stranger));
+        assertTrue(matrix.isHostile(blue1, stranger));
+    }
+}
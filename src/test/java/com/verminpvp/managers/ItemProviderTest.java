@@ -410,4 +410,32 @@ class ItemProviderTest {
         // Netherite ultimate sword should NOT be unbreakable (durability 1)
         assertFalse(netheriteSword.getItemMeta().isUnbreakable());
     }
+    
+    @Test
+    void testTemplateClonesAreIndependent() {
+        ItemStack first = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "virulent_engine");
+        first.setAmount(5);
+        
+        ItemStack second = itemProvider.createSpecialItem(ClassType.PLAGUE_SPREADER, "virulent_engine");
+        
+        assertNotSame(first, second);
+        assertEquals(1, second.getAmount());
+        assertTrue(first.isSimilar(second));
+    }
+    
+    @Test
+    void testItemType_WithClassItem() {
+        ItemStack item = itemProvider.createSpecialItem(ClassType.STAMPER, "dive");
+        
+        assertEquals(ItemProvider.itemType("dive"), itemProvider.getItemType(item));
+        assertTrue(itemProvider.isItem(item, "dive"));
+        assertFalse(itemProvider.isItem(item, "stamp"));
+    }
+    
+    @Test
+    void testItemType_WithNonClassItem() {
+        assertEquals(ItemProvider.NO_ITEM_TYPE, itemProvider.getItemType(new ItemStack(Material.DIAMOND_SWORD)));
+        assertEquals(ItemProvider.NO_ITEM_TYPE, itemProvider.getItemType(null));
+        assertFalse(itemProvider.isItem(null, "dive"));
+    }
 }
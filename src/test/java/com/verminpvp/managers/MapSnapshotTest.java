@@ -0,0 +1,63 @@
+package com.verminpvp.managers;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for MapSnapshot
+ */
+class MapSnapshotTest {
+    
+    @Test
+    void testRoundTrip() throws IOException {
+        MapSnapshot snapshot = new MapSnapshot();
+        snapshot.setPoints("world", Arrays.asList(
+            new MapSnapshot.Point(MapSnapshot.Kind.LOBBY, 1.5, 64.0, -3.0, 90.0f, 10.0f, null),
+            new MapSnapshot.Point(MapSnapshot.Kind.MAP, 5.0, 70.0, 7.0, 0.0f, 0.0f, "Sky Island")));
+        snapshot.setPoints("arena", Collections.singletonList(
+            new MapSnapshot.Point(MapSnapshot.Kind.SLOT1_SPAWN, 1.0, 2.0, 3.0, 4.0f, 5.0f, null)));
+        
+        MapSnapshot loaded = MapSnapshot.fromBytes(snapshot.toBytes());
+        
+        assertEquals(Arrays.asList("world", "arena"), Arrays.asList(loaded.getWorldNames().toArray()));
+        List<MapSnapshot.Point> points = loaded.getPoints("world");
+        assertEquals(2, points.size());
+        assertEquals(MapSnapshot.Kind.LOBBY, points.get(0).getKind());
+        assertEquals(1.5, points.get(0).getX());
+        assertEquals(90.0f, points.get(0).getYaw());
+        assertNull(points.get(0).getName());
+        assertEquals("Sky Island", points.get(1).getName());
+        assertEquals(MapSnapshot.Kind.SLOT1_SPAWN, loaded.getPoints("arena").get(0).getKind());
+    }
+    
+    @Test
+    void testCopyWorldKeepsSection() throws IOException {
+        MapSnapshot source = new MapSnapshot();
+        source.setPoints("world", Collections.singletonList(
+            new MapSnapshot.Point(MapSnapshot.Kind.MAP, 1.0, 2.0, 3.0, 0.0f, 0.0f, "Arena")));
+        
+        MapSnapshot copy = new MapSnapshot();
+        copy.copyWorld(source, "world");
+        copy.copyWorld(source, "missing");
+        
+        assertTrue(copy.hasWorld("world"));
+        assertFalse(copy.hasWorld("missing"));
+        assertEquals("Arena", copy.getPoints("world").get(0).getName());
+    }
+    
+    @Test
+    void testMissingWorldHasNoPoints() throws IOException {
+        assertTrue(new MapSnapshot().getPoints("world").isEmpty());
+    }
+    
+    @Test
+    void testRejectsInvalidData() {
+        assertThrows(IOException.class, () -> MapSnapshot.fromBytes(new byte[] {1, 2, 3, 4, 0, 1}));
+    }
+}
@@ -0,0 +1,92 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for MoveDispatcher
+ */
+class MoveDispatcherTest {
+    
+    private MoveDispatcher dispatcher;
+    private Player player;
+    private final List<String> calls = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MoveDispatcher();
+        player = Mockito.mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+    }
+    
+    private PlayerMoveEvent move(double toX, float toYaw) {
+        PlayerMoveEvent event = Mockito.mock(PlayerMoveEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        when(event.getFrom()).thenReturn(new Location(null, 0, 64, 0, 0, 0));
+        when(event.getTo()).thenReturn(new Location(null, toX, 64, 0, toYaw, 0));
+        return event;
+    }
+    
+    @Test
+    void testOnlySubscribedChannelsReceiveMoves() {
+        MoveDispatcher.Channel frozen = dispatcher.register("frozen", event -> calls.add("frozen"));
+        dispatcher.register("fall", event -> calls.add("fall"));
+        
+        dispatcher.onPlayerMove(move(1, 0));
+        assertTrue(calls.isEmpty());
+        
+        frozen.subscribe(player.getUniqueId());
+        frozen.subscribe(player.getUniqueId());
+        dispatcher.onPlayerMove(move(1, 0));
+        assertEquals(List.of("frozen"), calls);
+        assertEquals(1L, dispatcher.getInvocationCounts().get("frozen"));
+        assertEquals(0L, dispatcher.getInvocationCounts().get("fall"));
+    }
+    
+    @Test
+    void testHeadRotationIsIgnored() {
+        MoveDispatcher.Channel frozen = dispatcher.register("frozen", event -> calls.add("frozen"));
+        frozen.subscribe(player.getUniqueId());
+        
+        dispatcher.onPlayerMove(move(0, 90));
+        assertTrue(calls.isEmpty());
+        assertEquals(0L, frozen.getInvocations());
+    }
+    
+    @Test
+    void testUnsubscribeDuringDispatch() {
+        UUID playerId = player.getUniqueId();
+        MoveDispatcher.Channel[] first = new MoveDispatcher.Channel[1];
+        first[0] = dispatcher.register("first", event -> {
+            calls.add("first");
+            first[0].unsubscribe(playerId);
+        });
+        MoveDispatcher.Channel second = dispatcher.register("second", event -> calls.add("second"));
+        first[0].subscribe(playerId);
+        second.subscribe(playerId);
+        
+        dispatcher.onPlayerMove(move(1, 0));
+        dispatcher.onPlayerMove(move(1, 0));
+        
+        assertEquals(List.of("first", "second", "second"), calls);
+        assertFalse(first[0].isSubscribed(playerId));
+        assertTrue(second.isSubscribed(playerId));
+    }
+    
+    @Test
+    void testDuplicateChannelNameRejected() {
+        dispatcher.register("frozen", event -> { });
+        assertThrows(IllegalArgumentException.class, () -> dispatcher.register("frozen", event -> { }));
+    }
+}
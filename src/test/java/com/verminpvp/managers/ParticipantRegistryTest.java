@@ -0,0 +1,125 @@
+package com.verminpvp.managers;
+
+import com.verminpvp.models.ClassType;
+import com.verminpvp.models.Team;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ParticipantRegistry
+ */
+class ParticipantRegistryTest {
+    
+    private ParticipantRegistry registry;
+    private Player blue1;
+    private Player blue2;
+    private Player red1;
+    
+    @BeforeEach
+    void setUp() {
+        registry = new ParticipantRegistry();
+        blue1 = mockPlayer();
+        blue2 = mockPlayer();
+        red1 = mockPlayer();
+        registry.add(blue1, Team.BLUE, ClassType.SWORDSMAN, true);
+        registry.add(blue2, Team.BLUE, ClassType.SCIENTIST, true);
+        registry.add(red1, Team.RED, ClassType.SWORDSMAN, true);
+    }
+    
+    private Player mockPlayer() {
+        Player player = Mockito.mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        return player;
+    }
+    
+    @Test
+    void testAliveCounts() {
+        assertEquals(3, registry.getAliveCount());
+        assertEquals(2, registry.getAliveCount(Team.BLUE));
+        assertEquals(1, registry.getAliveCount(Team.RED));
+        assertEquals(2, registry.getAliveTeamCount());
+        assertEquals(Team.BLUE, registry.getLeadingTeam());
+    }
+    
+    @Test
+    void testDeathUpdatesCounts() {
+        registry.setAlive(red1.getUniqueId(), false);
+        
+        assertEquals(2, registry.getAliveCount());
+        assertEquals(0, registry.getAliveCount(Team.RED));
+        assertEquals(1, registry.getAliveTeamCount());
+        assertEquals(2, registry.getAlivePlayers().length);
+        assertEquals(3, registry.getOnlinePlayers().length);
+    }
+    
+    @Test
+    void testOfflinePlayerIsNotAlive() {
+        registry.setOffline(blue1.getUniqueId());
+        
+        assertTrue(registry.contains(blue1.getUniqueId()));
+        assertFalse(registry.isAlive(blue1.getUniqueId()));
+        assertEquals(1, registry.getTeamMembers(Team.BLUE).length);
+        
+        // Rejoining does not revive the player
+        registry.setOnline(blue1);
+        assertEquals(2, registry.getTeamMembers(Team.BLUE).length);
+        assertFalse(registry.isAlive(blue1.getUniqueId()));
+    }
+    
+    @Test
+    void testClassTakenPerTeam() {
+        assertTrue(registry.isClassTaken(ClassType.SCIENTIST));
+        assertTrue(registry.isClassTaken(ClassType.SCIENTIST, Team.BLUE));
+        assertFalse(registry.isClassTaken(ClassType.SCIENTIST, Team.RED));
+        assertEquals(red1, registry.getClassHolder(ClassType.SWORDSMAN, Team.RED));
+        
+        registry.setClass(blue2.getUniqueId(), null);
+        assertFalse(registry.isClassTaken(ClassType.SCIENTIST));
+    }
+    
+    @Test
+    void testTeamChangeMovesClassAndAliveState() {
+        registry.setTeam(blue2.getUniqueId(), Team.RED);
+        
+        assertEquals(1, registry.getAliveCount(Team.BLUE));
+        assertEquals(2, registry.getAliveCount(Team.RED));
+        assertTrue(registry.isClassTaken(ClassType.SCIENTIST, Team.RED));
+        assertFalse(registry.isClassTaken(ClassType.SCIENTIST, Team.BLUE));
+    }
+    
+    @Test
+    void testClassHolderFallsBackToRemainingHolder() {
+        Player blue3 = mockPlayer();
+        registry.add(blue3, Team.BLUE, ClassType.SWORDSMAN, true);
+        
+        registry.remove(blue1.getUniqueId());
+        
+        assertEquals(blue3, registry.getClassHolder(ClassType.SWORDSMAN, Team.BLUE));
+        assertEquals(2, registry.getAliveCount(Team.BLUE));
+    }
+    
+    @Test
+    void testSlotsAreReusedAfterRemoval() {
+        int slot = registry.getSlot(blue2.getUniqueId());
+        assertEquals(Team.BLUE, registry.getTeam(slot));
+        assertEquals(-1, registry.getSlot(UUID.randomUUID()));
+        
+        int revision = registry.getRevision();
+        registry.remove(blue2.getUniqueId());
+        assertNull(registry.getPlayerId(slot));
+        assertNotEquals(revision, registry.getRevision());
+        
+        Player red2 = mockPlayer();
+        registry.add(red2, Team.RED, ClassType.SCIENTIST, true);
+        assertEquals(slot, registry.getSlot(red2.getUniqueId()));
+        assertEquals(Team.RED, registry.getTeam(slot));
+        assertEquals(3, registry.getSlotCount());
+    }
+}
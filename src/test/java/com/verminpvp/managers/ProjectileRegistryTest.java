@@ -0,0 +1,120 @@
+package com.verminpvp.managers;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.entity.Projectile;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for ProjectileRegistry
+ */
+class ProjectileRegistryTest {
+    
+    private long now;
+    private ProjectileRegistry registry;
+    private Player owner;
+    private final List<Projectile> missed = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        Plugin plugin = Mockito.mock(Plugin.class);
+        when(plugin.getName()).thenReturn("ChaosPVP");
+        registry = new ProjectileRegistry(plugin, Mockito.mock(CombatTicker.class), () -> now);
+        
+        owner = Mockito.mock(Player.class);
+        when(owner.getUniqueId()).thenReturn(UUID.randomUUID());
+    }
+    
+    /**
+     * Projectile whose persistent data container is backed by a map
+     */
+    @SuppressWarnings("unchecked")
+    private Projectile mockProjectile() {
+        Map<NamespacedKey, Object> values = new HashMap<>();
+        PersistentDataContainer data = Mockito.mock(PersistentDataContainer.class);
+        Mockito.doAnswer(invocation -> values.put(invocation.getArgument(0), invocation.getArgument(2)))
+            .when(data).set(any(NamespacedKey.class), any(PersistentDataType.class), any());
+        when(data.get(any(NamespacedKey.class), eq(PersistentDataType.STRING)))
+            .thenAnswer(invocation -> values.get(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> values.remove(invocation.getArgument(0)))
+            .when(data).remove(any(NamespacedKey.class));
+        
+        Projectile projectile = Mockito.mock(Projectile.class);
+        when(projectile.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(projectile.getPersistentDataContainer()).thenReturn(data);
+        return projectile;
+    }
+    
+    @Test
+    void testOwnerIsReadFromTags() {
+        Projectile projectile = mockProjectile();
+        registry.track(projectile, owner, "harpoon_throw", 60);
+        
+        assertEquals(owner.getUniqueId(), registry.getOwner(projectile, "harpoon_throw"));
+        assertNull(registry.getOwner(projectile, "captains_harpoon"));
+        assertNull(registry.getOwner(mockProjectile(), "harpoon_throw"));
+    }
+    
+    @Test
+    void testReleaseConsumesTag() {
+        Projectile projectile = mockProjectile();
+        registry.track(projectile, owner, "juggler_light", 200, missed::add);
+        
+        assertNull(registry.release(projectile, "juggler_heavy"));
+        assertEquals(owner.getUniqueId(), registry.release(projectile, "juggler_light"));
+        assertNull(registry.release(projectile, "juggler_light"));
+        assertEquals(0, registry.getLiveCount());
+        
+        now = 200;
+        registry.tick();
+        assertTrue(missed.isEmpty());
+    }
+    
+    @Test
+    void testUnconsumedProjectilesExpire() {
+        Projectile early = mockProjectile();
+        Projectile late = mockProjectile();
+        registry.track(early, owner, "harpoon_throw", 60, missed::add);
+        registry.track(late, owner, "clock_needle_stitch", 200);
+        assertEquals(Map.of("clock_needle_stitch", 1, "harpoon_throw", 1), registry.getLiveCounts());
+        
+        now = 59;
+        registry.tick();
+        assertEquals(2, registry.getLiveCount());
+        
+        now = 60;
+        registry.tick();
+        assertEquals(List.of(early), missed);
+        assertNull(registry.getOwner(early, "harpoon_throw"));
+        assertTrue(registry.isTracked(late));
+        
+        now = 200;
+        registry.tick();
+        assertEquals(0, registry.getLiveCount());
+    }
+    
+    @Test
+    void testReleaseOwnerDropsAllTags() {
+        registry.track(mockProjectile(), owner, "juggler_light", 200);
+        registry.track(mockProjectile(), owner, "juggler_heavy", 200);
+        
+        registry.releaseOwner(owner.getUniqueId());
+        assertEquals(0, registry.getLiveCount());
+    }
+}
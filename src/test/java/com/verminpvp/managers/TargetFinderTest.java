@@ -0,0 +1,86 @@
+package com.verminpvp.managers;
+
+import org.bukkit.Location;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TargetFinder
+ */
+class TargetFinderTest {
+    
+    private final List<LivingEntity> nearby = new ArrayList<>();
+    private Player player;
+    private TargetFinder finder;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        CombatantIndex combatantIndex = Mockito.mock(CombatantIndex.class);
+        doAnswer(invocation -> {
+            List<LivingEntity> out = invocation.getArgument(5);
+            out.clear();
+            out.addAll(nearby);
+            return null;
+        }).when(combatantIndex).collectNearby(any(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyList());
+        
+        // Eye at (0, 1.6, 0) looking along +Z (yaw 0, pitch 0)
+        player = Mockito.mock(Player.class);
+        when(player.getEyeLocation()).thenAnswer(invocation -> new Location(null, 0, 1.6, 0, 0, 0));
+        nearby.add(player);
+        
+        finder = new TargetFinder(combatantIndex);
+    }
+    
+    private LivingEntity mockEntity(double x, double z) {
+        LivingEntity entity = Mockito.mock(LivingEntity.class);
+        when(entity.getLocation()).thenAnswer(invocation -> new Location(null, x, 0, z));
+        when(entity.getWidth()).thenReturn(0.6);
+        when(entity.getHeight()).thenReturn(1.8);
+        nearby.add(entity);
+        return entity;
+    }
+    
+    @Test
+    void testRayPicksFirstEntityAlongLook() {
+        LivingEntity far = mockEntity(0, 3);
+        LivingEntity near = mockEntity(0, 2);
+        mockEntity(2, 1); // Beside the ray
+        
+        assertSame(near, finder.rayTarget(player, 3.5, 0.5, null));
+        assertSame(far, finder.rayTarget(player, 3.5, 0.5, entity -> entity != near));
+    }
+    
+    @Test
+    void testRayIgnoresEntitiesOutOfRange() {
+        mockEntity(0, 5);
+        assertNull(finder.rayTarget(player, 3.0, 0.5, null));
+    }
+    
+    @Test
+    void testConeIgnoresEntitiesBehind() {
+        mockEntity(0, -1);
+        LivingEntity front = mockEntity(1, 3);
+        
+        assertSame(front, finder.coneTarget(player, 5.0, 45.0, null));
+        assertNull(finder.coneTarget(player, 5.0, 10.0, null));
+    }
+    
+    @Test
+    void testFullConePicksClosest() {
+        LivingEntity behind = mockEntity(0, -1);
+        mockEntity(1, 3);
+        
+        assertSame(behind, finder.coneTarget(player, 5.0, 180.0, null));
+    }
+}
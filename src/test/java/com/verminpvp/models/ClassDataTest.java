@@ -92,7 +92,6 @@ class ClassDataTest {
         classData.addResource(ResourceType.PRISMARINE_SHARD, 3);
         classData.setCritChance(15.0);
         classData.setCustomData("test", "value");
-        classData.getCooldowns().put("test_cooldown", System.currentTimeMillis());
         
         // Clear all data
         classData.clear();
@@ -101,7 +100,6 @@ class ClassDataTest {
         assertEquals(0, classData.getResourceCount(ResourceType.PRISMARINE_SHARD));
         assertEquals(5.0, classData.getCritChance()); // Back to default
         assertNull(classData.getCustomData("test"));
-        assertTrue(classData.getCooldowns().isEmpty());
     }
     
     @Test